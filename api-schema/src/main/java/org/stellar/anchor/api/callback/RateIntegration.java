@@ -1,5 +1,6 @@
 package org.stellar.anchor.api.callback;
 
+import java.util.concurrent.CompletableFuture;
 import org.stellar.anchor.api.exception.AnchorException;
 
 /**
@@ -18,4 +19,22 @@ public interface RateIntegration {
    * @throws AnchorException if error happens
    */
   GetRateResponse getRate(GetRateRequest request) throws AnchorException;
+
+  /**
+   * Gets a rate without blocking the caller. This allows the caller to fetch several rates
+   * concurrently, e.g. one for each buy asset of the SEP-38 GET /prices endpoint.
+   *
+   * <p>The default implementation calls {@link #getRate(GetRateRequest)} on the caller's thread.
+   *
+   * @param request The request to get a rate.
+   * @return the future of the GET rate response. The future completes exceptionally with the
+   *     AnchorException if error happens.
+   */
+  default CompletableFuture<GetRateResponse> getRateAsync(GetRateRequest request) {
+    try {
+      return CompletableFuture.completedFuture(getRate(request));
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
 }
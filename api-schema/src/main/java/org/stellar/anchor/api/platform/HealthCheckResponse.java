@@ -25,11 +25,19 @@ public class HealthCheckResponse {
 
   Map<String, HealthCheckResult> checks;
 
+  Map<String, HealthCheckTiming> timings;
+
   public HealthCheckResponse() {
     this.startedAt = Instant.now();
   }
 
   public HealthCheckResponse complete(List<HealthCheckResult> results) {
+    return complete(results, null);
+  }
+
+  public HealthCheckResponse complete(
+      List<HealthCheckResult> results, Map<String, HealthCheckTiming> timings) {
+    this.timings = timings;
     checks = new HashMap<>();
     for (HealthCheckResult result : results) {
       checks.put(result.name(), result);
@@ -0,0 +1,24 @@
+package org.stellar.anchor.api.platform;
+
+import com.google.gson.annotations.SerializedName;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/** The timing of a check in the response body of the GET /health endpoint. */
+@Data
+@AllArgsConstructor
+public class HealthCheckTiming {
+  /** The time the check completed. */
+  @SerializedName("checked_at")
+  Instant checkedAt;
+
+  /** How long the check ran. */
+  @SerializedName("duration_ms")
+  Duration duration;
+
+  /** How long ago the check completed, when the response was built. */
+  @SerializedName("staleness_ms")
+  Duration staleness;
+}
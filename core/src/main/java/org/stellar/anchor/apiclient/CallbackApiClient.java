@@ -1,8 +1,10 @@
 package org.stellar.anchor.apiclient;
 
+import static org.stellar.anchor.util.MetricConstants.*;
 import static org.stellar.anchor.util.StringHelper.isEmpty;
 
 import com.google.gson.Gson;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import okhttp3.HttpUrl;
 import okhttp3.Request;
@@ -14,6 +16,7 @@ import org.stellar.anchor.api.exception.AnchorException;
 import org.stellar.anchor.api.exception.InvalidConfigException;
 import org.stellar.anchor.auth.AuthHelper;
 import org.stellar.anchor.util.GsonUtils;
+import org.stellar.anchor.util.Meters;
 import org.stellar.anchor.util.OkHttpUtil;
 
 /** The client for the CallbackAPI endpoints. */
@@ -51,7 +54,15 @@ public class CallbackApiClient extends BaseApiClient {
       throws AnchorException, IOException {
     RequestBody requestBody = OkHttpUtil.buildJsonRequestBody(gson.toJson(sendEventRequest));
     Request request = getRequestBuilder().url(url).post(requestBody).build();
-    Response response = getClient().newCall(request).execute();
+    Timer.Sample sample = Timer.start();
+    String status = TV_FAILURE;
+    Response response;
+    try {
+      response = getClient().newCall(request).execute();
+      status = String.valueOf(response.code());
+    } finally {
+      sample.stop(Meters.timer(CALLBACK_API_REQUEST, TYPE, TV_SEND_EVENT, STATUS, status));
+    }
     String responseText = handleResponse(response);
 
     return new SendEventResponse(response.code(), isEmpty(responseText) ? "" : responseText);
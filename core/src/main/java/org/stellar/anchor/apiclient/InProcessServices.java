@@ -0,0 +1,49 @@
+package org.stellar.anchor.apiclient;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The services of the anchor servers running in this JVM.
+ *
+ * <p>When several servers are started in the same JVM (eg: by the ServiceRunner), each server
+ * registers the services it exposes over HTTP. The API clients configured for the in-process
+ * transport call the registered services directly, without the serialization, the HTTP round trip
+ * and the authentication of the HTTP requests. The clients fall back to HTTP if the service is not
+ * registered.
+ */
+public class InProcessServices {
+  private static final Map<Class<?>, Object> services = new ConcurrentHashMap<>();
+
+  private InProcessServices() {}
+
+  /**
+   * Registers the service. The registration is closed when the server is stopped.
+   *
+   * @param type the type the service is looked up by.
+   * @param service the service.
+   * @return the registration.
+   * @param <T> the type of the service.
+   */
+  public static <T> Registration register(Class<T> type, T service) {
+    services.put(type, service);
+    return () -> services.remove(type, service);
+  }
+
+  /**
+   * Gets the registered service.
+   *
+   * @param type the type of the service.
+   * @return the service, or null if it is not registered.
+   * @param <T> the type of the service.
+   */
+  public static <T> T get(Class<T> type) {
+    return type.cast(services.get(type));
+  }
+
+  /** The registration of a service. Closing it unregisters the service. */
+  public interface Registration extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
@@ -1,7 +1,9 @@
 package org.stellar.anchor.apiclient;
 
 import static org.stellar.anchor.api.rpc.method.RpcMethod.*;
+import static org.stellar.anchor.util.MetricConstants.*;
 
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nullable;
 import java.io.IOException;
 import java.util.HashMap;
@@ -18,19 +20,40 @@ import org.stellar.anchor.api.exception.AnchorException;
 import org.stellar.anchor.api.exception.InvalidConfigException;
 import org.stellar.anchor.api.platform.*;
 import org.stellar.anchor.api.rpc.RpcRequest;
+import org.stellar.anchor.api.rpc.RpcResponse;
 import org.stellar.anchor.api.rpc.method.*;
 import org.stellar.anchor.api.rpc.method.NotifyRefundSentRequest.Refund;
 import org.stellar.anchor.api.sep.SepTransactionStatus;
 import org.stellar.anchor.auth.AuthHelper;
+import org.stellar.anchor.util.Meters;
 import org.stellar.anchor.util.OkHttpUtil;
 import org.stellar.anchor.util.RpcHelper;
 
-/** The client for the PlatformAPI endpoints. */
+/**
+ * The client for the PlatformAPI endpoints.
+ *
+ * <p>If the in-process transport is enabled and the platform server runs in the same JVM, the RPC
+ * requests are handled by the RpcService of the platform server without going through HTTP.
+ */
 public class PlatformApiClient extends BaseApiClient {
   public static final String JSON_RPC_VERSION = "2.0";
+  private final boolean inProcess;
 
   public PlatformApiClient(AuthHelper authHelper, String endpoint) {
+    this(authHelper, endpoint, false);
+  }
+
+  /**
+   * Creates a new PlatformApiClient.
+   *
+   * @param authHelper the AuthHelper to use for authentication.
+   * @param endpoint the platform API endpoint.
+   * @param inProcess if true, the RPC requests are handled in-process when the platform server runs
+   *     in the same JVM.
+   */
+  public PlatformApiClient(AuthHelper authHelper, String endpoint, boolean inProcess) {
     super(authHelper, endpoint);
+    this.inProcess = inProcess;
   }
 
   /**
@@ -58,9 +81,7 @@ public class PlatformApiClient extends BaseApiClient {
             .jsonrpc(JSON_RPC_VERSION)
             .params(requestParams)
             .build();
-    Response rpcResponse = sendRpcRequest(List.of(rpcRequest));
-    Object txnObj = RpcHelper.getResultFromRpcResponse(rpcResponse);
-    return gson.fromJson(gson.toJson(txnObj), GetTransactionResponse.class);
+    return convert(callRpc(rpcRequest), GetTransactionResponse.class);
   }
 
   public GetQuoteResponse getQuote(String quoteId) throws IOException, AnchorException {
@@ -72,9 +93,7 @@ public class PlatformApiClient extends BaseApiClient {
             .jsonrpc(JSON_RPC_VERSION)
             .params(requestParams)
             .build();
-    Response rpcResponse = sendRpcRequest(List.of(rpcRequest));
-    Object quoteObj = RpcHelper.getResultFromRpcResponse(rpcResponse);
-    return gson.fromJson(gson.toJson(quoteObj), GetQuoteResponse.class);
+    return convert(callRpc(rpcRequest), GetQuoteResponse.class);
   }
 
   /**
@@ -139,9 +158,7 @@ public class PlatformApiClient extends BaseApiClient {
             .jsonrpc(JSON_RPC_VERSION)
             .params(requestParams)
             .build();
-    Response rpcResponse = sendRpcRequest(List.of(rpcRequest));
-    Object txnObj = RpcHelper.getResultFromRpcResponse(rpcResponse);
-    return gson.fromJson(gson.toJson(txnObj), GetTransactionsResponse.class);
+    return convert(callRpc(rpcRequest), GetTransactionsResponse.class);
   }
 
   /**
@@ -213,6 +230,28 @@ public class PlatformApiClient extends BaseApiClient {
     sendRpcNotification(NOTIFY_REFUND_SENT, request);
   }
 
+  /**
+   * Notifies the platform that the trustline of the transaction is set.
+   *
+   * @param txnId the id of the transaction.
+   * @param success whether the trustline is set.
+   * @throws IOException if the request fails due to IO errors.
+   * @throws AnchorException if the response is an error.
+   */
+  public void notifyTrustSet(String txnId, boolean success) throws AnchorException, IOException {
+    NotifyTrustSetRequest requestParams =
+        NotifyTrustSetRequest.builder().transactionId(txnId).success(success).build();
+    RpcRequest rpcRequest =
+        RpcRequest.builder()
+            .id(UUID.randomUUID().toString())
+            .method(NOTIFY_TRUST_SET.toString())
+            .jsonrpc(JSON_RPC_VERSION)
+            .params(requestParams)
+            .build();
+    // The response is checked, so that the caller keeps the pending trust row if the call failed
+    callRpc(rpcRequest);
+  }
+
   public void notifyTransactionError(String txnId, String message)
       throws AnchorException, IOException {
     NotifyTransactionErrorRequest request =
@@ -230,7 +269,57 @@ public class PlatformApiClient extends BaseApiClient {
             .params(requestParams)
             .build();
 
-    sendRpcRequest(List.of(rpcRequest));
+    RpcRequestHandler handler = getInProcessHandler();
+    Timer.Sample sample = Timer.start();
+    if (handler != null) {
+      handler.handle(List.of(rpcRequest));
+      sample.stop(rpcTimer(TV_IN_PROCESS));
+    } else {
+      sendRpcRequest(List.of(rpcRequest)).close();
+      sample.stop(rpcTimer(TV_HTTP));
+    }
+  }
+
+  /**
+   * Sends the RPC request and gets its result.
+   *
+   * @param rpcRequest the RPC request.
+   * @return the result of the RPC request.
+   * @throws IOException if the request fails due to IO errors.
+   * @throws AnchorException if the response is an error.
+   */
+  Object callRpc(RpcRequest rpcRequest) throws IOException, AnchorException {
+    RpcRequestHandler handler = getInProcessHandler();
+    Timer.Sample sample = Timer.start();
+    if (handler != null) {
+      List<RpcResponse> rpcResponses = handler.handle(List.of(rpcRequest));
+      sample.stop(rpcTimer(TV_IN_PROCESS));
+      return RpcHelper.getResultFromRpcResponse(rpcResponses);
+    }
+    try (Response rpcResponse = sendRpcRequest(List.of(rpcRequest))) {
+      Object result = RpcHelper.getResultFromRpcResponse(rpcResponse);
+      sample.stop(rpcTimer(TV_HTTP));
+      return result;
+    }
+  }
+
+  RpcRequestHandler getInProcessHandler() {
+    return inProcess ? InProcessServices.get(RpcRequestHandler.class) : null;
+  }
+
+  private static Timer rpcTimer(String transport) {
+    return Meters.timer(API_CLIENT_REQUEST, TARGET, TV_PLATFORM_API, TRANSPORT, transport);
+  }
+
+  /**
+   * Converts the result of an RPC request to the response type. The results of the in-process
+   * requests are already of the response type and are not serialized.
+   */
+  private static <T> T convert(Object result, Class<T> type) {
+    if (type.isInstance(result)) {
+      return type.cast(result);
+    }
+    return gson.fromJson(gson.toJson(result), type);
   }
 
   public Response sendRpcRequest(List<RpcRequest> rpcRequests) throws IOException, AnchorException {
@@ -0,0 +1,16 @@
+package org.stellar.anchor.apiclient;
+
+import java.util.List;
+import org.stellar.anchor.api.rpc.RpcRequest;
+import org.stellar.anchor.api.rpc.RpcResponse;
+
+/** The handler of the JSON-RPC requests of the platform server. */
+public interface RpcRequestHandler {
+  /**
+   * Handles the batch of the RPC requests.
+   *
+   * @param rpcRequests the RPC requests.
+   * @return the RPC responses, in the order of the requests.
+   */
+  List<RpcResponse> handle(List<RpcRequest> rpcRequests);
+}
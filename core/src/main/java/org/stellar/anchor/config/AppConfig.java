@@ -10,5 +10,9 @@ public interface AppConfig {
 
   String getHorizonUrl();
 
+  int getHorizonRateLimit();
+
+  int getHorizonCacheTtl();
+
   List<String> getLanguages();
 }
@@ -12,7 +12,8 @@ public interface CustodyConfig {
 
   enum CustodyType {
     NONE("none"),
-    FIREBLOCKS("fireblocks");
+    FIREBLOCKS("fireblocks"),
+    LOCAL("local");
 
     private final String type;
 
@@ -6,4 +6,8 @@ public interface CustodySecretConfig {
   String getFireblocksSecretKey();
 
   String getCustodyAuthSecret();
+
+  String getLocalDistributionSeed();
+
+  String getLocalChannelSeeds();
 }
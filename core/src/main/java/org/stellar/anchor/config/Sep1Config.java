@@ -11,6 +11,8 @@ public interface Sep1Config {
 
   String getValue();
 
+  long getRefreshIntervalSeconds();
+
   enum TomlType {
     STRING,
     FILE,
@@ -1,8 +1,102 @@
 package org.stellar.anchor.config;
 
+import com.google.gson.annotations.SerializedName;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import org.apache.commons.lang3.StringUtils;
+import org.stellar.anchor.api.exception.InvalidConfigException;
+
 @SuppressWarnings("SameReturnValue")
 public interface Sep38Config {
   boolean isEnabled();
 
   boolean isSep10Enforced();
+
+  long getPricesTimeoutMilliseconds();
+
+  IndicativeRateCacheConfig getIndicativeRateCache();
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  class IndicativeRateCacheConfig {
+    public static final String PAIR_TTL_SECONDS_KEY =
+        "sep38.indicative_rate_cache.pair_ttl_seconds";
+
+    boolean enabled;
+
+    @SerializedName("ttl_seconds")
+    long ttlSeconds;
+
+    @SerializedName("pair_ttl_seconds")
+    Map<String, Long> pairTtlSeconds = Map.of();
+
+    @SerializedName("max_size")
+    int maxSize;
+
+    @SerializedName("amount_bucket_digits")
+    int amountBucketDigits;
+
+    /**
+     * Parses the per asset pair TTLs. Each line is in the format of `SELL_ASSET BUY_ASSET
+     * TTL_SECONDS`.
+     *
+     * @param pairTtlSeconds the TTL mappings separated by line feeds.
+     */
+    @SneakyThrows
+    public void setPairTtlSeconds(String pairTtlSeconds) {
+      this.pairTtlSeconds = parsePairTtlSeconds(pairTtlSeconds);
+    }
+
+    /**
+     * Parses the per asset pair TTLs.
+     *
+     * @param pairTtlSeconds the TTL mappings separated by line feeds.
+     * @return the TTLs in seconds by pair key.
+     * @throws InvalidConfigException if an entry is not in the format of `SELL_ASSET BUY_ASSET
+     *     TTL_SECONDS`, its TTL is negative, or its pair is duplicated.
+     */
+    public static Map<String, Long> parsePairTtlSeconds(String pairTtlSeconds)
+        throws InvalidConfigException {
+      if (StringUtils.isBlank(pairTtlSeconds)) {
+        return Map.of();
+      }
+      Map<String, Long> ttls = new HashMap<>();
+      for (String line : pairTtlSeconds.split(StringUtils.LF)) {
+        String mapping = line.trim();
+        if (mapping.isEmpty()) {
+          continue;
+        }
+        String[] parts = mapping.split("\\s+");
+        long ttl;
+        try {
+          ttl = parts.length == 3 ? Long.parseLong(parts[2]) : -1;
+        } catch (NumberFormatException ex) {
+          ttl = -1;
+        }
+        if (ttl < 0) {
+          throw new InvalidConfigException(
+              String.format(
+                  "Invalid config[%s] entry: '%s'. It must be in the format SELL_ASSET BUY_ASSET"
+                      + " TTL_SECONDS",
+                  PAIR_TTL_SECONDS_KEY, mapping));
+        }
+        if (ttls.put(pairKey(parts[0], parts[1]), ttl) != null) {
+          throw new InvalidConfigException(
+              String.format(
+                  "Invalid config[%s] entry: '%s'. The asset pair is duplicated",
+                  PAIR_TTL_SECONDS_KEY, mapping));
+        }
+      }
+      return ttls;
+    }
+
+    public static String pairKey(String sellAsset, String buyAsset) {
+      return sellAsset + StringUtils.SPACE + buyAsset;
+    }
+  }
 }
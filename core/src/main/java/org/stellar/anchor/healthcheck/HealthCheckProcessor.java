@@ -1,14 +1,69 @@
 package org.stellar.anchor.healthcheck;
 
+import static org.stellar.anchor.api.platform.HealthCheckStatus.GREEN;
+import static org.stellar.anchor.api.platform.HealthCheckStatus.RED;
+import static org.stellar.anchor.util.Log.warnF;
+import static org.stellar.anchor.util.MetricConstants.*;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Value;
 import org.stellar.anchor.api.platform.HealthCheckResponse;
 import org.stellar.anchor.api.platform.HealthCheckResult;
+import org.stellar.anchor.api.platform.HealthCheckStatus;
+import org.stellar.anchor.api.platform.HealthCheckTiming;
+import org.stellar.anchor.util.Meters;
 
+/**
+ * Runs the health checks and keeps the latest result of each check.
+ *
+ * <p>The checks run in parallel on the executor. When the checks are scheduled, each check is
+ * refreshed in the background at its interval and the requests are served from the latest results.
+ * Otherwise, the requested checks run when they are requested. A check that is still running is
+ * not started again, and a check that does not complete within its timeout is reported as red.
+ */
 public class HealthCheckProcessor {
   private final Map<String, List<HealthCheckable>> mapCheckable = new HashMap<>();
+  private final SortedSet<HealthCheckable> allCheckables = new TreeSet<>();
+  private final Executor executor;
+  private final Duration defaultTimeout;
+  private final Map<HealthCheckable, Snapshot> snapshots = new ConcurrentHashMap<>();
+  private final Map<HealthCheckable, CompletableFuture<Snapshot>> running =
+      new ConcurrentHashMap<>();
+  private final Map<HealthCheckable, AtomicInteger> statusGauges = new ConcurrentHashMap<>();
+  private volatile boolean scheduled = false;
 
   public HealthCheckProcessor(List<HealthCheckable> checkables) {
+    this(checkables, Runnable::run, null);
+  }
+
+  /**
+   * Creates the processor running the checks on the executor.
+   *
+   * @param checkables the checks.
+   * @param executor the executor running the checks.
+   * @param defaultTimeout the timeout of the checks not defining their own, or null if the checks
+   *     are not timed out.
+   */
+  public HealthCheckProcessor(
+      List<HealthCheckable> checkables, Executor executor, Duration defaultTimeout) {
+    this.executor = executor;
+    this.defaultTimeout = defaultTimeout;
     for (HealthCheckable checkable : checkables) {
+      allCheckables.add(checkable);
       for (HealthCheckable.Tags tag : checkable.getTags()) {
         List<HealthCheckable> checksOfTag =
             mapCheckable.computeIfAbsent(tag.toString(), k -> new ArrayList<>());
@@ -17,6 +72,23 @@ public class HealthCheckProcessor {
     }
   }
 
+  /**
+   * Schedules the background refresh of the checks. The requests are served from the latest
+   * results from then on.
+   *
+   * @param scheduler the scheduler starting the refreshes.
+   * @param defaultInterval the interval of the checks not defining their own.
+   */
+  public void schedule(ScheduledExecutorService scheduler, Duration defaultInterval) {
+    for (HealthCheckable checkable : allCheckables) {
+      Duration interval =
+          checkable.getCheckInterval() == null ? defaultInterval : checkable.getCheckInterval();
+      scheduler.scheduleWithFixedDelay(
+          () -> refresh(checkable), 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    scheduled = true;
+  }
+
   public HealthCheckResponse check(List<String> checkTags) {
     HealthCheckResponse healthCheckResponse = new HealthCheckResponse();
     SortedSet<HealthCheckable> checkSet = new TreeSet<>();
@@ -25,12 +97,127 @@ public class HealthCheckProcessor {
       if (checkables != null) checkSet.addAll(checkables);
     }
 
-    List<HealthCheckResult> results = new ArrayList<>(checkSet.size());
+    // Start all the checks before waiting for any of them, so they run in parallel
+    List<CompletableFuture<Snapshot>> futures = new ArrayList<>(checkSet.size());
     for (HealthCheckable checkable : checkSet) {
-      HealthCheckResult result = checkable.check();
-      results.add(result);
+      Snapshot snapshot = scheduled ? snapshots.get(checkable) : null;
+      if (snapshot != null) {
+        futures.add(CompletableFuture.completedFuture(snapshot));
+      } else {
+        futures.add(refresh(checkable));
+      }
+    }
+
+    Instant now = Instant.now();
+    List<HealthCheckResult> results = new ArrayList<>(futures.size());
+    Map<String, HealthCheckTiming> timings = new HashMap<>();
+    for (CompletableFuture<Snapshot> future : futures) {
+      Snapshot snapshot = future.join();
+      results.add(snapshot.getResult());
+      timings.put(
+          snapshot.getResult().name(),
+          new HealthCheckTiming(
+              snapshot.getCheckedAt(),
+              snapshot.getDuration(),
+              Duration.between(snapshot.getCheckedAt(), now)));
+    }
+
+    return healthCheckResponse.complete(results, timings);
+  }
+
+  /**
+   * Runs the check unless it is already running.
+   *
+   * @param checkable the check.
+   * @return the future of the result of the running check.
+   */
+  CompletableFuture<Snapshot> refresh(HealthCheckable checkable) {
+    CompletableFuture<Snapshot> pending = new CompletableFuture<>();
+    CompletableFuture<Snapshot> current = running.putIfAbsent(checkable, pending);
+    if (current != null) {
+      return current;
+    }
+
+    long startTime = System.nanoTime();
+    CompletableFuture<HealthCheckResult> future;
+    try {
+      future = CompletableFuture.supplyAsync(checkable::check, executor);
+    } catch (RuntimeException ex) {
+      future = CompletableFuture.failedFuture(ex);
     }
+    // The check is not started again until it completes, even if it has timed out
+    future.whenComplete((result, ex) -> running.remove(checkable, pending));
+
+    if (defaultTimeout != null) {
+      Duration timeout =
+          checkable.getCheckTimeout() == null ? defaultTimeout : checkable.getCheckTimeout();
+      future = future.copy().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    future.handle(
+        (result, ex) -> {
+          Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+          String outcome = TV_SUCCESS;
+          if (ex != null) {
+            Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+            outcome = cause instanceof TimeoutException ? TV_TIMEOUT : TV_FAILURE;
+            warnF("The health check of {} failed: {}", checkable.getName(), cause.toString());
+            result = failedResult(checkable, cause);
+          }
+          Snapshot snapshot = new Snapshot(result, Instant.now(), duration);
+          snapshots.put(checkable, snapshot);
+          record(checkable, result.getStatus(), outcome, duration);
+          pending.complete(snapshot);
+          return snapshot;
+        });
+    return pending;
+  }
+
+  private void record(
+      HealthCheckable checkable, HealthCheckStatus status, String outcome, Duration duration) {
+    String statusName = status == null ? TV_UNKNOWN : status.getName();
+    Meters.timer(HEALTH_CHECK_RUN, CHECK, checkable.getName(), STATUS, statusName, RESULT, outcome)
+        .record(duration);
+    statusGauges
+        .computeIfAbsent(
+            checkable,
+            k ->
+                Metrics.gauge(
+                    HEALTH_CHECK_STATUS, Tags.of(CHECK, k.getName()), new AtomicInteger()))
+        .set(status == RED ? 0 : 1);
+  }
+
+  private static HealthCheckResult failedResult(HealthCheckable checkable, Throwable cause) {
+    return FailedHealthCheckResult.builder()
+        .name(checkable.getName())
+        .statuses(List.of(GREEN, RED))
+        .status(RED)
+        .error(
+            cause instanceof TimeoutException ? "The check timed out" : String.valueOf(cause))
+        .build();
+  }
+
+  /** The result of a check and when it was completed. */
+  @Value
+  static class Snapshot {
+    HealthCheckResult result;
+    Instant checkedAt;
+    Duration duration;
+  }
+}
+
+/** The result of a check that failed or timed out. */
+@Builder
+@Data
+class FailedHealthCheckResult implements HealthCheckResult {
+  transient String name;
+
+  List<HealthCheckStatus> statuses;
+
+  HealthCheckStatus status;
+
+  String error;
 
-    return healthCheckResponse.complete(results);
+  public String name() {
+    return name;
   }
 }
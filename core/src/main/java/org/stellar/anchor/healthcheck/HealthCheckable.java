@@ -1,5 +1,6 @@
 package org.stellar.anchor.healthcheck;
 
+import java.time.Duration;
 import java.util.List;
 import org.stellar.anchor.api.platform.HealthCheckResult;
 
@@ -31,6 +32,24 @@ public interface HealthCheckable extends Comparable<HealthCheckable> {
    */
   HealthCheckResult check();
 
+  /**
+   * The interval between the background runs of the check.
+   *
+   * @return the interval, or null to use the configured interval.
+   */
+  default Duration getCheckInterval() {
+    return null;
+  }
+
+  /**
+   * The maximum time the check may run before it is reported as failed.
+   *
+   * @return the timeout, or null to use the configured timeout.
+   */
+  default Duration getCheckTimeout() {
+    return null;
+  }
+
   enum Tags {
     ALL("all"),
     KAFKA("kafka"),
@@ -1,31 +1,89 @@
 package org.stellar.anchor.horizon;
 
 import static org.stellar.anchor.api.asset.AssetInfo.NATIVE_ASSET_CODE;
+import static org.stellar.anchor.util.MetricConstants.*;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.stellar.anchor.config.AppConfig;
 import org.stellar.anchor.util.AssetHelper;
+import org.stellar.anchor.util.Meters;
+import org.stellar.sdk.AbstractTransaction;
 import org.stellar.sdk.AssetTypeCreditAlphaNum;
+import org.stellar.sdk.FeeBumpTransaction;
 import org.stellar.sdk.Server;
+import org.stellar.sdk.Transaction;
 import org.stellar.sdk.TrustLineAsset;
 import org.stellar.sdk.exception.NetworkException;
 import org.stellar.sdk.requests.PaymentsRequestBuilder;
 import org.stellar.sdk.responses.AccountResponse;
+import org.stellar.sdk.responses.TransactionResponse;
 import org.stellar.sdk.responses.operations.OperationResponse;
 import org.stellar.sdk.xdr.AssetType;
 
-/** The horizon-server. */
+/**
+ * The horizon-server.
+ *
+ * <p>All the components share the same {@link Server}, and therefore the same connection pool. The
+ * requests are rate limited and identical requests in flight are coalesced into one. The
+ * transactions and their operations, which do not change once the transaction is in the ledger,
+ * can be cached for a short time. The accounts are never cached, so that the signers and the
+ * sequence numbers are up-to-date. Errors are never cached. The submissions are rate limited, but
+ * never coalesced.
+ */
 public class Horizon {
+  static final String ENDPOINT_ACCOUNTS = "accounts";
+  static final String ENDPOINT_TRANSACTION_PAYMENTS = "transaction_payments";
+  static final String ENDPOINT_TRANSACTIONS = "transactions";
+  static final String ENDPOINT_SUBMIT_TRANSACTION = "submit_transaction";
+  // The expired entries are evicted when the cache grows above this size
+  static final int MAX_CACHE_SIZE = 10000;
 
   @Getter private final String horizonUrl;
   @Getter private final String stellarNetworkPassphrase;
   private final Server horizonServer;
+  private final long permitIntervalNanos;
+  private final long cacheTtlNanos;
+  private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+  private long nextPermitAt = System.nanoTime();
+
+  private final Timer throttleWaitTimer =
+      Timer.builder(HORIZON_THROTTLE_WAIT)
+          .publishPercentileHistogram()
+          .register(Metrics.globalRegistry);
 
   public Horizon(AppConfig appConfig) {
+    this(appConfig, 0, Duration.ZERO);
+  }
+
+  /**
+   * Creates the horizon-server.
+   *
+   * @param appConfig the app config.
+   * @param rateLimit the maximum number of requests per second, or 0 for no limit.
+   * @param cacheTtl the time the responses are cached, or zero for no cache.
+   */
+  public Horizon(AppConfig appConfig, int rateLimit, Duration cacheTtl) {
+    this(appConfig, new Server(appConfig.getHorizonUrl()), rateLimit, cacheTtl);
+  }
+
+  Horizon(AppConfig appConfig, Server horizonServer, int rateLimit, Duration cacheTtl) {
     this.horizonUrl = appConfig.getHorizonUrl();
     this.stellarNetworkPassphrase = appConfig.getStellarNetworkPassphrase();
-    this.horizonServer = new Server(appConfig.getHorizonUrl());
+    this.horizonServer = horizonServer;
+    this.permitIntervalNanos = rateLimit > 0 ? TimeUnit.SECONDS.toNanos(1) / rateLimit : 0;
+    this.cacheTtlNanos = cacheTtl.toNanos();
   }
 
   public Server getServer() {
@@ -39,7 +97,7 @@ public class Horizon {
     }
     String assetIssuer = AssetHelper.getAssetIssuer(asset);
 
-    AccountResponse accountResponse = getServer().accounts().account(account);
+    AccountResponse accountResponse = getAccount(account);
     return accountResponse.getBalances().stream()
         .anyMatch(
             balance -> {
@@ -56,6 +114,18 @@ public class Horizon {
             });
   }
 
+  /**
+   * Get an account.
+   *
+   * @param account the account id
+   * @return the account
+   * @throws NetworkException request failed, e.g. the account does not exist
+   */
+  public AccountResponse getAccount(String account) throws NetworkException {
+    return request(
+        ENDPOINT_ACCOUNTS, account, false, () -> getServer().accounts().account(account));
+  }
+
   /**
    * Get payment operations for a transaction.
    *
@@ -64,11 +134,143 @@ public class Horizon {
    * @throws NetworkException request failed, see {@link PaymentsRequestBuilder#execute()}
    */
   public List<OperationResponse> getStellarTxnOperations(String stellarTxnId) {
-    return getServer()
-        .payments()
-        .includeTransactions(true)
-        .forTransaction(stellarTxnId)
-        .execute()
-        .getRecords();
+    return request(
+        ENDPOINT_TRANSACTION_PAYMENTS,
+        stellarTxnId,
+        true,
+        () ->
+            getServer()
+                .payments()
+                .includeTransactions(true)
+                .forTransaction(stellarTxnId)
+                .execute()
+                .getRecords());
+  }
+
+  /**
+   * Get a transaction.
+   *
+   * @param hash the transaction hash, or the inner transaction hash of a fee bump transaction
+   * @return the transaction
+   * @throws NetworkException request failed, e.g. the transaction is not in the ledger
+   */
+  public TransactionResponse getTransaction(String hash) throws NetworkException {
+    return request(
+        ENDPOINT_TRANSACTIONS, hash, true, () -> getServer().transactions().transaction(hash));
+  }
+
+  /**
+   * Submit a transaction.
+   *
+   * @param envelope the transaction or the fee bump transaction
+   * @param skipMemoRequiredCheck whether the memo required check of SEP-29 is skipped
+   * @return the transaction
+   * @throws NetworkException request failed, e.g. the transaction was rejected
+   */
+  public TransactionResponse submitTransaction(
+      AbstractTransaction envelope, boolean skipMemoRequiredCheck) throws NetworkException {
+    return execute(
+        ENDPOINT_SUBMIT_TRANSACTION,
+        () -> {
+          if (envelope instanceof FeeBumpTransaction) {
+            return getServer()
+                .submitTransaction((FeeBumpTransaction) envelope, skipMemoRequiredCheck);
+          }
+          return getServer().submitTransaction((Transaction) envelope, skipMemoRequiredCheck);
+        });
+  }
+
+  @SuppressWarnings("unchecked")
+  <T> T request(String endpoint, String key, boolean cacheable, Supplier<T> call) {
+    String cacheKey = endpoint + ":" + key;
+    boolean useCache = cacheable && cacheTtlNanos > 0;
+    if (useCache) {
+      CachedResponse cached = cache.get(cacheKey);
+      if (cached != null && System.nanoTime() - cached.expiresAt < 0) {
+        Meters.counter(HORIZON_CACHE, TYPE, endpoint, RESULT, TV_HIT).increment();
+        return (T) cached.response;
+      }
+    }
+
+    CompletableFuture<Object> future = new CompletableFuture<>();
+    CompletableFuture<Object> existing = inFlight.putIfAbsent(cacheKey, future);
+    if (existing != null) {
+      Meters.counter(HORIZON_CACHE, TYPE, endpoint, RESULT, TV_COALESCED).increment();
+      try {
+        return (T) existing.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+
+    Meters.counter(HORIZON_CACHE, TYPE, endpoint, RESULT, TV_MISS).increment();
+    try {
+      T response = execute(endpoint, call);
+      if (useCache) {
+        cache(cacheKey, response);
+      }
+      future.complete(response);
+      return response;
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(cacheKey, future);
+    }
+  }
+
+  <T> T execute(String endpoint, Supplier<T> call) {
+    acquirePermit();
+    long start = System.nanoTime();
+    String result = TV_FAILURE;
+    try {
+      T response = call.get();
+      result = TV_SUCCESS;
+      return response;
+    } finally {
+      Meters.timer(HORIZON_REQUEST, TYPE, endpoint, RESULT, result)
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  void acquirePermit() {
+    if (permitIntervalNanos == 0) {
+      return;
+    }
+    long waitNanos;
+    synchronized (this) {
+      long now = System.nanoTime();
+      long permitAt = Math.max(nextPermitAt, now);
+      nextPermitAt = permitAt + permitIntervalNanos;
+      waitNanos = permitAt - now;
+    }
+    if (waitNanos > 0) {
+      throttleWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+      try {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  void cache(String cacheKey, Object response) {
+    long now = System.nanoTime();
+    if (cache.size() >= MAX_CACHE_SIZE) {
+      cache.values().removeIf(cached -> now - cached.expiresAt >= 0);
+      if (cache.size() >= MAX_CACHE_SIZE) {
+        cache.clear();
+      }
+    }
+    cache.put(cacheKey, new CachedResponse(response, now + cacheTtlNanos));
+  }
+
+  @AllArgsConstructor
+  static class CachedResponse {
+    final Object response;
+    final long expiresAt;
   }
 }
@@ -1,22 +1,33 @@
 package org.stellar.anchor.sep1;
 
 import static org.stellar.anchor.util.Log.debugF;
+import static org.stellar.anchor.util.Log.warnF;
 import static org.stellar.anchor.util.MetricConstants.SEP1_TOML_ACCESSED;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Metrics;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import org.stellar.anchor.api.exception.InvalidConfigException;
 import org.stellar.anchor.api.exception.SepException;
 import org.stellar.anchor.config.Sep1Config;
+import org.stellar.anchor.config.Sep1Config.TomlType;
 import org.stellar.anchor.util.FileUtil;
 import org.stellar.anchor.util.Log;
 import org.stellar.anchor.util.NetUtil;
 
 public class Sep1Service implements ISep1Service {
   private final Sep1Config sep1Config;
-  private String tomlValue = null;
+  private volatile String tomlValue = null;
+  private volatile Instant tomlFileModifiedAt;
+  // The first load may read the URL. A lock does not pin the carrier thread of a virtual thread
+  // blocked on the I/O, unlike a synchronized block.
+  private final ReentrantLock loadLock = new ReentrantLock();
   Counter sep1TomlAccessedCounter = Metrics.counter(SEP1_TOML_ACCESSED);
 
   /**
@@ -29,6 +40,20 @@ public class Sep1Service implements ISep1Service {
     Log.info("Sep1Service initialized.");
   }
 
+  /**
+   * Schedules the refresh of the `file` and `url` sources every refresh interval. The content is
+   * read on the first request if it has not been read by the scheduler yet.
+   *
+   * @param scheduler The scheduler of the refresh.
+   */
+  public void start(ScheduledExecutorService scheduler) {
+    long interval = sep1Config.getRefreshIntervalSeconds();
+    if (!sep1Config.isEnabled() || interval <= 0 || sep1Config.getType() == TomlType.STRING) {
+      return;
+    }
+    scheduler.scheduleWithFixedDelay(this::refresh, interval, interval, TimeUnit.SECONDS);
+  }
+
   @Override
   public String readSep1Toml(Sep1Config sep1Config) throws Exception {
     if (sep1Config.isEnabled()) {
@@ -51,9 +76,23 @@ public class Sep1Service implements ISep1Service {
     }
   }
 
+  /**
+   * Gets the stellar.toml content. The content of the `file` and `url` sources is read again by the
+   * scheduled refresh. The same String instance is returned until the content changes.
+   *
+   * @return The stellar.toml content.
+   * @throws SepException If SEP-1 is disabled or the content cannot be read for the first time.
+   */
   public String getToml() throws SepException {
     try {
-      if (tomlValue == null) tomlValue = readSep1Toml(sep1Config);
+      if (tomlValue == null) {
+        loadLock.lock();
+        try {
+          if (tomlValue == null) load();
+        } finally {
+          loadLock.unlock();
+        }
+      }
       sep1TomlAccessedCounter.increment();
       return tomlValue;
     } catch (SepException sepEx) {
@@ -64,6 +103,48 @@ public class Sep1Service implements ISep1Service {
     }
   }
 
+  void load() throws Exception {
+    Instant fileModifiedAt = fileModifiedAt();
+    tomlValue = readSep1Toml(sep1Config);
+    tomlFileModifiedAt = fileModifiedAt;
+  }
+
+  void refresh() {
+    // The refresh may run while the first request loads the content
+    loadLock.lock();
+    try {
+      Instant fileModifiedAt = fileModifiedAt();
+      if (tomlValue != null
+          && fileModifiedAt != null
+          && fileModifiedAt.equals(tomlFileModifiedAt)) {
+        return;
+      }
+      String value = readSep1Toml(sep1Config);
+      if (!value.equals(tomlValue)) {
+        debugF("stellar.toml changed at {}", sep1Config.getValue());
+        tomlValue = value;
+      }
+      tomlFileModifiedAt = fileModifiedAt;
+    } catch (Exception e) {
+      // A failed refresh is retried after the next interval
+      warnF("Failed to refresh stellar.toml, serving the previous content. {}", e.getMessage());
+    } finally {
+      loadLock.unlock();
+    }
+  }
+
+  Instant fileModifiedAt() {
+    if (!sep1Config.isEnabled() || sep1Config.getType() != TomlType.FILE) {
+      return null;
+    }
+    try {
+      return Files.getLastModifiedTime(Path.of(sep1Config.getValue())).toInstant();
+    } catch (IOException e) {
+      // The file is read again, and the read reports the error
+      return null;
+    }
+  }
+
   String readTomlFromFile(String path) throws IOException {
     return FileUtil.read(Path.of(path));
   }
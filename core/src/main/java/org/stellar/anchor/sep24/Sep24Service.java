@@ -40,7 +40,6 @@ import org.stellar.anchor.api.sep.sep24.GetTransactionsResponse;
 import org.stellar.anchor.api.sep.sep24.InfoResponse;
 import org.stellar.anchor.api.sep.sep24.InteractiveTransactionResponse;
 import org.stellar.anchor.api.sep.sep24.Sep24GetTransactionResponse;
-import org.stellar.anchor.api.sep.sep24.TransactionResponse;
 import org.stellar.anchor.asset.AssetService;
 import org.stellar.anchor.auth.JwtService;
 import org.stellar.anchor.auth.Sep10Jwt;
@@ -199,7 +198,7 @@ public class Sep24Service {
     Memo memo = makeMemo(withdrawRequest.get("memo"), withdrawRequest.get("memo_type"));
     Memo refundMemo =
         makeMemo(withdrawRequest.get("refund_memo"), withdrawRequest.get("refund_memo_type"));
-    String txnId = UUID.randomUUID().toString();
+    String txnId = generateSepTransactionId();
     Sep24TransactionBuilder builder =
         new Sep24TransactionBuilder(txnStore)
             .transactionId(txnId)
@@ -498,15 +497,11 @@ public class Sep24Service {
     List<Sep24Transaction> txns =
         txnStore.findTransactions(token.getAccount(), token.getAccountMemo(), txReq);
     GetTransactionsResponse result = new GetTransactionsResponse();
-    List<TransactionResponse> list = new ArrayList<>();
     debugF("found {} transactions", txns.size());
-    for (Sep24Transaction txn : txns) {
-      String lang = validateLanguage(appConfig, txReq.getLang());
-      TransactionResponse transactionResponse =
-          fromTxn(assetService, moreInfoUrlConstructor, txn, lang);
-      list.add(transactionResponse);
-    }
-    result.setTransactions(list);
+    String lang = validateLanguage(appConfig, txReq.getLang());
+    // The transactions are mapped one at a time while the response is written
+    result.setTransactions(
+        MappedList.of(txns, txn -> fromTxn(assetService, moreInfoUrlConstructor, txn, lang)));
     // increment counter
     sep24TransactionQueriedCounter.increment();
     return result;
@@ -0,0 +1,232 @@
+package org.stellar.anchor.sep38;
+
+import static org.stellar.anchor.util.Log.debugF;
+import static org.stellar.anchor.util.MetricConstants.*;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.stellar.anchor.api.callback.GetRateRequest;
+import org.stellar.anchor.api.callback.GetRateResponse;
+import org.stellar.anchor.api.callback.RateIntegration;
+import org.stellar.anchor.api.exception.AnchorException;
+import org.stellar.anchor.api.exception.ServerErrorException;
+import org.stellar.anchor.config.Sep38Config.IndicativeRateCacheConfig;
+
+/**
+ * An in-process cache of the indicative rates returned by the business server.
+ *
+ * <p>The entries are keyed on the normalized rate request and expire after the TTL configured for
+ * their asset pair. Concurrent requests of the same key share one call to the business server.
+ * Firm rates are never cached.
+ */
+public class IndicativeRateCache {
+  final RateIntegration rateIntegration;
+  final IndicativeRateCacheConfig config;
+  final Supplier<Instant> clock;
+  final Map<RateKey, Entry> entries = new ConcurrentHashMap<>();
+
+  final Counter hitCounter = Metrics.counter(SEP38_RATE_CACHE, RESULT, TV_HIT);
+  final Counter missCounter = Metrics.counter(SEP38_RATE_CACHE, RESULT, TV_MISS);
+  final Counter coalescedCounter = Metrics.counter(SEP38_RATE_CACHE, RESULT, TV_COALESCED);
+  final Counter evictionCounter = Metrics.counter(SEP38_RATE_CACHE_EVICTED);
+
+  public IndicativeRateCache(RateIntegration rateIntegration, IndicativeRateCacheConfig config) {
+    this(rateIntegration, config, Instant::now);
+  }
+
+  IndicativeRateCache(
+      RateIntegration rateIntegration, IndicativeRateCacheConfig config, Supplier<Instant> clock) {
+    this.rateIntegration = rateIntegration;
+    this.config = config;
+    this.clock = clock;
+    Metrics.gauge(SEP38_RATE_CACHE_SIZE, entries, Map::size);
+  }
+
+  /**
+   * Gets the rate from the cache, or from the business server if the rate is not cached.
+   *
+   * @param request The request to get a rate.
+   * @param priceOnly true if the caller only uses the price of the rate. The amount of the request
+   *     is then rounded to the configured bucket so that similar amounts share the cache entry.
+   * @return the GET rate response.
+   * @throws AnchorException if error happens
+   */
+  public GetRateResponse getRate(GetRateRequest request, boolean priceOnly)
+      throws AnchorException {
+    try {
+      return getRateAsync(request, priceOnly).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof AnchorException) {
+        throw (AnchorException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new ServerErrorException("internal server error", e.getCause());
+    }
+  }
+
+  /**
+   * Gets the rate from the cache, or from the business server if the rate is not cached, without
+   * blocking the caller.
+   *
+   * @param request The request to get a rate.
+   * @param priceOnly true if the caller only uses the price of the rate.
+   * @return the future of the GET rate response.
+   */
+  public CompletableFuture<GetRateResponse> getRateAsync(
+      GetRateRequest request, boolean priceOnly) {
+    if (request.getType() != GetRateRequest.Type.INDICATIVE) {
+      return rateIntegration.getRateAsync(request);
+    }
+
+    int bucketDigits = priceOnly ? config.getAmountBucketDigits() : 0;
+    RateKey key = RateKey.of(request, bucketDigits);
+    Instant now = clock.get();
+    Entry entry = entries.get(key);
+    if (entry == null || entry.isExpired(now)) {
+      Duration ttl = ttl(request.getSellAsset(), request.getBuyAsset());
+      Entry newEntry = new Entry(new CompletableFuture<>(), now.plus(ttl));
+      entry =
+          entries.compute(
+              key,
+              (k, existing) ->
+                  (existing == null || existing.isExpired(now)) ? newEntry : existing);
+      if (entry == newEntry) {
+        missCounter.increment();
+        load(key, newEntry, bucketDigits > 0 ? key.toRequest(request) : request);
+        evictIfNeeded(now);
+        // The copy prevents callers from cancelling the shared entry
+        return newEntry.future.copy();
+      }
+    }
+
+    if (entry.future.isDone()) {
+      hitCounter.increment();
+    } else {
+      coalescedCounter.increment();
+    }
+    return entry.future.copy();
+  }
+
+  void load(RateKey key, Entry entry, GetRateRequest request) {
+    rateIntegration
+        .getRateAsync(request)
+        .whenComplete(
+            (response, ex) -> {
+              if (ex != null) {
+                // Failures are not cached
+                entries.remove(key, entry);
+                entry.future.completeExceptionally(
+                    (ex instanceof CompletionException || ex instanceof CancellationException)
+                            && ex.getCause() != null
+                        ? ex.getCause()
+                        : ex);
+              } else {
+                entry.future.complete(response);
+              }
+            });
+  }
+
+  Duration ttl(String sellAsset, String buyAsset) {
+    Long pairTtl =
+        config.getPairTtlSeconds().get(IndicativeRateCacheConfig.pairKey(sellAsset, buyAsset));
+    return Duration.ofSeconds(pairTtl != null ? pairTtl : config.getTtlSeconds());
+  }
+
+  void evictIfNeeded(Instant now) {
+    if (entries.size() <= config.getMaxSize()) {
+      return;
+    }
+
+    // Drop the expired entries first, then any entry until the cache fits in its bound.
+    int size = entries.size();
+    entries.values().removeIf(entry -> entry.isExpired(now) && entry.future.isDone());
+    Iterator<RateKey> it = entries.keySet().iterator();
+    while (entries.size() > config.getMaxSize() && it.hasNext()) {
+      it.next();
+      it.remove();
+    }
+    evictionCounter.increment(Math.max(0, size - entries.size()));
+    debugF("Indicative rate cache evicted to {} entries", entries.size());
+  }
+
+  @AllArgsConstructor
+  static class Entry {
+    final CompletableFuture<GetRateResponse> future;
+    final Instant expiresAt;
+
+    boolean isExpired(Instant now) {
+      return !now.isBefore(expiresAt);
+    }
+  }
+
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  static class RateKey {
+    final String sellAsset;
+    final String sellAmount;
+    final String sellDeliveryMethod;
+    final String buyAsset;
+    final String buyAmount;
+    final String buyDeliveryMethod;
+    final String countryCode;
+    final String clientId;
+
+    static RateKey of(GetRateRequest request, int bucketDigits) {
+      return new RateKey(
+          request.getSellAsset(),
+          normalizeAmount(request.getSellAmount(), bucketDigits),
+          request.getSellDeliveryMethod(),
+          request.getBuyAsset(),
+          normalizeAmount(request.getBuyAmount(), bucketDigits),
+          request.getBuyDeliveryMethod(),
+          request.getCountryCode(),
+          request.getClientId());
+    }
+
+    /**
+     * Builds the request sent to the business server for a bucketed key so that the cached price
+     * is computed for the amount the bucket represents.
+     */
+    GetRateRequest toRequest(GetRateRequest request) {
+      return GetRateRequest.builder()
+          .type(request.getType())
+          .sellAsset(request.getSellAsset())
+          .sellAmount(sellAmount)
+          .sellDeliveryMethod(request.getSellDeliveryMethod())
+          .buyAsset(request.getBuyAsset())
+          .buyAmount(buyAmount)
+          .buyDeliveryMethod(request.getBuyDeliveryMethod())
+          .countryCode(request.getCountryCode())
+          .expireAfter(request.getExpireAfter())
+          .clientId(request.getClientId())
+          .build();
+    }
+
+    static String normalizeAmount(String amount, int bucketDigits) {
+      if (amount == null) {
+        return null;
+      }
+      BigDecimal value = new BigDecimal(amount);
+      if (bucketDigits > 0) {
+        value = value.round(new MathContext(bucketDigits, RoundingMode.HALF_UP));
+      }
+      return value.stripTrailingZeros().toPlainString();
+    }
+  }
+}
@@ -8,16 +8,22 @@ import static org.stellar.anchor.util.BeanHelper.updateField;
 import static org.stellar.anchor.util.Log.*;
 import static org.stellar.anchor.util.MathHelper.decimal;
 import static org.stellar.anchor.util.MathHelper.formatAmount;
-import static org.stellar.anchor.util.MetricConstants.SEP38_PRICE_QUERIED;
-import static org.stellar.anchor.util.MetricConstants.SEP38_QUOTE_CREATED;
+import static org.stellar.anchor.util.MetricConstants.*;
 import static org.stellar.anchor.util.NumberHelper.DEFAULT_ROUNDING_MODE;
 import static org.stellar.anchor.util.SepHelper.validateAmount;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.stellar.anchor.api.callback.*;
@@ -39,12 +45,15 @@ import org.stellar.anchor.util.Log;
 public class Sep38Service {
   final AssetService assetService;
   final RateIntegration rateIntegration;
+  final IndicativeRateCache indicativeRateCache;
   final Sep38QuoteStore sep38QuoteStore;
   final EventService.Session eventSession;
   final InfoResponse infoResponse;
   final Map<String, InfoResponse.Asset> assetMap;
   final int pricePrecision = 10;
+  final long pricesTimeout;
   final Counter sep38PriceQueriedCounter = Metrics.counter(SEP38_PRICE_QUERIED);
+  final Counter sep38PricesRateFailedCounter = Metrics.counter(SEP38_PRICES_RATE_FAILED);
   final Counter sep38QuoteCreatedCounter = Metrics.counter(SEP38_QUOTE_CREATED);
 
   public Sep38Service(
@@ -56,8 +65,15 @@ public class Sep38Service {
     debug("sep38Config:", sep38Config);
     this.assetService = assetService;
     this.rateIntegration = rateIntegration;
+    this.indicativeRateCache =
+        (rateIntegration != null
+                && sep38Config.getIndicativeRateCache() != null
+                && sep38Config.getIndicativeRateCache().isEnabled())
+            ? new IndicativeRateCache(rateIntegration, sep38Config.getIndicativeRateCache())
+            : null;
     this.sep38QuoteStore = sep38QuoteStore;
     this.eventSession = eventService.createSession(this.getClass().getName(), TRANSACTION);
+    this.pricesTimeout = sep38Config.getPricesTimeoutMilliseconds();
     this.infoResponse = new InfoResponse(this.assetService.getAssets());
     assetMap = new HashMap<>();
     this.infoResponse.getAssets().forEach(asset -> assetMap.put(asset.getAsset(), asset));
@@ -107,7 +123,12 @@ public class Sep38Service {
             .countryCode(countryCode)
             .sellDeliveryMethod(sellDeliveryMethod)
             .buyDeliveryMethod(buyDeliveryMethod);
-    GetPricesResponse response = new GetPricesResponse();
+
+    // Fan out the rate requests so that the latency is bound by the slowest rate instead of the
+    // sum of all of them.
+    Timer.Sample sample = Timer.start();
+    List<InfoResponse.Asset> buyAssets = new ArrayList<>();
+    List<CompletableFuture<GetRateResponse>> rateFutures = new ArrayList<>();
     for (String buyAssetName : sellAsset.getExchangeableAssetNames()) {
       InfoResponse.Asset buyAsset = this.assetMap.get(buyAssetName);
       if (buyAsset == null || !buyAsset.supportsBuyDeliveryMethod(buyDeliveryMethod)) {
@@ -115,16 +136,87 @@ public class Sep38Service {
       }
 
       GetRateRequest request = builder.buyAsset(buyAssetName).build();
-      GetRateResponse rateResponse = this.rateIntegration.getRate(request);
-      GetRateResponse.Rate rate = rateResponse.getRate();
-      response.addAsset(buyAssetName, buyAsset.getDecimals(), rate.getPrice());
+      buyAssets.add(buyAsset);
+      rateFutures.add(getIndicativeRateAsync(request, true));
+    }
+    awaitRates(rateFutures);
+
+    // Assets whose rate failed or was not fetched in time are omitted from the response.
+    GetPricesResponse response = new GetPricesResponse();
+    Throwable firstFailure = null;
+    for (int i = 0; i < buyAssets.size(); i++) {
+      InfoResponse.Asset buyAsset = buyAssets.get(i);
+      CompletableFuture<GetRateResponse> rateFuture = rateFutures.get(i);
+      Throwable cause;
+      if (rateFuture.isDone()) {
+        try {
+          GetRateResponse.Rate rate = rateFuture.join().getRate();
+          response.addAsset(buyAsset.getAsset(), buyAsset.getDecimals(), rate.getPrice());
+          continue;
+        } catch (CompletionException e) {
+          cause = e.getCause();
+        } catch (CancellationException e) {
+          cause = e;
+        }
+      } else {
+        rateFuture.cancel(true);
+        cause = new ServerErrorException("timed out fetching the rate");
+      }
+
+      warnF(
+          "Unable to get the rate from {} to {}: {}",
+          sellAssetName,
+          buyAsset.getAsset(),
+          cause.getMessage());
+      sep38PricesRateFailedCounter.increment();
+      if (firstFailure == null) {
+        firstFailure = cause;
+      }
+    }
+
+    // Fail the request only if none of the rates is available
+    if (response.getBuyAssets().isEmpty() && firstFailure != null) {
+      sample.stop(pricesTimer(TV_FAILURE));
+      if (firstFailure instanceof AnchorException) {
+        throw (AnchorException) firstFailure;
+      }
+      throw new ServerErrorException("internal server error", firstFailure);
     }
+    sample.stop(pricesTimer(TV_SUCCESS));
 
     // increment counter
     sep38PriceQueriedCounter.increment();
     return response;
   }
 
+  private CompletableFuture<GetRateResponse> getIndicativeRateAsync(
+      GetRateRequest request, boolean priceOnly) {
+    return (indicativeRateCache != null)
+        ? indicativeRateCache.getRateAsync(request, priceOnly)
+        : this.rateIntegration.getRateAsync(request);
+  }
+
+  private void awaitRates(List<CompletableFuture<GetRateResponse>> rateFutures)
+      throws ServerErrorException {
+    try {
+      CompletableFuture.allOf(rateFutures.toArray(new CompletableFuture[0]))
+          .get(pricesTimeout, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException | TimeoutException e) {
+      // The failed and pending rates are handled individually by the caller
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      rateFutures.forEach(future -> future.cancel(true));
+      throw new ServerErrorException("interrupted while fetching the rates", e);
+    }
+  }
+
+  private Timer pricesTimer(String status) {
+    return Timer.builder(SEP38_PRICES_LATENCY)
+        .tag(STATUS, status)
+        .publishPercentileHistogram()
+        .register(Metrics.globalRegistry);
+  }
+
   public void validateAsset(String prefix, String assetName) throws AnchorException {
     // assetName
     if (Objects.toString(assetName, "").isEmpty()) {
@@ -218,7 +310,10 @@ public class Sep38Service {
 
     // Get the rate
     GetRateRequest request = rrBuilder.build();
-    GetRateResponse rateResponse = this.rateIntegration.getRate(request);
+    GetRateResponse rateResponse =
+        (indicativeRateCache != null)
+            ? indicativeRateCache.getRate(request, false)
+            : this.rateIntegration.getRate(request);
     GetRateResponse.Rate rate = rateResponse.getRate();
 
     String totalPrice =
@@ -26,6 +26,7 @@ import org.stellar.anchor.config.AppConfig;
 import org.stellar.anchor.config.Sep6Config;
 import org.stellar.anchor.event.EventService;
 import org.stellar.anchor.sep6.ExchangeAmountsCalculator.Amounts;
+import org.stellar.anchor.util.MappedList;
 import org.stellar.anchor.util.MetricConstants;
 import org.stellar.anchor.util.SepHelper;
 import org.stellar.anchor.util.TransactionMapper;
@@ -459,12 +460,11 @@ public class Sep6Service {
     // Query the transaction store
     List<Sep6Transaction> transactions =
         txnStore.findTransactions(token.getAccount(), token.getAccountMemo(), request);
-    List<Sep6TransactionResponse> responses = new ArrayList<>();
-    for (Sep6Transaction txn : transactions) {
-      String lang = validateLanguage(appConfig, request.getLang());
-      Sep6TransactionResponse tr = Sep6TransactionUtils.fromTxn(txn, moreInfoUrlConstructor, lang);
-      responses.add(tr);
-    }
+    String lang = validateLanguage(appConfig, request.getLang());
+    // The transactions are mapped one at a time while the response is written
+    List<Sep6TransactionResponse> responses =
+        MappedList.of(
+            transactions, txn -> Sep6TransactionUtils.fromTxn(txn, moreInfoUrlConstructor, lang));
 
     sep6TransactionQueriedCounter.increment();
     return new GetTransactionsResponse(responses);
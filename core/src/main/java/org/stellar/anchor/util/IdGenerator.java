@@ -0,0 +1,66 @@
+package org.stellar.anchor.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates the Ids of the transactions and the other rows created by the Anchor Platform.
+ *
+ * <p>The TIME_ORDERED strategy generates UUIDv7 Ids (RFC 9562). The first 48 bits are the Unix
+ * timestamp in milliseconds and the next 12 bits are a counter, so the Ids created by the instance
+ * are increasing and new rows are appended at the end of the primary key index instead of being
+ * scattered across it. The remaining 62 bits are random. The RANDOM strategy generates UUIDv4 Ids.
+ * Both are UUIDs in the same format, so they can be mixed with the existing Ids.
+ */
+public class IdGenerator {
+  private static final SecureRandom random = new SecureRandom();
+  // The last timestamp in milliseconds, shifted left by 12 bits, plus the counter
+  private static final AtomicLong lastTimeAndCounter = new AtomicLong();
+  private static volatile Strategy strategy = Strategy.RANDOM;
+
+  private IdGenerator() {}
+
+  public static Strategy getStrategy() {
+    return strategy;
+  }
+
+  public static void setStrategy(Strategy strategy) {
+    IdGenerator.strategy = strategy;
+  }
+
+  /**
+   * Generates an Id with the configured strategy.
+   *
+   * @return An Id in UUID format
+   */
+  public static String newId() {
+    return strategy == Strategy.RANDOM
+        ? UUID.randomUUID().toString()
+        : timeOrderedUuid().toString();
+  }
+
+  /**
+   * Generates a UUIDv7. If several Ids are generated in the same millisecond, the counter is
+   * incremented. When the counter overflows, the timestamp is advanced by one millisecond, so the
+   * Ids keep increasing.
+   *
+   * @return the UUID.
+   */
+  static UUID timeOrderedUuid() {
+    long now = System.currentTimeMillis() << 12;
+    // The counter starts from a random value in each millisecond, leaving room for increments
+    long timeAndCounter =
+        lastTimeAndCounter.updateAndGet(
+            last -> now > last ? now | (random.nextInt() & 0x3FF) : last + 1);
+
+    long msb = ((timeAndCounter >>> 12) << 16) | 0x7000L | (timeAndCounter & 0xFFFL);
+    long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(msb, lsb);
+  }
+
+  public enum Strategy {
+    RANDOM,
+    TIME_ORDERED
+  }
+}
@@ -3,12 +3,13 @@ package org.stellar.anchor.util;
 import com.google.gson.ExclusionStrategy;
 import com.google.gson.FieldAttributes;
 import com.google.gson.Gson;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Metrics;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -16,10 +17,27 @@ import org.slf4j.LoggerFactory;
 import org.stellar.anchor.config.PII;
 import org.stellar.anchor.config.Secret;
 
-/** Logging utility functions. */
+/**
+ * Logging utility functions. The logger of the calling class is resolved without capturing the
+ * whole stack and is cached, and the messages and their JSON details are only built if the level is
+ * enabled.
+ */
 @SuppressWarnings("unused")
 public class Log {
   static final Gson gson;
+  static final StackWalker stackWalker =
+      StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+  static final ClassValue<Logger> loggers =
+      new ClassValue<>() {
+        @Override
+        protected Logger computeValue(Class<?> cls) {
+          return LoggerFactory.getLogger(cls);
+        }
+      };
+  static final Counter errorCounter =
+      Metrics.counter(MetricConstants.LOGGER, MetricConstants.TYPE, "error");
+  static final Counter warnCounter =
+      Metrics.counter(MetricConstants.LOGGER, MetricConstants.TYPE, "warn");
 
   static {
     LogExclusionStrategy strategy = new LogExclusionStrategy();
@@ -32,7 +50,10 @@ public class Log {
    * @param message the debug message.
    */
   public static void debug(final String message) {
-    logMessageWithJson(message, null, getLogger()::debug);
+    Logger logger = getLogger();
+    if (logger.isDebugEnabled()) {
+      logger.debug(toMessage(message, null));
+    }
   }
 
   /**
@@ -42,7 +63,10 @@ public class Log {
    * @param detail The additional object to be logged.
    */
   public static void debug(final String message, final Object detail) {
-    logMessageWithJson(message, detail, getLogger()::debug);
+    Logger logger = getLogger();
+    if (logger.isDebugEnabled()) {
+      logger.debug(toMessage(message, detail));
+    }
   }
 
   /**
@@ -51,7 +75,10 @@ public class Log {
    * @param detail The additional object to be logged.
    */
   public static void debug(final Object detail) {
-    logMessageWithJson(null, detail, getLogger()::debug);
+    Logger logger = getLogger();
+    if (logger.isDebugEnabled()) {
+      logger.debug(toMessage(null, detail));
+    }
   }
 
   /**
@@ -73,7 +100,7 @@ public class Log {
   public static void error(final String msg) {
     Logger logger = getLogger();
     logger.error(msg);
-    Metrics.counter("logger", "type", "error").increment();
+    errorCounter.increment();
   }
 
   /**
@@ -86,17 +113,23 @@ public class Log {
     if (detail instanceof Exception) {
       Exception ex = (Exception) detail;
 
-      logMessageWithJson(
-          message,
-          Arrays.stream(ex.getStackTrace())
-              .map(StackTraceElement::toString)
-              .collect(Collectors.joining("\n")),
-          getLogger()::error);
+      Logger logger = getLogger();
+      if (logger.isErrorEnabled()) {
+        logger.error(
+            toMessage(
+                message,
+                Arrays.stream(ex.getStackTrace())
+                    .map(StackTraceElement::toString)
+                    .collect(Collectors.joining("\n"))));
+      }
       return;
     } else {
-      logMessageWithJson(message, detail, getLogger()::error);
+      Logger logger = getLogger();
+      if (logger.isErrorEnabled()) {
+        logger.error(toMessage(message, detail));
+      }
     }
-    Metrics.counter("logger", "type", "error").increment();
+    errorCounter.increment();
   }
 
   /**
@@ -105,8 +138,11 @@ public class Log {
    * @param detail The additional object to be logged.
    */
   public static void error(final Object detail) {
-    logMessageWithJson(null, detail, getLogger()::error);
-    Metrics.counter("logger", "type", "error").increment();
+    Logger logger = getLogger();
+    if (logger.isErrorEnabled()) {
+      logger.error(toMessage(null, detail));
+    }
+    errorCounter.increment();
   }
 
   /**
@@ -116,7 +152,7 @@ public class Log {
    */
   public static void errorEx(final Throwable ex) {
     errorEx(null, ex);
-    Metrics.counter("logger", "type", "error").increment();
+    errorCounter.increment();
   }
 
   /**
@@ -127,14 +163,16 @@ public class Log {
    */
   public static void errorEx(final String msg, final Throwable ex) {
     Logger logger = getLogger();
-    StringWriter sw = new StringWriter();
-    PrintWriter pw = new PrintWriter(sw);
-    if (msg != null) {
-      pw.println(msg);
+    if (logger.isErrorEnabled()) {
+      StringWriter sw = new StringWriter();
+      PrintWriter pw = new PrintWriter(sw);
+      if (msg != null) {
+        pw.println(msg);
+      }
+      ex.printStackTrace(pw);
+      logger.error(sw.toString());
     }
-    ex.printStackTrace(pw);
-    logger.error(sw.toString());
-    Metrics.counter("logger", "type", "error").increment();
+    errorCounter.increment();
   }
 
   /**
@@ -146,7 +184,7 @@ public class Log {
   public static void errorF(final String format, final Object... args) {
     Logger logger = getLogger();
     logger.error(format, args);
-    Metrics.counter("logger", "type", "error").increment();
+    errorCounter.increment();
   }
 
   /**
@@ -155,7 +193,10 @@ public class Log {
    * @param message the debug message.
    */
   public static void info(final String message) {
-    logMessageWithJson(message, null, getLogger()::info);
+    Logger logger = getLogger();
+    if (logger.isInfoEnabled()) {
+      logger.info(toMessage(message, null));
+    }
   }
 
   /**
@@ -165,7 +206,10 @@ public class Log {
    * @param detail The additional object to be logged.
    */
   public static void info(final String message, final Object detail) {
-    logMessageWithJson(message, detail, getLogger()::info);
+    Logger logger = getLogger();
+    if (logger.isInfoEnabled()) {
+      logger.info(toMessage(message, detail));
+    }
   }
 
   /**
@@ -174,7 +218,10 @@ public class Log {
    * @param detail The additional object to be logged.
    */
   public static void info(final Object detail) {
-    logMessageWithJson(null, detail, getLogger()::info);
+    Logger logger = getLogger();
+    if (logger.isInfoEnabled()) {
+      logger.info(toMessage(null, detail));
+    }
   }
 
   /**
@@ -207,7 +254,10 @@ public class Log {
    * @param message the trace message.
    */
   public static void trace(final String message) {
-    logMessageWithJson(message, null, getLogger()::trace);
+    Logger logger = getLogger();
+    if (logger.isTraceEnabled()) {
+      logger.trace(toMessage(message, null));
+    }
   }
 
   /**
@@ -216,8 +266,11 @@ public class Log {
    * @param message the trace message.
    * @param detail The additional object to be logged.
    */
-  public static void trace(final String message, Object detail) {
-    logMessageWithJson(message, detail, getLogger()::trace);
+  public static void trace(final String message, final Object detail) {
+    Logger logger = getLogger();
+    if (logger.isTraceEnabled()) {
+      logger.trace(toMessage(message, detail));
+    }
   }
 
   /**
@@ -226,7 +279,10 @@ public class Log {
    * @param detail The additional object to be logged.
    */
   public static void trace(final Object detail) {
-    logMessageWithJson(null, detail, getLogger()::trace);
+    Logger logger = getLogger();
+    if (logger.isTraceEnabled()) {
+      logger.trace(toMessage(null, detail));
+    }
   }
 
   /**
@@ -246,9 +302,11 @@ public class Log {
    * @param message The message
    */
   public static void warn(final String message) {
-
-    logMessageWithJson(message, null, getLogger()::warn);
-    Metrics.counter("logger", "type", "warn").increment();
+    Logger logger = getLogger();
+    if (logger.isWarnEnabled()) {
+      logger.warn(toMessage(message, null));
+    }
+    warnCounter.increment();
   }
 
   /**
@@ -257,9 +315,12 @@ public class Log {
    * @param message the warn message.
    * @param detail The additional object to be logged.
    */
-  public static void warn(final String message, Object detail) {
-    logMessageWithJson(message, detail, getLogger()::warn);
-    Metrics.counter("logger", "type", "warn").increment();
+  public static void warn(final String message, final Object detail) {
+    Logger logger = getLogger();
+    if (logger.isWarnEnabled()) {
+      logger.warn(toMessage(message, detail));
+    }
+    warnCounter.increment();
   }
 
   /**
@@ -268,8 +329,11 @@ public class Log {
    * @param detail The additional object to be logged.
    */
   public static void warn(final Object detail) {
-    logMessageWithJson(null, detail, getLogger()::warn);
-    Metrics.counter("logger", "type", "warn").increment();
+    Logger logger = getLogger();
+    if (logger.isWarnEnabled()) {
+      logger.warn(toMessage(null, detail));
+    }
+    warnCounter.increment();
   }
 
   /**
@@ -279,11 +343,13 @@ public class Log {
    */
   public static void warnEx(final Throwable ex) {
     Logger logger = getLogger();
-    StringWriter sw = new StringWriter();
-    PrintWriter pw = new PrintWriter(sw);
-    ex.printStackTrace(pw);
-    logger.warn(sw.toString());
-    Metrics.counter("logger", "type", "warn").increment();
+    if (logger.isWarnEnabled()) {
+      StringWriter sw = new StringWriter();
+      PrintWriter pw = new PrintWriter(sw);
+      ex.printStackTrace(pw);
+      logger.warn(sw.toString());
+    }
+    warnCounter.increment();
   }
 
   /**
@@ -295,16 +361,48 @@ public class Log {
   public static void warnF(final String format, final Object... args) {
     Logger logger = getLogger();
     logger.warn(format, args);
-    Metrics.counter("logger", "type", "warn").increment();
+    warnCounter.increment();
+  }
+
+  /**
+   * Wrap the supplier in a format argument that is evaluated only if the message is logged.
+   *
+   * @param supplier The supplier of the argument.
+   * @return The lazily evaluated argument.
+   */
+  public static Object lazy(final Supplier<?> supplier) {
+    return new Object() {
+      @Override
+      public String toString() {
+        return String.valueOf(supplier.get());
+      }
+    };
+  }
+
+  /**
+   * Wrap the detail in a format argument that is converted to JSON only if the message is logged.
+   *
+   * @param detail The object to be logged in JSON format.
+   * @return The lazily evaluated argument.
+   */
+  public static Object lazyJson(final Object detail) {
+    return lazy(() -> gson.toJson(detail));
   }
 
   static Logger getLogger() {
-    String cls = Thread.currentThread().getStackTrace()[3].getClassName();
-    return LoggerFactory.getLogger(cls);
+    // Only the frames up to the caller of Log are walked, instead of capturing the whole stack
+    Class<?> caller =
+        stackWalker.walk(
+            frames ->
+                frames
+                    .map(StackWalker.StackFrame::getDeclaringClass)
+                    .filter(cls -> cls != Log.class)
+                    .findFirst()
+                    .orElse(Log.class));
+    return loggers.get(caller);
   }
 
-  static void logMessageWithJson(
-      final String message, final Object detail, final Consumer<String> output) {
+  static String toMessage(final String message, final Object detail) {
     StringBuilder sb = new StringBuilder();
     if (message != null) {
       sb.append(message);
@@ -312,7 +410,7 @@ public class Log {
     if (detail != null) {
       sb.append(gson.toJson(detail));
     }
-    output.accept(sb.toString());
+    return sb.toString();
   }
 }
 
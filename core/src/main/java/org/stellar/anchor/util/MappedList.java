@@ -0,0 +1,59 @@
+package org.stellar.anchor.util;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import lombok.SneakyThrows;
+
+/**
+ * A read-only view of a list whose items are mapped when they are read.
+ *
+ * <p>The transaction list responses hold their transactions in a MappedList, so that Gson maps
+ * each JDBC transaction to its response object right before writing it to the response body, and
+ * drops it after. The response objects of a long transaction history are never held in memory all
+ * at once. An item is mapped before any of its JSON is written, so a failed mapping never leaves a
+ * partially written item. The item is mapped again every time it is read.
+ *
+ * @param <T> the type of the source items.
+ * @param <R> the type of the mapped items.
+ */
+public class MappedList<T, R> extends AbstractList<R> implements RandomAccess {
+  private final List<? extends T> source;
+  private final Mapper<? super T, ? extends R> mapper;
+
+  MappedList(List<? extends T> source, Mapper<? super T, ? extends R> mapper) {
+    this.source = source;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Creates the view of the source list.
+   *
+   * @param source the source list.
+   * @param mapper the mapper of the source items.
+   * @return the mapped list.
+   * @param <T> the type of the source items.
+   * @param <R> the type of the mapped items.
+   */
+  public static <T, R> MappedList<T, R> of(
+      List<? extends T> source, Mapper<? super T, ? extends R> mapper) {
+    return new MappedList<>(source, mapper);
+  }
+
+  @Override
+  @SneakyThrows
+  public R get(int index) {
+    return mapper.map(source.get(index));
+  }
+
+  @Override
+  public int size() {
+    return source.size();
+  }
+
+  /** Maps a source item, possibly throwing a checked exception. */
+  @FunctionalInterface
+  public interface Mapper<T, R> {
+    R map(T item) throws Exception;
+  }
+}
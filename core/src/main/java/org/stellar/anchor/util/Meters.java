@@ -0,0 +1,61 @@
+package org.stellar.anchor.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Value;
+
+/**
+ * The registered meters, keyed by name and tags.
+ *
+ * <p>Looking up a meter in the Micrometer registry builds its ID and sorts its tags on every call.
+ * The meters of the hot paths are looked up here instead, so each tag combination is registered
+ * once and the following lookups are a single map read.
+ */
+public class Meters {
+  private static final Map<MeterKey, Counter> counters = new ConcurrentHashMap<>();
+  private static final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+
+  private Meters() {}
+
+  /**
+   * Gets the counter of the name and tags, registering it in the global registry the first time.
+   *
+   * @param name the name of the counter.
+   * @param tags the tag names and values, in pairs.
+   * @return the counter.
+   */
+  public static Counter counter(String name, String... tags) {
+    return counters.computeIfAbsent(
+        new MeterKey(name, Arrays.asList(tags)), key -> Metrics.counter(name, tags));
+  }
+
+  /**
+   * Gets the timer of the name and tags, registering it in the global registry the first time. The
+   * timer publishes a percentile histogram, so the latency percentiles can be aggregated across
+   * instances.
+   *
+   * @param name the name of the timer.
+   * @param tags the tag names and values, in pairs.
+   * @return the timer.
+   */
+  public static Timer timer(String name, String... tags) {
+    return timers.computeIfAbsent(
+        new MeterKey(name, Arrays.asList(tags)),
+        key ->
+            Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry));
+  }
+
+  @Value
+  static class MeterKey {
+    String name;
+    List<String> tags;
+  }
+}
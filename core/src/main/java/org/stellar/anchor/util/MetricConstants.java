@@ -43,21 +43,76 @@ public class MetricConstants {
   // SEP-38 metrics
   public static final String SEP38_PRICE_QUERIED = "sep38.price.queried";
   public static final String SEP38_QUOTE_CREATED = "sep38.quote.created";
+  public static final String SEP38_PRICES_LATENCY = "sep38.prices.latency";
+  public static final String SEP38_PRICES_RATE_FAILED = "sep38.prices.rate_failed";
+  public static final String SEP38_RATE_CACHE = "sep38.rate_cache";
+  public static final String SEP38_RATE_CACHE_EVICTED = "sep38.rate_cache.evicted";
+  public static final String SEP38_RATE_CACHE_SIZE = "sep38.rate_cache.size";
+
+  // callback API metrics
+  public static final String CALLBACK_API_RATE = "callback_api.rate";
+  public static final String CALLBACK_API_CUSTOMER_CACHE = "callback_api.customer_cache";
+  public static final String CALLBACK_API_CUSTOMER_CACHE_INVALIDATED =
+      "callback_api.customer_cache.invalidated";
+  public static final String CALLBACK_API_CUSTOMER_CACHE_SIZE = "callback_api.customer_cache.size";
+  public static final String CALLBACK_API_REQUEST = "callback_api.request";
+  public static final String TV_GET_CUSTOMER = "get_customer";
+  public static final String TV_PUT_CUSTOMER = "put_customer";
+  public static final String TV_DELETE_CUSTOMER = "delete_customer";
+  public static final String TV_SEND_EVENT = "send_event";
+
+  // data metrics
+  public static final String QUOTE_CACHE = "data.quote_cache";
+  public static final String QUOTE_CACHE_SIZE = "data.quote_cache.size";
+
+  // custody metrics
+  public static final String CUSTODY_ADDRESS_POOL_CLAIM = "custody.address_pool.claim";
+  public static final String CUSTODY_ADDRESS_POOL_DEPTH = "custody.address_pool.depth";
+  public static final String CUSTODY_ADDRESS_POOL_REFILL = "custody.address_pool.refill";
+  public static final String CUSTODY_CONCURRENCY_LIMIT = "custody.concurrency.limit";
+  public static final String CUSTODY_CONCURRENCY_IN_FLIGHT = "custody.concurrency.in_flight";
+  public static final String CUSTODY_CONCURRENCY_QUEUE_TIME = "custody.concurrency.queue_time";
+  public static final String CUSTODY_CONCURRENCY_THROTTLED = "custody.concurrency.throttled";
+  public static final String FIREBLOCKS_WEBHOOK_EVENT = "custody.fireblocks.webhook.event";
+  public static final String FIREBLOCKS_WEBHOOK_QUEUE_DEPTH =
+      "custody.fireblocks.webhook.queue_depth";
+  public static final String FIREBLOCKS_WEBHOOK_LAG = "custody.fireblocks.webhook.lag";
+  public static final String CUSTODY_LOCAL_QUEUE_DEPTH = "custody.local.queue_depth";
+  public static final String CUSTODY_LOCAL_BATCH_SIZE = "custody.local.batch_size";
+  public static final String CUSTODY_LOCAL_SUBMIT = "custody.local.submit";
+  public static final String CUSTODY_LOCAL_FEE_BUMP = "custody.local.fee_bump";
+
+  // job metrics
+  public static final String JOB_RUN = "job.run";
+  public static final String JOB_ITEMS_PROCESSED = "job.items_processed";
+
+  // Horizon metrics
+  public static final String HORIZON_REQUEST = "horizon.request";
+  public static final String HORIZON_CACHE = "horizon.cache";
+  public static final String HORIZON_THROTTLE_WAIT = "horizon.throttle_wait";
 
   // payment observer metrics
   public static final String PAYMENT_OBSERVER_LATEST_BLOCK_READ =
       "payment_observer.latest_block_read";
   public static final String PAYMENT_OBSERVER_LATEST_BLOCK_PROCESSED =
       "payment_observer.latest_block_processed";
+  public static final String PAYMENT_OBSERVER_TRUSTLINE_DETECTED =
+      "payment_observer.trustline_detected";
 
   // event processor metrics
   public static final String EVENT_RECEIVED = "event_processor.event_received";
   public static final String EVENT_PROCESSED = "event_processor.event_processed";
+  public static final String EVENT_HANDLING = "event_processor.event_handling";
   public static final String TV_BUSINESS_SERVER_CALLBACK = "business_server_callback_api";
   public static final String TV_STATUS_CALLBACK = "status_callback";
   public static final String TV_UNKNOWN = "unknown";
 
+  // event publisher metrics
+  public static final String EVENT_PUBLISHED = "event.published";
+  public static final String EVENT_PUBLISH = "event.publish";
+
   // platform server metrics
+  public static final String PLATFORM_RPC_METHOD = "platform_server.rpc_method";
   public static final String PLATFORM_PATCH_TRANSACTION = "platform_server.patch_transaction";
   public static final String PLATFORM_FIND_TRANSACTION = "platform_server.get_transaction";
   public static final String PLATFORM_FIND_TRANSACTIONS = "platform_server.get_transactions";
@@ -65,6 +120,18 @@ public class MetricConstants {
   public static final String TV_SEP24 = "sep24";
   public static final String TV_SEP31 = "sep31";
 
+  // API client metrics
+  public static final String API_CLIENT_REQUEST = "api_client.request";
+  public static final String TV_PLATFORM_API = "platform_api";
+  public static final String TV_CUSTODY_API = "custody_api";
+  public static final String TV_IN_PROCESS = "in_process";
+  public static final String TV_HTTP = "http";
+
+  // health check metrics
+  public static final String HEALTH_CHECK_RUN = "health_check.run";
+  public static final String HEALTH_CHECK_STATUS = "health_check.status";
+  public static final String TV_TIMEOUT = "timeout";
+
   // Logger metrics
   public static final String LOGGER = "logger";
 
@@ -73,4 +140,19 @@ public class MetricConstants {
   public static final String QUEUE = "queue";
   public static final String STATUS = "status";
   public static final String TYPE = "type";
+  public static final String RESULT = "result";
+  public static final String ASSET = "asset";
+  public static final String JOB = "job";
+  public static final String CHECK = "check";
+  public static final String TARGET = "target";
+  public static final String TRANSPORT = "transport";
+
+  // Common tag values
+  public static final String TV_SUCCESS = "success";
+  public static final String TV_FAILURE = "failure";
+  public static final String TV_HIT = "hit";
+  public static final String TV_MISS = "miss";
+  public static final String TV_COALESCED = "coalesced";
+  public static final String TV_DUPLICATE = "duplicate";
+  public static final String TV_SKIPPED = "skipped";
 }
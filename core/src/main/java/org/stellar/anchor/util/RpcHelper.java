@@ -29,6 +29,18 @@ public class RpcHelper {
     // [{"jsonrpc":"2.0","result":{"id":"31c02..."}}]
     Type listType = new TypeToken<List<RpcResponse>>() {}.getType();
     List<RpcResponse> responseList = gson.fromJson(responseBody, listType);
+    return getResultFromRpcResponse(responseList);
+  }
+
+  /**
+   * Retrieves the result field from the first RPC response of the list.
+   *
+   * @param responseList the RPC responses.
+   * @return the result of the first response.
+   * @throws InvalidRequestException if the response is an error.
+   */
+  public static Object getResultFromRpcResponse(List<RpcResponse> responseList)
+      throws InvalidRequestException {
     RpcResponse response = responseList.get(0);
     if (response.getError() != null) {
       throw new InvalidRequestException("Invalid JSON-RPC request");
@@ -6,7 +6,6 @@ import static org.stellar.anchor.util.MathHelper.decimal;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 import org.stellar.anchor.api.exception.AnchorException;
 import org.stellar.anchor.api.exception.BadRequestException;
 import org.stellar.anchor.api.exception.InvalidStellarAccountException;
@@ -17,12 +16,12 @@ import org.stellar.sdk.xdr.MemoType;
 
 public class SepHelper {
   /**
-   * Generates an Id for SEP transactions.
+   * Generates an Id for SEP transactions with the configured strategy of IdGenerator.
    *
    * @return An Id in UUID format
    */
   public static String generateSepTransactionId() {
-    return UUID.randomUUID().toString();
+    return IdGenerator.newId();
   }
 
   public static String memoTypeString(MemoType memoType) {
@@ -287,7 +287,7 @@ public class TransactionMapper {
         .build();
   }
 
-  static Refunds toRefunds(Sep24Refunds refunds, String assetName) {
+  public static Refunds toRefunds(Sep24Refunds refunds, String assetName) {
     // build payments
     RefundPayment[] payments =
         refunds.getRefundPayments().stream()
@@ -0,0 +1,94 @@
+package org.stellar.anchor.apiclient
+
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.stellar.anchor.api.exception.InvalidRequestException
+import org.stellar.anchor.api.platform.GetTransactionResponse
+import org.stellar.anchor.api.rpc.RpcRequest
+import org.stellar.anchor.api.rpc.RpcResponse
+import org.stellar.anchor.api.rpc.RpcResponse.RpcError
+import org.stellar.anchor.api.rpc.method.GetTransactionRpcRequest
+import org.stellar.anchor.auth.AuthHelper
+
+class PlatformApiClientTest {
+  private val handler = mockk<RpcRequestHandler>()
+  private var registration: InProcessServices.Registration? = null
+
+  @AfterEach
+  fun teardown() {
+    registration?.close()
+  }
+
+  @Test
+  fun `test the rpc request is handled in-process`() {
+    val response = GetTransactionResponse.builder().id("txn-1").build()
+    val requests = slot<List<RpcRequest>>()
+    every { handler.handle(capture(requests)) } answers
+      {
+        listOf(
+          RpcResponse.builder()
+            .jsonrpc("2.0")
+            .id(requests.captured[0].id)
+            .result(response)
+            .build()
+        )
+      }
+    registration = InProcessServices.register(RpcRequestHandler::class.java, handler)
+
+    val client = PlatformApiClient(AuthHelper.forNone(), "http://localhost:1", true)
+
+    assertSame(response, client.getTransactionByRpc("txn-1"))
+    assertEquals("get_transaction", requests.captured[0].method)
+    assertEquals("txn-1", (requests.captured[0].params as GetTransactionRpcRequest).transactionId)
+  }
+
+  @Test
+  fun `test the in-process rpc error is thrown`() {
+    every { handler.handle(any()) } returns
+      listOf(
+        RpcResponse.builder().jsonrpc("2.0").error(RpcError.builder().code(-32600).build()).build()
+      )
+    registration = InProcessServices.register(RpcRequestHandler::class.java, handler)
+
+    val client = PlatformApiClient(AuthHelper.forNone(), "http://localhost:1", true)
+
+    assertThrows<InvalidRequestException> { client.getTransactionByRpc("txn-1") }
+  }
+
+  @Test
+  fun `test the notify trust set rpc error is thrown`() {
+    val requests = slot<List<RpcRequest>>()
+    every { handler.handle(capture(requests)) } returns
+      listOf(
+        RpcResponse.builder().jsonrpc("2.0").error(RpcError.builder().code(-32600).build()).build()
+      )
+    registration = InProcessServices.register(RpcRequestHandler::class.java, handler)
+
+    val client = PlatformApiClient(AuthHelper.forNone(), "http://localhost:1", true)
+
+    assertThrows<InvalidRequestException> { client.notifyTrustSet("txn-1", true) }
+    assertEquals("notify_trust_set", requests.captured[0].method)
+  }
+
+  @Test
+  fun `test the handler is not used when in-process is disabled or not registered`() {
+    assertNull(PlatformApiClient(AuthHelper.forNone(), "http://localhost:1", true).inProcessHandler)
+
+    registration = InProcessServices.register(RpcRequestHandler::class.java, handler)
+    assertNull(PlatformApiClient(AuthHelper.forNone(), "http://localhost:1").inProcessHandler)
+    assertSame(
+      handler,
+      PlatformApiClient(AuthHelper.forNone(), "http://localhost:1", true).inProcessHandler
+    )
+
+    registration?.close()
+    assertNull(InProcessServices.get(RpcRequestHandler::class.java))
+  }
+}
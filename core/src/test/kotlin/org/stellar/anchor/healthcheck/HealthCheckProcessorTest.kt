@@ -0,0 +1,157 @@
+package org.stellar.anchor.healthcheck
+
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.stellar.anchor.api.platform.HealthCheckResult
+import org.stellar.anchor.api.platform.HealthCheckStatus
+import org.stellar.anchor.api.platform.HealthCheckStatus.GREEN
+import org.stellar.anchor.api.platform.HealthCheckStatus.RED
+
+class HealthCheckProcessorTest {
+  private val executor = Executors.newFixedThreadPool(4)
+
+  @AfterEach
+  fun teardown() {
+    executor.shutdownNow()
+  }
+
+  @Test
+  fun `test the checks run in parallel`() {
+    val latch = CountDownLatch(2)
+    // Each check waits for the other one to start, so they only complete if run in parallel
+    val checks =
+      listOf("a", "b").map { name ->
+        TestCheckable(name) {
+          latch.countDown()
+          latch.await(5, TimeUnit.SECONDS)
+          GREEN
+        }
+      }
+    val processor = HealthCheckProcessor(checks, executor, Duration.ofSeconds(2))
+
+    val response = processor.check(listOf("all"))
+
+    assertEquals(2, response.numberOfChecks)
+    assertTrue(response.checks.values.all { it.status == GREEN })
+  }
+
+  @Test
+  fun `test the check exceeding the timeout is red`() {
+    val release = CountDownLatch(1)
+    val slow =
+      TestCheckable("slow") {
+        release.await(5, TimeUnit.SECONDS)
+        GREEN
+      }
+    val fast = TestCheckable("fast") { GREEN }
+    val processor = HealthCheckProcessor(listOf(slow, fast), executor, Duration.ofMillis(100))
+
+    val response = processor.check(listOf("all"))
+    release.countDown()
+
+    assertEquals(RED, response.checks["slow"]!!.status)
+    assertEquals(GREEN, response.checks["fast"]!!.status)
+  }
+
+  @Test
+  fun `test the failed check is red`() {
+    val failing = TestCheckable("failing") { throw IllegalStateException("unreachable") }
+    val processor = HealthCheckProcessor(listOf(failing))
+
+    val response = processor.check(listOf("all"))
+
+    assertEquals(RED, response.checks["failing"]!!.status)
+  }
+
+  @Test
+  fun `test the scheduled checks are served from the latest results`() {
+    val calls = AtomicInteger()
+    val check =
+      TestCheckable("counted") {
+        calls.incrementAndGet()
+        GREEN
+      }
+    val scheduler = mockk<ScheduledExecutorService>()
+    val refresh = slot<Runnable>()
+    every {
+      scheduler.scheduleWithFixedDelay(capture(refresh), 0, 10000, TimeUnit.MILLISECONDS)
+    } returns mockk()
+    val processor = HealthCheckProcessor(listOf(check))
+    processor.schedule(scheduler, Duration.ofSeconds(10))
+
+    refresh.captured.run()
+    processor.check(listOf("all"))
+    val response = processor.check(listOf("all"))
+
+    assertEquals(1, calls.get())
+    assertEquals(GREEN, response.checks["counted"]!!.status)
+    val timing = response.timings["counted"]!!
+    assertFalse(timing.staleness.isNegative)
+    assertFalse(timing.checkedAt.isAfter(response.startedAt))
+
+    refresh.captured.run()
+    processor.check(listOf("all"))
+    assertEquals(2, calls.get())
+  }
+
+  @Test
+  fun `test the checks run on request when not scheduled`() {
+    val calls = AtomicInteger()
+    val check =
+      TestCheckable("counted") {
+        calls.incrementAndGet()
+        GREEN
+      }
+    val processor = HealthCheckProcessor(listOf(check))
+
+    processor.check(listOf("all"))
+    processor.check(listOf("all"))
+    processor.check(listOf("kafka"))
+
+    assertEquals(2, calls.get())
+  }
+}
+
+class TestCheckable(private val name: String, private val checker: () -> HealthCheckStatus) :
+  HealthCheckable {
+  override fun getName(): String {
+    return name
+  }
+
+  override fun getTags(): List<HealthCheckable.Tags> {
+    return listOf(HealthCheckable.Tags.ALL)
+  }
+
+  override fun check(): HealthCheckResult {
+    val status = checker()
+    return object : HealthCheckResult {
+      override fun name(): String {
+        return name
+      }
+
+      override fun getStatuses(): List<HealthCheckStatus> {
+        return listOf(GREEN, RED)
+      }
+
+      override fun getStatus(): HealthCheckStatus {
+        return status
+      }
+    }
+  }
+
+  override fun compareTo(other: HealthCheckable): Int {
+    return name.compareTo(other.name)
+  }
+}
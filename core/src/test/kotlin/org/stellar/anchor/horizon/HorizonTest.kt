@@ -2,10 +2,16 @@ package org.stellar.anchor.horizon
 
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.verify
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
 import kotlin.test.assertEquals
 import kotlin.test.assertFalse
 import kotlin.test.assertTrue
 import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Assertions.assertSame
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import org.stellar.anchor.config.AppConfig
@@ -16,6 +22,7 @@ import org.stellar.sdk.TrustLineAsset
 import org.stellar.sdk.requests.AccountsRequestBuilder
 import org.stellar.sdk.responses.AccountResponse
 import org.stellar.sdk.responses.AccountResponse.Balance
+import org.stellar.sdk.responses.operations.OperationResponse
 
 internal class HorizonTest {
   companion object {
@@ -61,9 +68,7 @@ internal class HorizonTest {
     every { appConfig.stellarNetworkPassphrase } returns TEST_HORIZON_PASSPHRASE
     every { server.accounts() } throws RuntimeException("Horizon error")
 
-    val horizon = mockk<Horizon>()
-    every { horizon.server } returns server
-    every { horizon.isTrustlineConfigured(account, asset) } answers { callOriginal() }
+    val horizon = Horizon(appConfig, server, 0, Duration.ZERO)
 
     assertThrows<RuntimeException> { horizon.isTrustlineConfigured(account, asset) }
   }
@@ -97,9 +102,7 @@ internal class HorizonTest {
       TrustLineAsset(Asset.createNonNativeAsset(asset2.code, asset2.issuer))
     every { accountResponse.balances } returns listOf(balance1, balance2)
 
-    val horizon = mockk<Horizon>()
-    every { horizon.server } returns server
-    every { horizon.isTrustlineConfigured(account, asset) } answers { callOriginal() }
+    val horizon = Horizon(appConfig, server, 0, Duration.ZERO)
     assertTrue(horizon.isTrustlineConfigured(account, asset))
   }
 
@@ -137,9 +140,101 @@ internal class HorizonTest {
     every { appConfig.horizonUrl } returns TEST_HORIZON_URI
     every { appConfig.stellarNetworkPassphrase } returns TEST_HORIZON_PASSPHRASE
 
-    val horizon = mockk<Horizon>()
-    every { horizon.server } returns server
-    every { horizon.isTrustlineConfigured(account, asset) } answers { callOriginal() }
+    val horizon = Horizon(appConfig, server, 0, Duration.ZERO)
     assertFalse(horizon.isTrustlineConfigured(account, asset))
   }
+
+  private fun appConfig() =
+    mockk<AppConfig> {
+      every { horizonUrl } returns TEST_HORIZON_URI
+      every { stellarNetworkPassphrase } returns TEST_HORIZON_PASSPHRASE
+    }
+
+  @Test
+  fun `test account responses are never cached`() {
+    val server = mockk<Server>()
+    every { server.accounts().account("testAccount") } returns mockk()
+
+    val horizon = Horizon(appConfig(), server, 0, Duration.ofMinutes(1))
+    horizon.getAccount("testAccount")
+    horizon.getAccount("testAccount")
+
+    verify(exactly = 2) { server.accounts().account("testAccount") }
+  }
+
+  @Test
+  fun `test transaction operations are cached`() {
+    val server = mockk<Server>()
+    val operations = listOf(mockk<OperationResponse>())
+    every {
+      server.payments().includeTransactions(true).forTransaction("testTxn").execute().records
+    } returns operations
+
+    val horizon = Horizon(appConfig(), server, 0, Duration.ofMinutes(1))
+
+    assertSame(operations, horizon.getStellarTxnOperations("testTxn"))
+    assertSame(operations, horizon.getStellarTxnOperations("testTxn"))
+    verify(exactly = 1) {
+      server.payments().includeTransactions(true).forTransaction("testTxn").execute()
+    }
+  }
+
+  @Test
+  fun `test transaction operations are not cached without ttl`() {
+    val server = mockk<Server>()
+    every {
+      server.payments().includeTransactions(true).forTransaction("testTxn").execute().records
+    } returns listOf()
+
+    val horizon = Horizon(appConfig(), server, 0, Duration.ZERO)
+    horizon.getStellarTxnOperations("testTxn")
+    horizon.getStellarTxnOperations("testTxn")
+
+    verify(exactly = 2) {
+      server.payments().includeTransactions(true).forTransaction("testTxn").execute()
+    }
+  }
+
+  @Test
+  fun `test errors are not cached`() {
+    val server = mockk<Server>()
+    every {
+      server.payments().includeTransactions(true).forTransaction("testTxn").execute()
+    } throws RuntimeException("Horizon error")
+
+    val horizon = Horizon(appConfig(), server, 0, Duration.ofMinutes(1))
+
+    assertThrows<RuntimeException> { horizon.getStellarTxnOperations("testTxn") }
+    assertThrows<RuntimeException> { horizon.getStellarTxnOperations("testTxn") }
+    verify(exactly = 2) {
+      server.payments().includeTransactions(true).forTransaction("testTxn").execute()
+    }
+  }
+
+  @Test
+  fun `test identical requests in flight are coalesced`() {
+    val server = mockk<Server>()
+    val started = CountDownLatch(1)
+    val release = CountDownLatch(1)
+    val accountResponse = mockk<AccountResponse>()
+    every { server.accounts().account("testAccount") } answers
+      {
+        started.countDown()
+        release.await(5, TimeUnit.SECONDS)
+        accountResponse
+      }
+
+    val horizon = Horizon(appConfig(), server, 0, Duration.ZERO)
+    val executor = Executors.newFixedThreadPool(2)
+    val first = executor.submit<AccountResponse> { horizon.getAccount("testAccount") }
+    started.await(5, TimeUnit.SECONDS)
+    val second = executor.submit<AccountResponse> { horizon.getAccount("testAccount") }
+    Thread.sleep(100)
+    release.countDown()
+
+    assertSame(accountResponse, first.get(5, TimeUnit.SECONDS))
+    assertSame(accountResponse, second.get(5, TimeUnit.SECONDS))
+    verify(exactly = 1) { server.accounts().account("testAccount") }
+    executor.shutdown()
+  }
 }
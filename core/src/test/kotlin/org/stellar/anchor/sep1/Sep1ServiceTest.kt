@@ -4,6 +4,8 @@ package org.stellar.anchor.sep1
 
 import io.mockk.*
 import io.mockk.impl.annotations.MockK
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
 import org.junit.jupiter.api.*
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.stellar.anchor.api.exception.SepException
@@ -85,4 +87,68 @@ internal class Sep1ServiceTest {
     // When, Then
     assertEquals("toml content", sep1Service.toml)
   }
+
+  @Test
+  fun `test url type is refreshed by the scheduler`() {
+    // Given
+    every { sep1Config.isEnabled } returns true
+    every { sep1Config.type } returns URL
+    every { sep1Config.value } returns "toml_url"
+    every { sep1Config.refreshIntervalSeconds } returns 60
+    val sep1Service = spyk(Sep1Service(sep1Config))
+    val scheduler = mockk<ScheduledExecutorService>()
+    val refresh = slot<Runnable>()
+    every { scheduler.scheduleWithFixedDelay(capture(refresh), 60, 60, TimeUnit.SECONDS) } returns
+      mockk()
+    sep1Service.start(scheduler)
+    every { sep1Service.readTomlFromURL(eq("toml_url")) } returns "toml content"
+    assertEquals("toml content", sep1Service.toml)
+
+    // When
+    every { sep1Service.readTomlFromURL(eq("toml_url")) } returns "new toml content"
+    // Then
+    assertEquals("toml content", sep1Service.toml)
+
+    // When
+    refresh.captured.run()
+    // Then
+    assertEquals("new toml content", sep1Service.toml)
+    verify(exactly = 2) { sep1Service.readTomlFromURL(any()) }
+  }
+
+  @Test
+  fun `test failed refresh keeps the previous content`() {
+    // Given
+    every { sep1Config.isEnabled } returns true
+    every { sep1Config.type } returns URL
+    every { sep1Config.value } returns "toml_url"
+    every { sep1Config.refreshIntervalSeconds } returns 60
+    val sep1Service = spyk(Sep1Service(sep1Config))
+    every { sep1Service.readTomlFromURL(eq("toml_url")) } returns "toml content"
+    assertEquals("toml content", sep1Service.toml)
+
+    // When
+    every { sep1Service.readTomlFromURL(eq("toml_url")) } throws Exception("unreachable")
+    sep1Service.refresh()
+    // Then
+    assertEquals("toml content", sep1Service.toml)
+  }
+
+  @Test
+  fun `test the refresh is not scheduled for the string type or a zero interval`() {
+    // Given
+    every { sep1Config.isEnabled } returns true
+    every { sep1Config.type } returns STRING
+    every { sep1Config.refreshIntervalSeconds } returns 60
+    val scheduler = mockk<ScheduledExecutorService>()
+
+    // When
+    Sep1Service(sep1Config).start(scheduler)
+    every { sep1Config.type } returns URL
+    every { sep1Config.refreshIntervalSeconds } returns 0
+    Sep1Service(sep1Config).start(scheduler)
+
+    // Then
+    verify(exactly = 0) { scheduler.scheduleWithFixedDelay(any(), any(), any(), any()) }
+  }
 }
@@ -382,7 +382,7 @@ internal class Sep10ServiceTest {
         every { thresholds.medThreshold } returns 1
       }
 
-    every { horizon.server.accounts().account(ofType(String::class)) } returns accountResponse
+    every { horizon.getAccount(ofType(String::class)) } returns accountResponse
 
     val response = sep10Service.validateChallenge(vr)
     val jwt = jwtService.decode(response.token, Sep10Jwt::class.java)
@@ -406,7 +406,7 @@ internal class Sep10ServiceTest {
         every { thresholds.medThreshold } returns 1
       }
 
-    every { horizon.server.accounts().account(ofType(String::class)) } returns accountResponse
+    every { horizon.getAccount(ofType(String::class)) } returns accountResponse
 
     val vr = ValidationRequest()
     vr.transaction = createTestChallenge(TEST_CLIENT_DOMAIN, TEST_HOME_DOMAIN, true)
@@ -423,7 +423,7 @@ internal class Sep10ServiceTest {
 
     // Test when the transaction was not signed by the client domain and the client account not
     // exists
-    every { horizon.server.accounts().account(ofType(String::class)) } answers
+    every { horizon.getAccount(ofType(String::class)) } answers
       {
         throw BadRequestException(400, "mock error", null, null)
       }
@@ -437,7 +437,7 @@ internal class Sep10ServiceTest {
     val vr = ValidationRequest()
     vr.transaction = createTestChallenge("", TEST_HOME_DOMAIN, false)
 
-    every { horizon.server.accounts().account(ofType(String::class)) } answers
+    every { horizon.getAccount(ofType(String::class)) } answers
       {
         throw BadRequestException(400, "mock error", null, null)
       }
@@ -0,0 +1,180 @@
+package org.stellar.anchor.sep38
+
+import io.mockk.*
+import io.mockk.impl.annotations.MockK
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.time.ZoneOffset
+import java.util.concurrent.CompletableFuture
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.ValueSource
+import org.stellar.anchor.api.callback.GetRateRequest
+import org.stellar.anchor.api.callback.GetRateRequest.Type.FIRM
+import org.stellar.anchor.api.callback.GetRateRequest.Type.INDICATIVE
+import org.stellar.anchor.api.callback.GetRateResponse
+import org.stellar.anchor.api.exception.InvalidConfigException
+import org.stellar.anchor.api.exception.ServerErrorException
+import org.stellar.anchor.config.Sep38Config.IndicativeRateCacheConfig
+
+class IndicativeRateCacheTest {
+  companion object {
+    private const val fiatUSD = "iso4217:USD"
+    private const val stellarUSDC =
+      "stellar:USDC:GDQOE23CFSUMSVQK4Y5JHPPYK73VYCNHZHA7ENKCV37P6SUEO6XQBKPP"
+  }
+
+  @MockK(relaxed = true) private lateinit var rateIntegration: MockRateIntegration
+  private lateinit var config: IndicativeRateCacheConfig
+  private lateinit var clock: Clock
+  private lateinit var cache: IndicativeRateCache
+
+  @BeforeEach
+  fun setUp() {
+    MockKAnnotations.init(this, relaxUnitFun = true)
+    every { rateIntegration.getRateAsync(any()) } answers { callOriginal() }
+    every { rateIntegration.getRate(any()) } returns
+      GetRateResponse.indicativePrice("1", "100", "100", null)
+
+    config = IndicativeRateCacheConfig()
+    config.isEnabled = true
+    config.ttlSeconds = 5
+    config.maxSize = 100
+    clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC)
+    cache = IndicativeRateCache(rateIntegration, config) { clock.instant() }
+  }
+
+  private fun request(type: GetRateRequest.Type = INDICATIVE, sellAmount: String = "100") =
+    GetRateRequest.builder()
+      .type(type)
+      .sellAsset(fiatUSD)
+      .sellAmount(sellAmount)
+      .buyAsset(stellarUSDC)
+      .build()
+
+  @Test
+  fun `test indicative rates are cached`() {
+    val first = cache.getRate(request(), false)
+    val second = cache.getRate(request(sellAmount = "100.00"), false)
+
+    assertEquals(first, second)
+    verify(exactly = 1) { rateIntegration.getRate(any()) }
+  }
+
+  @Test
+  fun `test firm rates bypass the cache`() {
+    cache.getRate(request(FIRM), false)
+    cache.getRate(request(FIRM), false)
+
+    verify(exactly = 2) { rateIntegration.getRate(any()) }
+  }
+
+  @Test
+  fun `test expired rates are fetched again`() {
+    cache.getRate(request(), false)
+    clock = Clock.offset(clock, Duration.ofSeconds(5))
+    cache.getRate(request(), false)
+
+    verify(exactly = 2) { rateIntegration.getRate(any()) }
+  }
+
+  @Test
+  fun `test pair TTL overrides the default TTL`() {
+    config.setPairTtlSeconds("$fiatUSD $stellarUSDC 60\n")
+    cache.getRate(request(), false)
+    clock = Clock.offset(clock, Duration.ofSeconds(30))
+    cache.getRate(request(), false)
+
+    verify(exactly = 1) { rateIntegration.getRate(any()) }
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+    strings =
+      [
+        "iso4217:USD 60",
+        "iso4217:USD stellar:USDC ten",
+        "iso4217:USD stellar:USDC -1",
+        "iso4217:USD stellar:USDC 60 extra",
+        "iso4217:USD stellar:USDC 60\niso4217:USD stellar:USDC 30",
+      ]
+  )
+  fun `test invalid pair TTL entries are rejected`(pairTtlSeconds: String) {
+    val ex =
+      assertThrows<InvalidConfigException> {
+        IndicativeRateCacheConfig.parsePairTtlSeconds(pairTtlSeconds)
+      }
+    assertTrue(ex.message!!.contains(pairTtlSeconds.lines().last()))
+  }
+
+  @Test
+  fun `test pair TTL entries are parsed`() {
+    val ttls =
+      IndicativeRateCacheConfig.parsePairTtlSeconds("\n  $fiatUSD   $stellarUSDC 60 \n\n")
+
+    assertEquals(mapOf(IndicativeRateCacheConfig.pairKey(fiatUSD, stellarUSDC) to 60L), ttls)
+  }
+
+  @Test
+  fun `test concurrent requests are coalesced`() {
+    val pending = CompletableFuture<GetRateResponse>()
+    every { rateIntegration.getRateAsync(any()) } returns pending
+
+    val first = cache.getRateAsync(request(), true)
+    val second = cache.getRateAsync(request(), true)
+    assertFalse(first.isDone)
+    pending.complete(GetRateResponse.indicativePrice("1", "100", "100", null))
+
+    assertEquals(first.join(), second.join())
+    verify(exactly = 1) { rateIntegration.getRateAsync(any()) }
+  }
+
+  @Test
+  fun `test cancelling a caller does not cancel the shared rate`() {
+    val pending = CompletableFuture<GetRateResponse>()
+    every { rateIntegration.getRateAsync(any()) } returns pending
+
+    cache.getRateAsync(request(), true).cancel(true)
+    val second = cache.getRateAsync(request(), true)
+    pending.complete(GetRateResponse.indicativePrice("1", "100", "100", null))
+
+    assertEquals("1", second.join().rate.price)
+  }
+
+  @Test
+  fun `test failures are not cached`() {
+    every { rateIntegration.getRate(any()) } throws ServerErrorException("boom")
+    assertThrows<ServerErrorException> { cache.getRate(request(), false) }
+    assertThrows<ServerErrorException> { cache.getRate(request(), false) }
+
+    verify(exactly = 2) { rateIntegration.getRate(any()) }
+  }
+
+  @Test
+  fun `test price only amounts are bucketed`() {
+    config.amountBucketDigits = 2
+    val slot = slot<GetRateRequest>()
+    every { rateIntegration.getRate(capture(slot)) } returns
+      GetRateResponse.indicativePrice("1", "100", "100", null)
+
+    cache.getRate(request(sellAmount = "101"), true)
+    cache.getRate(request(sellAmount = "99.5"), true)
+
+    verify(exactly = 1) { rateIntegration.getRate(any()) }
+    assertEquals("100", slot.captured.sellAmount)
+  }
+
+  @Test
+  fun `test the cache size is bounded`() {
+    config.maxSize = 2
+    cache.getRate(request(sellAmount = "1"), false)
+    cache.getRate(request(sellAmount = "2"), false)
+    cache.getRate(request(sellAmount = "3"), false)
+
+    assertEquals(2, cache.entries.size)
+  }
+}
@@ -6,6 +6,7 @@ import io.mockk.*
 import io.mockk.impl.annotations.MockK
 import java.time.Instant
 import java.time.temporal.ChronoUnit
+import java.util.concurrent.CompletableFuture
 import org.junit.jupiter.api.*
 import org.junit.jupiter.api.Assertions.*
 import org.skyscreamer.jsonassert.JSONAssert
@@ -49,6 +50,14 @@ class Sep38ServiceTest {
     override fun isSep10Enforced(): Boolean {
       return false
     }
+
+    override fun getPricesTimeoutMilliseconds(): Long {
+      return 1000
+    }
+
+    override fun getIndicativeRateCache(): Sep38Config.IndicativeRateCacheConfig? {
+      return null
+    }
   }
 
   companion object {
@@ -82,6 +91,8 @@ class Sep38ServiceTest {
 
     // sep10 related:
     secretConfig.setupMock()
+    // rate integration related:
+    every { mockRateIntegration.getRateAsync(any()) } answers { callOriginal() }
     // store/db related:
     every { mockQuoteStore.newInstance() } returns PojoSep38Quote()
     // events related:
@@ -290,6 +301,69 @@ class Sep38ServiceTest {
     assertEquals(wantResponse, gotResponse)
   }
 
+  @Test
+  fun `test get prices omits the assets whose rate failed`() {
+    val getRateReq1 =
+      GetRateRequest.builder()
+        .type(INDICATIVE)
+        .sellAsset(fiatUSD)
+        .buyAsset(stellarJPYC)
+        .sellAmount("100")
+        .build()
+    every { mockRateIntegration.getRate(getRateReq1) } throws ServerErrorException("boom")
+
+    val getRateReq2 =
+      GetRateRequest.builder()
+        .type(INDICATIVE)
+        .sellAsset(fiatUSD)
+        .buyAsset(stellarUSDC)
+        .sellAmount("100")
+        .build()
+    every { mockRateIntegration.getRate(getRateReq2) } returns
+      GetRateResponse.indicativePrice("2", "100", "200", mockSellAssetFee(fiatUSD))
+    sep38Service =
+      Sep38Service(sep38Config, sep38Service.assetService, mockRateIntegration, null, eventService)
+
+    var gotResponse: GetPricesResponse? = null
+    assertDoesNotThrow { gotResponse = sep38Service.getPrices(fiatUSD, "100", null, null, null) }
+    val wantResponse = GetPricesResponse()
+    wantResponse.addAsset(stellarUSDC, 2, "2")
+    assertEquals(wantResponse, gotResponse)
+  }
+
+  @Test
+  fun `test get prices fails when all rates failed`() {
+    every { mockRateIntegration.getRate(any()) } throws BadRequestException("bad rate request")
+    sep38Service =
+      Sep38Service(sep38Config, sep38Service.assetService, mockRateIntegration, null, eventService)
+
+    val ex: AnchorException = assertThrows {
+      sep38Service.getPrices(fiatUSD, "100", null, null, null)
+    }
+    assertEquals(BadRequestException("bad rate request"), ex)
+  }
+
+  @Test
+  fun `test get prices omits the assets whose rate timed out`() {
+    every { mockRateIntegration.getRateAsync(any()) } answers
+      {
+        val request = firstArg<GetRateRequest>()
+        if (request.buyAsset == stellarJPYC) CompletableFuture()
+        else
+          CompletableFuture.completedFuture(
+            GetRateResponse.indicativePrice("2", "100", "200", mockSellAssetFee(fiatUSD))
+          )
+      }
+    sep38Service =
+      Sep38Service(sep38Config, sep38Service.assetService, mockRateIntegration, null, eventService)
+
+    var gotResponse: GetPricesResponse? = null
+    assertDoesNotThrow { gotResponse = sep38Service.getPrices(fiatUSD, "100", null, null, null) }
+    val wantResponse = GetPricesResponse()
+    wantResponse.addAsset(stellarUSDC, 2, "2")
+    assertEquals(wantResponse, gotResponse)
+  }
+
   @Test
   fun `test GET price failure`() {
     var getPriceRequestBuilder = Sep38GetPriceRequest.builder()
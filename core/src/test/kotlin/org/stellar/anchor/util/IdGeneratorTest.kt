@@ -0,0 +1,63 @@
+package org.stellar.anchor.util
+
+import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+
+class IdGeneratorTest {
+  @BeforeEach
+  fun setup() {
+    IdGenerator.setStrategy(IdGenerator.Strategy.TIME_ORDERED)
+  }
+
+  @AfterEach
+  fun teardown() {
+    IdGenerator.setStrategy(IdGenerator.Strategy.RANDOM)
+  }
+
+  @Test
+  fun `test the time ordered ids are UUIDv7 with the current time`() {
+    val before = System.currentTimeMillis()
+    val uuid = UUID.fromString(IdGenerator.newId())
+    val after = System.currentTimeMillis()
+
+    assertEquals(7, uuid.version())
+    assertEquals(2, uuid.variant())
+    val timestamp = uuid.mostSignificantBits ushr 16
+    // The timestamp may run a few milliseconds ahead after a burst of ids in the same millisecond
+    assertTrue(timestamp in before..after + 10)
+  }
+
+  @Test
+  fun `test the time ordered ids are increasing and unique`() {
+    val ids = (1..10000).map { IdGenerator.timeOrderedUuid() }
+
+    assertEquals(ids.size, ids.toSet().size)
+    // The ids are compared as unsigned, which is the order of their string representation
+    ids.zipWithNext().forEach { (previous, next) ->
+      assertTrue(previous.toString() < next.toString())
+    }
+  }
+
+  @Test
+  fun `test the time ordered ids are unique across threads`() {
+    val ids = ConcurrentHashMap.newKeySet<String>()
+    val threads = (1..8).map { Thread { repeat(1000) { ids.add(IdGenerator.newId()) } } }
+    threads.forEach { it.start() }
+    threads.forEach { it.join() }
+
+    assertEquals(8000, ids.size)
+  }
+
+  @Test
+  fun `test the random ids are UUIDv4`() {
+    IdGenerator.setStrategy(IdGenerator.Strategy.RANDOM)
+
+    assertEquals(4, UUID.fromString(IdGenerator.newId()).version())
+    assertEquals(4, UUID.fromString(SepHelper.generateSepTransactionId()).version())
+  }
+}
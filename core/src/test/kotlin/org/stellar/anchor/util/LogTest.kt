@@ -21,6 +21,11 @@ internal class LogTest {
   @BeforeEach
   fun setup() {
     MockKAnnotations.init(this, relaxed = true)
+    every { logger.isErrorEnabled } returns true
+    every { logger.isWarnEnabled } returns true
+    every { logger.isInfoEnabled } returns true
+    every { logger.isDebugEnabled } returns true
+    every { logger.isTraceEnabled } returns true
   }
 
   class TestBeanPII {
@@ -102,10 +107,43 @@ internal class LogTest {
     assertEquals(shorter("ABCD123_ABCD"), "ABCD...ABCD")
   }
 
+  @Test
+  @LockAndMockStatic([Log::class])
+  fun `test disabled levels do not build the message`() {
+    every { Log.getLogger() } returns logger
+    every { logger.isDebugEnabled } returns false
+    every { logger.isTraceEnabled } returns false
+    val detail = mockk<TestBeanPII>()
+
+    Log.debug("Hello", detail)
+    Log.trace("Hello", detail)
+
+    verify(exactly = 0) { logger.debug(any<String>()) }
+    verify(exactly = 0) { logger.trace(any<String>()) }
+    verify { detail wasNot Called }
+  }
+
+  @Test
+  fun `test lazy arguments are evaluated when formatted`() {
+    var evaluated = 0
+    val arg = Log.lazy { ++evaluated }
+
+    assertEquals(0, evaluated)
+    assertEquals("1", arg.toString())
+    assertEquals(wantTestPIIJson, Log.lazyJson(TestBeanPII()).toString())
+  }
+
   @Test
   @LockAndMockStatic([Log::class])
   fun `test getLogger`() {
     val logger = Log.getLogger()
     assertNotNull(logger)
   }
+
+  @Test
+  fun `test getLogger resolves the calling class`() {
+    val logger = Log.getLogger()
+    assertEquals(LogTest::class.java.name, logger.name)
+    assertSame(logger, Log.getLogger())
+  }
 }
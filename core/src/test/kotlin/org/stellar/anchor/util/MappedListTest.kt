@@ -0,0 +1,134 @@
+package org.stellar.anchor.util
+
+import java.io.StringWriter
+import java.time.Instant
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.stellar.anchor.api.exception.SepException
+import org.stellar.anchor.api.platform.GetTransactionResponse
+import org.stellar.anchor.api.platform.GetTransactionsResponse as PlatformGetTransactionsResponse
+import org.stellar.anchor.api.platform.PlatformTransactionData
+import org.stellar.anchor.api.sep.SepTransactionStatus
+import org.stellar.anchor.api.sep.sep24.DepositTransactionResponse
+import org.stellar.anchor.api.sep.sep24.GetTransactionsResponse as Sep24GetTransactionsResponse
+import org.stellar.anchor.api.sep.sep24.TransactionResponse
+import org.stellar.anchor.api.sep.sep24.WithdrawTransactionResponse
+import org.stellar.anchor.api.sep.sep6.GetTransactionsResponse as Sep6GetTransactionsResponse
+import org.stellar.anchor.api.sep.sep6.Sep6TransactionResponse
+import org.stellar.anchor.api.shared.Amount
+
+internal class MappedListTest {
+  companion object {
+    private val gson = GsonUtils.getInstance()
+    private val IDS = listOf("1", "2", "3")
+    private val STARTED_AT = Instant.parse("2024-01-01T00:00:00Z")
+  }
+
+  private fun sep24Txn(id: String): TransactionResponse {
+    val txn =
+      if (id == "2") {
+        val withdraw = WithdrawTransactionResponse()
+        withdraw.withdrawAnchorAccount = "GBLGJA4TUN5XOGTV6WO2BWYUI2OZR5GYQ5PDPCRMQ5XEPJOYWB2X4CJO"
+        withdraw.withdrawMemo = "memo-$id"
+        withdraw.kind = "withdrawal"
+        withdraw
+      } else {
+        val deposit = DepositTransactionResponse()
+        deposit.depositMemo = "memo-$id"
+        deposit.kind = "deposit"
+        deposit
+      }
+    txn.id = id
+    txn.status = "incomplete"
+    txn.amountIn = "10.5"
+    txn.startedAt = STARTED_AT
+    return txn
+  }
+
+  private fun sep6Txn(id: String): Sep6TransactionResponse {
+    return Sep6TransactionResponse.builder()
+      .id(id)
+      .kind("deposit")
+      .status("pending_user_transfer_start")
+      .amountIn("10.5")
+      .startedAt(STARTED_AT.toString())
+      .build()
+  }
+
+  private fun platformTxn(id: String): GetTransactionResponse {
+    return GetTransactionResponse.builder()
+      .id(id)
+      .sep(PlatformTransactionData.Sep.SEP_24)
+      .kind(PlatformTransactionData.Kind.DEPOSIT)
+      .status(SepTransactionStatus.INCOMPLETE)
+      .amountIn(Amount("10.5", "iso4217:USD"))
+      .startedAt(STARTED_AT)
+      .build()
+  }
+
+  @Test
+  fun `test the SEP-24 transactions are written as the mapped list`() {
+    val expected = Sep24GetTransactionsResponse()
+    expected.transactions = IDS.map { sep24Txn(it) }
+    val response = Sep24GetTransactionsResponse()
+    response.transactions = MappedList.of(IDS) { sep24Txn(it) }
+
+    assertEquals(gson.toJson(expected), gson.toJson(response))
+  }
+
+  @Test
+  fun `test the SEP-6 transactions are written as the mapped list`() {
+    val expected = Sep6GetTransactionsResponse(IDS.map { sep6Txn(it) })
+    val response = Sep6GetTransactionsResponse(MappedList.of(IDS) { sep6Txn(it) })
+
+    assertEquals(gson.toJson(expected), gson.toJson(response))
+  }
+
+  @Test
+  fun `test the platform transactions are written as the mapped list`() {
+    val expected = PlatformGetTransactionsResponse(IDS.map { platformTxn(it) })
+    val response = PlatformGetTransactionsResponse(MappedList.of(IDS) { platformTxn(it) })
+
+    assertEquals(gson.toJson(expected), gson.toJson(response))
+  }
+
+  @Test
+  fun `test the items are mapped while they are written`() {
+    val mapped = mutableListOf<String>()
+    val response =
+      PlatformGetTransactionsResponse(
+        MappedList.of(IDS) {
+          mapped.add(it)
+          platformTxn(it)
+        }
+      )
+
+    assertTrue(mapped.isEmpty())
+    gson.toJson(response)
+    assertEquals(IDS, mapped)
+  }
+
+  @Test
+  fun `test a mapping error leaves no partially written item`() {
+    val response =
+      PlatformGetTransactionsResponse(
+        MappedList.of(IDS) {
+          if (it == "2") throw SepException("bad transaction")
+          platformTxn(it)
+        }
+      )
+    val writer = StringWriter()
+
+    assertThrows<SepException> { gson.toJson(response, writer) }
+    assertEquals("{\"records\":[" + gson.toJson(platformTxn("1")), writer.toString())
+  }
+
+  @Test
+  fun `test the empty list`() {
+    val response = Sep6GetTransactionsResponse(MappedList.of(listOf<String>()) { sep6Txn(it) })
+
+    assertEquals("{\"transactions\":[]}", gson.toJson(response))
+  }
+}
@@ -0,0 +1,51 @@
+package org.stellar.anchor.util
+
+import io.micrometer.core.instrument.Metrics
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import java.util.concurrent.TimeUnit
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotSame
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+
+class MetersTest {
+  private val registry = SimpleMeterRegistry()
+
+  @BeforeEach
+  fun setup() {
+    Metrics.addRegistry(registry)
+  }
+
+  @AfterEach
+  fun teardown() {
+    Metrics.removeRegistry(registry)
+  }
+
+  @Test
+  fun `test the counter is registered once per tag combination`() {
+    val counter = Meters.counter("meters_test.counter", "type", "a")
+
+    assertSame(counter, Meters.counter("meters_test.counter", "type", "a"))
+    assertNotSame(counter, Meters.counter("meters_test.counter", "type", "b"))
+
+    counter.increment()
+    Meters.counter("meters_test.counter", "type", "a").increment()
+    assertEquals(2.0, registry.get("meters_test.counter").tag("type", "a").counter().count())
+  }
+
+  @Test
+  fun `test the timer is registered once per tag combination`() {
+    val timer = Meters.timer("meters_test.timer", "result", "success")
+
+    assertSame(timer, Meters.timer("meters_test.timer", "result", "success"))
+    assertNotSame(timer, Meters.timer("meters_test.timer", "result", "failure"))
+
+    timer.record(10, TimeUnit.MILLISECONDS)
+    assertEquals(
+      1L,
+      registry.get("meters_test.timer").tag("result", "success").timer().count(),
+    )
+  }
+}
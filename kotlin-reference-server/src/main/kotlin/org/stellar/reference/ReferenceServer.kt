@@ -31,12 +31,13 @@ fun startServer(envMap: Map<String, String>?, wait: Boolean) {
 }
 
 fun stopServer() {
-  log.info { "Stopping event consumer..." }
-  EventConsumerContainer.eventConsumer.stop()
-
+  // The server is stopped first, so that no event is received after the consumer is stopped
   log.info { "Stopping Kotlin business reference server..." }
   ReferenceServerContainer.server.stop(5000, 30000)
 
+  log.info { "Stopping event consumer..." }
+  EventConsumerContainer.eventConsumer.stop()
+
   eventConsumingExecutor.shutdown()
   eventConsumingExecutor.awaitTermination(60, java.util.concurrent.TimeUnit.SECONDS)
 }
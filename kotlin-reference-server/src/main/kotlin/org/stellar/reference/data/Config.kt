@@ -29,6 +29,7 @@ data class AppSettings(
   val rpcEnabled: Boolean,
   val enableTest: Boolean,
   val secret: String,
+  val eventConcurrency: Int = 8,
 )
 
 data class AuthSettings(
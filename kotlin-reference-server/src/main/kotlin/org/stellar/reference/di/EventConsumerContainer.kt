@@ -11,10 +11,10 @@ object EventConsumerContainer {
   private val sep6EventProcessor =
     Sep6EventProcessor(
       config,
-      ServiceContainer.horizon,
       ServiceContainer.platform,
       ServiceContainer.customerService,
       ServiceContainer.sepHelper,
+      ServiceContainer.transactionSubmitter,
     )
   private val sep31EventProcessor =
     Sep31EventProcessor(
@@ -24,5 +24,6 @@ object EventConsumerContainer {
   private val noOpEventProcessor = NoOpEventProcessor()
   private val processor =
     AnchorEventProcessor(sep6EventProcessor, sep31EventProcessor, noOpEventProcessor)
-  val eventConsumer = EventConsumer(ServiceContainer.eventService.channel, processor)
+  val eventConsumer =
+    EventConsumer(ServiceContainer.eventService, processor, config.appSettings.eventConcurrency)
 }
@@ -13,16 +13,21 @@ import org.stellar.reference.event.EventService
 import org.stellar.reference.sep24.DepositService
 import org.stellar.reference.sep24.WithdrawalService
 import org.stellar.reference.service.SepHelper
+import org.stellar.reference.service.TransactionSubmitter
+import org.stellar.reference.service.TransactionWaiters
 import org.stellar.reference.service.sep31.ReceiveService
 import org.stellar.sdk.Server
 
 object ServiceContainer {
   private val config = ConfigContainer.getInstance().config
-  val eventService = EventService()
-  val sepHelper = SepHelper(config)
-  val depositService = DepositService(config)
-  val withdrawalService = WithdrawalService(config)
-  val receiveService = ReceiveService(config)
+  val horizon = Server(config.appSettings.horizonEndpoint)
+  val transactionWaiters = TransactionWaiters()
+  val transactionSubmitter = TransactionSubmitter(horizon)
+  val eventService = EventService(transactionWaiters)
+  val sepHelper = SepHelper(config, transactionWaiters, transactionSubmitter)
+  val depositService = DepositService(config, sepHelper, horizon)
+  val withdrawalService = WithdrawalService(config, sepHelper)
+  val receiveService = ReceiveService(sepHelper)
 
   private val database =
     Database.connect(
@@ -36,7 +41,6 @@ object ServiceContainer {
   private val quotesRepo = JdbcQuoteRepository(database)
   val customerService = CustomerService(customerRepo, transactionKYCRepo, sepHelper)
   val rateService = RateService(quotesRepo)
-  val horizon = Server(config.appSettings.horizonEndpoint)
   val platform =
     PlatformClient(
       HttpClient {
@@ -1,30 +1,74 @@
 package org.stellar.reference.event
 
-import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.launch
+import org.stellar.anchor.api.event.AnchorEvent
 import org.stellar.reference.data.SendEventRequest
 import org.stellar.reference.event.processor.AnchorEventProcessor
 import org.stellar.reference.log
 
-@OptIn(ExperimentalCoroutinesApi::class)
+/**
+ * Consumes the events received by the EventService.
+ *
+ * The events are dispatched to [concurrency] lanes by the id of their transaction (or quote), so
+ * that the events of the same transaction are processed in order while the events of different
+ * transactions are processed concurrently. The customer updated events act on the transactions of
+ * every customer, so they are processed one at a time on a lane of their own. They are not ordered
+ * with the transaction events. The consumer suspends while there is no event. When stopped, the
+ * events already received are processed before [start] returns.
+ */
 class EventConsumer(
-  private val channel: Channel<SendEventRequest>,
+  private val eventService: EventService,
   private val processor: AnchorEventProcessor,
+  private val concurrency: Int,
+  private val dispatcher: CoroutineDispatcher = Dispatchers.IO,
 ) {
-  private var stopped = false
-
   suspend fun start(): EventConsumer {
-    while (!stopped) {
-      while (!channel.isEmpty) {
-        val event = channel.receive()
-        log.info { "Processing event ${event.id} of type ${event.type}" }
-        processor.handleEvent(event)
+    // The last lane is the customer lane
+    val lanes = List(concurrency + 1) { Channel<SendEventRequest>(LANE_CAPACITY) }
+    coroutineScope {
+      lanes.forEach { lane -> launch(dispatcher) { for (event in lane) process(event) } }
+      try {
+        for (event in eventService.channel) {
+          lanes[laneOf(event)].send(event)
+        }
+      } finally {
+        // Let the lanes finish the events already dispatched
+        lanes.forEach { it.close() }
       }
     }
+    log.info { "Event consumer stopped" }
     return this
   }
 
+  /** Stops receiving the events. The events already received are still processed. */
   fun stop() {
-    stopped = true
+    eventService.channel.close()
+  }
+
+  private suspend fun process(event: SendEventRequest) {
+    eventService.metrics.onDequeued()
+    val start = System.nanoTime()
+    try {
+      log.info { "Processing event ${event.id} of type ${event.type}" }
+      processor.handleEvent(event)
+    } finally {
+      eventService.metrics.onProcessed(System.nanoTime() - start)
+    }
+  }
+
+  private fun laneOf(event: SendEventRequest): Int {
+    if (event.type == AnchorEvent.Type.CUSTOMER_UPDATED.type) {
+      return concurrency
+    }
+    val key = event.payload.transaction?.id ?: event.payload.quote?.id ?: event.id
+    return key.hashCode().mod(concurrency)
+  }
+
+  companion object {
+    private const val LANE_CAPACITY = 64
   }
 }
@@ -0,0 +1,54 @@
+package org.stellar.reference.event
+
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/** The queue depth and the processing latency of the events. */
+class EventMetrics {
+  private val queued = AtomicInteger()
+  private val inFlight = AtomicInteger()
+  private val processed = AtomicLong()
+  private val totalNanos = AtomicLong()
+  private val maxNanos = AtomicLong()
+
+  fun onEnqueued() {
+    queued.incrementAndGet()
+  }
+
+  fun onDequeued() {
+    queued.decrementAndGet()
+    inFlight.incrementAndGet()
+  }
+
+  fun onProcessed(nanos: Long) {
+    inFlight.decrementAndGet()
+    processed.incrementAndGet()
+    totalNanos.addAndGet(nanos)
+    maxNanos.accumulateAndGet(nanos, Math::max)
+  }
+
+  fun snapshot(): Snapshot {
+    val count = processed.get()
+    return Snapshot(
+      queueDepth = queued.get(),
+      inFlight = inFlight.get(),
+      processed = count,
+      averageLatencyMillis =
+        if (count == 0L) 0.0 else totalNanos.get().toDouble() / count / NANOS_PER_MILLI,
+      maxLatencyMillis = TimeUnit.NANOSECONDS.toMillis(maxNanos.get()),
+    )
+  }
+
+  data class Snapshot(
+    val queueDepth: Int,
+    val inFlight: Int,
+    val processed: Long,
+    val averageLatencyMillis: Double,
+    val maxLatencyMillis: Long,
+  )
+
+  companion object {
+    private val NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1).toDouble()
+  }
+}
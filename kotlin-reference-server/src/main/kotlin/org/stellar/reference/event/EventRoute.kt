@@ -34,6 +34,10 @@ fun Route.event(eventService: EventService) {
       call.respond("Events cleared")
     }
   }
+  route("/events/metrics") {
+    // Test endpoint to get the queue depth and the processing latency of the events.
+    get { call.respond(gson.toJson(eventService.metrics.snapshot())) }
+  }
   route("/events/latest") {
     // Test endpoint to get the latest event recorded by the reference server.
     get {
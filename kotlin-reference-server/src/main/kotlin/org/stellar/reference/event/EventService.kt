@@ -8,9 +8,12 @@ import kotlinx.coroutines.channels.Channel
 import org.stellar.anchor.api.event.AnchorEvent
 import org.stellar.reference.data.SendEventRequest
 import org.stellar.reference.log
+import org.stellar.reference.service.TransactionWaiters
 
-class EventService {
-  val channel = Channel<SendEventRequest>()
+class EventService(private val transactionWaiters: TransactionWaiters) {
+  // The POST /event requests are suspended while the queue is full
+  val channel = Channel<SendEventRequest>(QUEUE_CAPACITY)
+  val metrics = EventMetrics()
   private val formatter: DateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
   private val receivedEvents: MutableList<SendEventRequest> = mutableListOf()
 
@@ -21,6 +24,11 @@ class EventService {
     log.info {
       "Received event ${receivedEvent.id} of type ${receivedEvent.type} at ${dateTime.format(formatter)}"
     }
+    // The waiters are completed on receipt, without waiting for the queued events to be processed
+    receivedEvent.payload.transaction?.let { transaction ->
+      transaction.status?.let { transactionWaiters.onStatusChanged(transaction.id, it.status) }
+    }
+    metrics.onEnqueued()
     channel.send(receivedEvent)
     receivedEvents.add(receivedEvent)
   }
@@ -48,4 +56,8 @@ class EventService {
     log.debug { "Clearing events" }
     receivedEvents.clear()
   }
+
+  companion object {
+    private const val QUEUE_CAPACITY = 1000
+  }
 }
@@ -3,6 +3,7 @@ package org.stellar.reference.event.processor
 import java.math.BigDecimal
 import java.time.Instant
 import java.util.*
+import java.util.concurrent.ConcurrentHashMap
 import kotlinx.coroutines.runBlocking
 import org.stellar.anchor.api.callback.GetCustomerRequest
 import org.stellar.anchor.api.callback.PutCustomerRequest
@@ -16,22 +17,22 @@ import org.stellar.reference.client.PlatformClient
 import org.stellar.reference.data.*
 import org.stellar.reference.log
 import org.stellar.reference.service.SepHelper
+import org.stellar.reference.service.TransactionSubmitter
 import org.stellar.reference.transactionWithRetry
 import org.stellar.sdk.*
 import org.stellar.sdk.exception.BadRequestException
 import org.stellar.sdk.operations.PaymentOperation
-import org.stellar.sdk.responses.TransactionResponse
 
 class Sep6EventProcessor(
   private val config: Config,
-  private val server: Server,
   private val platformClient: PlatformClient,
   private val customerService: CustomerService,
   private val sepHelper: SepHelper,
-  /** Map of transaction ID to Stellar transaction ID. */
-  private val onchainPayments: MutableMap<String, String> = mutableMapOf(),
-  /** Map of transaction ID to external transaction ID. */
-  private val offchainPayments: MutableMap<String, String> = mutableMapOf(),
+  private val transactionSubmitter: TransactionSubmitter,
+  /** Map of transaction ID to Stellar transaction ID. Written from the concurrent event lanes. */
+  private val onchainPayments: MutableMap<String, String> = ConcurrentHashMap(),
+  /** Map of transaction ID to external transaction ID. Written from the concurrent event lanes. */
+  private val offchainPayments: MutableMap<String, String> = ConcurrentHashMap(),
 ) : SepAnchorEventProcessor {
   companion object {
     val requiredKyc =
@@ -103,7 +104,7 @@ class Sep6EventProcessor(
           transactionWithRetry {
             stellarTxnId =
               submitStellarTransaction(
-                keypair.accountId,
+                keypair,
                 transaction.destinationAccount,
                 Asset.create(transaction.amountExpected.asset.toAssetId()),
                 // If no amount was specified at transaction initialization, assume the user
@@ -213,6 +214,14 @@ class Sep6EventProcessor(
     }
   }
 
+  /**
+   * Requests the funds of the transactions waiting for a customer info update.
+   *
+   * The customer events are not ordered with the transaction events, so a transaction may change
+   * while its funds are requested. The platform rejects the funds request of a transaction that is
+   * no longer pending customer info update, so the funds are requested at most once. A rejected
+   * request does not stop the requests of the other transactions.
+   */
   override suspend fun onCustomerUpdated(event: SendEventRequest) {
     platformClient
       .getTransactions(
@@ -224,7 +233,13 @@ class Sep6EventProcessor(
           .build()
       )
       .records
-      .forEach { requestCustomerFunds(it) }
+      .forEach {
+        try {
+          requestCustomerFunds(it)
+        } catch (e: Exception) {
+          log.warn { "Failed to request the funds of transaction ${it.id}: ${e.message}" }
+        }
+      }
   }
 
   private fun requestCustomerFunds(transaction: GetTransactionResponse) {
@@ -428,37 +443,26 @@ class Sep6EventProcessor(
     }
   }
 
-  private fun submitStellarTransaction(
-    source: String,
+  private suspend fun submitStellarTransaction(
+    source: KeyPair,
     destination: String,
     asset: Asset,
     amount: String,
   ): String {
     // TODO: use Kotlin wallet SDK
-    val account = server.accounts().account(source)
-    val transaction =
-      TransactionBuilder(account, Network.TESTNET)
-        .setBaseFee(100)
-        .addPreconditions(
-          TransactionPreconditions.builder().timeBounds(TimeBounds.expiresAfter(60)).build()
-        )
-        .addOperation(
+    try {
+      return transactionSubmitter.submit(source) { transactionBuilder ->
+        transactionBuilder.addOperation(
           PaymentOperation.builder()
             .destination(destination)
             .asset(asset)
             .amount(BigDecimal(amount))
             .build()
         )
-        .build()
-    transaction.sign(KeyPair.fromSecretSeed(config.appSettings.secret))
-    val txnResponse: TransactionResponse
-    try {
-      txnResponse = server.submitTransaction(transaction)
+      }
     } catch (e: BadRequestException) {
       throw RuntimeException("Error submitting transaction: ${e.problem?.extras?.resultCodes}")
     }
-    assert(txnResponse.successful)
-    return txnResponse.hash
   }
 
   private suspend fun patchTransaction(data: PlatformTransactionData) {
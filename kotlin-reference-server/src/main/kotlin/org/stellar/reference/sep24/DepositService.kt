@@ -6,13 +6,16 @@ import java.math.RoundingMode
 import org.stellar.reference.data.*
 import org.stellar.reference.service.SepHelper
 import org.stellar.reference.transactionWithRetry
+import org.stellar.sdk.Server
 import org.stellar.sdk.responses.operations.PaymentOperationResponse
 
 private val log = KotlinLogging.logger {}
 
-class DepositService(private val cfg: Config) {
-
-  val sep24 = SepHelper(cfg)
+class DepositService(
+  private val cfg: Config,
+  val sep24: SepHelper,
+  private val horizon: Server,
+) {
 
   suspend fun processDeposit(
     transactionId: String,
@@ -155,7 +158,7 @@ class DepositService(private val cfg: Config) {
       )
     } else {
       val operationId: Long =
-        sep24.server
+        horizon
           .operations()
           .forTransaction(stellarTransactionId)
           .execute()
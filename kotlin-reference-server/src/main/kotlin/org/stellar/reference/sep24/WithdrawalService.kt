@@ -8,8 +8,7 @@ import org.stellar.reference.service.SepHelper
 
 private val log = KotlinLogging.logger {}
 
-class WithdrawalService(private val cfg: Config) {
-  private val sep24 = SepHelper(cfg)
+class WithdrawalService(private val cfg: Config, private val sep24: SepHelper) {
 
   suspend fun processWithdrawal(
     transactionId: String,
@@ -1,15 +1,13 @@
 package org.stellar.reference.service.sep31
 
 import io.github.oshai.kotlinlogging.KotlinLogging
-import org.stellar.reference.data.Config
 import org.stellar.reference.data.NotifyOffchainFundsSentRequest
 import org.stellar.reference.data.NotifyTransactionErrorRequest
 import org.stellar.reference.service.SepHelper
 
 private val log = KotlinLogging.logger {}
 
-class ReceiveService(cfg: Config) {
-  private val sepHelper = SepHelper(cfg)
+class ReceiveService(private val sepHelper: SepHelper) {
 
   suspend fun processReceive(transactionId: String) {
     try {
@@ -12,8 +12,7 @@ import io.ktor.serialization.kotlinx.json.*
 import java.math.BigDecimal
 import java.util.*
 import java.util.Base64
-import kotlin.time.Duration.Companion.seconds
-import kotlinx.coroutines.delay
+import kotlin.time.Duration.Companion.minutes
 import kotlinx.serialization.json.Json
 import org.apache.commons.codec.binary.Hex
 import org.stellar.anchor.util.GsonUtils
@@ -22,9 +21,12 @@ import org.stellar.reference.data.Transaction
 import org.stellar.sdk.*
 import org.stellar.sdk.exception.BadRequestException
 import org.stellar.sdk.operations.PaymentOperation
-import org.stellar.sdk.responses.TransactionResponse
 
-class SepHelper(private val cfg: Config) {
+class SepHelper(
+  private val cfg: Config,
+  private val transactionWaiters: TransactionWaiters,
+  private val transactionSubmitter: TransactionSubmitter,
+) {
   private val log = KotlinLogging.logger {}
   private val gson = GsonUtils.getInstance()
 
@@ -34,8 +36,6 @@ class SepHelper(private val cfg: Config) {
 
   val baseUrl = cfg.appSettings.platformApiEndpoint
 
-  val server = Server(cfg.appSettings.horizonEndpoint)
-
   internal suspend fun patchTransaction(patchRecord: PatchTransactionTransaction) {
     val resp =
       client.patch("$baseUrl/transactions") {
@@ -83,55 +83,42 @@ class SepHelper(private val cfg: Config) {
     return client.get("$baseUrl/transactions/$transactionId").body()
   }
 
-  internal fun sendStellarTransaction(
+  internal suspend fun sendStellarTransaction(
     destinationAddress: String,
     assetString: String,
     amount: BigDecimal,
     memo: String?,
     memoType: String?
   ): String {
-    val myAccount = server.accounts().account(cfg.sep24.keyPair!!.accountId)
     val asset = Asset.create(assetString.replace("stellar:", ""))
-
-    val transactionBuilder =
-      TransactionBuilder(myAccount, Network.TESTNET)
-        .setBaseFee(100)
-        .addPreconditions(
-          TransactionPreconditions.builder().timeBounds(TimeBounds.expiresAfter(60)).build()
-        )
-        .addOperation(
-          PaymentOperation.builder()
-            .destination(destinationAddress)
-            .asset(asset)
-            .amount(amount)
-            .build()
-        )
-
-    if (memo != null && memoType != null) {
-      transactionBuilder.addMemo(
+    val transactionMemo =
+      if (memo != null && memoType != null) {
         when (memoType) {
           "text" -> Memo.text(memo)
           "id" -> Memo.id(memo.toLong())
           "hash" -> Memo.hash(Hex.encodeHexString(Base64.getDecoder().decode(memo)))
           else -> throw Exception("Unsupported memo type")
         }
-      )
-    }
-
-    val transaction = transactionBuilder.build()
-
-    transaction.sign(cfg.sep24.keyPair)
+      } else {
+        null
+      }
 
-    val resp: TransactionResponse
     try {
-      resp = server.submitTransaction(transaction)
+      return transactionSubmitter.submit(cfg.sep24.keyPair!!) { transactionBuilder ->
+        transactionBuilder.addOperation(
+          PaymentOperation.builder()
+            .destination(destinationAddress)
+            .asset(asset)
+            .amount(amount)
+            .build()
+        )
+        transactionMemo?.let { transactionBuilder.addMemo(it) }
+      }
     } catch (e: BadRequestException) {
       throw Exception(
         "Failed to submit transaction with code: ${e.problem?.extras?.resultCodes?.transactionResultCode}"
       )
     }
-    assert(resp.successful)
-    return resp.hash
   }
 
   internal suspend fun sendCustodyStellarTransaction(transactionId: String) {
@@ -152,24 +139,16 @@ class SepHelper(private val cfg: Config) {
     }
   }
 
-  // Pulling status change from anchor. Alternatively, listen to AnchorEvent for transaction status
-  // change
+  // Wait for the AnchorEvent of the transaction status change. The transaction is also polled from
+  // the anchor, in case the event is missed
   internal suspend fun waitStellarTransaction(txId: String, status: String) {
-    for (i in 1..(30 * 60 / 5)) {
-      log.info { "Waiting for funds transfer" }
-
-      val transaction = getTransaction(txId)
+    log.info { "Waiting for funds transfer" }
 
-      if (transaction.status == status) {
-        log.info { "Funds transfer was successful" }
-
-        return
-      } else {
-        delay(5.seconds)
-      }
+    if (!transactionWaiters.await(txId, status, 30.minutes) { getTransaction(txId).status }) {
+      throw Exception("Transaction hasn't been sent in 30 minutes, giving up")
     }
 
-    throw Exception("Transaction hasn't been sent in 30 minutes, giving up")
+    log.info { "Funds transfer was successful" }
   }
 
   internal fun validateTransaction(transaction: Transaction) {
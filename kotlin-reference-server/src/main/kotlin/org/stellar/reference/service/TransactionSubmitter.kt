@@ -0,0 +1,64 @@
+package org.stellar.reference.service
+
+import java.util.concurrent.ConcurrentHashMap
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+import kotlinx.coroutines.withContext
+import org.stellar.sdk.*
+
+/**
+ * Submits the Stellar transactions, queued by source account.
+ *
+ * The transactions of the same source account are submitted one at a time in order, while those
+ * of different source accounts are submitted concurrently. The sequence number of a source account
+ * is tracked locally, so the account is loaded from Horizon only for its first transaction and
+ * after a failed submission.
+ */
+class TransactionSubmitter(
+  private val server: Server,
+  private val network: Network = Network.TESTNET,
+) {
+  private val sourceAccounts = ConcurrentHashMap<String, SourceAccount>()
+
+  /**
+   * Builds, signs and submits a transaction.
+   *
+   * @param signer the key pair of the source account.
+   * @param operations adds the operations and the memo of the transaction.
+   * @return the hash of the transaction.
+   */
+  suspend fun submit(signer: KeyPair, operations: (TransactionBuilder) -> Unit): String {
+    val source = sourceAccounts.computeIfAbsent(signer.accountId) { SourceAccount() }
+    return source.lock.withLock {
+      withContext(Dispatchers.IO) {
+        val account = source.account ?: server.accounts().account(signer.accountId)
+        val builder =
+          TransactionBuilder(account, network)
+            .setBaseFee(100)
+            .addPreconditions(
+              TransactionPreconditions.builder().timeBounds(TimeBounds.expiresAfter(60)).build()
+            )
+        operations(builder)
+        // Building the transaction increments the sequence number of the account
+        val transaction = builder.build()
+        transaction.sign(signer)
+        try {
+          val resp = server.submitTransaction(transaction)
+          assert(resp.successful)
+          source.account = account
+          resp.hash
+        } catch (e: Exception) {
+          // The sequence number may be out of sync. The account is reloaded on the next submission
+          source.account = null
+          throw e
+        }
+      }
+    }
+  }
+
+  private class SourceAccount {
+    val lock = Mutex()
+    @Volatile var account: TransactionBuilderAccount? = null
+  }
+}
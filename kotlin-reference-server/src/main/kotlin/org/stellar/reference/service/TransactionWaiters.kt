@@ -0,0 +1,67 @@
+package org.stellar.reference.service
+
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.time.Duration
+import kotlin.time.Duration.Companion.minutes
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.withTimeoutOrNull
+
+/**
+ * The coroutines waiting for a transaction to reach a status.
+ *
+ * The waiters are completed by the transaction events received from the platform. The transaction
+ * status is also polled every [pollInterval], in case an event is missed or the status was reached
+ * before the waiter was registered.
+ */
+class TransactionWaiters(private val pollInterval: Duration = 1.minutes) {
+  private val waiters = ConcurrentHashMap<String, MutableSet<Waiter>>()
+
+  /**
+   * Suspends until the transaction reaches the status.
+   *
+   * @param transactionId the id of the transaction.
+   * @param status the status to wait for.
+   * @param timeout the maximum time to wait.
+   * @param getStatus gets the current status of the transaction from the platform.
+   * @return true if the status was reached, false if the timeout expired.
+   */
+  suspend fun await(
+    transactionId: String,
+    status: String,
+    timeout: Duration,
+    getStatus: suspend () -> String,
+  ): Boolean {
+    val waiter = Waiter(status)
+    waiters.compute(transactionId) { _, set ->
+      (set ?: ConcurrentHashMap.newKeySet()).apply { add(waiter) }
+    }
+    try {
+      return withTimeoutOrNull(timeout) {
+        // The status is polled after the waiter is registered, so that no event is missed
+        while (getStatus() != status) {
+          if (withTimeoutOrNull(pollInterval) { waiter.reached.await() } != null) break
+        }
+        true
+      } ?: false
+    } finally {
+      waiters.computeIfPresent(transactionId) { _, set ->
+        set.remove(waiter)
+        if (set.isEmpty()) null else set
+      }
+    }
+  }
+
+  /**
+   * Completes the waiters of the transaction status.
+   *
+   * @param transactionId the id of the transaction.
+   * @param status the new status of the transaction.
+   */
+  fun onStatusChanged(transactionId: String, status: String) {
+    waiters[transactionId]?.forEach { if (it.status == status) it.reached.complete(Unit) }
+  }
+
+  private class Waiter(val status: String) {
+    val reached = CompletableDeferred<Unit>()
+  }
+}
@@ -1,11 +1,16 @@
 package org.stellar.anchor.metrics;
 
 import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.stellar.anchor.platform.service.AnchorMetrics;
+import org.stellar.anchor.util.Meters;
 
 public class MetricsService {
   public Counter counter(AnchorMetrics metric, String... tags) {
-    return Metrics.counter(metric.name(), tags);
+    return Meters.counter(metric.name(), tags);
+  }
+
+  public Timer timer(AnchorMetrics metric, String... tags) {
+    return Meters.timer(metric.name(), tags);
   }
 }
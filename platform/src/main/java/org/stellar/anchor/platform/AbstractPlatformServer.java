@@ -3,10 +3,12 @@ package org.stellar.anchor.platform;
 import static org.stellar.anchor.util.Log.info;
 
 import java.util.Map;
+import org.slf4j.bridge.SLF4JBridgeHandler;
 import org.springframework.boot.SpringApplication;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.format.FormatterRegistry;
 import org.stellar.anchor.platform.configurator.ConfigEnvironment;
+import org.stellar.anchor.platform.utils.StartupReport;
 import org.stellar.anchor.platform.utils.StringEnumConverter;
 
 abstract class AbstractPlatformServer {
@@ -17,6 +19,28 @@ abstract class AbstractPlatformServer {
     ConfigEnvironment.rebuild(envMap);
   }
 
+  /**
+   * Runs the Spring application of the server and logs its startup timing report.
+   *
+   * @param serverName the name of the server in the report.
+   * @param springApplication the Spring application of the server.
+   * @return the application context.
+   */
+  ConfigurableApplicationContext run(String serverName, SpringApplication springApplication) {
+    bridgeJulLogging();
+    StartupReport startupReport = new StartupReport(serverName);
+    springApplication.setApplicationStartup(startupReport.getApplicationStartup());
+    ConfigurableApplicationContext context = springApplication.run();
+    startupReport.log(context);
+    return context;
+  }
+
+  /** Bridges Tomcat's JUL logging to SLF4J. The servers may be started in parallel. */
+  static synchronized void bridgeJulLogging() {
+    SLF4JBridgeHandler.removeHandlersForRootLogger();
+    SLF4JBridgeHandler.install();
+  }
+
   public void stop() {
     if (ctx != null) {
       SpringApplication.exit(ctx);
@@ -4,7 +4,6 @@ import static org.springframework.boot.Banner.Mode.OFF;
 import static org.stellar.anchor.util.Log.info;
 
 import java.util.Map;
-import org.slf4j.bridge.SLF4JBridgeHandler;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -40,10 +39,6 @@ public class EventProcessingServer extends AbstractPlatformServer implements Web
     info("Adding event processor config manager as initializers...");
     springApplication.addInitializers(EventProcessorConfigManager.getInstance());
 
-    // Bridge Tomcat's JUL logging to SLF4J
-    SLF4JBridgeHandler.removeHandlersForRootLogger();
-    SLF4JBridgeHandler.install();
-
-    return ctx = springApplication.run();
+    return ctx = run("Event processing server", springApplication);
   }
 }
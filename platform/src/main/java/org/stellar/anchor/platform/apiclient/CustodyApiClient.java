@@ -1,8 +1,10 @@
 package org.stellar.anchor.platform.apiclient;
 
+import static org.stellar.anchor.util.MetricConstants.*;
 import static org.stellar.anchor.util.OkHttpUtil.TYPE_JSON;
 
 import com.google.gson.Gson;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -18,12 +20,20 @@ import org.stellar.anchor.api.custody.CustodyExceptionResponse;
 import org.stellar.anchor.api.custody.GenerateDepositAddressResponse;
 import org.stellar.anchor.api.exception.CustodyException;
 import org.stellar.anchor.api.exception.InvalidConfigException;
+import org.stellar.anchor.apiclient.InProcessServices;
 import org.stellar.anchor.auth.AuthHelper;
 import org.stellar.anchor.platform.config.CustodyApiConfig;
+import org.stellar.anchor.platform.custody.InProcessCustodyApi;
 import org.stellar.anchor.util.AuthHeader;
 import org.stellar.anchor.util.GsonUtils;
-
-/** API client, that is responsible for communication with Custody Server */
+import org.stellar.anchor.util.Meters;
+
+/**
+ * API client, that is responsible for communication with Custody Server.
+ *
+ * <p>If the in-process transport is enabled and the custody server runs in the same JVM, the
+ * requests are handled by the custody server without going through HTTP.
+ */
 public class CustodyApiClient {
 
   private static final Gson gson = GsonUtils.getInstance();
@@ -46,6 +56,16 @@ public class CustodyApiClient {
 
   public void createTransaction(CreateCustodyTransactionRequest transactionRequest)
       throws CustodyException, InvalidConfigException {
+    InProcessCustodyApi custodyApi = getInProcessApi();
+    if (custodyApi != null) {
+      callInProcess(
+          () -> {
+            custodyApi.createTransaction(transactionRequest);
+            return null;
+          });
+      return;
+    }
+
     Request request =
         getRequestBuilder()
             .url(custodyApiConfig.getBaseUrl() + CREATE_TRANSACTION_URL_FORMAT)
@@ -56,6 +76,11 @@ public class CustodyApiClient {
 
   public GenerateDepositAddressResponse generateDepositAddress(String assetId)
       throws CustodyException, InvalidConfigException {
+    InProcessCustodyApi custodyApi = getInProcessApi();
+    if (custodyApi != null) {
+      return callInProcess(() -> custodyApi.generateDepositAddress(assetId));
+    }
+
     Request request =
         getRequestBuilder()
             .url(
@@ -69,6 +94,13 @@ public class CustodyApiClient {
 
   public CreateTransactionPaymentResponse createTransactionPayment(String txnId, String requestBody)
       throws CustodyException, InvalidConfigException {
+    InProcessCustodyApi custodyApi = getInProcessApi();
+    if (custodyApi != null) {
+      // The custody server receives the body as it is sent over HTTP
+      String body = gson.toJson(requestBody);
+      return callInProcess(() -> custodyApi.createTransactionPayment(txnId, body));
+    }
+
     final String url =
         custodyApiConfig.getBaseUrl() + String.format(CREATE_TRANSACTION_PAYMENT_URL_FORMAT, txnId);
 
@@ -84,6 +116,11 @@ public class CustodyApiClient {
   public CreateTransactionPaymentResponse createTransactionRefund(
       String txnId, CreateTransactionRefundRequest refundRequest)
       throws CustodyException, InvalidConfigException {
+    InProcessCustodyApi custodyApi = getInProcessApi();
+    if (custodyApi != null) {
+      return callInProcess(() -> custodyApi.createTransactionRefund(txnId, refundRequest));
+    }
+
     final String url =
         custodyApiConfig.getBaseUrl() + String.format(CREATE_TRANSACTION_REFUND_URL_FORMAT, txnId);
 
@@ -96,6 +133,24 @@ public class CustodyApiClient {
     return gson.fromJson(doRequest(request), CreateTransactionPaymentResponse.class);
   }
 
+  InProcessCustodyApi getInProcessApi() {
+    return custodyApiConfig.isInProcess() ? InProcessServices.get(InProcessCustodyApi.class) : null;
+  }
+
+  private <T> T callInProcess(InProcessCall<T> call)
+      throws CustodyException, InvalidConfigException {
+    Timer.Sample sample = Timer.start();
+    try {
+      return call.call();
+    } finally {
+      sample.stop(requestTimer(TV_IN_PROCESS));
+    }
+  }
+
+  private static Timer requestTimer(String transport) {
+    return Meters.timer(API_CLIENT_REQUEST, TARGET, TV_CUSTODY_API, TRANSPORT, transport);
+  }
+
   private Request.Builder getRequestBuilder() throws InvalidConfigException {
     Request.Builder requestBuilder = new Request.Builder();
     AuthHeader<String, String> authHeader = authHelper.createAuthHeader();
@@ -105,6 +160,7 @@ public class CustodyApiClient {
   }
 
   private String doRequest(Request request) throws CustodyException {
+    Timer.Sample sample = Timer.start();
     try (Response response = httpClient.newCall(request).execute()) {
       ResponseBody responseBody = response.body();
       String responseBodyJson = null;
@@ -126,6 +182,13 @@ public class CustodyApiClient {
       }
     } catch (IOException e) {
       throw new CustodyException(e);
+    } finally {
+      sample.stop(requestTimer(TV_HTTP));
     }
   }
+
+  @FunctionalInterface
+  private interface InProcessCall<T> {
+    T call() throws CustodyException, InvalidConfigException;
+  }
 }
@@ -0,0 +1,200 @@
+package org.stellar.anchor.platform.callback;
+
+import static org.stellar.anchor.util.Log.debugF;
+import static org.stellar.anchor.util.MetricConstants.*;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.stellar.anchor.api.callback.*;
+import org.stellar.anchor.api.exception.AnchorException;
+
+/**
+ * A cache of the GET /customer responses of the business server.
+ *
+ * <p>The responses are keyed on the customer request and expire after the configured TTL. The
+ * entries of a customer are invalidated when the customer is updated or deleted through this
+ * integration, or when the business server notifies the platform that the customer info was
+ * updated. Errors returned by the business server are never cached.
+ *
+ * <p>Each server has its own Spring context, and therefore its own cache. The notification of the
+ * business server invalidates the caches of all the servers of the platform server's process. The
+ * servers running in other processes serve the cached responses until they expire.
+ */
+public class CachedCustomerIntegration implements CustomerIntegration {
+  // The caches of this process
+  private static final Set<CachedCustomerIntegration> caches =
+      Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+  final CustomerIntegration delegate;
+  final Duration ttl;
+  final Supplier<Instant> clock;
+  final Map<CustomerKey, Entry> cache;
+  // Incremented by each invalidation, so that responses fetched before are not cached
+  long generation;
+
+  final Counter hitCounter = Metrics.counter(CALLBACK_API_CUSTOMER_CACHE, RESULT, TV_HIT);
+  final Counter missCounter = Metrics.counter(CALLBACK_API_CUSTOMER_CACHE, RESULT, TV_MISS);
+  final Counter invalidationCounter = Metrics.counter(CALLBACK_API_CUSTOMER_CACHE_INVALIDATED);
+
+  public CachedCustomerIntegration(CustomerIntegration delegate, long ttlSeconds, int maxSize) {
+    this(delegate, ttlSeconds, maxSize, Instant::now);
+  }
+
+  CachedCustomerIntegration(
+      CustomerIntegration delegate, long ttlSeconds, int maxSize, Supplier<Instant> clock) {
+    this.delegate = delegate;
+    this.ttl = Duration.ofSeconds(ttlSeconds);
+    this.clock = clock;
+    this.cache =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<CustomerKey, Entry> eldest) {
+            return size() > maxSize;
+          }
+        };
+    Metrics.gauge(CALLBACK_API_CUSTOMER_CACHE_SIZE, cache, this::size);
+    caches.add(this);
+  }
+
+  /**
+   * Invalidates the cached responses of the customer in all the caches of this process.
+   *
+   * @param id the customer id.
+   */
+  public static void invalidateAll(String id) {
+    List<CachedCustomerIntegration> snapshot;
+    synchronized (caches) {
+      snapshot = new ArrayList<>(caches);
+    }
+    snapshot.forEach(cache -> cache.invalidate(id));
+  }
+
+  @Override
+  public GetCustomerResponse getCustomer(GetCustomerRequest request) throws AnchorException {
+    CustomerKey key = CustomerKey.of(request);
+    Instant now = clock.get();
+    long fetchGeneration;
+    synchronized (cache) {
+      fetchGeneration = generation;
+      Entry entry = cache.get(key);
+      if (entry != null) {
+        if (now.isBefore(entry.expiresAt)) {
+          hitCounter.increment();
+          return entry.response;
+        }
+        cache.remove(key);
+      }
+    }
+
+    missCounter.increment();
+    GetCustomerResponse response = delegate.getCustomer(request);
+    if (response != null) {
+      synchronized (cache) {
+        if (fetchGeneration == generation) {
+          cache.put(key, new Entry(response, now.plus(ttl)));
+        }
+      }
+    }
+    return response;
+  }
+
+  @Override
+  public PutCustomerResponse putCustomer(PutCustomerRequest request) throws AnchorException {
+    try {
+      return delegate.putCustomer(request);
+    } finally {
+      invalidate(request.getId(), request.getAccount(), request.getMemo());
+    }
+  }
+
+  @Override
+  public void deleteCustomer(String id) throws AnchorException {
+    try {
+      delegate.deleteCustomer(id);
+    } finally {
+      invalidate(id, null, null);
+    }
+  }
+
+  /**
+   * Invalidates the cached responses of the customer.
+   *
+   * @param id the customer id.
+   */
+  public void invalidate(String id) {
+    invalidate(id, null, null);
+  }
+
+  void invalidate(String id, String account, String memo) {
+    int removed;
+    synchronized (cache) {
+      int size = cache.size();
+      cache
+          .entrySet()
+          .removeIf(e -> e.getValue().matches(id) || e.getKey().matches(id, account, memo));
+      removed = size - cache.size();
+      generation++;
+    }
+    if (removed > 0) {
+      invalidationCounter.increment(removed);
+      debugF("Invalidated {} cached responses of customer id={} account={}", removed, id, account);
+    }
+  }
+
+  int size(Map<CustomerKey, Entry> cache) {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  @AllArgsConstructor
+  static class Entry {
+    final GetCustomerResponse response;
+    final Instant expiresAt;
+
+    boolean matches(String id) {
+      return id != null && id.equals(response.getId());
+    }
+  }
+
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  static class CustomerKey {
+    final String id;
+    final String account;
+    final String memo;
+    final String memoType;
+    final String type;
+    final String transactionId;
+    final String lang;
+
+    boolean matches(String id, String account, String memo) {
+      return (id != null && id.equals(this.id))
+          || (account != null && account.equals(this.account) && Objects.equals(memo, this.memo));
+    }
+
+    static CustomerKey of(GetCustomerRequest request) {
+      return new CustomerKey(
+          request.getId(),
+          request.getAccount(),
+          request.getMemo(),
+          request.getMemoType(),
+          request.getType(),
+          request.getTransactionId(),
+          request.getLang());
+    }
+  }
+}
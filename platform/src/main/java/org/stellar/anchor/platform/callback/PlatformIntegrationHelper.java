@@ -1,6 +1,9 @@
 package org.stellar.anchor.platform.callback;
 
+import static org.stellar.anchor.util.MetricConstants.*;
+
 import com.google.gson.Gson;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import lombok.Data;
 import okhttp3.OkHttpClient;
@@ -12,6 +15,7 @@ import org.stellar.anchor.api.exception.*;
 import org.stellar.anchor.auth.AuthHelper;
 import org.stellar.anchor.util.AuthHeader;
 import org.stellar.anchor.util.Log;
+import org.stellar.anchor.util.Meters;
 
 public class PlatformIntegrationHelper {
   public static Request.Builder getRequestBuilder(AuthHelper authHelper)
@@ -35,6 +39,29 @@ public class PlatformIntegrationHelper {
     }
   }
 
+  /**
+   * Calls the business server, and records the latency of the call by the callback type and the
+   * response status.
+   *
+   * @param httpClient the HTTP client.
+   * @param request the request to the business server.
+   * @param type the type of the callback, used as the metric tag.
+   * @return the response of the business server.
+   * @throws ServerErrorException if the business server is not available.
+   */
+  public static Response call(OkHttpClient httpClient, Request request, String type)
+      throws ServerErrorException {
+    Timer.Sample sample = Timer.start();
+    String status = TV_FAILURE;
+    try {
+      Response response = call(httpClient, request);
+      status = String.valueOf(response.code());
+      return response;
+    } finally {
+      sample.stop(Meters.timer(CALLBACK_API_REQUEST, TYPE, type, STATUS, status));
+    }
+  }
+
   public static String getContent(Response response) throws ServerErrorException {
     try {
       ResponseBody responseBody = response.body();
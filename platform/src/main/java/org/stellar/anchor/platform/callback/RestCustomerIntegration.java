@@ -1,6 +1,7 @@
 package org.stellar.anchor.platform.callback;
 
 import static okhttp3.HttpUrl.get;
+import static org.stellar.anchor.util.MetricConstants.*;
 
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
@@ -62,7 +63,8 @@ public class RestCustomerIntegration implements CustomerIntegration {
     try (Response response =
         PlatformIntegrationHelper.call(
             httpClient,
-            PlatformIntegrationHelper.getRequestBuilder(authHelper).url(url).get().build())) {
+            PlatformIntegrationHelper.getRequestBuilder(authHelper).url(url).get().build(),
+            TV_GET_CUSTOMER)) {
       String responseContent = PlatformIntegrationHelper.getContent(response);
 
       if (response.code() != HttpStatus.OK.value()) {
@@ -91,7 +93,8 @@ public class RestCustomerIntegration implements CustomerIntegration {
     Request callbackRequest = createCallbackRequest(putCustomerRequest);
 
     // Call anchor
-    try (Response response = PlatformIntegrationHelper.call(httpClient, callbackRequest)) {
+    try (Response response =
+        PlatformIntegrationHelper.call(httpClient, callbackRequest, TV_PUT_CUSTOMER)) {
       String responseContent = PlatformIntegrationHelper.getContent(response);
 
       if (!List.of(HttpStatus.OK.value(), HttpStatus.CREATED.value(), HttpStatus.ACCEPTED.value())
@@ -184,7 +187,8 @@ public class RestCustomerIntegration implements CustomerIntegration {
         PlatformIntegrationHelper.getRequestBuilder(authHelper).url(url).delete().build();
 
     // Call anchor
-    try (Response response = PlatformIntegrationHelper.call(httpClient, callbackRequest)) {
+    try (Response response =
+        PlatformIntegrationHelper.call(httpClient, callbackRequest, TV_DELETE_CUSTOMER)) {
       String responseContent = PlatformIntegrationHelper.getContent(response);
 
       if (!List.of(HttpStatus.OK.value(), HttpStatus.NO_CONTENT.value())
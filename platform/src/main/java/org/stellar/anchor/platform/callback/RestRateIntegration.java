@@ -5,10 +5,13 @@ import static java.lang.String.format;
 import static okhttp3.HttpUrl.get;
 import static org.stellar.anchor.util.ErrorHelper.logErrorAndThrow;
 import static org.stellar.anchor.util.Log.*;
+import static org.stellar.anchor.util.MetricConstants.*;
 import static org.stellar.anchor.util.NumberHelper.*;
 
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -16,11 +19,15 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.HttpUrl;
 import okhttp3.HttpUrl.Builder;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
 import org.springframework.http.HttpStatus;
 import org.stellar.anchor.api.asset.AssetInfo;
 import org.stellar.anchor.api.callback.GetRateRequest;
@@ -33,6 +40,7 @@ import org.stellar.anchor.api.shared.FeeDescription;
 import org.stellar.anchor.api.shared.FeeDetails;
 import org.stellar.anchor.asset.AssetService;
 import org.stellar.anchor.auth.AuthHelper;
+import org.stellar.anchor.util.Meters;
 
 public class RestRateIntegration implements RateIntegration {
   private static final RoundingMode[] ALLOWED_ROUNDING_MODES_FOR_QUOTE_VALIDATION =
@@ -68,30 +76,91 @@ public class RestRateIntegration implements RateIntegration {
   public GetRateResponse getRate(GetRateRequest request) throws AnchorException {
     validateRateRequest(request);
 
+    Timer.Sample sample = Timer.start();
     try (Response response = invokeGetRateRequest(request, authHelper)) {
-      String responseContent = PlatformIntegrationHelper.getContent(response);
+      GetRateResponse getRateResponse = handleGetRateResponse(request, response);
+      sample.stop(rateTimer(request, TV_SUCCESS));
+      return getRateResponse;
+    } catch (AnchorException e) {
+      sample.stop(rateTimer(request, TV_FAILURE));
+      throw e;
+    }
+  }
 
-      if (response.code() != HttpStatus.OK.value()) {
-        throw PlatformIntegrationHelper.httpError(responseContent, response.code(), gson);
-      }
+  @Override
+  public CompletableFuture<GetRateResponse> getRateAsync(GetRateRequest request) {
+    CompletableFuture<GetRateResponse> future = new CompletableFuture<>();
+    Call call;
+    try {
+      validateRateRequest(request);
+      call = httpClient.newCall(buildGetRateRequest(request, authHelper));
+    } catch (Exception e) {
+      future.completeExceptionally(e);
+      return future;
+    }
 
-      GetRateResponse getRateResponse;
-      try {
-        getRateResponse = gson.fromJson(responseContent, GetRateResponse.class);
-      } catch (Exception e) { // cannot read body from response
-        errorEx("Error parsing body response to GetRateResponse", e);
-        throw new ServerErrorException("internal server error", e);
-      }
+    // The number of in-flight calls is bounded by the dispatcher of the http client.
+    Timer.Sample sample = Timer.start();
+    call.enqueue(
+        new Callback() {
+          @Override
+          public void onFailure(@NotNull Call call, @NotNull IOException e) {
+            sample.stop(rateTimer(request, TV_FAILURE));
+            future.completeExceptionally(new ServerErrorException("service not available", e));
+          }
 
-      validateRateResponse(request, getRateResponse);
+          @Override
+          public void onResponse(@NotNull Call call, @NotNull Response response) {
+            try (response) {
+              GetRateResponse getRateResponse = handleGetRateResponse(request, response);
+              sample.stop(rateTimer(request, TV_SUCCESS));
+              future.complete(getRateResponse);
+            } catch (Exception e) {
+              sample.stop(rateTimer(request, TV_FAILURE));
+              future.completeExceptionally(e);
+            }
+          }
+        });
 
-      // If the rate.fee is not present, we need to set it to 0 so that the fee always exists
-      if (getRateResponse.getRate().getFee() == null) {
-        getRateResponse.getRate().setFee(new FeeDetails("0", request.getSellAsset()));
-      }
+    // Release the connection if the caller gives up on the rate
+    future.whenComplete(
+        (response, ex) -> {
+          if (future.isCancelled()) {
+            call.cancel();
+          }
+        });
+    return future;
+  }
 
-      return getRateResponse;
+  GetRateResponse handleGetRateResponse(GetRateRequest request, Response response)
+      throws AnchorException {
+    String responseContent = PlatformIntegrationHelper.getContent(response);
+
+    if (response.code() != HttpStatus.OK.value()) {
+      throw PlatformIntegrationHelper.httpError(responseContent, response.code(), gson);
+    }
+
+    GetRateResponse getRateResponse;
+    try {
+      getRateResponse = gson.fromJson(responseContent, GetRateResponse.class);
+    } catch (Exception e) { // cannot read body from response
+      errorEx("Error parsing body response to GetRateResponse", e);
+      throw new ServerErrorException("internal server error", e);
+    }
+
+    validateRateResponse(request, getRateResponse);
+
+    // If the rate.fee is not present, we need to set it to 0 so that the fee always exists
+    if (getRateResponse.getRate().getFee() == null) {
+      getRateResponse.getRate().setFee(new FeeDetails("0", request.getSellAsset()));
     }
+
+    return getRateResponse;
+  }
+
+  Timer rateTimer(GetRateRequest request, String status) {
+    return Meters.timer(
+        CALLBACK_API_RATE, TYPE, String.valueOf(request.getType()), STATUS, status);
   }
 
   void validateRateRequest(GetRateRequest request) {
@@ -323,6 +392,11 @@ public class RestRateIntegration implements RateIntegration {
 
   Response invokeGetRateRequest(GetRateRequest request, AuthHelper authHelper)
       throws InvalidConfigException, ServerErrorException {
+    return PlatformIntegrationHelper.call(httpClient, buildGetRateRequest(request, authHelper));
+  }
+
+  Request buildGetRateRequest(GetRateRequest request, AuthHelper authHelper)
+      throws InvalidConfigException {
     Builder urlBuilder = get(anchorEndpoint).newBuilder().addPathSegment("rate");
     Type type = new TypeToken<Map<String, ?>>() {}.getType();
     Map<String, String> paramsMap = gson.fromJson(gson.toJson(request), type);
@@ -335,9 +409,7 @@ public class RestRateIntegration implements RateIntegration {
 
     HttpUrl url = urlBuilder.build();
 
-    Request httpRequest =
-        PlatformIntegrationHelper.getRequestBuilder(authHelper).url(url).get().build();
-    return PlatformIntegrationHelper.call(httpClient, httpRequest);
+    return PlatformIntegrationHelper.getRequestBuilder(authHelper).url(url).get().build();
   }
 
   /**
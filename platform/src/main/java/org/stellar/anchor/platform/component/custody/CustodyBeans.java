@@ -7,7 +7,7 @@ import okhttp3.OkHttpClient.Builder;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.stellar.anchor.api.custody.fireblocks.TransactionDetails;
+import org.stellar.anchor.apiclient.InProcessServices;
 import org.stellar.anchor.apiclient.PlatformApiClient;
 import org.stellar.anchor.auth.JwtService;
 import org.stellar.anchor.filter.ApiKeyFilter;
@@ -18,7 +18,9 @@ import org.stellar.anchor.platform.config.CustodyApiConfig;
 import org.stellar.anchor.platform.config.PropertyCustodyConfig;
 import org.stellar.anchor.platform.config.RpcConfig;
 import org.stellar.anchor.platform.custody.*;
+import org.stellar.anchor.platform.data.JdbcCustodyDepositAddressRepo;
 import org.stellar.anchor.platform.data.JdbcCustodyTransactionRepo;
+import org.stellar.anchor.platform.job.JobCoordinator;
 
 @Configuration
 public class CustodyBeans {
@@ -101,7 +103,30 @@ public class CustodyBeans {
   @Bean
   CustodyTransactionService custodyTransactionService(
       JdbcCustodyTransactionRepo custodyTransactionRepo,
-      CustodyPaymentService<TransactionDetails> custodyPaymentService) {
+      CustodyPaymentService<?> custodyPaymentService) {
     return new CustodyTransactionService(custodyTransactionRepo, custodyPaymentService);
   }
+
+  @Bean
+  CustodyDepositAddressPool custodyDepositAddressPool(
+      JdbcCustodyDepositAddressRepo depositAddressRepo,
+      CustodyPaymentService<?> custodyPaymentService,
+      PropertyCustodyConfig custodyConfig,
+      JobCoordinator jobCoordinator) {
+    return new CustodyDepositAddressPool(
+        depositAddressRepo,
+        custodyPaymentService,
+        custodyConfig.getDepositAddressPool(),
+        jobCoordinator);
+  }
+
+  /** Exposes the custody API to the custody API clients of the servers in this JVM. */
+  @Bean
+  InProcessServices.Registration custodyApiRegistration(
+      CustodyTransactionService custodyTransactionService,
+      CustodyDepositAddressPool custodyDepositAddressPool) {
+    return InProcessServices.register(
+        InProcessCustodyApi.class,
+        new InProcessCustodyApi(custodyTransactionService, custodyDepositAddressPool));
+  }
 }
@@ -1,11 +1,13 @@
 package org.stellar.anchor.platform.component.custody;
 
+import java.time.Duration;
 import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.stellar.anchor.api.custody.fireblocks.TransactionDetails;
 import org.stellar.anchor.api.exception.InvalidConfigException;
 import org.stellar.anchor.config.CustodySecretConfig;
@@ -15,8 +17,12 @@ import org.stellar.anchor.platform.custody.*;
 import org.stellar.anchor.platform.custody.fireblocks.FireblocksApiClient;
 import org.stellar.anchor.platform.custody.fireblocks.FireblocksEventService;
 import org.stellar.anchor.platform.custody.fireblocks.FireblocksPaymentService;
+import org.stellar.anchor.platform.custody.fireblocks.FireblocksWebhookQueue;
+import org.stellar.anchor.platform.data.JdbcCustodyReconciliationCheckpointRepo;
 import org.stellar.anchor.platform.data.JdbcCustodyTransactionRepo;
+import org.stellar.anchor.platform.data.JdbcCustodyWebhookEventRepo;
 import org.stellar.anchor.platform.fireblocks.job.FireblocksTransactionsReconciliationJob;
+import org.stellar.anchor.platform.job.JobCoordinator;
 
 @Configuration
 @ConditionalOnProperty(value = "custody.type", havingValue = "fireblocks")
@@ -33,34 +39,60 @@ public class FireblocksBeans {
       FireblocksConfig fireblocksConfig,
       CustodyPaymentService<TransactionDetails> custodyPaymentService,
       FireblocksEventService fireblocksEventService,
-      CustodyTransactionService custodyTransactionService) {
+      CustodyTransactionService custodyTransactionService,
+      JdbcCustodyReconciliationCheckpointRepo checkpointRepo,
+      JobCoordinator jobCoordinator) {
     return new FireblocksTransactionsReconciliationJob(
-        fireblocksConfig, custodyPaymentService, fireblocksEventService, custodyTransactionService);
+        fireblocksConfig,
+        custodyPaymentService,
+        fireblocksEventService,
+        custodyTransactionService,
+        checkpointRepo,
+        jobCoordinator);
   }
 
   @Bean
   FireblocksApiClient fireblocksApiClient(
       @Qualifier("custodyHttpClient") OkHttpClient httpClient, FireblocksConfig fireblocksConfig)
       throws InvalidConfigException {
-    return new FireblocksApiClient(httpClient, fireblocksConfig);
+    FireblocksConfig.Concurrency concurrency = fireblocksConfig.getConcurrency();
+    return new FireblocksApiClient(
+        httpClient,
+        fireblocksConfig,
+        new CustodyConcurrencyLimiter(
+            concurrency.getMinLimit(),
+            concurrency.getMaxLimit(),
+            concurrency.getInitialLimit(),
+            Duration.ofMillis(concurrency.getLatencyThreshold())));
   }
 
   @Bean
+  @Lazy(false)
   FireblocksEventService fireblocksEventService(
       JdbcCustodyTransactionRepo custodyTransactionRepo,
       Sep6CustodyPaymentHandler sep6CustodyPaymentHandler,
       Sep24CustodyPaymentHandler sep24CustodyPaymentHandler,
       Sep31CustodyPaymentHandler sep31CustodyPaymentHandler,
       Horizon horizon,
-      FireblocksConfig fireblocksConfig)
+      FireblocksConfig fireblocksConfig,
+      JdbcCustodyWebhookEventRepo custodyWebhookEventRepo)
       throws InvalidConfigException {
-    return new FireblocksEventService(
-        custodyTransactionRepo,
-        sep6CustodyPaymentHandler,
-        sep24CustodyPaymentHandler,
-        sep31CustodyPaymentHandler,
-        horizon,
-        fireblocksConfig);
+    FireblocksEventService fireblocksEventService =
+        new FireblocksEventService(
+            custodyTransactionRepo,
+            sep6CustodyPaymentHandler,
+            sep24CustodyPaymentHandler,
+            sep31CustodyPaymentHandler,
+            horizon,
+            fireblocksConfig);
+    if (fireblocksConfig.getWebhook().isAsync()) {
+      FireblocksWebhookQueue webhookQueue =
+          new FireblocksWebhookQueue(
+              fireblocksEventService, custodyWebhookEventRepo, fireblocksConfig.getWebhook());
+      webhookQueue.start();
+      fireblocksEventService.setWebhookQueue(webhookQueue);
+    }
+    return fireblocksEventService;
   }
 
   @Bean
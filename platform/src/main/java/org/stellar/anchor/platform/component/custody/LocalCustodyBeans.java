@@ -0,0 +1,82 @@
+package org.stellar.anchor.platform.component.custody;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.stellar.anchor.config.CustodySecretConfig;
+import org.stellar.anchor.horizon.Horizon;
+import org.stellar.anchor.platform.config.LocalCustodyConfig;
+import org.stellar.anchor.platform.custody.*;
+import org.stellar.anchor.platform.custody.local.LocalCustodyEventService;
+import org.stellar.anchor.platform.custody.local.LocalCustodyPaymentService;
+import org.stellar.anchor.platform.custody.local.LocalPaymentBatcher;
+import org.stellar.anchor.platform.custody.local.LocalPaymentReconciliationJob;
+import org.stellar.anchor.platform.data.JdbcCustodyTransactionRepo;
+import org.stellar.anchor.platform.job.JobCoordinator;
+import org.stellar.sdk.Network;
+import org.stellar.sdk.responses.TransactionResponse;
+
+@Configuration
+@ConditionalOnProperty(value = "custody.type", havingValue = "local")
+public class LocalCustodyBeans {
+
+  @Bean
+  @ConfigurationProperties(prefix = "custody.local")
+  LocalCustodyConfig localCustodyConfig(CustodySecretConfig custodySecretConfig) {
+    return new LocalCustodyConfig(custodySecretConfig);
+  }
+
+  @Bean
+  LocalCustodyEventService localCustodyEventService(
+      JdbcCustodyTransactionRepo custodyTransactionRepo,
+      Sep6CustodyPaymentHandler sep6CustodyPaymentHandler,
+      Sep24CustodyPaymentHandler sep24CustodyPaymentHandler,
+      Sep31CustodyPaymentHandler sep31CustodyPaymentHandler,
+      LocalCustodyConfig localCustodyConfig) {
+    return new LocalCustodyEventService(
+        custodyTransactionRepo,
+        sep6CustodyPaymentHandler,
+        sep24CustodyPaymentHandler,
+        sep31CustodyPaymentHandler,
+        localCustodyConfig.getDistributionKeyPair().getAccountId());
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  @Lazy(false)
+  LocalPaymentBatcher localPaymentBatcher(
+      Horizon horizon,
+      LocalCustodyConfig localCustodyConfig,
+      JdbcCustodyTransactionRepo custodyTransactionRepo,
+      LocalCustodyEventService localCustodyEventService) {
+    LocalPaymentBatcher batcher =
+        new LocalPaymentBatcher(
+            horizon,
+            new Network(horizon.getStellarNetworkPassphrase()),
+            localCustodyConfig,
+            custodyTransactionRepo,
+            localCustodyEventService);
+    batcher.start();
+    return batcher;
+  }
+
+  @Bean
+  LocalPaymentReconciliationJob localPaymentReconciliationJob(
+      LocalCustodyConfig localCustodyConfig,
+      LocalPaymentBatcher localPaymentBatcher,
+      JdbcCustodyTransactionRepo custodyTransactionRepo,
+      JobCoordinator jobCoordinator) {
+    return new LocalPaymentReconciliationJob(
+        localCustodyConfig, localPaymentBatcher, custodyTransactionRepo, jobCoordinator);
+  }
+
+  @Bean
+  CustodyPaymentService<TransactionResponse> custodyPaymentService(
+      Horizon horizon, LocalPaymentBatcher localPaymentBatcher, LocalCustodyConfig config) {
+    return new LocalCustodyPaymentService(
+        horizon.getServer(),
+        localPaymentBatcher,
+        config.getDistributionKeyPair().getAccountId());
+  }
+}
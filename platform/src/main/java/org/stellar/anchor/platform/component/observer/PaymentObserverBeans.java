@@ -4,25 +4,31 @@ import java.util.List;
 import lombok.SneakyThrows;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.stellar.anchor.api.asset.StellarAssetInfo;
 import org.stellar.anchor.api.exception.ServerErrorException;
 import org.stellar.anchor.apiclient.PlatformApiClient;
 import org.stellar.anchor.asset.AssetService;
 import org.stellar.anchor.config.AppConfig;
+import org.stellar.anchor.config.CustodyConfig;
+import org.stellar.anchor.horizon.Horizon;
 import org.stellar.anchor.platform.config.PaymentObserverConfig;
 import org.stellar.anchor.platform.config.RpcConfig;
 import org.stellar.anchor.platform.data.JdbcSep24TransactionStore;
 import org.stellar.anchor.platform.data.JdbcSep31TransactionStore;
 import org.stellar.anchor.platform.data.JdbcSep6TransactionStore;
+import org.stellar.anchor.platform.data.JdbcTransactionPendingTrustRepo;
 import org.stellar.anchor.platform.observer.PaymentListener;
 import org.stellar.anchor.platform.observer.stellar.PaymentObservingAccountsManager;
 import org.stellar.anchor.platform.observer.stellar.StellarPaymentObserver;
 import org.stellar.anchor.platform.observer.stellar.StellarPaymentStreamerCursorStore;
+import org.stellar.anchor.platform.observer.stellar.StellarTrustlineObserver;
 import org.stellar.anchor.platform.service.PaymentOperationToEventListener;
 
 @Configuration
 public class PaymentObserverBeans {
   @Bean
+  @Lazy(false)
   @SneakyThrows
   public StellarPaymentObserver stellarPaymentObserver(
       AssetService assetService,
@@ -30,7 +36,8 @@ public class PaymentObserverBeans {
       StellarPaymentStreamerCursorStore stellarPaymentStreamerCursorStore,
       PaymentObservingAccountsManager paymentObservingAccountsManager,
       AppConfig appConfig,
-      PaymentObserverConfig paymentObserverConfig) {
+      PaymentObserverConfig paymentObserverConfig,
+      Horizon horizon) {
     // validate assetService
     if (assetService == null || assetService.getAssets() == null) {
       throw new ServerErrorException("Asset service cannot be empty.");
@@ -62,7 +69,7 @@ public class PaymentObserverBeans {
 
     StellarPaymentObserver stellarPaymentObserver =
         new StellarPaymentObserver(
-            appConfig.getHorizonUrl(),
+            horizon.getServer(),
             paymentObserverConfig.getStellar(),
             paymentListeners,
             paymentObservingAccountsManager,
@@ -81,6 +88,23 @@ public class PaymentObserverBeans {
     return stellarPaymentObserver;
   }
 
+  @Bean(destroyMethod = "shutdown")
+  @Lazy(false)
+  public StellarTrustlineObserver stellarTrustlineObserver(
+      Horizon horizon,
+      JdbcTransactionPendingTrustRepo transactionPendingTrustRepo,
+      PlatformApiClient platformApiClient,
+      CustodyConfig custodyConfig) {
+    if (!custodyConfig.isCustodyIntegrationEnabled()) {
+      return null;
+    }
+    StellarTrustlineObserver stellarTrustlineObserver =
+        new StellarTrustlineObserver(
+            horizon.getServer(), transactionPendingTrustRepo, platformApiClient);
+    stellarTrustlineObserver.start();
+    return stellarTrustlineObserver;
+  }
+
   @Bean
   public PaymentOperationToEventListener paymentOperationToEventListener(
       JdbcSep31TransactionStore sep31TransactionStore,
@@ -24,6 +24,7 @@ import org.stellar.anchor.platform.config.PlatformApiConfig;
 import org.stellar.anchor.platform.config.PlatformServerConfig;
 import org.stellar.anchor.platform.config.PropertyCustodyConfig;
 import org.stellar.anchor.platform.data.JdbcTransactionPendingTrustRepo;
+import org.stellar.anchor.platform.job.JobCoordinator;
 import org.stellar.anchor.platform.job.TrustlineCheckJob;
 import org.stellar.anchor.platform.rpc.NotifyTrustSetHandler;
 import org.stellar.anchor.platform.service.*;
@@ -169,10 +170,15 @@ public class PlatformServerBeans {
       Horizon horizon,
       JdbcTransactionPendingTrustRepo transactionPendingTrustRepo,
       PropertyCustodyConfig custodyConfig,
-      NotifyTrustSetHandler notifyTrustSetHandler) {
+      NotifyTrustSetHandler notifyTrustSetHandler,
+      JobCoordinator jobCoordinator) {
     if (custodyConfig.isCustodyIntegrationEnabled()) {
       return new TrustlineCheckJob(
-          horizon, transactionPendingTrustRepo, custodyConfig, notifyTrustSetHandler);
+          horizon,
+          transactionPendingTrustRepo,
+          custodyConfig,
+          notifyTrustSetHandler,
+          jobCoordinator);
     } else {
       return null;
     }
@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.stellar.anchor.api.callback.CustomerIntegration;
+import org.stellar.anchor.apiclient.InProcessServices;
+import org.stellar.anchor.apiclient.RpcRequestHandler;
 import org.stellar.anchor.asset.AssetService;
 import org.stellar.anchor.config.CustodyConfig;
 import org.stellar.anchor.custody.CustodyService;
@@ -37,6 +39,12 @@ public class RpcActionBeans {
     return new RpcService(rpcMethodHandlers, rpcConfig);
   }
 
+  /** Exposes the RpcService to the platform API clients of the servers in this JVM. */
+  @Bean
+  InProcessServices.Registration rpcServiceRegistration(RpcService rpcService) {
+    return InProcessServices.register(RpcRequestHandler.class, rpcService);
+  }
+
   @Bean
   DoStellarPaymentHandler doStellarPaymentHandler(
       Sep6TransactionStore txn6Store,
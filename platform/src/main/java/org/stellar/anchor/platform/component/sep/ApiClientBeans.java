@@ -7,6 +7,7 @@ import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.OkHttpClient.Builder;
 import org.springframework.context.annotation.Bean;
@@ -14,9 +15,11 @@ import org.springframework.context.annotation.Configuration;
 import org.stellar.anchor.api.callback.CustomerIntegration;
 import org.stellar.anchor.api.callback.RateIntegration;
 import org.stellar.anchor.asset.AssetService;
+import org.stellar.anchor.platform.callback.CachedCustomerIntegration;
 import org.stellar.anchor.platform.callback.RestCustomerIntegration;
 import org.stellar.anchor.platform.callback.RestRateIntegration;
 import org.stellar.anchor.platform.config.CallbackApiConfig;
+import org.stellar.anchor.platform.config.CallbackApiConfig.CustomerCacheConfig;
 
 @Configuration
 public class ApiClientBeans {
@@ -48,6 +51,12 @@ public class ApiClientBeans {
             .writeTimeout(10, TimeUnit.MINUTES)
             .callTimeout(10, TimeUnit.MINUTES);
 
+    // Bounds the number of concurrent asynchronous calls to the business server
+    Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(callbackApiConfig.getMaxConcurrentRequests());
+    dispatcher.setMaxRequestsPerHost(callbackApiConfig.getMaxConcurrentRequests());
+    builder.dispatcher(dispatcher);
+
     if (!callbackApiConfig.getCheckCertificate()) {
       SSLContext sslContext = SSLContext.getInstance("SSL");
       sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
@@ -61,8 +70,15 @@ public class ApiClientBeans {
   @Bean
   CustomerIntegration customerIntegration(
       CallbackApiConfig callbackApiConfig, OkHttpClient httpClient, Gson gson) {
-    return new RestCustomerIntegration(
-        callbackApiConfig.getBaseUrl(), httpClient, callbackApiConfig.buildAuthHelper(), gson);
+    CustomerIntegration customerIntegration =
+        new RestCustomerIntegration(
+            callbackApiConfig.getBaseUrl(), httpClient, callbackApiConfig.buildAuthHelper(), gson);
+    CustomerCacheConfig cacheConfig = callbackApiConfig.getCustomerCache();
+    if (cacheConfig != null && cacheConfig.isEnabled()) {
+      return new CachedCustomerIntegration(
+          customerIntegration, cacheConfig.getTtlSeconds(), cacheConfig.getMaxSize());
+    }
+    return customerIntegration;
   }
 
   @Bean
@@ -22,6 +22,7 @@ import org.stellar.anchor.platform.condition.ConditionalOnAllSepsEnabled;
 import org.stellar.anchor.platform.condition.ConditionalOnAnySepsEnabled;
 import org.stellar.anchor.platform.config.*;
 import org.stellar.anchor.platform.service.SimpleInteractiveUrlConstructor;
+import org.stellar.anchor.platform.utils.DaemonExecutors;
 import org.stellar.anchor.sep1.Sep1Service;
 import org.stellar.anchor.sep10.Sep10Service;
 import org.stellar.anchor.sep12.Sep12Service;
@@ -103,7 +104,9 @@ public class SepBeans {
   @Bean
   @ConditionalOnAllSepsEnabled(seps = {"sep1"})
   Sep1Service sep1Service(Sep1Config sep1Config) {
-    return new Sep1Service(sep1Config);
+    Sep1Service sep1Service = new Sep1Service(sep1Config);
+    sep1Service.start(DaemonExecutors.newScheduledThreadPool(1));
+    return sep1Service;
   }
 
   @Bean
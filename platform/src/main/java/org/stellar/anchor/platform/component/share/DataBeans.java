@@ -2,6 +2,8 @@ package org.stellar.anchor.platform.component.share;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.stellar.anchor.platform.config.PropertyDataConfig;
+import org.stellar.anchor.platform.config.PropertyDataConfig.QuoteCacheConfig;
 import org.stellar.anchor.platform.data.*;
 import org.stellar.anchor.platform.observer.stellar.JdbcStellarPaymentStreamerCursorStore;
 import org.stellar.anchor.platform.observer.stellar.PaymentObservingAccountStore;
@@ -25,8 +27,13 @@ public class DataBeans {
   }
 
   @Bean
-  Sep38QuoteStore sep38QuoteStore(JdbcSep38QuoteRepo quoteRepo) {
-    return new JdbcSep38QuoteStore(quoteRepo);
+  Sep38QuoteStore sep38QuoteStore(JdbcSep38QuoteRepo quoteRepo, PropertyDataConfig dataConfig) {
+    Sep38QuoteStore quoteStore = new JdbcSep38QuoteStore(quoteRepo);
+    QuoteCacheConfig quoteCacheConfig = dataConfig.getQuoteCache();
+    if (quoteCacheConfig != null && quoteCacheConfig.isEnabled()) {
+      return new CachedSep38QuoteStore(quoteStore, quoteCacheConfig.getMaxSize());
+    }
+    return quoteStore;
   }
 
   @Bean
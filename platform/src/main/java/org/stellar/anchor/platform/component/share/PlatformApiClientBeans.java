@@ -12,7 +12,8 @@ import org.stellar.anchor.platform.config.PlatformApiConfig;
 public class PlatformApiClientBeans {
   @Bean
   PlatformApiClient platformApiClient(PlatformApiConfig platformApiConfig, AuthHelper authHelper) {
-    return new PlatformApiClient(authHelper, platformApiConfig.getBaseUrl());
+    return new PlatformApiClient(
+        authHelper, platformApiConfig.getBaseUrl(), platformApiConfig.isInProcess());
   }
 
   @Bean
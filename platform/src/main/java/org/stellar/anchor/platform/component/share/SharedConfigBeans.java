@@ -8,6 +8,7 @@ import org.stellar.anchor.config.SecretConfig;
 import org.stellar.anchor.platform.config.AppLoggingConfig;
 import org.stellar.anchor.platform.config.CallbackApiConfig;
 import org.stellar.anchor.platform.config.CustodyApiConfig;
+import org.stellar.anchor.platform.config.HealthCheckConfig;
 import org.stellar.anchor.platform.config.PlatformApiConfig;
 import org.stellar.anchor.platform.config.PlatformServerConfig;
 import org.stellar.anchor.platform.config.PropertyCustodyConfig;
@@ -64,4 +65,10 @@ public class SharedConfigBeans {
   AppLoggingConfig appLoggingConfig() {
     return new AppLoggingConfig();
   }
+
+  @Bean
+  @ConfigurationProperties(prefix = "health-check")
+  HealthCheckConfig healthCheckConfig() {
+    return new HealthCheckConfig();
+  }
 }
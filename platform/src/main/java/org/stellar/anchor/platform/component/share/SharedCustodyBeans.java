@@ -5,6 +5,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.stellar.anchor.custody.CustodyService;
 import org.stellar.anchor.platform.apiclient.CustodyApiClient;
+import org.stellar.anchor.platform.config.PropertyCustodyConfig;
+import org.stellar.anchor.platform.data.JdbcJobLeaseRepo;
+import org.stellar.anchor.platform.data.JdbcJobMemberRepo;
+import org.stellar.anchor.platform.job.JobCoordinator;
 import org.stellar.anchor.platform.service.CustodyServiceImpl;
 
 @Configuration
@@ -14,4 +18,12 @@ public class SharedCustodyBeans {
   CustodyService custodyService(Optional<CustodyApiClient> custodyApiClient) {
     return new CustodyServiceImpl(custodyApiClient);
   }
+
+  @Bean(destroyMethod = "shutdown")
+  JobCoordinator jobCoordinator(
+      JdbcJobLeaseRepo jobLeaseRepo,
+      JdbcJobMemberRepo jobMemberRepo,
+      PropertyCustodyConfig custodyConfig) {
+    return new JobCoordinator(jobLeaseRepo, jobMemberRepo, custodyConfig.getJobCoordination());
+  }
 }
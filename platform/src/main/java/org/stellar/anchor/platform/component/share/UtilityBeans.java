@@ -1,13 +1,20 @@
 package org.stellar.anchor.platform.component.share;
 
 import com.google.gson.Gson;
+import jakarta.annotation.PostConstruct;
 import jakarta.validation.Validator;
+import java.time.Duration;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.stellar.anchor.MoreInfoUrlConstructor;
 import org.stellar.anchor.api.exception.NotSupportedException;
 import org.stellar.anchor.asset.AssetService;
@@ -31,9 +38,36 @@ public class UtilityBeans {
   }
 
   @Bean
+  @Lazy(false)
   @DependsOn("configManager")
-  public HealthCheckService healthCheckService(List<HealthCheckable> checkables) {
-    return new HealthCheckService(checkables);
+  public HealthCheckService healthCheckService(
+      List<HealthCheckable> checkables, HealthCheckConfig healthCheckConfig) {
+    return new HealthCheckService(checkables, healthCheckConfig);
+  }
+
+  /**
+   * Keeps the beans running scheduled or background work eager when the lazy initialization is
+   * enabled by spring.main.lazy-initialization. The beans started by their bean methods are marked
+   * with @Lazy(false).
+   *
+   * @return the filter of the beans that are not lazily initialized.
+   */
+  @Bean
+  static LazyInitializationExcludeFilter backgroundBeansExcludeFilter() {
+    return (beanName, beanDefinition, beanType) -> beanType != null && runsInBackground(beanType);
+  }
+
+  static boolean runsInBackground(Class<?> beanType) {
+    if (AutoCloseable.class.isAssignableFrom(beanType)) {
+      return true;
+    }
+    MethodIntrospector.MetadataLookup<Boolean> startMethods =
+        method ->
+            AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                    || AnnotatedElementUtils.hasAnnotation(method, PostConstruct.class)
+                ? true
+                : null;
+    return !MethodIntrospector.selectMethods(beanType, startMethods).isEmpty();
   }
 
   @Bean
@@ -100,7 +134,10 @@ public class UtilityBeans {
 
   @Bean
   public Horizon horizon(AppConfig appConfig) {
-    return new Horizon(appConfig);
+    return new Horizon(
+        appConfig,
+        appConfig.getHorizonRateLimit(),
+        Duration.ofSeconds(appConfig.getHorizonCacheTtl()));
   }
 
   @Bean
@@ -1,8 +1,12 @@
 package org.stellar.anchor.platform.config;
 
+import java.util.List;
 import lombok.Data;
 
 @Data
 public class AppLoggingConfig {
   boolean requestLoggerEnabled;
+  int requestLoggerMaxBodySize = 2048;
+  double requestLoggerSampleRate = 1.0;
+  List<String> requestLoggerExcludedPaths;
 }
@@ -19,6 +19,10 @@ public class CallbackApiConfig implements Validator {
 
   Boolean checkCertificate;
 
+  int maxConcurrentRequests;
+
+  CustomerCacheConfig customerCache;
+
   AuthConfig auth;
   PropertySecretConfig secretConfig;
 
@@ -40,6 +44,8 @@ public class CallbackApiConfig implements Validator {
   public void validate(@NotNull Object target, @NotNull Errors errors) {
     validateBaseUrl(errors);
     validateAuth(errors);
+    validateMaxConcurrentRequests(errors);
+    validateCustomerCache(errors);
   }
 
   void validateBaseUrl(Errors errors) {
@@ -57,6 +63,33 @@ public class CallbackApiConfig implements Validator {
     }
   }
 
+  void validateMaxConcurrentRequests(Errors errors) {
+    if (maxConcurrentRequests <= 0) {
+      errors.rejectValue(
+          "maxConcurrentRequests",
+          "invalid-callback-api-max-concurrent-requests",
+          "The callback_api.max_concurrent_requests must be greater than 0");
+    }
+  }
+
+  void validateCustomerCache(Errors errors) {
+    if (customerCache == null || !customerCache.isEnabled()) {
+      return;
+    }
+    if (customerCache.getTtlSeconds() <= 0) {
+      errors.rejectValue(
+          "customerCache",
+          "invalid-callback-api-customer-cache-ttl-seconds",
+          "The callback_api.customer_cache.ttl_seconds must be greater than 0");
+    }
+    if (customerCache.getMaxSize() <= 0) {
+      errors.rejectValue(
+          "customerCache",
+          "invalid-callback-api-customer-cache-max-size",
+          "The callback_api.customer_cache.max_size must be greater than 0");
+    }
+  }
+
   void validateAuth(Errors errors) {
     if (List.of(AuthType.API_KEY, AuthType.JWT).contains(auth.getType())) {
       if (isEmpty(secretConfig.getCallbackAuthSecret())) {
@@ -94,4 +127,11 @@ public class CallbackApiConfig implements Validator {
         return AuthHelper.forNone();
     }
   }
+
+  @Data
+  public static class CustomerCacheConfig {
+    boolean enabled;
+    long ttlSeconds;
+    int maxSize;
+  }
 }
@@ -19,6 +19,7 @@ import org.stellar.anchor.util.NetUtil;
 public class CustodyApiConfig implements Validator {
 
   private String baseUrl;
+  private boolean inProcess;
   private HttpClientConfig httpClient;
   private AuthConfig auth;
   private CustodySecretConfig secretConfig;
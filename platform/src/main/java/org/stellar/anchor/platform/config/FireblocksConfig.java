@@ -36,6 +36,8 @@ public class FireblocksConfig implements Validator {
   private String publicKey;
   private RetryConfig retryConfig;
   private Reconciliation reconciliation;
+  private Webhook webhook = new Webhook();
+  private Concurrency concurrency = new Concurrency();
   private Map<String, String> assetMappings;
 
   public FireblocksConfig(CustodySecretConfig secretConfig) {
@@ -89,6 +91,8 @@ public class FireblocksConfig implements Validator {
     validatePublicKey(errors);
     validateRetryMaxAttempts(errors);
     validateRetryDelay(errors);
+    validateWebhook(errors);
+    validateConcurrency(errors);
   }
 
   private void validateBaseUrl(Errors errors) {
@@ -184,6 +188,46 @@ public class FireblocksConfig implements Validator {
     }
   }
 
+  public void validateWebhook(Errors errors) {
+    if (!webhook.async) {
+      return;
+    }
+    if (webhook.workers <= 0) {
+      errors.reject(
+          "custody-fireblocks-webhook-workers-invalid",
+          "custody.fireblocks.webhook.workers must be greater than 0");
+    }
+    if (webhook.maxAttempts <= 0) {
+      errors.reject(
+          "custody-fireblocks-webhook-max_attempts-invalid",
+          "custody.fireblocks.webhook.max_attempts must be greater than 0");
+    }
+  }
+
+  public void validateConcurrency(Errors errors) {
+    if (concurrency.minLimit <= 0) {
+      errors.reject(
+          "custody-fireblocks-concurrency-min_limit-invalid",
+          "custody.fireblocks.concurrency.min_limit must be greater than 0");
+    }
+    if (concurrency.maxLimit < concurrency.minLimit) {
+      errors.reject(
+          "custody-fireblocks-concurrency-max_limit-invalid",
+          "custody.fireblocks.concurrency.max_limit must be greater than or equal to min_limit");
+    }
+    if (concurrency.initialLimit < concurrency.minLimit
+        || concurrency.initialLimit > concurrency.maxLimit) {
+      errors.reject(
+          "custody-fireblocks-concurrency-initial_limit-invalid",
+          "custody.fireblocks.concurrency.initial_limit must be between min_limit and max_limit");
+    }
+    if (concurrency.latencyThreshold <= 0) {
+      errors.reject(
+          "custody-fireblocks-concurrency-latency_threshold-invalid",
+          "custody.fireblocks.concurrency.latency_threshold must be greater than 0");
+    }
+  }
+
   /**
    * Get Fireblocks public key
    *
@@ -226,4 +270,24 @@ public class FireblocksConfig implements Validator {
     private int maxAttempts;
     private String cronExpression;
   }
+
+  @Data
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class Webhook {
+    private boolean async;
+    private int workers;
+    private int maxAttempts;
+  }
+
+  @Data
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class Concurrency {
+    private int minLimit = 1;
+    private int maxLimit = 16;
+    private int initialLimit = 4;
+    // in ms
+    private int latencyThreshold = 2000;
+  }
 }
@@ -0,0 +1,9 @@
+package org.stellar.anchor.platform.config;
+
+import lombok.Data;
+
+@Data
+public class HealthCheckConfig {
+  int refreshInterval = 10;
+  int timeout = 5;
+}
@@ -0,0 +1,186 @@
+package org.stellar.anchor.platform.config;
+
+import static org.stellar.anchor.util.StringHelper.isEmpty;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.stellar.anchor.config.CustodySecretConfig;
+import org.stellar.sdk.KeyPair;
+
+@Data
+public class LocalCustodyConfig implements Validator {
+  // The maximum number of operations of a Stellar transaction
+  static final int MAX_OPERATIONS = 100;
+
+  private CustodySecretConfig secretConfig;
+  private Batch batch = new Batch();
+  private Fee fee = new Fee();
+  private Reconciliation reconciliation = new Reconciliation();
+  // in seconds
+  private int transactionTimeout = 30;
+  private int maxSubmitAttempts = 3;
+
+  public LocalCustodyConfig(CustodySecretConfig secretConfig) {
+    this.secretConfig = secretConfig;
+  }
+
+  @Override
+  public boolean supports(@NotNull Class<?> clazz) {
+    return LocalCustodyConfig.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public void validate(@NotNull Object target, @NotNull Errors errors) {
+    validateDistributionSeed(errors);
+    validateChannelSeeds(errors);
+    validateBatch(errors);
+    validateFee(errors);
+    validateSubmission(errors);
+    validateReconciliationCronExpression(errors);
+  }
+
+  private void validateDistributionSeed(Errors errors) {
+    if (isEmpty(secretConfig.getLocalDistributionSeed())) {
+      errors.reject(
+          "secret-custody-local-distribution_seed-empty",
+          "Please set environment variable secret.custody.local.distribution_seed or SECRET_CUSTODY_LOCAL_DISTRIBUTION_SEED");
+      return;
+    }
+    if (!isValidSeed(secretConfig.getLocalDistributionSeed())) {
+      errors.reject(
+          "secret-custody-local-distribution_seed-invalid",
+          "The secret.custody.local.distribution_seed is not a valid Stellar secret seed");
+    }
+  }
+
+  private void validateChannelSeeds(Errors errors) {
+    if (!splitSeeds(secretConfig.getLocalChannelSeeds()).stream().allMatch(this::isValidSeed)) {
+      errors.reject(
+          "secret-custody-local-channel_seeds-invalid",
+          "The secret.custody.local.channel_seeds must be comma-separated Stellar secret seeds");
+    }
+  }
+
+  private void validateBatch(Errors errors) {
+    if (batch.maxOperations < 1 || batch.maxOperations > MAX_OPERATIONS) {
+      errors.reject(
+          "custody-local-batch-max_operations-invalid",
+          "custody.local.batch.max_operations must be between 1 and 100");
+    }
+    if (batch.maxDelay < 0) {
+      errors.reject(
+          "custody-local-batch-max_delay-invalid",
+          "custody.local.batch.max_delay must be greater than or equal to 0");
+    }
+  }
+
+  private void validateFee(Errors errors) {
+    if (fee.baseFee < 100) {
+      errors.reject(
+          "custody-local-fee-base_fee-invalid",
+          "custody.local.fee.base_fee must be greater than or equal to 100");
+    }
+    if (fee.maxFee < fee.baseFee) {
+      errors.reject(
+          "custody-local-fee-max_fee-invalid",
+          "custody.local.fee.max_fee must be greater than or equal to base_fee");
+    }
+  }
+
+  private void validateSubmission(Errors errors) {
+    if (transactionTimeout <= 0) {
+      errors.reject(
+          "custody-local-transaction_timeout-invalid",
+          "custody.local.transaction_timeout must be greater than 0");
+    }
+    if (maxSubmitAttempts <= 0) {
+      errors.reject(
+          "custody-local-max_submit_attempts-invalid",
+          "custody.local.max_submit_attempts must be greater than 0");
+    }
+  }
+
+  private void validateReconciliationCronExpression(Errors errors) {
+    if (!CronExpression.isValidExpression(reconciliation.cronExpression)) {
+      errors.reject(
+          "custody-local-reconciliation-cron_expression-invalid",
+          "The custody.local.reconciliation.cron_expression is invalid");
+    }
+  }
+
+  /**
+   * Get the key pair of the distribution account, which sends the payments
+   *
+   * @return distribution account key pair
+   */
+  public KeyPair getDistributionKeyPair() {
+    return KeyPair.fromSecretSeed(secretConfig.getLocalDistributionSeed());
+  }
+
+  /**
+   * Get the key pairs of the channel accounts, which submit the transactions. If no channel account
+   * is set, the distribution account is the only channel
+   *
+   * @return channel account key pairs
+   */
+  public List<KeyPair> getChannelKeyPairs() {
+    List<String> seeds = splitSeeds(secretConfig.getLocalChannelSeeds());
+    if (seeds.isEmpty()) {
+      return List.of(getDistributionKeyPair());
+    }
+    return seeds.stream().map(KeyPair::fromSecretSeed).collect(Collectors.toList());
+  }
+
+  private List<String> splitSeeds(String seeds) {
+    if (isEmpty(seeds)) {
+      return List.of();
+    }
+    return Arrays.stream(seeds.split(","))
+        .map(String::trim)
+        .filter(seed -> !seed.isEmpty())
+        .collect(Collectors.toList());
+  }
+
+  private boolean isValidSeed(String seed) {
+    try {
+      KeyPair.fromSecretSeed(seed);
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Data
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class Batch {
+    private int maxOperations = MAX_OPERATIONS;
+    // in ms
+    private int maxDelay = 500;
+  }
+
+  @Data
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class Fee {
+    // in stroops
+    private long baseFee = 100;
+    // in stroops
+    private long maxFee = 10000;
+  }
+
+  @Data
+  @AllArgsConstructor
+  @NoArgsConstructor
+  public static class Reconciliation {
+    private String cronExpression = "0 * * * * *";
+  }
+}
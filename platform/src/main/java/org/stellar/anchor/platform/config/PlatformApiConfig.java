@@ -16,6 +16,7 @@ import org.stellar.anchor.util.KeyUtil;
 @Data
 public class PlatformApiConfig implements Validator {
   String baseUrl;
+  boolean inProcess;
   AuthConfig auth;
   PropertySecretConfig secretConfig;
 
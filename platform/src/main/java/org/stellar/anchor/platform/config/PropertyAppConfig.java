@@ -23,6 +23,12 @@ public class PropertyAppConfig implements AppConfig, Validator {
   @Value("${stellar_network.horizon_url}")
   private String horizonUrl;
 
+  @Value("${stellar_network.horizon_rate_limit}")
+  private int horizonRateLimit;
+
+  @Value("${stellar_network.horizon_cache_ttl}")
+  private int horizonCacheTtl;
+
   @Value("${languages}")
   private List<String> languages;
 
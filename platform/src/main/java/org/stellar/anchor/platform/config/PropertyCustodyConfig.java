@@ -2,6 +2,8 @@ package org.stellar.anchor.platform.config;
 
 import static org.stellar.anchor.util.StringHelper.isEmpty;
 
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,6 +19,8 @@ public class PropertyCustodyConfig implements CustodyConfig, Validator {
   private CustodyType type;
   private HttpClientConfig httpClient;
   private Trustline trustline;
+  private DepositAddressPool depositAddressPool = new DepositAddressPool();
+  private JobCoordination jobCoordination = new JobCoordination();
 
   @Override
   public boolean supports(@NotNull Class<?> clazz) {
@@ -30,6 +34,9 @@ public class PropertyCustodyConfig implements CustodyConfig, Validator {
       httpClient.validate("custody", errors);
       validateCheckCronExpression(errors);
       validateCheckDuration(errors);
+      validateCheckThreads(errors);
+      validateDepositAddressPool(errors);
+      validateJobCoordination(errors);
     }
   }
 
@@ -61,6 +68,63 @@ public class PropertyCustodyConfig implements CustodyConfig, Validator {
     }
   }
 
+  private void validateCheckThreads(Errors errors) {
+    if (trustline.checkThreads <= 0) {
+      errors.reject(
+          "custody-trustline-check_threads-invalid",
+          "custody-trustline-check_threads must be greater than 0");
+    }
+  }
+
+  private void validateDepositAddressPool(Errors errors) {
+    if (!depositAddressPool.isEnabled()) {
+      return;
+    }
+    if (depositAddressPool.lowWatermark < 0
+        || depositAddressPool.highWatermark <= depositAddressPool.lowWatermark) {
+      errors.reject(
+          "custody-deposit_address_pool-watermarks-invalid",
+          "The custody.deposit_address_pool.high_watermark must be greater than the low_watermark,"
+              + " and the low_watermark must not be negative");
+    }
+    if (!CronExpression.isValidExpression(depositAddressPool.refillCronExpression)) {
+      errors.reject(
+          "custody-deposit_address_pool-refill_cron_expression-invalid",
+          "The custody.deposit_address_pool.refill_cron_expression is invalid");
+    }
+  }
+
+  private void validateJobCoordination(Errors errors) {
+    if (!jobCoordination.isEnabled()) {
+      return;
+    }
+    if (jobCoordination.heartbeatInterval <= 0
+        || jobCoordination.leaseDuration <= jobCoordination.heartbeatInterval) {
+      errors.reject(
+          "custody-job_coordination-lease_duration-invalid",
+          "The custody.job_coordination.lease_duration must be greater than the"
+              + " heartbeat_interval, and the heartbeat_interval must be greater than 0");
+    }
+  }
+
+  @Data
+  @NoArgsConstructor
+  public static class DepositAddressPool {
+    private boolean enabled;
+    private List<String> assets = new ArrayList<>();
+    private int lowWatermark;
+    private int highWatermark;
+    private String refillCronExpression;
+  }
+
+  @Data
+  @NoArgsConstructor
+  public static class JobCoordination {
+    private boolean enabled;
+    private int heartbeatInterval;
+    private int leaseDuration;
+  }
+
   @Data
   @AllArgsConstructor
   @NoArgsConstructor
@@ -68,5 +132,6 @@ public class PropertyCustodyConfig implements CustodyConfig, Validator {
     private String checkCronExpression;
     private int checkDuration;
     private String timeoutMessage;
+    private int checkThreads;
   }
 }
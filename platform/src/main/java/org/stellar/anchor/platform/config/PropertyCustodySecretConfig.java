@@ -9,6 +9,9 @@ public class PropertyCustodySecretConfig implements CustodySecretConfig {
   public static final String SECRET_FIREBLOCKS_SECRET_KEY = "secret.custody.fireblocks.secret_key";
   public static final String SECRET_CUSTODY_SERVER_AUTH_SECRET =
       "secret.custody_server.auth_secret";
+  public static final String SECRET_LOCAL_DISTRIBUTION_SEED =
+      "secret.custody.local.distribution_seed";
+  public static final String SECRET_LOCAL_CHANNEL_SEEDS = "secret.custody.local.channel_seeds";
 
   @Override
   public String getFireblocksApiKey() {
@@ -24,4 +27,14 @@ public class PropertyCustodySecretConfig implements CustodySecretConfig {
   public String getCustodyAuthSecret() {
     return SecretManager.getInstance().get(SECRET_CUSTODY_SERVER_AUTH_SECRET);
   }
+
+  @Override
+  public String getLocalDistributionSeed() {
+    return SecretManager.getInstance().get(SECRET_LOCAL_DISTRIBUTION_SEED);
+  }
+
+  @Override
+  public String getLocalChannelSeeds() {
+    return SecretManager.getInstance().get(SECRET_LOCAL_CHANNEL_SEEDS);
+  }
 }
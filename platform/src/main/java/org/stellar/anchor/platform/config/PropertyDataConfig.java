@@ -23,6 +23,7 @@ public class PropertyDataConfig implements Validator {
   boolean flywayEnabled;
   boolean dllAuto;
   String flywayLocation;
+  QuoteCacheConfig quoteCache;
   private SecretConfig secretConfig;
 
   public PropertyDataConfig(SecretConfig secretConfig) {
@@ -37,6 +38,14 @@ public class PropertyDataConfig implements Validator {
   @Override
   public void validate(@NotNull Object target, @NotNull Errors errors) {
     validateSecrets(errors);
+    validateQuoteCache(errors);
+  }
+
+  void validateQuoteCache(Errors errors) {
+    if (quoteCache != null && quoteCache.isEnabled() && quoteCache.getMaxSize() <= 0) {
+      errors.reject(
+          "data-quote-cache-max-size-invalid", "data.quote_cache.max_size must be greater than 0");
+    }
   }
 
   private void validateSecrets(Errors errors) {
@@ -57,4 +66,10 @@ public class PropertyDataConfig implements Validator {
         break;
     }
   }
+
+  @Data
+  public static class QuoteCacheConfig {
+    boolean enabled;
+    int maxSize;
+  }
 }
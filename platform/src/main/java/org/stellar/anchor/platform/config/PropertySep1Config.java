@@ -28,6 +28,11 @@ public class PropertySep1Config implements Sep1Config, Validator {
     return toml.getValue();
   }
 
+  @Override
+  public long getRefreshIntervalSeconds() {
+    return toml.getRefreshIntervalSeconds();
+  }
+
   @Getter
   @Setter
   @AllArgsConstructor
@@ -35,6 +40,11 @@ public class PropertySep1Config implements Sep1Config, Validator {
   public static class TomlConfig {
     TomlType type;
     String value;
+    long refreshIntervalSeconds;
+
+    public TomlConfig(TomlType type, String value) {
+      this(type, value, 0);
+    }
   }
 
   @Override
@@ -49,6 +59,12 @@ public class PropertySep1Config implements Sep1Config, Validator {
     if (config.isEnabled()) {
       validateConfig(config, errors);
       if (!errors.hasErrors()) validateTomlTypeAndValue(config, errors);
+      if (config.getToml().getRefreshIntervalSeconds() < 0) {
+        errors.rejectValue(
+            "refreshIntervalSeconds",
+            "sep1-toml-refresh-interval-seconds-invalid",
+            "sep1.toml.refresh_interval_seconds must not be negative");
+      }
     }
   }
 
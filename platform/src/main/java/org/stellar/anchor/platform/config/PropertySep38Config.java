@@ -2,12 +2,67 @@ package org.stellar.anchor.platform.config;
 
 import com.google.gson.annotations.SerializedName;
 import lombok.Data;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
 import org.stellar.anchor.config.Sep38Config;
 
 @Data
-public class PropertySep38Config implements Sep38Config {
+public class PropertySep38Config implements Sep38Config, Validator {
   boolean enabled;
 
   @SerializedName("sep10_enforced")
   boolean sep10Enforced;
+
+  @SerializedName("prices_timeout_milliseconds")
+  long pricesTimeoutMilliseconds;
+
+  @SerializedName("indicative_rate_cache")
+  IndicativeRateCacheConfig indicativeRateCache;
+
+  @Override
+  public boolean supports(@NotNull Class<?> clazz) {
+    return Sep38Config.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public void validate(@NotNull Object target, @NotNull Errors errors) {
+    PropertySep38Config config = (PropertySep38Config) target;
+
+    if (config.isEnabled() && config.getPricesTimeoutMilliseconds() <= 0) {
+      errors.rejectValue(
+          "pricesTimeoutMilliseconds",
+          "sep38-prices-timeout-milliseconds-invalid",
+          "sep38.prices_timeout_milliseconds must be greater than 0");
+    }
+
+    if (config.isEnabled()
+        && config.getIndicativeRateCache() != null
+        && config.getIndicativeRateCache().isEnabled()) {
+      validateIndicativeRateCache(config.getIndicativeRateCache(), errors);
+    }
+  }
+
+  void validateIndicativeRateCache(IndicativeRateCacheConfig cacheConfig, Errors errors) {
+    if (cacheConfig.getTtlSeconds() <= 0) {
+      errors.reject(
+          "sep38-indicative-rate-cache-ttl-seconds-invalid",
+          "sep38.indicative_rate_cache.ttl_seconds must be greater than 0");
+    }
+    if (cacheConfig.getPairTtlSeconds().values().stream().anyMatch(ttl -> ttl <= 0)) {
+      errors.reject(
+          "sep38-indicative-rate-cache-pair-ttl-seconds-invalid",
+          "sep38.indicative_rate_cache.pair_ttl_seconds must be greater than 0");
+    }
+    if (cacheConfig.getMaxSize() <= 0) {
+      errors.reject(
+          "sep38-indicative-rate-cache-max-size-invalid",
+          "sep38.indicative_rate_cache.max_size must be greater than 0");
+    }
+    if (cacheConfig.getAmountBucketDigits() < 0) {
+      errors.reject(
+          "sep38-indicative-rate-cache-amount-bucket-digits-invalid",
+          "sep38.indicative_rate_cache.amount_bucket_digits must be greater than or equal to 0");
+    }
+  }
 }
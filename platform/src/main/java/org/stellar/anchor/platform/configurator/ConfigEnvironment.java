@@ -8,14 +8,14 @@ import java.util.Map;
 import java.util.Properties;
 
 public class ConfigEnvironment {
-  static Map<String, String> env;
+  static volatile Map<String, String> env;
 
   static {
     rebuild();
   }
 
   public static void rebuild(Map<String, String> extra) {
-    env = new HashMap<>();
+    Map<String, String> env = new HashMap<>();
 
     if (extra != null) {
       for (Map.Entry<String, String> entry : extra.entrySet()) {
@@ -32,6 +32,9 @@ public class ConfigEnvironment {
     for (Map.Entry<Object, Object> entry : sysProps.entrySet()) {
       env.put(toPosixForm(String.valueOf(entry.getKey())), String.valueOf(entry.getValue()));
     }
+    // The map is published after it is built, so that it can be read by the servers starting in
+    // parallel
+    ConfigEnvironment.env = env;
   }
 
   public static void rebuild() {
@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import lombok.Builder;
 import lombok.Data;
@@ -27,6 +28,7 @@ public abstract class ConfigManager
 
   static final String STELLAR_ANCHOR_CONFIG = "STELLAR_ANCHOR_CONFIG";
   static ConfigManager configManager;
+  static SharedConfig sharedConfig;
 
   ConfigMap configMap;
 
@@ -92,6 +94,41 @@ public abstract class ConfigManager
     }
   }
 
+  /**
+   * Processes the configurations, or reuses the configurations processed by another server of this
+   * JVM if the environment and the configuration file have not changed since. The servers started
+   * together by the ServiceRunner read, validate and migrate the configurations once.
+   *
+   * @param applicationContext the application context of the server
+   * @return a copy of the processed configurations
+   */
+  ConfigMap loadConfigurations(ConfigurableApplicationContext applicationContext)
+      throws IOException, InvalidConfigException {
+    Map<String, String> env = ConfigEnvironment.env;
+    long lastModified = lastModified(getConfigFileAsResource(applicationContext));
+    synchronized (ConfigManager.class) {
+      if (sharedConfig == null || !sharedConfig.matches(env, lastModified)) {
+        sharedConfig =
+            new SharedConfig(env, lastModified, processConfigurations(applicationContext));
+      } else {
+        info("Reusing the configurations processed by another server");
+      }
+      return sharedConfig.config.copy();
+    }
+  }
+
+  static long lastModified(Resource resource) {
+    if (resource == null) {
+      return 0;
+    }
+    try {
+      return resource.lastModified();
+    } catch (IOException ioex) {
+      // The configuration is not a file. It is processed again by each server.
+      return -1;
+    }
+  }
+
   ConfigMap processConfigurations(ConfigurableApplicationContext applicationContext)
       throws IOException, InvalidConfigException {
     info("reading default configuration values");
@@ -191,6 +228,23 @@ public abstract class ConfigManager
   }
 }
 
+/** The configurations processed for an environment and a version of the configuration file. */
+class SharedConfig {
+  final Map<String, String> env;
+  final long lastModified;
+  final ConfigMap config;
+
+  SharedConfig(Map<String, String> env, long lastModified, ConfigMap config) {
+    this.env = env;
+    this.lastModified = lastModified;
+    this.config = config;
+  }
+
+  boolean matches(Map<String, String> env, long lastModified) {
+    return lastModified >= 0 && this.lastModified == lastModified && this.env.equals(env);
+  }
+}
+
 @Data
 @Builder
 class ConfigManagerHealthCheckResult implements HealthCheckResult {
@@ -221,13 +275,16 @@ class DefaultConfigManager extends ConfigManager {
   public void initialize(@NotNull ConfigurableApplicationContext applicationContext) {
     // Read configuration from system environment variables, configuration file, and default values
     info("Read and process configurations");
-    configMap = processConfigurations(applicationContext);
+    configMap = loadConfigurations(applicationContext);
 
     // Make sure no secret is leaked.
     sanitize(configMap);
 
     // Send values to Spring
     sendToSpring(
-        applicationContext, configMap, List.of(new LogConfigAdapter(), new DataConfigAdapter()));
+        applicationContext,
+        configMap,
+        List.of(
+            new LogConfigAdapter(), new DataConfigAdapter(), new VirtualThreadsConfigAdapter()));
   }
 }
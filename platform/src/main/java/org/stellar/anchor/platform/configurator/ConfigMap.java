@@ -66,6 +66,19 @@ public class ConfigMap {
         .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getValue()));
   }
 
+  /**
+   * Returns a copy of this map. The entries are shared, the map of the copy can be modified
+   * independently.
+   *
+   * @return the copy
+   */
+  public ConfigMap copy() {
+    ConfigMap copy = new ConfigMap();
+    copy.version = version;
+    copy.data.putAll(data);
+    return copy;
+  }
+
   // TODO: instead of merging, create a property source with higher precedence
   public void merge(ConfigMap config) {
     // Matches any string of the form: <listName>[<index>].<elementName>
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Properties;
 import org.stellar.anchor.api.exception.InvalidConfigException;
 import org.stellar.anchor.platform.config.PropertySecretConfig;
+import org.stellar.anchor.util.IdGenerator;
 import org.stellar.anchor.util.Log;
 
 /**
@@ -87,6 +88,10 @@ public class DataConfigAdapter extends SpringConfigAdapter {
 
   @Override
   void updateSpringEnv(ConfigMap config) throws InvalidConfigException {
+    // The strategy is set before any bean is created, so that lazy and parallel started contexts
+    // generate the Ids with the same strategy
+    IdGenerator.setStrategy(idStrategy(config));
+
     // Set our default value to start with
     setSpringDataDefaults();
 
@@ -202,6 +207,21 @@ public class DataConfigAdapter extends SpringConfigAdapter {
   void validate(ConfigMap config) throws InvalidConfigException {
     validateCredential(config);
     validateConnection(config);
+    idStrategy(config);
+  }
+
+  static IdGenerator.Strategy idStrategy(ConfigMap config) throws InvalidConfigException {
+    String idStrategy = config.getString("data.id_strategy", "");
+    if (isEmpty(idStrategy)) {
+      return IdGenerator.Strategy.RANDOM;
+    }
+    try {
+      return IdGenerator.Strategy.valueOf(idStrategy.toUpperCase());
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidConfigException(
+          String.format(
+              "Invalid config[data.id_strategy]=%s. It must be random or time_ordered", idStrategy));
+    }
   }
 
   void validateConnection(ConfigMap config) throws InvalidConfigException {
@@ -283,5 +303,11 @@ public class DataConfigAdapter extends SpringConfigAdapter {
     set("spring.jpa.show-sql", false);
 
     set("spring.flyway.enabled", false);
+
+    // Publish the histograms of the repository calls, so the latency percentiles of the stores
+    // can be aggregated across instances
+    set(
+        "management.metrics.distribution.percentiles-histogram.spring.data.repository.invocations",
+        true);
   }
 }
@@ -23,7 +23,7 @@ public class EventProcessorConfigManager extends ConfigManager {
   public void initialize(@NotNull ConfigurableApplicationContext applicationContext) {
     // Read configuration from system environment variables, configuration file, and default values
     info("Read and process configurations");
-    configMap = processConfigurations(applicationContext);
+    configMap = loadConfigurations(applicationContext);
 
     // Make sure no secret is leaked.
     sanitize(configMap);
@@ -33,7 +33,10 @@ public class EventProcessorConfigManager extends ConfigManager {
         applicationContext,
         configMap,
         List.of(
-            new LogConfigAdapter(), new DataConfigAdapter(), new EventProcessorConfigAdapter()));
+            new LogConfigAdapter(),
+            new DataConfigAdapter(),
+            new VirtualThreadsConfigAdapter(),
+            new EventProcessorConfigAdapter()));
   }
 }
 
@@ -22,7 +22,7 @@ public class ObserverConfigManager extends ConfigManager {
   public void initialize(@NotNull ConfigurableApplicationContext applicationContext) {
     // Read configuration from system environment variables, configuration file, and default values
     info("Read and process configurations");
-    configMap = processConfigurations(applicationContext);
+    configMap = loadConfigurations(applicationContext);
 
     // Make sure no secret is leaked.
     sanitize(configMap);
@@ -31,7 +31,11 @@ public class ObserverConfigManager extends ConfigManager {
     sendToSpring(
         applicationContext,
         configMap,
-        List.of(new LogConfigAdapter(), new DataConfigAdapter(), new ObserverConfigAdapter()));
+        List.of(
+            new LogConfigAdapter(),
+            new DataConfigAdapter(),
+            new VirtualThreadsConfigAdapter(),
+            new ObserverConfigAdapter()));
   }
 }
 
@@ -22,7 +22,7 @@ public class PlatformConfigManager extends ConfigManager {
   public void initialize(@NotNull ConfigurableApplicationContext applicationContext) {
     // Read configuration from system environment variables, configuration file, and default values
     info("Read and process configurations");
-    configMap = processConfigurations(applicationContext);
+    configMap = loadConfigurations(applicationContext);
 
     // Make sure no secret is leaked.
     sanitize(configMap);
@@ -32,7 +32,10 @@ public class PlatformConfigManager extends ConfigManager {
         applicationContext,
         configMap,
         List.of(
-            new LogConfigAdapter(), new DataConfigAdapter(), new PlatformServerConfigAdapter()));
+            new LogConfigAdapter(),
+            new DataConfigAdapter(),
+            new VirtualThreadsConfigAdapter(),
+            new PlatformServerConfigAdapter()));
   }
 }
 
@@ -51,6 +54,8 @@ class PlatformServerConfigAdapter extends SpringConfigAdapter {
     } else {
       set("management.endpoints.web.exposure.include", "health,info");
     }
+    // Publish the latency histograms of the endpoints
+    set("management.metrics.distribution.percentiles-histogram.http.server.requests", true);
   }
 
   @Override
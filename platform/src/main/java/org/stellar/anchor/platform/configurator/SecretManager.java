@@ -31,6 +31,8 @@ public class SecretManager
           PropertySecretConfig.SECRET_EVENTS_QUEUE_KAFKA_PASSWORD,
           PropertyCustodySecretConfig.SECRET_FIREBLOCKS_SECRET_KEY,
           PropertyCustodySecretConfig.SECRET_FIREBLOCKS_API_KEY,
+          PropertyCustodySecretConfig.SECRET_LOCAL_DISTRIBUTION_SEED,
+          PropertyCustodySecretConfig.SECRET_LOCAL_CHANNEL_SEEDS,
           PropertySecretConfig.SECRET_SSL_KEYSTORE_PASSWORD,
           PropertySecretConfig.SECRET_SSL_KEY_PASSWORD,
           PropertySecretConfig.SECRET_SSL_TRUSTSTORE_PASSWORD);
@@ -1,5 +1,6 @@
 package org.stellar.anchor.platform.configurator;
 
+import static org.stellar.anchor.config.Sep38Config.IndicativeRateCacheConfig.PAIR_TTL_SECONDS_KEY;
 import static org.stellar.anchor.util.Log.info;
 
 import java.util.List;
@@ -7,6 +8,7 @@ import lombok.SneakyThrows;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.stellar.anchor.api.exception.InvalidConfigException;
+import org.stellar.anchor.config.Sep38Config.IndicativeRateCacheConfig;
 
 public class SepConfigManager extends ConfigManager {
   private static final SepConfigManager sepConfigManager = new SepConfigManager();
@@ -22,7 +24,7 @@ public class SepConfigManager extends ConfigManager {
   public void initialize(@NotNull ConfigurableApplicationContext applicationContext) {
     // Read configuration from system environment variables, configuration file, and default values
     info("Read and process configurations");
-    configMap = processConfigurations(applicationContext);
+    configMap = loadConfigurations(applicationContext);
 
     // Make sure no secret is leaked.
     sanitize(configMap);
@@ -31,7 +33,11 @@ public class SepConfigManager extends ConfigManager {
     sendToSpring(
         applicationContext,
         configMap,
-        List.of(new LogConfigAdapter(), new DataConfigAdapter(), new SepServerConfigAdapter()));
+        List.of(
+            new LogConfigAdapter(),
+            new DataConfigAdapter(),
+            new VirtualThreadsConfigAdapter(),
+            new SepServerConfigAdapter()));
   }
 }
 
@@ -49,10 +55,12 @@ class SepServerConfigAdapter extends SpringConfigAdapter {
     } else {
       set("management.endpoints.web.exposure.include", "health,info");
     }
+    // Publish the latency histograms of the endpoints
+    set("management.metrics.distribution.percentiles-histogram.http.server.requests", true);
   }
 
   @Override
   void validate(ConfigMap config) throws InvalidConfigException {
-    // noop
+    IndicativeRateCacheConfig.parsePairTtlSeconds(config.getString(PAIR_TTL_SECONDS_KEY));
   }
 }
@@ -0,0 +1,19 @@
+package org.stellar.anchor.platform.configurator;
+
+import org.stellar.anchor.api.exception.InvalidConfigException;
+import org.stellar.anchor.platform.utils.VirtualThreads;
+
+/**
+ * Runs the servlet requests, the Spring scheduled tasks and the executors of the DaemonExecutors
+ * on virtual threads when virtual_threads.enabled is true and the runtime is JDK 21 or later.
+ */
+public class VirtualThreadsConfigAdapter extends SpringConfigAdapter {
+  @Override
+  void updateSpringEnv(ConfigMap config) throws InvalidConfigException {
+    VirtualThreads.setEnabled(config.getBoolean("virtual_threads.enabled"));
+    set("spring.threads.virtual.enabled", VirtualThreads.isEnabled());
+  }
+
+  @Override
+  void validate(ConfigMap config) throws InvalidConfigException {}
+}
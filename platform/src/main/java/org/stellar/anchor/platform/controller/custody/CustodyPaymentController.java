@@ -11,15 +11,15 @@ import org.springframework.web.bind.annotation.RestController;
 import org.stellar.anchor.api.custody.GenerateDepositAddressResponse;
 import org.stellar.anchor.api.exception.CustodyException;
 import org.stellar.anchor.api.exception.InvalidConfigException;
-import org.stellar.anchor.platform.custody.CustodyPaymentService;
+import org.stellar.anchor.platform.custody.CustodyDepositAddressPool;
 
 @RestController
 public class CustodyPaymentController {
 
-  private final CustodyPaymentService<?> custodyPaymentService;
+  private final CustodyDepositAddressPool depositAddressPool;
 
-  public CustodyPaymentController(CustodyPaymentService<?> custodyPaymentService) {
-    this.custodyPaymentService = custodyPaymentService;
+  public CustodyPaymentController(CustodyDepositAddressPool depositAddressPool) {
+    this.depositAddressPool = depositAddressPool;
   }
 
   @CrossOrigin(origins = "*")
@@ -30,6 +30,6 @@ public class CustodyPaymentController {
       method = {RequestMethod.POST})
   public GenerateDepositAddressResponse generateDepositAddress(@PathVariable String assetId)
       throws CustodyException, InvalidConfigException {
-    return custodyPaymentService.generateDepositAddress(assetId);
+    return depositAddressPool.claim(assetId);
   }
 }
@@ -1,6 +1,6 @@
 package org.stellar.anchor.platform.controller.sep;
 
-import org.springframework.http.HttpHeaders;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +11,7 @@ import org.stellar.anchor.api.exception.SepNotFoundException;
 import org.stellar.anchor.api.sep.SepExceptionResponse;
 import org.stellar.anchor.config.Sep1Config;
 import org.stellar.anchor.platform.condition.ConditionalOnAllSepsEnabled;
+import org.stellar.anchor.platform.utils.StaticResponse;
 import org.stellar.anchor.sep1.Sep1Service;
 
 @RestController
@@ -19,6 +20,7 @@ import org.stellar.anchor.sep1.Sep1Service;
 public class Sep1Controller {
   private final Sep1Config sep1Config;
   private final Sep1Service sep1Service;
+  private volatile StaticResponse tomlResponse;
 
   public Sep1Controller(Sep1Config sep1Config, Sep1Service sep1Service) {
     this.sep1Config = sep1Config;
@@ -44,13 +46,18 @@ public class Sep1Controller {
       value = "/.well-known/stellar.toml",
       produces = {MediaType.APPLICATION_JSON_VALUE},
       method = {RequestMethod.GET, RequestMethod.OPTIONS})
-  public ResponseEntity<String> getToml() throws SepException {
+  public ResponseEntity<byte[]> getToml(HttpServletRequest request) throws SepException {
     if (!sep1Config.isEnabled()) {
       throw new SepNotFoundException("Not Found");
     }
-    HttpHeaders headers = new HttpHeaders();
-    headers.set("content-type", "text/plain");
-    return ResponseEntity.ok().headers(headers).body(sep1Service.getToml());
+    String toml = sep1Service.getToml();
+    StaticResponse response = tomlResponse;
+    // Sep1Service returns the same instance until the content is refreshed
+    if (response == null || response.getSource() != toml) {
+      response = StaticResponse.of(toml, MediaType.TEXT_PLAIN);
+      tomlResponse = response;
+    }
+    return response.toResponseEntity(request);
   }
 
   @ExceptionHandler({SepNotFoundException.class})
@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.Map;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 import org.stellar.anchor.api.exception.*;
@@ -17,6 +18,7 @@ import org.stellar.anchor.api.sep.SepExceptionResponse;
 import org.stellar.anchor.api.sep.sep24.*;
 import org.stellar.anchor.auth.Sep10Jwt;
 import org.stellar.anchor.platform.condition.ConditionalOnAllSepsEnabled;
+import org.stellar.anchor.platform.utils.StaticResponse;
 import org.stellar.anchor.sep24.Sep24Service;
 
 @RestController
@@ -25,18 +27,20 @@ import org.stellar.anchor.sep24.Sep24Service;
 @ConditionalOnAllSepsEnabled(seps = {"sep24"})
 public class Sep24Controller {
   private final Sep24Service sep24Service;
+  private final StaticResponse infoResponse;
 
   Sep24Controller(Sep24Service sep24Service) {
     this.sep24Service = sep24Service;
+    this.infoResponse = StaticResponse.json(sep24Service.getInfo());
   }
 
   @CrossOrigin(origins = "*")
   @RequestMapping(
       value = "/info",
       method = {RequestMethod.GET})
-  public InfoResponse getInfo() {
+  public ResponseEntity<byte[]> getInfo(HttpServletRequest request) {
     debug("/info");
-    return sep24Service.getInfo();
+    return infoResponse.toResponseEntity(request);
   }
 
   @CrossOrigin(origins = "*")
@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.Data;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.stellar.anchor.api.asset.Sep31Info.Fields;
 import org.stellar.anchor.api.exception.AnchorException;
@@ -15,6 +16,7 @@ import org.stellar.anchor.api.exception.Sep31MissingFieldException;
 import org.stellar.anchor.api.sep.sep31.*;
 import org.stellar.anchor.auth.Sep10Jwt;
 import org.stellar.anchor.platform.condition.ConditionalOnAllSepsEnabled;
+import org.stellar.anchor.platform.utils.StaticResponse;
 import org.stellar.anchor.sep31.Sep31Service;
 
 @RestController
@@ -23,18 +25,20 @@ import org.stellar.anchor.sep31.Sep31Service;
 @ConditionalOnAllSepsEnabled(seps = {"sep31"})
 public class Sep31Controller {
   private final Sep31Service sep31Service;
+  private final StaticResponse infoResponse;
 
   public Sep31Controller(Sep31Service sep31Service) {
     this.sep31Service = sep31Service;
+    this.infoResponse = StaticResponse.json(sep31Service.getInfo());
   }
 
   @CrossOrigin(origins = "*")
   @RequestMapping(
       value = "/info",
       method = {RequestMethod.GET})
-  public Sep31InfoResponse getInfo() {
+  public ResponseEntity<byte[]> getInfo(HttpServletRequest request) {
     debugF("GET /info");
-    return sep31Service.getInfo();
+    return infoResponse.toResponseEntity(request);
   }
 
   @CrossOrigin(origins = "*")
@@ -9,13 +9,16 @@ import java.util.Map;
 import lombok.SneakyThrows;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestClientException;
 import org.stellar.anchor.api.exception.SepValidationException;
 import org.stellar.anchor.api.sep.SepExceptionResponse;
 import org.stellar.anchor.api.sep.sep38.*;
 import org.stellar.anchor.auth.Sep10Jwt;
+import org.stellar.anchor.config.Sep38Config;
 import org.stellar.anchor.platform.condition.ConditionalOnAllSepsEnabled;
+import org.stellar.anchor.platform.utils.StaticResponse;
 import org.stellar.anchor.sep38.Sep38Service;
 import org.stellar.anchor.util.GsonUtils;
 
@@ -25,10 +28,17 @@ import org.stellar.anchor.util.GsonUtils;
 @ConditionalOnAllSepsEnabled(seps = {"sep38"})
 public class Sep38Controller {
   private final Sep38Service sep38Service;
+  private final StaticResponse infoResponse;
   private static final Gson gson = GsonUtils.getInstance();
 
-  public Sep38Controller(Sep38Service sep38Service) {
+  public Sep38Controller(Sep38Config sep38Config, Sep38Service sep38Service) {
     this.sep38Service = sep38Service;
+    this.infoResponse =
+        StaticResponse.json(
+            sep38Service.getInfo(),
+            sep38Config.isSep10Enforced()
+                ? StaticResponse.PRIVATE_CACHE_CONTROL
+                : StaticResponse.PUBLIC_CACHE_CONTROL);
   }
 
   // TODO: add integration tests
@@ -37,9 +47,9 @@ public class Sep38Controller {
   @RequestMapping(
       value = "/info",
       method = {RequestMethod.GET})
-  public InfoResponse getInfo() {
+  public ResponseEntity<byte[]> getInfo(HttpServletRequest request) {
     debugF("GET /info");
-    return sep38Service.getInfo();
+    return infoResponse.toResponseEntity(request);
   }
 
   @SneakyThrows
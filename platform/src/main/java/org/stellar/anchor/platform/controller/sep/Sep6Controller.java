@@ -6,12 +6,14 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.stellar.anchor.api.exception.AnchorException;
 import org.stellar.anchor.api.exception.SepException;
 import org.stellar.anchor.api.sep.sep6.*;
 import org.stellar.anchor.auth.Sep10Jwt;
 import org.stellar.anchor.platform.condition.ConditionalOnAllSepsEnabled;
+import org.stellar.anchor.platform.utils.StaticResponse;
 import org.stellar.anchor.sep6.Sep6Service;
 
 @RestController
@@ -20,9 +22,11 @@ import org.stellar.anchor.sep6.Sep6Service;
 @ConditionalOnAllSepsEnabled(seps = {"sep6"})
 public class Sep6Controller {
   private final Sep6Service sep6Service;
+  private final StaticResponse infoResponse;
 
   public Sep6Controller(Sep6Service sep6Service) {
     this.sep6Service = sep6Service;
+    this.infoResponse = StaticResponse.json(sep6Service.getInfo());
   }
 
   @CrossOrigin(origins = "*")
@@ -30,9 +34,9 @@ public class Sep6Controller {
       value = "/info",
       produces = {MediaType.APPLICATION_JSON_VALUE},
       method = {RequestMethod.GET})
-  public InfoResponse getInfo() {
+  public ResponseEntity<byte[]> getInfo(HttpServletRequest request) {
     debugF("GET /info");
-    return sep6Service.getInfo();
+    return infoResponse.toResponseEntity(request);
   }
 
   @CrossOrigin(origins = "*")
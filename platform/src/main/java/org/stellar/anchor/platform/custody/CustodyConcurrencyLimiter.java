@@ -0,0 +1,136 @@
+package org.stellar.anchor.platform.custody;
+
+import static org.stellar.anchor.util.Log.debugF;
+import static org.stellar.anchor.util.MetricConstants.*;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of concurrent requests to the custody service.
+ *
+ * <p>The limit is adjusted with AIMD (additive increase, multiplicative decrease). It grows by one
+ * per round of fast requests while it is fully used, and shrinks when a request is rate limited by
+ * the custody service or its latency exceeds the threshold. The limit shrinks at most once per
+ * round trip: the requests started before the last decrease were sent at the previous limit, so
+ * their throttles and slow responses are ignored. Requests above the limit wait for a request in
+ * flight to complete.
+ */
+public class CustodyConcurrencyLimiter {
+  // Applied to the limit when a request is rate limited
+  static final double THROTTLE_BACKOFF_RATIO = 0.5;
+  // Applied to the limit when a request is slower than the latency threshold
+  static final double LATENCY_BACKOFF_RATIO = 0.9;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long latencyThresholdNanos;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition available = lock.newCondition();
+  private double limit;
+  private int inFlight;
+  private boolean decreased;
+  private long lastDecreaseAt;
+
+  private final AtomicInteger limitGauge =
+      Metrics.gauge(CUSTODY_CONCURRENCY_LIMIT, new AtomicInteger());
+  private final AtomicInteger inFlightGauge =
+      Metrics.gauge(CUSTODY_CONCURRENCY_IN_FLIGHT, new AtomicInteger());
+  private final Counter throttledCounter = Metrics.counter(CUSTODY_CONCURRENCY_THROTTLED);
+  private final Timer queueTimer =
+      Timer.builder(CUSTODY_CONCURRENCY_QUEUE_TIME)
+          .publishPercentileHistogram()
+          .register(Metrics.globalRegistry);
+
+  public CustodyConcurrencyLimiter(
+      int minLimit, int maxLimit, int initialLimit, Duration latencyThreshold) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyThresholdNanos = latencyThreshold.toNanos();
+    this.limit = initialLimit;
+    limitGauge.set(initialLimit);
+  }
+
+  /**
+   * Waits until a request can be sent to the custody service.
+   *
+   * @return the start time of the request, to be passed to {@link #release(long, boolean)}
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  public long acquire() throws InterruptedException {
+    long queuedAt = System.nanoTime();
+    lock.lockInterruptibly();
+    try {
+      while (inFlight >= (int) limit) {
+        available.await();
+      }
+      inFlightGauge.set(++inFlight);
+    } finally {
+      lock.unlock();
+    }
+    long startedAt = System.nanoTime();
+    queueTimer.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+    return startedAt;
+  }
+
+  /**
+   * Completes a request and adjusts the limit.
+   *
+   * @param startedAt the start time returned by {@link #acquire()}
+   * @param throttled true if the request was rate limited by the custody service
+   */
+  public void release(long startedAt, boolean throttled) {
+    long latency = System.nanoTime() - startedAt;
+    lock.lock();
+    try {
+      double previous = limit;
+      if (throttled) {
+        throttledCounter.increment();
+        decrease(startedAt, THROTTLE_BACKOFF_RATIO);
+      } else if (latency > latencyThresholdNanos) {
+        decrease(startedAt, LATENCY_BACKOFF_RATIO);
+      } else if (inFlight >= (int) limit) {
+        // Only grow while the limit is the bottleneck
+        limit = Math.min(maxLimit, limit + 1 / limit);
+      }
+      inFlightGauge.set(--inFlight);
+      limitGauge.set((int) limit);
+      if ((int) previous != (int) limit) {
+        debugF("Custody concurrency limit changed from {} to {}", (int) previous, (int) limit);
+      }
+      available.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void decrease(long startedAt, double ratio) {
+    if (decreased && startedAt - lastDecreaseAt < 0) {
+      // Started before the last decrease, at the previous limit
+      return;
+    }
+    limit = Math.max(minLimit, limit * ratio);
+    decreased = true;
+    lastDecreaseAt = System.nanoTime();
+  }
+
+  /**
+   * Returns the current concurrency limit.
+   *
+   * @return the number of requests that can be in flight
+   */
+  public int getLimit() {
+    lock.lock();
+    try {
+      return (int) limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package org.stellar.anchor.platform.custody;
+
+import static org.stellar.anchor.util.Log.*;
+import static org.stellar.anchor.util.MetricConstants.*;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.stellar.anchor.api.custody.GenerateDepositAddressResponse;
+import org.stellar.anchor.api.exception.CustodyException;
+import org.stellar.anchor.api.exception.InvalidConfigException;
+import org.stellar.anchor.platform.config.PropertyCustodyConfig.DepositAddressPool;
+import org.stellar.anchor.platform.data.JdbcCustodyDepositAddress;
+import org.stellar.anchor.platform.data.JdbcCustodyDepositAddressRepo;
+import org.stellar.anchor.platform.job.JobCoordinator;
+import org.stellar.anchor.platform.job.JobCoordinator.JobRun;
+import org.stellar.anchor.util.IdGenerator;
+
+/**
+ * A pool of pre-generated deposit addresses.
+ *
+ * <p>The addresses of the configured assets are generated by the custody service ahead of time
+ * and stored in the database, so that a deposit address is claimed from the database instead of
+ * being generated on the request path. The pool of each asset is refilled up to the high watermark
+ * when it falls below the low watermark. If the pool of an asset is empty, the address is generated
+ * by the custody service.
+ *
+ * <p>The pool of each asset is refilled by the replica holding the lease of the asset, so that the
+ * replicas do not generate the missing addresses concurrently.
+ */
+public class CustodyDepositAddressPool {
+  static final String JOB_NAME = "custody_deposit_address_pool_refill";
+  static final int MAX_CLAIM_ATTEMPTS = 3;
+
+  private final JdbcCustodyDepositAddressRepo depositAddressRepo;
+  private final CustodyPaymentService<?> custodyPaymentService;
+  private final DepositAddressPool config;
+  private final JobCoordinator jobCoordinator;
+  private final Map<String, AtomicLong> depths = new ConcurrentHashMap<>();
+
+  private final Counter hitCounter = Metrics.counter(CUSTODY_ADDRESS_POOL_CLAIM, RESULT, TV_HIT);
+  private final Counter missCounter = Metrics.counter(CUSTODY_ADDRESS_POOL_CLAIM, RESULT, TV_MISS);
+  private final Timer refillTimer =
+      Timer.builder(CUSTODY_ADDRESS_POOL_REFILL)
+          .publishPercentileHistogram()
+          .register(Metrics.globalRegistry);
+
+  public CustodyDepositAddressPool(
+      JdbcCustodyDepositAddressRepo depositAddressRepo,
+      CustodyPaymentService<?> custodyPaymentService,
+      DepositAddressPool config,
+      JobCoordinator jobCoordinator) {
+    this.depositAddressRepo = depositAddressRepo;
+    this.custodyPaymentService = custodyPaymentService;
+    this.config = config;
+    this.jobCoordinator = jobCoordinator;
+  }
+
+  /**
+   * Claims a deposit address of the asset from the pool, or generates one if the pool is empty.
+   *
+   * @param assetId Stellar asset code
+   * @return the deposit address and memo
+   * @throws CustodyException if an error happens on custody service
+   * @throws InvalidConfigException if the Stellar asset code doesn't have a mapping to the custody
+   *     asset code
+   */
+  public GenerateDepositAddressResponse claim(String assetId)
+      throws CustodyException, InvalidConfigException {
+    if (!isPooled(assetId)) {
+      return custodyPaymentService.generateDepositAddress(assetId);
+    }
+
+    for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+      List<JdbcCustodyDepositAddress> candidates =
+          new ArrayList<>(
+              depositAddressRepo.findTop10ByAssetAndClaimedAtIsNullOrderByCreatedAtAsc(assetId));
+      if (candidates.isEmpty()) {
+        break;
+      }
+      // Concurrent claimers pick different candidates to reduce the contention
+      Collections.shuffle(candidates);
+      for (JdbcCustodyDepositAddress candidate : candidates) {
+        if (depositAddressRepo.claim(candidate.getId(), Instant.now()) == 1) {
+          hitCounter.increment();
+          depth(assetId).decrementAndGet();
+          return new GenerateDepositAddressResponse(
+              candidate.getAddress(), candidate.getMemo(), candidate.getMemoType());
+        }
+      }
+    }
+
+    warnF("The deposit address pool of asset {} is empty", assetId);
+    missCounter.increment();
+    return custodyPaymentService.generateDepositAddress(assetId);
+  }
+
+  @Scheduled(cron = "${custody.deposit_address_pool.refill_cron_expression}")
+  public void refill() {
+    if (!config.isEnabled()) {
+      return;
+    }
+    jobCoordinator.run(JOB_NAME, this::refill);
+  }
+
+  void refill(JobRun run) {
+    for (String assetId : config.getAssets()) {
+      // The pool of the asset is refilled by the replica holding its lease
+      if (!run.lease(JOB_NAME + ":" + assetId)) {
+        continue;
+      }
+      try {
+        run.processed(refill(assetId));
+      } catch (Exception e) {
+        errorEx(String.format("Failed to refill the deposit address pool of %s", assetId), e);
+      }
+    }
+  }
+
+  long refill(String assetId) throws CustodyException, InvalidConfigException {
+    long depth = depositAddressRepo.countByAssetAndClaimedAtIsNull(assetId);
+    depth(assetId).set(depth);
+    if (depth >= config.getLowWatermark()) {
+      return 0;
+    }
+
+    Timer.Sample sample = Timer.start();
+    long generated = 0;
+    while (depth < config.getHighWatermark()) {
+      GenerateDepositAddressResponse address =
+          custodyPaymentService.generateDepositAddress(assetId);
+      depositAddressRepo.save(
+          JdbcCustodyDepositAddress.builder()
+              .id(IdGenerator.newId())
+              .asset(assetId)
+              .address(address.getAddress())
+              .memo(address.getMemo())
+              .memoType(address.getMemoType())
+              .createdAt(Instant.now())
+              .build());
+      depth(assetId).set(++depth);
+      generated++;
+    }
+    sample.stop(refillTimer);
+    infoF("Added {} addresses to the deposit address pool of {}", generated, assetId);
+    return generated;
+  }
+
+  boolean isPooled(String assetId) {
+    return config.isEnabled() && config.getAssets().contains(assetId);
+  }
+
+  AtomicLong depth(String assetId) {
+    return depths.computeIfAbsent(
+        assetId,
+        k -> Metrics.gauge(CUSTODY_ADDRESS_POOL_DEPTH, Tags.of(ASSET, k), new AtomicLong()));
+  }
+}
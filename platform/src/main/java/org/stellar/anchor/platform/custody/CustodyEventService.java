@@ -89,7 +89,7 @@ public abstract class CustodyEventService {
         payment.getExternalTxId());
   }
 
-  private JdbcCustodyTransaction getCustodyTransaction(CustodyPayment custodyPayment) {
+  protected JdbcCustodyTransaction getCustodyTransaction(CustodyPayment custodyPayment) {
     JdbcCustodyTransaction custodyTransaction =
         custodyTransactionRepo.findByExternalTxId(custodyPayment.getExternalTxId());
 
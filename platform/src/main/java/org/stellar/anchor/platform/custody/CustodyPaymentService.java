@@ -1,7 +1,9 @@
 package org.stellar.anchor.platform.custody;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import org.stellar.anchor.api.custody.CreateTransactionPaymentResponse;
 import org.stellar.anchor.api.custody.GenerateDepositAddressResponse;
 import org.stellar.anchor.api.exception.CustodyException;
@@ -58,5 +60,22 @@ public interface CustodyPaymentService<T> {
    * @return list of custody transactions
    * @throws CustodyException if an error happens on custody service
    */
-  List<T> getTransactionsByTimeRange(Instant startTime, Instant endTime) throws CustodyException;
+  default List<T> getTransactionsByTimeRange(Instant startTime, Instant endTime)
+      throws CustodyException {
+    List<T> transactions = new ArrayList<>();
+    forEachTransactionPage(startTime, endTime, transactions::addAll);
+    return transactions;
+  }
+
+  /**
+   * Iterates over the pages of custody transactions within time range, in the order they were
+   * created. Only one page is kept in memory at a time.
+   *
+   * @param startTime start from time
+   * @param endTime to time
+   * @param pageHandler handler of each page of custody transactions
+   * @throws CustodyException if an error happens on custody service
+   */
+  void forEachTransactionPage(Instant startTime, Instant endTime, Consumer<List<T>> pageHandler)
+      throws CustodyException;
 }
@@ -7,7 +7,6 @@ import static org.stellar.anchor.util.Log.debugF;
 import java.time.Instant;
 import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpStatus;
 import org.stellar.anchor.api.custody.CreateCustodyTransactionRequest;
@@ -22,6 +21,7 @@ import org.stellar.anchor.api.exception.custody.CustodyTooManyRequestsException;
 import org.stellar.anchor.platform.data.CustodyTransactionStatus;
 import org.stellar.anchor.platform.data.JdbcCustodyTransaction;
 import org.stellar.anchor.platform.data.JdbcCustodyTransactionRepo;
+import org.stellar.anchor.util.IdGenerator;
 
 public class CustodyTransactionService {
 
@@ -46,7 +46,7 @@ public class CustodyTransactionService {
       throws CustodyBadRequestException {
     return custodyTransactionRepo.save(
         JdbcCustodyTransaction.builder()
-            .id(UUID.randomUUID().toString())
+            .id(IdGenerator.newId())
             .sepTxId(request.getId())
             .status(CustodyTransactionStatus.CREATED.toString())
             .createdAt(Instant.now())
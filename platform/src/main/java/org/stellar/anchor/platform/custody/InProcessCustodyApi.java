@@ -0,0 +1,87 @@
+package org.stellar.anchor.platform.custody;
+
+import static org.stellar.anchor.platform.data.JdbcCustodyTransaction.PaymentType.PAYMENT;
+
+import org.springframework.http.HttpStatus;
+import org.stellar.anchor.api.custody.CreateCustodyTransactionRequest;
+import org.stellar.anchor.api.custody.CreateTransactionPaymentResponse;
+import org.stellar.anchor.api.custody.CreateTransactionRefundRequest;
+import org.stellar.anchor.api.custody.GenerateDepositAddressResponse;
+import org.stellar.anchor.api.exception.AnchorException;
+import org.stellar.anchor.api.exception.CustodyException;
+import org.stellar.anchor.api.exception.InvalidConfigException;
+import org.stellar.anchor.api.exception.custody.CustodyBadRequestException;
+import org.stellar.anchor.api.exception.custody.CustodyNotFoundException;
+import org.stellar.anchor.api.exception.custody.CustodyServiceUnavailableException;
+import org.stellar.anchor.api.exception.custody.CustodyTooManyRequestsException;
+
+/**
+ * The custody API endpoints of the custody server, called by the CustodyApiClient of the servers
+ * running in the same JVM. The errors are reported as the CustodyException the client would have
+ * thrown for the HTTP error response.
+ */
+public class InProcessCustodyApi {
+  private final CustodyTransactionService custodyTransactionService;
+  private final CustodyDepositAddressPool depositAddressPool;
+
+  public InProcessCustodyApi(
+      CustodyTransactionService custodyTransactionService,
+      CustodyDepositAddressPool depositAddressPool) {
+    this.custodyTransactionService = custodyTransactionService;
+    this.depositAddressPool = depositAddressPool;
+  }
+
+  public void createTransaction(CreateCustodyTransactionRequest request) throws CustodyException {
+    try {
+      custodyTransactionService.create(request, PAYMENT);
+    } catch (AnchorException | RuntimeException ex) {
+      throw toCustodyException(ex);
+    }
+  }
+
+  public GenerateDepositAddressResponse generateDepositAddress(String assetId)
+      throws CustodyException, InvalidConfigException {
+    try {
+      return depositAddressPool.claim(assetId);
+    } catch (InvalidConfigException ex) {
+      throw ex;
+    } catch (AnchorException | RuntimeException ex) {
+      throw toCustodyException(ex);
+    }
+  }
+
+  public CreateTransactionPaymentResponse createTransactionPayment(String txnId, String requestBody)
+      throws CustodyException {
+    try {
+      return custodyTransactionService.createPayment(txnId, requestBody);
+    } catch (AnchorException | RuntimeException ex) {
+      throw toCustodyException(ex);
+    }
+  }
+
+  public CreateTransactionPaymentResponse createTransactionRefund(
+      String txnId, CreateTransactionRefundRequest refundRequest) throws CustodyException {
+    try {
+      return custodyTransactionService.createRefund(txnId, refundRequest);
+    } catch (AnchorException | RuntimeException ex) {
+      throw toCustodyException(ex);
+    }
+  }
+
+  static CustodyException toCustodyException(Exception ex) {
+    if (ex instanceof CustodyException) {
+      return (CustodyException) ex;
+    }
+    HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+    if (ex instanceof CustodyBadRequestException) {
+      status = HttpStatus.BAD_REQUEST;
+    } else if (ex instanceof CustodyNotFoundException) {
+      status = HttpStatus.NOT_FOUND;
+    } else if (ex instanceof CustodyTooManyRequestsException) {
+      status = HttpStatus.TOO_MANY_REQUESTS;
+    } else if (ex instanceof CustodyServiceUnavailableException) {
+      status = HttpStatus.SERVICE_UNAVAILABLE;
+    }
+    return new CustodyException(ex.getMessage(), status.value());
+  }
+}
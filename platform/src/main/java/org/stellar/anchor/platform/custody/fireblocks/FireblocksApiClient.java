@@ -26,10 +26,12 @@ import org.springframework.web.util.UriComponentsBuilder;
 import org.stellar.anchor.api.exception.FireblocksException;
 import org.stellar.anchor.api.exception.InvalidConfigException;
 import org.stellar.anchor.platform.config.FireblocksConfig;
+import org.stellar.anchor.platform.custody.CustodyConcurrencyLimiter;
 
 /**
  * API client, that is responsible for communication with Fireblocks. It generates and adds JWT
- * token to the request and validates the response status code
+ * token to the request and validates the response status code. The number of concurrent requests
+ * is bounded by the concurrency limiter, if any
  */
 public class FireblocksApiClient {
 
@@ -44,9 +46,19 @@ public class FireblocksApiClient {
   private final String apiKey;
 
   private final PrivateKey privateKey;
+  private final CustodyConcurrencyLimiter concurrencyLimiter;
 
   public FireblocksApiClient(OkHttpClient httpClient, FireblocksConfig fireblocksConfig)
       throws InvalidConfigException {
+    this(httpClient, fireblocksConfig, null);
+  }
+
+  public FireblocksApiClient(
+      OkHttpClient httpClient,
+      FireblocksConfig fireblocksConfig,
+      CustodyConcurrencyLimiter concurrencyLimiter)
+      throws InvalidConfigException {
+    this.concurrencyLimiter = concurrencyLimiter;
     this.client = httpClient;
     this.baseUrl = fireblocksConfig.getBaseUrl();
     this.apiKey = fireblocksConfig.getSecretConfig().getFireblocksApiKey();
@@ -78,6 +90,29 @@ public class FireblocksApiClient {
   }
 
   private String doRequest(Request request) throws FireblocksException {
+    if (concurrencyLimiter == null) {
+      return execute(request);
+    }
+
+    long startedAt;
+    try {
+      startedAt = concurrencyLimiter.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FireblocksException(e);
+    }
+    boolean throttled = false;
+    try {
+      return execute(request);
+    } catch (FireblocksException e) {
+      throttled = e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS.value();
+      throw e;
+    } finally {
+      concurrencyLimiter.release(startedAt, throttled);
+    }
+  }
+
+  private String execute(Request request) throws FireblocksException {
     try (Response response = client.newCall(request).execute()) {
       ResponseBody responseBody = response.body();
       String responseBodyJson = null;
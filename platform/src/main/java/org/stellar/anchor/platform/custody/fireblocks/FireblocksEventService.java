@@ -16,6 +16,7 @@ import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import lombok.Setter;
 import org.stellar.anchor.api.custody.fireblocks.FireblocksEventObject;
 import org.stellar.anchor.api.custody.fireblocks.TransactionDetails;
 import org.stellar.anchor.api.exception.AnchorException;
@@ -41,6 +42,8 @@ public class FireblocksEventService extends CustodyEventService {
 
   private final Horizon horizon;
   private final PublicKey publicKey;
+  // Set when the webhook events are processed asynchronously
+  @Setter private FireblocksWebhookQueue webhookQueue;
 
   public FireblocksEventService(
       JdbcCustodyTransactionRepo custodyTransactionRepo,
@@ -69,6 +72,33 @@ public class FireblocksEventService extends CustodyEventService {
    */
   @Override
   public void handleEvent(String event, Map<String, String> headers) throws BadRequestException {
+    TransactionDetails transactionDetails = verify(event, headers);
+    if (transactionDetails == null) {
+      return;
+    }
+
+    if (webhookQueue != null) {
+      webhookQueue.submit(transactionDetails, event);
+      return;
+    }
+
+    try {
+      process(transactionDetails);
+    } catch (AnchorException | IOException e) {
+      throw new BadRequestException("Unable to handle Fireblocks webhook event", e);
+    }
+  }
+
+  /**
+   * Verifies the signature of the request sent by Fireblocks to webhook endpoint
+   *
+   * @param event Request body
+   * @param headers HTTP headers
+   * @return the transaction details of the event, or null if the signature is invalid
+   * @throws BadRequestException when fireblocks-signature is missing or empty
+   */
+  public TransactionDetails verify(String event, Map<String, String> headers)
+      throws BadRequestException {
     String signature = headers.get(FIREBLOCKS_SIGNATURE_HEADER);
     if (signature == null) {
       throw new BadRequestException("'" + FIREBLOCKS_SIGNATURE_HEADER + "' header missed");
@@ -83,34 +113,42 @@ public class FireblocksEventService extends CustodyEventService {
 
     try {
       if (RSAUtil.isValidSignature(signature, event, publicKey)) {
-        FireblocksEventObject fireblocksEventObject =
-            GsonUtils.getInstance().fromJson(event, FireblocksEventObject.class);
-
-        TransactionDetails transactionDetails = fireblocksEventObject.getData();
-        setExternalTxId(
-            transactionDetails.getDestinationAddress(),
-            transactionDetails.getDestinationTag(),
-            transactionDetails.getId());
-
-        if (!transactionDetails.getStatus().isObservableByWebhook()) {
-          debugF("Skipping Fireblocks webhook event[{}] due to the status", event);
-          return;
-        }
-
-        try {
-          Optional<CustodyPayment> payment = convert(transactionDetails);
-          if (payment.isPresent()) {
-            handlePayment(payment.get());
-          }
-        } catch (AnchorException | IOException e) {
-          throw new BadRequestException("Unable to handle Fireblocks webhook event", e);
-        }
+        return GsonUtils.getInstance().fromJson(event, FireblocksEventObject.class).getData();
       } else {
         error("Fireblocks webhook event signature is invalid");
       }
     } catch (NoSuchAlgorithmException | InvalidKeyException | SignatureException e) {
       errorEx("Fireblocks webhook event signature validation failed", e);
     }
+    return null;
+  }
+
+  /**
+   * Links the Fireblocks transaction to the custody transaction and handles the payment if the
+   * status of the transaction is observable
+   *
+   * @param transactionDetails Fireblocks transaction of a verified webhook event
+   * @throws AnchorException if the payment cannot be handled
+   * @throws IOException if the payment cannot be handled
+   */
+  public void process(TransactionDetails transactionDetails) throws AnchorException, IOException {
+    setExternalTxId(
+        transactionDetails.getDestinationAddress(),
+        transactionDetails.getDestinationTag(),
+        transactionDetails.getId());
+
+    if (!transactionDetails.getStatus().isObservableByWebhook()) {
+      debugF(
+          "Skipping Fireblocks webhook event of transaction[{}] due to the status[{}]",
+          transactionDetails.getId(),
+          transactionDetails.getStatus());
+      return;
+    }
+
+    Optional<CustodyPayment> payment = convert(transactionDetails);
+    if (payment.isPresent()) {
+      handlePayment(payment.get());
+    }
   }
 
   public Optional<CustodyPayment> convert(TransactionDetails td) throws IOException {
@@ -127,14 +165,7 @@ public class FireblocksEventService extends CustodyEventService {
 
     try {
       operation =
-          horizon
-              .getServer()
-              .payments()
-              .includeTransactions(true)
-              .forTransaction(td.getTxHash())
-              .execute()
-              .getRecords()
-              .stream()
+          horizon.getStellarTxnOperations(td.getTxHash()).stream()
               .filter(o -> PAYMENT_TRANSACTION_OPERATION_TYPES.contains(o.getType()))
               .findFirst();
     } catch (Exception e) {
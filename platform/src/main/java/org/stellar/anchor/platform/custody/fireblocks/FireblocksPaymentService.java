@@ -2,6 +2,7 @@ package org.stellar.anchor.platform.custody.fireblocks;
 
 import static org.stellar.anchor.api.custody.fireblocks.CreateTransactionRequest.DestinationTransferPeerPathType.ONE_TIME_ADDRESS;
 import static org.stellar.anchor.api.custody.fireblocks.CreateTransactionRequest.TransferPeerPathType.VAULT_ACCOUNT;
+import static org.stellar.anchor.util.Log.warnF;
 import static org.stellar.anchor.util.MemoHelper.memoTypeAsString;
 
 import com.google.gson.Gson;
@@ -12,6 +13,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 import lombok.Getter;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -138,40 +141,46 @@ public class FireblocksPaymentService implements CustodyPaymentService<Transacti
   }
 
   @Override
-  public List<TransactionDetails> getTransactionsByTimeRange(Instant startTime, Instant endTime)
+  public void forEachTransactionPage(
+      Instant startTime, Instant endTime, Consumer<List<TransactionDetails>> pageHandler)
       throws FireblocksException {
     if (startTime.isAfter(endTime)) {
       throw new IllegalArgumentException("End time can't be before start time");
     }
 
+    long after = startTime.toEpochMilli();
     Map<String, String> queryParams =
         new HashMap<>(
             Map.of(
-                QUERY_PARAM_AFTER, String.valueOf(startTime.toEpochMilli()),
+                QUERY_PARAM_AFTER, String.valueOf(after),
                 QUERY_PARAM_BEFORE, String.valueOf(endTime.toEpochMilli()),
                 QUERY_PARAM_LIMIT, String.valueOf(transactionLimit),
                 QUERY_PARAM_ORDER_BY, TRANSACTIONS_ORDER_BY,
                 QUERY_PARAM_SORT, TRANSACTIONS_SORT));
 
-    List<TransactionDetails> transactions = new ArrayList<>(getTransactions(queryParams));
+    while (true) {
+      List<TransactionDetails> transactions = getTransactions(queryParams);
+      if (transactions == null || transactions.isEmpty()) {
+        return;
+      }
+      pageHandler.accept(transactions);
+      if (transactions.size() < transactionLimit) {
+        return;
+      }
 
-    while (transactions.size() % transactionLimit == 0) {
-      Long maxCreatedAt =
+      // The transactions are sorted by createdAt, the next page starts after the last one
+      long maxCreatedAt =
           transactions.stream()
               .map(TransactionDetails::getCreatedAt)
+              .filter(Objects::nonNull)
               .reduce(Long.MIN_VALUE, Long::max);
-
-      queryParams.put(QUERY_PARAM_AFTER, String.valueOf(maxCreatedAt));
-
-      List<TransactionDetails> retrievedTransactions = getTransactions(queryParams);
-      if (retrievedTransactions == null) {
-        return transactions;
-      } else {
-        transactions.addAll(getTransactions(queryParams));
+      if (maxCreatedAt <= after) {
+        warnF("Fireblocks transactions page does not advance past createdAt[{}]", after);
+        return;
       }
+      after = maxCreatedAt;
+      queryParams.put(QUERY_PARAM_AFTER, String.valueOf(after));
     }
-
-    return transactions;
   }
 
   private List<TransactionDetails> getTransactions(Map<String, String> queryParams)
@@ -0,0 +1,211 @@
+package org.stellar.anchor.platform.custody.fireblocks;
+
+import static org.stellar.anchor.util.Log.*;
+import static org.stellar.anchor.util.MetricConstants.*;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.stellar.anchor.api.custody.fireblocks.FireblocksEventObject;
+import org.stellar.anchor.api.custody.fireblocks.TransactionDetails;
+import org.stellar.anchor.platform.config.FireblocksConfig.Webhook;
+import org.stellar.anchor.platform.data.JdbcCustodyWebhookEvent;
+import org.stellar.anchor.platform.data.JdbcCustodyWebhookEventRepo;
+import org.stellar.anchor.platform.utils.DaemonExecutors;
+import org.stellar.anchor.util.GsonUtils;
+
+/**
+ * Processes the verified Fireblocks webhook events asynchronously.
+ *
+ * <p>The events are stored in the database before the webhook responds, and are deduplicated by
+ * the Fireblocks transaction id, status and update time. The events of a transaction are always
+ * processed by the same worker, in the order they were received. The events that were not
+ * processed, because the server stopped or the processing failed, are processed again by a
+ * recovery task until the maximum number of attempts is reached.
+ *
+ * <p>An event is processed by the server that claimed it. The server receiving the event claims it
+ * when storing it, and the recovery task of each server claims the events whose claim expired. The
+ * recovery task replays the events of a transaction in the order they were received, and stops at
+ * the first event of the transaction claimed by another server.
+ */
+public class FireblocksWebhookQueue {
+  static final Duration RECOVERY_INTERVAL = Duration.ofMinutes(1);
+  static final Duration RETENTION = Duration.ofDays(7);
+  static final Duration CLAIM_DURATION = Duration.ofMinutes(5);
+
+  private final FireblocksEventService eventService;
+  private final JdbcCustodyWebhookEventRepo webhookEventRepo;
+  private final int maxAttempts;
+  private final ExecutorService[] workers;
+  private final ScheduledExecutorService recoveryScheduler =
+      DaemonExecutors.newScheduledThreadPool(1);
+  private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+  private final String instanceId = UUID.randomUUID().toString();
+
+  private final AtomicInteger depth =
+      Metrics.gauge(FIREBLOCKS_WEBHOOK_QUEUE_DEPTH, new AtomicInteger());
+  private final Counter successCounter =
+      Metrics.counter(FIREBLOCKS_WEBHOOK_EVENT, RESULT, TV_SUCCESS);
+  private final Counter failureCounter =
+      Metrics.counter(FIREBLOCKS_WEBHOOK_EVENT, RESULT, TV_FAILURE);
+  private final Counter duplicateCounter =
+      Metrics.counter(FIREBLOCKS_WEBHOOK_EVENT, RESULT, TV_DUPLICATE);
+  private final Timer lagTimer =
+      Timer.builder(FIREBLOCKS_WEBHOOK_LAG)
+          .publishPercentileHistogram()
+          .register(Metrics.globalRegistry);
+
+  public FireblocksWebhookQueue(
+      FireblocksEventService eventService,
+      JdbcCustodyWebhookEventRepo webhookEventRepo,
+      Webhook config) {
+    this.eventService = eventService;
+    this.webhookEventRepo = webhookEventRepo;
+    this.maxAttempts = config.getMaxAttempts();
+    this.workers = new ExecutorService[config.getWorkers()];
+    for (int i = 0; i < workers.length; i++) {
+      workers[i] = DaemonExecutors.newSingleThreadExecutor();
+    }
+  }
+
+  /** Starts the recovery of the events that were not processed. */
+  public void start() {
+    recoveryScheduler.scheduleWithFixedDelay(
+        this::recover, 0, RECOVERY_INTERVAL.toSeconds(), TimeUnit.SECONDS);
+  }
+
+  /**
+   * Stores the event and queues it for processing. Duplicated events are ignored.
+   *
+   * @param transactionDetails the Fireblocks transaction of the verified event
+   * @param payload the raw webhook event
+   */
+  public void submit(TransactionDetails transactionDetails, String payload) {
+    String id = eventId(transactionDetails);
+    Instant now = Instant.now();
+    JdbcCustodyWebhookEvent event =
+        JdbcCustodyWebhookEvent.builder()
+            .id(id)
+            .externalTxId(transactionDetails.getId())
+            .payload(payload)
+            .receivedAt(now)
+            .claimedBy(instanceId)
+            .claimedUntil(now.plus(CLAIM_DURATION))
+            .build();
+    try {
+      // Never overwrites a stored event, which may already be processed
+      webhookEventRepo.insert(
+          event.getId(),
+          event.getExternalTxId(),
+          event.getPayload(),
+          event.getReceivedAt(),
+          event.getClaimedBy(),
+          event.getClaimedUntil());
+    } catch (DataIntegrityViolationException e) {
+      debugF("Skipping duplicated Fireblocks webhook event[{}]", id);
+      duplicateCounter.increment();
+      return;
+    }
+    dispatch(event);
+  }
+
+  void dispatch(JdbcCustodyWebhookEvent event) {
+    if (!inFlight.add(event.getId())) {
+      return;
+    }
+    depth.incrementAndGet();
+    workers[Math.floorMod(event.getExternalTxId().hashCode(), workers.length)].execute(
+        () -> process(event));
+  }
+
+  void process(JdbcCustodyWebhookEvent event) {
+    try {
+      FireblocksEventObject eventObject =
+          GsonUtils.getInstance().fromJson(event.getPayload(), FireblocksEventObject.class);
+      TransactionDetails transactionDetails = eventObject.getData();
+      eventService.process(transactionDetails);
+      event.setProcessedAt(Instant.now());
+      lagTimer.record(Duration.between(event.getReceivedAt(), event.getProcessedAt()));
+      successCounter.increment();
+    } catch (Exception e) {
+      errorEx(String.format("Failed to process Fireblocks webhook event[%s]", event.getId()), e);
+      failureCounter.increment();
+    } finally {
+      event.setAttemptCount(event.getAttemptCount() + 1);
+      try {
+        // The claim of a failed event expires, so the event is retried by the recovery task
+        webhookEventRepo.attempted(event.getId(), event.getProcessedAt());
+      } catch (Exception e) {
+        errorEx(String.format("Failed to save Fireblocks webhook event[%s]", event.getId()), e);
+      } finally {
+        inFlight.remove(event.getId());
+        depth.decrementAndGet();
+      }
+    }
+  }
+
+  void recover() {
+    try {
+      Map<String, List<JdbcCustodyWebhookEvent>> eventsByTransaction =
+          webhookEventRepo
+              .findTop100ByProcessedAtIsNullAndAttemptCountLessThanOrderByReceivedAtAsc(maxAttempts)
+              .stream()
+              .collect(
+                  Collectors.groupingBy(
+                      JdbcCustodyWebhookEvent::getExternalTxId,
+                      LinkedHashMap::new,
+                      Collectors.toList()));
+      eventsByTransaction.values().forEach(this::replay);
+      int deleted = webhookEventRepo.deleteProcessedBefore(Instant.now().minus(RETENTION));
+      if (deleted > 0) {
+        debugF("Deleted {} processed Fireblocks webhook events", deleted);
+      }
+    } catch (Exception e) {
+      errorEx("Failed to recover Fireblocks webhook events", e);
+    }
+  }
+
+  void replay(List<JdbcCustodyWebhookEvent> events) {
+    for (JdbcCustodyWebhookEvent event : events) {
+      if (!inFlight.contains(event.getId()) && !claim(event)) {
+        // The later events of the transaction wait for the server processing this one
+        return;
+      }
+      dispatch(event);
+    }
+  }
+
+  boolean claim(JdbcCustodyWebhookEvent event) {
+    Instant now = Instant.now();
+    Instant claimedUntil = now.plus(CLAIM_DURATION);
+    if (webhookEventRepo.claim(event.getId(), instanceId, claimedUntil, now) == 0) {
+      debugF("Fireblocks webhook event[{}] is claimed by another server", event.getId());
+      return false;
+    }
+    event.setClaimedBy(instanceId);
+    event.setClaimedUntil(claimedUntil);
+    return true;
+  }
+
+  static String eventId(TransactionDetails transactionDetails) {
+    return String.format(
+        "%s:%s:%s",
+        transactionDetails.getId(),
+        transactionDetails.getStatus(),
+        transactionDetails.getLastUpdated());
+  }
+}
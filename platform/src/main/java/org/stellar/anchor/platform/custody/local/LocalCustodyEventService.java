@@ -0,0 +1,112 @@
+package org.stellar.anchor.platform.custody.local;
+
+import static org.stellar.anchor.util.Log.errorEx;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.stellar.anchor.api.exception.BadRequestException;
+import org.stellar.anchor.platform.custody.*;
+import org.stellar.anchor.platform.custody.CustodyPayment.CustodyPaymentStatus;
+import org.stellar.anchor.platform.data.JdbcCustodyTransaction;
+import org.stellar.anchor.platform.data.JdbcCustodyTransactionRepo;
+import org.stellar.sdk.Asset;
+import org.stellar.sdk.AssetTypeCreditAlphaNum;
+import org.stellar.sdk.responses.TransactionResponse;
+
+/**
+ * Local custody implementation of event service. The events are the outcomes of the payments
+ * submitted by the {@link LocalPaymentBatcher}, since there is no custody service to send webhooks.
+ */
+public class LocalCustodyEventService extends CustodyEventService
+    implements LocalPaymentBatcher.Listener {
+
+  private final JdbcCustodyTransactionRepo custodyTransactionRepo;
+  private final String distributionAccountId;
+
+  public LocalCustodyEventService(
+      JdbcCustodyTransactionRepo custodyTransactionRepo,
+      Sep6CustodyPaymentHandler sep6CustodyPaymentHandler,
+      Sep24CustodyPaymentHandler sep24CustodyPaymentHandler,
+      Sep31CustodyPaymentHandler sep31CustodyPaymentHandler,
+      String distributionAccountId) {
+    super(
+        custodyTransactionRepo,
+        sep6CustodyPaymentHandler,
+        sep24CustodyPaymentHandler,
+        sep31CustodyPaymentHandler);
+    this.custodyTransactionRepo = custodyTransactionRepo;
+    this.distributionAccountId = distributionAccountId;
+  }
+
+  @Override
+  public void handleEvent(String event, Map<String, String> headers) throws BadRequestException {
+    throw new BadRequestException("Webhook events are not supported by the local custody");
+  }
+
+  @Override
+  public void onSubmitted(List<JdbcCustodyTransaction> txns, TransactionResponse response) {
+    for (JdbcCustodyTransaction txn : txns) {
+      handle(
+          toPayment(txn, CustodyPaymentStatus.SUCCESS, null)
+              .transactionHash(response.getHash())
+              .transactionEnvelope(response.getEnvelopeXdr())
+              .build());
+    }
+  }
+
+  @Override
+  public void onFailed(List<JdbcCustodyTransaction> txns, String message) {
+    for (JdbcCustodyTransaction txn : txns) {
+      handle(toPayment(txn, CustodyPaymentStatus.ERROR, message).build());
+    }
+  }
+
+  /**
+   * The ID of the payments is the ID of their custody transaction, whose external transaction ID is
+   * replaced by the hash of each transaction built for the payment.
+   */
+  @Override
+  protected JdbcCustodyTransaction getCustodyTransaction(CustodyPayment payment) {
+    return custodyTransactionRepo.findById(payment.getId()).orElse(null);
+  }
+
+  private void handle(CustodyPayment payment) {
+    try {
+      handlePayment(payment);
+    } catch (Exception ex) {
+      errorEx(
+          String.format(
+              "Failed to handle the payment of custody transaction[%s]", payment.getExternalTxId()),
+          ex);
+    }
+  }
+
+  private CustodyPayment.CustodyPaymentBuilder toPayment(
+      JdbcCustodyTransaction txn, CustodyPaymentStatus status, String message) {
+    Asset asset = LocalPaymentBatcher.getAsset(txn.getAsset());
+    String assetCode = asset.getType();
+    String assetIssuer = null;
+    if (asset instanceof AssetTypeCreditAlphaNum) {
+      assetCode = ((AssetTypeCreditAlphaNum) asset).getCode();
+      assetIssuer = ((AssetTypeCreditAlphaNum) asset).getIssuer();
+    }
+
+    return CustodyPayment.builder()
+        .id(txn.getId())
+        .externalTxId(txn.getExternalTxId())
+        .type(CustodyPayment.Type.PAYMENT)
+        .from(distributionAccountId)
+        .to(txn.getToAccount())
+        .amount(txn.getAmount())
+        .assetType(asset.getType())
+        .assetCode(assetCode)
+        .assetIssuer(assetIssuer)
+        .assetName(asset.toString())
+        .updatedAt(Instant.now())
+        .status(status)
+        .message(message)
+        .transactionMemo(txn.getMemo())
+        .transactionMemoType(txn.getMemoType());
+  }
+}
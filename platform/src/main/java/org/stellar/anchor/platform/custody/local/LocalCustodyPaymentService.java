@@ -0,0 +1,141 @@
+package org.stellar.anchor.platform.custody.local;
+
+import static org.stellar.anchor.util.MemoHelper.memoTypeAsString;
+
+import com.google.common.collect.Lists;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import org.stellar.anchor.api.custody.CreateTransactionPaymentResponse;
+import org.stellar.anchor.api.custody.GenerateDepositAddressResponse;
+import org.stellar.anchor.api.exception.CustodyException;
+import org.stellar.anchor.platform.custody.CustodyPaymentService;
+import org.stellar.anchor.platform.data.JdbcCustodyTransaction;
+import org.stellar.sdk.Server;
+import org.stellar.sdk.exception.NetworkException;
+import org.stellar.sdk.requests.RequestBuilder;
+import org.stellar.sdk.requests.TransactionsRequestBuilder;
+import org.stellar.sdk.responses.TransactionResponse;
+import org.stellar.sdk.xdr.MemoType;
+
+/**
+ * Local custody implementation of payment service. The payments are signed with the keys held by
+ * the custody server, and submitted to the Stellar network in batches by the {@link
+ * LocalPaymentBatcher}
+ */
+public class LocalCustodyPaymentService implements CustodyPaymentService<TransactionResponse> {
+  static final int TRANSACTION_LIMIT = 200;
+
+  private final Server server;
+  private final LocalPaymentBatcher batcher;
+  private final String distributionAccountId;
+  private final SecureRandom random = new SecureRandom();
+
+  public LocalCustodyPaymentService(
+      Server server, LocalPaymentBatcher batcher, String distributionAccountId) {
+    this.server = server;
+    this.batcher = batcher;
+    this.distributionAccountId = distributionAccountId;
+  }
+
+  /**
+   * The deposits are received by the distribution account, and told apart by a random ID memo.
+   *
+   * @see CustodyPaymentService#generateDepositAddress(String)
+   */
+  @Override
+  public GenerateDepositAddressResponse generateDepositAddress(String assetId) {
+    String memo = Long.toString(random.nextLong() & Long.MAX_VALUE);
+    return new GenerateDepositAddressResponse(
+        distributionAccountId, memo, memoTypeAsString(MemoType.MEMO_ID));
+  }
+
+  /**
+   * The payment is queued, and sent in the next batch. The ID of the custody transaction is used as
+   * the external transaction ID, since the Stellar transaction is not known yet.
+   *
+   * @see CustodyPaymentService#createTransactionPayment(JdbcCustodyTransaction, String)
+   */
+  @Override
+  public CreateTransactionPaymentResponse createTransactionPayment(
+      JdbcCustodyTransaction txn, String requestBody) {
+    batcher.enqueue(txn);
+    return new CreateTransactionPaymentResponse(txn.getId());
+  }
+
+  /**
+   * Get the Stellar transaction by hash
+   *
+   * @param txnId Stellar transaction hash
+   * @return Stellar transaction
+   * @throws CustodyException if an error happens on Horizon
+   */
+  @Override
+  public TransactionResponse getTransactionById(String txnId) throws CustodyException {
+    try {
+      return server.transactions().transaction(txnId);
+    } catch (NetworkException ex) {
+      throw new CustodyException(
+          String.format("Failed to get Stellar transaction[%s]", txnId), ex.getMessage(), ex);
+    }
+  }
+
+  /**
+   * Horizon lists the transactions of an account from the newest, so the transactions of the
+   * distribution account within the time range are collected before they are handed over in the
+   * order they were created.
+   *
+   * @see CustodyPaymentService#forEachTransactionPage(Instant, Instant, Consumer)
+   */
+  @Override
+  public void forEachTransactionPage(
+      Instant startTime, Instant endTime, Consumer<List<TransactionResponse>> pageHandler)
+      throws CustodyException {
+    if (startTime.isAfter(endTime)) {
+      throw new IllegalArgumentException("End time can't be before start time");
+    }
+
+    List<TransactionResponse> transactions = new ArrayList<>();
+    String cursor = null;
+    try {
+      while (true) {
+        TransactionsRequestBuilder request =
+            server
+                .transactions()
+                .forAccount(distributionAccountId)
+                .order(RequestBuilder.Order.DESC)
+                .limit(TRANSACTION_LIMIT);
+        if (cursor != null) {
+          request.cursor(cursor);
+        }
+        List<TransactionResponse> records = request.execute().getRecords();
+        boolean reachedStart = false;
+        for (TransactionResponse record : records) {
+          Instant createdAt = Instant.parse(record.getCreatedAt());
+          if (createdAt.isBefore(startTime)) {
+            reachedStart = true;
+            break;
+          }
+          if (!createdAt.isAfter(endTime)) {
+            transactions.add(record);
+          }
+        }
+        if (reachedStart || records.size() < TRANSACTION_LIMIT) {
+          break;
+        }
+        cursor = records.get(records.size() - 1).getPagingToken();
+      }
+    } catch (NetworkException ex) {
+      throw new CustodyException(
+          String.format("Failed to list the transactions of account[%s]", distributionAccountId),
+          ex.getMessage(),
+          ex);
+    }
+
+    Collections.reverse(transactions);
+    Lists.partition(transactions, TRANSACTION_LIMIT).forEach(pageHandler);
+  }
+}
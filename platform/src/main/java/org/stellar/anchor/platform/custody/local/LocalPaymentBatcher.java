@@ -0,0 +1,669 @@
+package org.stellar.anchor.platform.custody.local;
+
+import static org.stellar.anchor.util.Log.*;
+import static org.stellar.anchor.util.MetricConstants.*;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import lombok.AllArgsConstructor;
+import org.stellar.anchor.api.exception.CustodyException;
+import org.stellar.anchor.api.exception.SepException;
+import org.stellar.anchor.horizon.Horizon;
+import org.stellar.anchor.platform.config.LocalCustodyConfig;
+import org.stellar.anchor.platform.data.CustodyTransactionStatus;
+import org.stellar.anchor.platform.data.JdbcCustodyTransaction;
+import org.stellar.anchor.platform.data.JdbcCustodyTransactionRepo;
+import org.stellar.anchor.platform.utils.DaemonExecutors;
+import org.stellar.anchor.util.MemoHelper;
+import org.stellar.anchor.util.Meters;
+import org.stellar.sdk.AbstractTransaction;
+import org.stellar.sdk.Account;
+import org.stellar.sdk.Asset;
+import org.stellar.sdk.FeeBumpTransaction;
+import org.stellar.sdk.KeyPair;
+import org.stellar.sdk.Network;
+import org.stellar.sdk.TimeBounds;
+import org.stellar.sdk.Transaction;
+import org.stellar.sdk.TransactionBuilder;
+import org.stellar.sdk.TransactionPreconditions;
+import org.stellar.sdk.exception.BadRequestException;
+import org.stellar.sdk.exception.NetworkException;
+import org.stellar.sdk.operations.PaymentOperation;
+import org.stellar.sdk.responses.AccountResponse;
+import org.stellar.sdk.responses.Problem.Extras.ResultCodes;
+import org.stellar.sdk.responses.TransactionResponse;
+
+/**
+ * Sends the outbound payments of the local custody in batches.
+ *
+ * <p>A single dispatcher groups the queued payments into Stellar transactions of up to {@code
+ * max_operations} payments, waiting at most {@code max_delay} for a batch to fill up. The payments
+ * with a memo are sent in their own transaction, since the memo belongs to the transaction.
+ *
+ * <p>The payments are sent from the distribution account, while the transactions are submitted in
+ * parallel from the channel accounts, which pay the fees and provide the sequence numbers. The
+ * sequence number of each channel account is cached, and reloaded when the transaction is rejected.
+ * A transaction rejected for an insufficient fee is fee-bumped, and a failed transaction is
+ * submitted again without the payments that failed.
+ *
+ * <p>Before a transaction is submitted, its hash replaces the external transaction ID of the
+ * custody transactions of its payments, provided they still have the external transaction ID
+ * expected by the payments. A payment queued twice, e.g. by the {@link
+ * LocalPaymentReconciliationJob} after a restart, is therefore sent by one transaction only, and
+ * the payments interrupted by a restart are found by their hash.
+ */
+public class LocalPaymentBatcher {
+  static final String TX_BAD_SEQ = "tx_bad_seq";
+  static final String TX_INSUFFICIENT_FEE = "tx_insufficient_fee";
+  static final String TX_FAILED = "tx_failed";
+  static final String TX_FEE_BUMP_INNER_FAILED = "tx_fee_bump_inner_failed";
+  static final String OP_SUCCESS = "op_success";
+  static final long POLL_TIMEOUT_MILLIS = 1000;
+  // How long a payment waits for its custody transaction to be marked as submitted
+  static final Duration READY_TIMEOUT = Duration.ofSeconds(30);
+  // The delay before checking again the payments whose custody transaction is not submitted yet
+  static final long NOT_READY_DELAY_MILLIS = 100;
+  // How long Horizon may take to ingest the ledger of a transaction
+  static final Duration INGESTION_DELAY = Duration.ofSeconds(15);
+
+  final Horizon horizon;
+  final Network network;
+  final LocalCustodyConfig config;
+  final JdbcCustodyTransactionRepo custodyTransactionRepo;
+  final Listener listener;
+  final KeyPair distributionKeyPair;
+  final BlockingQueue<Payout> queue = new LinkedBlockingQueue<>();
+  final BlockingQueue<ChannelAccount> channels = new LinkedBlockingQueue<>();
+  final ExecutorService dispatcher = DaemonExecutors.newSingleThreadExecutor();
+  final ExecutorService submitters;
+  Duration ingestionDelay = INGESTION_DELAY;
+  volatile boolean running;
+
+  final AtomicInteger queueDepth = Metrics.gauge(CUSTODY_LOCAL_QUEUE_DEPTH, new AtomicInteger());
+  final DistributionSummary batchSize = Metrics.summary(CUSTODY_LOCAL_BATCH_SIZE);
+  final Counter feeBumpCounter = Metrics.counter(CUSTODY_LOCAL_FEE_BUMP);
+
+  public LocalPaymentBatcher(
+      Horizon horizon,
+      Network network,
+      LocalCustodyConfig config,
+      JdbcCustodyTransactionRepo custodyTransactionRepo,
+      Listener listener) {
+    this.horizon = horizon;
+    this.network = network;
+    this.config = config;
+    this.custodyTransactionRepo = custodyTransactionRepo;
+    this.listener = listener;
+    this.distributionKeyPair = config.getDistributionKeyPair();
+    config.getChannelKeyPairs().forEach(keyPair -> channels.add(new ChannelAccount(keyPair)));
+    this.submitters = DaemonExecutors.newFixedThreadPool(channels.size());
+  }
+
+  public void start() {
+    infoF("Starting the local custody payment batcher with {} channel accounts", channels.size());
+    running = true;
+    dispatcher.execute(this::dispatchLoop);
+  }
+
+  public void shutdown() {
+    info("Stopping the local custody payment batcher");
+    running = false;
+    dispatcher.shutdownNow();
+    submitters.shutdown();
+  }
+
+  /**
+   * Queues the outbound payment of the custody transaction. The payment is sent once the custody
+   * transaction is marked as submitted.
+   *
+   * @param txn custody transaction
+   */
+  public void enqueue(JdbcCustodyTransaction txn) {
+    // The ID of the custody transaction is its external transaction ID until the payment is sent
+    enqueue(txn, txn.getId());
+  }
+
+  void enqueue(JdbcCustodyTransaction txn, String externalTxId) {
+    queue.add(new Payout(txn, Instant.now(), externalTxId));
+    queueDepth.set(queue.size());
+  }
+
+  /**
+   * Recovers the payment of the custody transaction, which was interrupted, e.g. by a restart. If
+   * the last transaction built for the payment was applied, the payment is reported as sent.
+   * Otherwise, the payment is queued again.
+   *
+   * <p>The last transaction must have expired, and Horizon must have ingested its last ledger.
+   *
+   * @param txn submitted custody transaction
+   * @throws CustodyException if an error happens on Horizon
+   */
+  public void recover(JdbcCustodyTransaction txn) throws CustodyException {
+    String externalTxId = txn.getExternalTxId();
+    if (!txn.getId().equals(externalTxId)) {
+      TransactionResponse applied = findTransaction(externalTxId);
+      if (applied != null && Boolean.TRUE.equals(applied.getSuccessful())) {
+        infoF("The payment of custody transaction[{}] was sent. Reporting it", txn.getId());
+        listener.onSubmitted(List.of(txn), applied);
+        return;
+      }
+    }
+    infoF("The payment of custody transaction[{}] was not sent. Queueing it again", txn.getId());
+    enqueue(txn, externalTxId);
+  }
+
+  void dispatchLoop() {
+    while (running) {
+      try {
+        dispatch();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception ex) {
+        errorEx("Failed to dispatch the local custody payments", ex);
+      }
+    }
+  }
+
+  /** Forms the batches of the queued payments, and submits each of them from a free channel. */
+  void dispatch() throws InterruptedException {
+    Payout first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    if (first == null) {
+      return;
+    }
+    List<Payout> payouts = new ArrayList<>();
+    payouts.add(first);
+    long deadline =
+        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getBatch().getMaxDelay());
+    while (payouts.size() < config.getBatch().getMaxOperations()) {
+      long remaining = deadline - System.nanoTime();
+      Payout next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+      if (next == null) {
+        break;
+      }
+      payouts.add(next);
+    }
+
+    List<List<Payout>> batches = toBatches(getReadyPayouts(payouts));
+    queueDepth.set(queue.size());
+    if (batches.isEmpty()) {
+      Thread.sleep(NOT_READY_DELAY_MILLIS);
+    }
+    for (List<Payout> batch : batches) {
+      ChannelAccount channel = channels.take();
+      submitters.execute(
+          () -> {
+            try {
+              submit(channel, batch);
+            } finally {
+              channels.add(channel);
+            }
+          });
+    }
+  }
+
+  /**
+   * The custody transaction is marked as submitted after its payment is queued. The payments whose
+   * custody transaction is not marked as submitted yet are queued again.
+   */
+  List<Payout> getReadyPayouts(List<Payout> payouts) {
+    Map<String, JdbcCustodyTransaction> txns =
+        StreamSupport.stream(
+                custodyTransactionRepo
+                    .findAllById(
+                        payouts.stream().map(p -> p.txn.getId()).collect(Collectors.toList()))
+                    .spliterator(),
+                false)
+            .collect(Collectors.toMap(JdbcCustodyTransaction::getId, Function.identity()));
+
+    List<Payout> ready = new ArrayList<>();
+    for (Payout payout : payouts) {
+      JdbcCustodyTransaction txn = txns.get(payout.txn.getId());
+      CustodyTransactionStatus status =
+          txn != null ? CustodyTransactionStatus.from(txn.getStatus()) : null;
+      if (status == CustodyTransactionStatus.SUBMITTED) {
+        ready.add(new Payout(txn, payout.enqueuedAt, payout.externalTxId));
+      } else if (status == CustodyTransactionStatus.COMPLETED
+          || status == CustodyTransactionStatus.FAILED) {
+        // The payment was queued twice, and the other payment is already handled
+        debugF("The payment of custody transaction[{}] is already handled", txn.getId());
+      } else if (payout.enqueuedAt.plus(READY_TIMEOUT).isBefore(Instant.now())) {
+        warnF(
+            "Custody transaction[{}] was not submitted in time. The payment failed",
+            payout.txn.getId());
+        if (txn != null) {
+          listener.onFailed(List.of(txn), "The custody transaction was not submitted in time");
+        }
+      } else {
+        queue.add(payout);
+      }
+    }
+    return ready;
+  }
+
+  /**
+   * The payments of a batch are told apart by their destination, asset and amount, so the payments
+   * with the same destination, asset and amount are sent in different batches.
+   */
+  List<List<Payout>> toBatches(List<Payout> payouts) {
+    List<List<Payout>> batches = new ArrayList<>();
+    List<Payout> remaining = payouts;
+    while (!remaining.isEmpty()) {
+      List<Payout> deferred = new ArrayList<>();
+      List<Payout> batch = new ArrayList<>();
+      Set<String> paymentKeys = new HashSet<>();
+      for (Payout payout : remaining) {
+        if (payout.hasMemo()) {
+          batches.add(List.of(payout));
+          continue;
+        }
+        if (!paymentKeys.add(payout.getPaymentKey())) {
+          deferred.add(payout);
+          continue;
+        }
+        batch.add(payout);
+        if (batch.size() == config.getBatch().getMaxOperations()) {
+          batches.add(batch);
+          batch = new ArrayList<>();
+          paymentKeys.clear();
+        }
+      }
+      if (!batch.isEmpty()) {
+        batches.add(batch);
+      }
+      remaining = deferred;
+    }
+    return batches;
+  }
+
+  /**
+   * Submits the batch from the channel account and reports the outcome of each payment to the
+   * listener. If the transaction failed, the payments that failed are reported, and the other
+   * payments are submitted again.
+   */
+  void submit(ChannelAccount channel, List<Payout> batch) {
+    batchSize.record(batch.size());
+    Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+    String result = TV_FAILURE;
+    List<List<Payout>> retries = List.of();
+    try {
+      TransactionResponse response = submitWithRetries(channel, batch);
+      result = TV_SUCCESS;
+      listener.onSubmitted(toTxns(batch), response);
+    } catch (TransactionFailedException ex) {
+      retries = getRetries(batch, ex);
+      if (retries.isEmpty()) {
+        listener.onFailed(toTxns(batch), ex.getMessage());
+      }
+    } catch (PayoutsClaimedException ex) {
+      // The payments claimed by another submission are sent by it
+      debugF("The payments of custody transactions{} were claimed", toIds(ex.claimed));
+      List<Payout> unclaimed = new ArrayList<>(batch);
+      unclaimed.removeAll(ex.claimed);
+      retries = unclaimed.isEmpty() ? List.of() : List.of(unclaimed);
+    } catch (Exception ex) {
+      errorEx("Failed to submit the local custody payments", ex);
+      listener.onFailed(toTxns(batch), ex.getMessage());
+    } finally {
+      sample.stop(Meters.timer(CUSTODY_LOCAL_SUBMIT, RESULT, result));
+    }
+    retries.forEach(retry -> submit(channel, retry));
+  }
+
+  /**
+   * Returns the batches to submit again after the transaction failed. If the result codes of the
+   * operations are known, the payments that failed are reported and the others are submitted again
+   * as one batch. Otherwise, each payment is submitted on its own.
+   */
+  List<List<Payout>> getRetries(List<Payout> batch, TransactionFailedException ex) {
+    List<String> codes = ex.operationCodes;
+    if (codes != null && codes.size() == batch.size()) {
+      List<Payout> failed = new ArrayList<>();
+      List<Payout> succeeded = new ArrayList<>();
+      for (int i = 0; i < batch.size(); i++) {
+        if (OP_SUCCESS.equals(codes.get(i))) {
+          succeeded.add(batch.get(i));
+        } else {
+          failed.add(batch.get(i));
+        }
+      }
+      if (!failed.isEmpty() && !succeeded.isEmpty()) {
+        listener.onFailed(toTxns(failed), ex.getMessage());
+        return List.of(succeeded);
+      }
+    }
+    if (batch.size() > 1) {
+      return batch.stream().map(List::of).collect(Collectors.toList());
+    }
+    return List.of();
+  }
+
+  TransactionResponse submitWithRetries(ChannelAccount channel, List<Payout> batch)
+      throws CustodyException,
+          TransactionFailedException,
+          PayoutsClaimedException,
+          InterruptedException {
+    long baseFee = config.getFee().getBaseFee();
+    Transaction transaction = null;
+    AbstractTransaction envelope = null;
+    // Whether the envelope may have been applied, after its submission timed out
+    boolean uncertain = false;
+
+    for (int attempt = 1; attempt <= config.getMaxSubmitAttempts(); attempt++) {
+      if (envelope == null) {
+        transaction = build(channel, batch, baseFee);
+        claim(channel, batch, transaction.hashHex());
+        envelope = transaction;
+      }
+      try {
+        return send(envelope);
+      } catch (BadRequestException ex) {
+        String code = getTransactionResultCode(ex);
+        if (uncertain && TX_BAD_SEQ.equals(code)) {
+          // The sequence number was consumed, maybe by the envelope, which Horizon may not have
+          // ingested yet. The envelope is looked up again once it can no longer be applied.
+          TransactionResponse applied = findTransaction(transaction.hashHex());
+          if (applied == null) {
+            awaitExpiry(transaction);
+            applied = findTransaction(transaction.hashHex());
+          }
+          if (applied != null) {
+            return checkSuccessful(applied);
+          }
+        }
+        uncertain = false;
+        switch (code == null ? "" : code) {
+          case TX_FAILED:
+            // The sequence number was consumed
+            throw new TransactionFailedException(code, getOperationResultCodes(ex));
+          case TX_INSUFFICIENT_FEE:
+            if (baseFee < config.getFee().getMaxFee()) {
+              baseFee = Math.min(baseFee * 2, config.getFee().getMaxFee());
+              envelope = feeBump(channel, transaction, baseFee);
+              feeBumpCounter.increment();
+              debugF("Fee-bumped transaction[{}] to base fee {}", transaction.hashHex(), baseFee);
+              break;
+            }
+            channel.account = null;
+            throw new CustodyException(
+                String.format("The fee exceeds the maximum fee. Result code[%s]", code));
+          case TX_BAD_SEQ:
+            debugF("The sequence number of channel account[{}] is stale", channel.getAccountId());
+            channel.account = null;
+            envelope = null;
+            break;
+          default:
+            channel.account = null;
+            envelope = null;
+            warnF("The transaction was rejected. Result code[{}] attempt[{}]", code, attempt);
+        }
+      } catch (NetworkException ex) {
+        // The transaction may have been applied. The same envelope is submitted again, so that the
+        // payments are not sent twice.
+        warnF(
+            "Failed to submit transaction[{}]. attempt[{}] error[{}]",
+            envelope.hashHex(),
+            attempt,
+            ex.getMessage());
+        uncertain = true;
+      }
+    }
+
+    if (uncertain) {
+      awaitExpiry(transaction);
+      TransactionResponse applied = findTransaction(transaction.hashHex());
+      if (applied != null) {
+        return checkSuccessful(applied);
+      }
+      channel.account = null;
+    }
+    throw new CustodyException(
+        String.format(
+            "The transaction was not submitted after %d attempts", config.getMaxSubmitAttempts()));
+  }
+
+  Transaction build(ChannelAccount channel, List<Payout> batch, long baseFee)
+      throws CustodyException {
+    if (channel.account == null) {
+      channel.account = loadAccount(channel.getAccountId());
+    }
+
+    TransactionBuilder builder =
+        new TransactionBuilder(channel.account, network)
+            .setBaseFee(baseFee)
+            .addPreconditions(
+                TransactionPreconditions.builder()
+                    .timeBounds(TimeBounds.expiresAfter(config.getTransactionTimeout()))
+                    .build());
+    for (Payout payout : batch) {
+      builder.addOperation(
+          PaymentOperation.builder()
+              .sourceAccount(distributionKeyPair.getAccountId())
+              .destination(payout.txn.getToAccount())
+              .asset(getAsset(payout.txn.getAsset()))
+              .amount(new BigDecimal(payout.txn.getAmount()))
+              .build());
+    }
+    if (batch.size() == 1 && batch.get(0).hasMemo()) {
+      JdbcCustodyTransaction txn = batch.get(0).txn;
+      try {
+        builder.addMemo(MemoHelper.makeMemo(txn.getMemo(), txn.getMemoType()));
+      } catch (SepException ex) {
+        throw new CustodyException(
+            String.format("Invalid memo of custody transaction[%s]", txn.getId()), null, ex);
+      }
+    }
+
+    Transaction transaction = builder.build();
+    transaction.sign(channel.keyPair);
+    if (!channel.getAccountId().equals(distributionKeyPair.getAccountId())) {
+      transaction.sign(distributionKeyPair);
+    }
+    return transaction;
+  }
+
+  /**
+   * Records the hash of the transaction as the external transaction ID of the custody transactions
+   * of the payments. The payments whose custody transaction no longer has the expected external
+   * transaction ID were claimed by another submission.
+   *
+   * @throws PayoutsClaimedException if some payments were claimed by another submission
+   */
+  void claim(ChannelAccount channel, List<Payout> batch, String hash)
+      throws PayoutsClaimedException {
+    Instant now = Instant.now();
+    List<Payout> claimed = new ArrayList<>();
+    for (Payout payout : batch) {
+      int updated =
+          custodyTransactionRepo.claim(
+              payout.txn.getId(),
+              payout.externalTxId,
+              hash,
+              CustodyTransactionStatus.SUBMITTED.toString(),
+              now);
+      if (updated == 1) {
+        payout.externalTxId = hash;
+        payout.txn.setExternalTxId(hash);
+        payout.txn.setUpdatedAt(now);
+      } else {
+        claimed.add(payout);
+      }
+    }
+    if (!claimed.isEmpty()) {
+      // The transaction is not submitted, so its sequence number is not consumed
+      channel.account = null;
+      throw new PayoutsClaimedException(claimed);
+    }
+  }
+
+  /** Waits until the transaction can no longer be applied, and Horizon ingested its last ledger. */
+  void awaitExpiry(Transaction transaction) throws InterruptedException {
+    Instant expiresAt =
+        Instant.ofEpochSecond(transaction.getTimeBounds().getMaxTime().longValue())
+            .plus(ingestionDelay);
+    long waitMillis = Duration.between(Instant.now(), expiresAt).toMillis();
+    if (waitMillis > 0) {
+      Thread.sleep(waitMillis);
+    }
+  }
+
+  FeeBumpTransaction feeBump(ChannelAccount channel, Transaction transaction, long baseFee) {
+    FeeBumpTransaction feeBump =
+        FeeBumpTransaction.createWithBaseFee(channel.getAccountId(), baseFee, transaction);
+    feeBump.sign(channel.keyPair);
+    return feeBump;
+  }
+
+  TransactionResponse send(AbstractTransaction envelope) {
+    // The destinations are the accounts of the SEP transactions, so the memo required check of
+    // SEP-29 is skipped to save an account lookup per payment.
+    return horizon.submitTransaction(envelope, true);
+  }
+
+  Account loadAccount(String accountId) throws CustodyException {
+    try {
+      AccountResponse account = horizon.getAccount(accountId);
+      return new Account(account.getAccountId(), account.getSequenceNumber());
+    } catch (NetworkException ex) {
+      throw new CustodyException(
+          String.format("Failed to load channel account[%s]", accountId), ex.getMessage(), ex);
+    }
+  }
+
+  /** Returns the transaction, or null if it is not found. */
+  TransactionResponse findTransaction(String hash) throws CustodyException {
+    try {
+      return horizon.getTransaction(hash);
+    } catch (NetworkException ex) {
+      if (ex.getCode() != null && ex.getCode() == 404) {
+        return null;
+      }
+      throw new CustodyException(
+          String.format("Failed to get transaction[%s]", hash), ex.getMessage(), ex);
+    }
+  }
+
+  private TransactionResponse checkSuccessful(TransactionResponse response)
+      throws TransactionFailedException {
+    if (!Boolean.TRUE.equals(response.getSuccessful())) {
+      throw new TransactionFailedException(TX_FAILED, null);
+    }
+    return response;
+  }
+
+  private static String getTransactionResultCode(BadRequestException ex) {
+    ResultCodes resultCodes = getResultCodes(ex);
+    if (resultCodes == null) {
+      return null;
+    }
+    // The result of the inner transaction of a fee bump transaction
+    if (TX_FEE_BUMP_INNER_FAILED.equals(resultCodes.getTransactionResultCode())
+        && resultCodes.getInnerTransactionResultCode() != null) {
+      return resultCodes.getInnerTransactionResultCode();
+    }
+    return resultCodes.getTransactionResultCode();
+  }
+
+  private static List<String> getOperationResultCodes(BadRequestException ex) {
+    ResultCodes resultCodes = getResultCodes(ex);
+    return resultCodes == null ? null : resultCodes.getOperationsResultCodes();
+  }
+
+  private static ResultCodes getResultCodes(BadRequestException ex) {
+    if (ex.getProblem() == null || ex.getProblem().getExtras() == null) {
+      return null;
+    }
+    return ex.getProblem().getExtras().getResultCodes();
+  }
+
+  static Asset getAsset(String asset) {
+    return Asset.create(asset.replace("stellar:", ""));
+  }
+
+  private static List<JdbcCustodyTransaction> toTxns(List<Payout> payouts) {
+    return payouts.stream().map(payout -> payout.txn).collect(Collectors.toList());
+  }
+
+  private static List<String> toIds(List<Payout> payouts) {
+    return payouts.stream().map(payout -> payout.txn.getId()).collect(Collectors.toList());
+  }
+
+  /** Receives the outcome of the submitted payments. */
+  public interface Listener {
+    void onSubmitted(List<JdbcCustodyTransaction> txns, TransactionResponse response);
+
+    void onFailed(List<JdbcCustodyTransaction> txns, String message);
+  }
+
+  @AllArgsConstructor
+  static class Payout {
+    final JdbcCustodyTransaction txn;
+    final Instant enqueuedAt;
+    // The external transaction ID the custody transaction is expected to have
+    String externalTxId;
+
+    boolean hasMemo() {
+      return txn.getMemo() != null && !txn.getMemo().isEmpty();
+    }
+
+    String getPaymentKey() {
+      return String.join(
+          ":",
+          txn.getToAccount(),
+          txn.getAsset(),
+          new BigDecimal(txn.getAmount()).stripTrailingZeros().toPlainString());
+    }
+  }
+
+  static class ChannelAccount {
+    final KeyPair keyPair;
+    // The account with the cached sequence number, or null if it must be loaded from Horizon
+    Account account;
+
+    ChannelAccount(KeyPair keyPair) {
+      this.keyPair = keyPair;
+    }
+
+    String getAccountId() {
+      return keyPair.getAccountId();
+    }
+  }
+
+  static class PayoutsClaimedException extends Exception {
+    final List<Payout> claimed;
+
+    PayoutsClaimedException(List<Payout> claimed) {
+      super("The payments were claimed by another submission");
+      this.claimed = claimed;
+    }
+  }
+
+  static class TransactionFailedException extends Exception {
+    final List<String> operationCodes;
+
+    TransactionFailedException(String code, List<String> operationCodes) {
+      super(
+          String.format(
+              "The transaction failed. Result code[%s], operations%s", code, operationCodes));
+      this.operationCodes = operationCodes;
+    }
+  }
+}
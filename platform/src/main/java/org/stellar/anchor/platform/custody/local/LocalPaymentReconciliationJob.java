@@ -0,0 +1,77 @@
+package org.stellar.anchor.platform.custody.local;
+
+import static org.stellar.anchor.util.Log.errorEx;
+import static org.stellar.anchor.util.Log.info;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.stellar.anchor.platform.config.LocalCustodyConfig;
+import org.stellar.anchor.platform.data.CustodyTransactionStatus;
+import org.stellar.anchor.platform.data.JdbcCustodyTransaction;
+import org.stellar.anchor.platform.data.JdbcCustodyTransactionRepo;
+import org.stellar.anchor.platform.job.JobCoordinator;
+import org.stellar.anchor.platform.job.JobCoordinator.JobRun;
+
+/**
+ * Recovers the payments of the local custody, which are queued in memory only. The submitted
+ * custody transactions that were not updated since their last transaction expired, e.g. because
+ * the custody server was restarted, are handed over to the {@link LocalPaymentBatcher}.
+ */
+public class LocalPaymentReconciliationJob {
+  static final String JOB_NAME = "local_custody_reconciliation";
+
+  private final LocalCustodyConfig config;
+  private final LocalPaymentBatcher batcher;
+  private final JdbcCustodyTransactionRepo custodyTransactionRepo;
+  private final JobCoordinator jobCoordinator;
+
+  public LocalPaymentReconciliationJob(
+      LocalCustodyConfig config,
+      LocalPaymentBatcher batcher,
+      JdbcCustodyTransactionRepo custodyTransactionRepo,
+      JobCoordinator jobCoordinator) {
+    this.config = config;
+    this.batcher = batcher;
+    this.custodyTransactionRepo = custodyTransactionRepo;
+    this.jobCoordinator = jobCoordinator;
+  }
+
+  @Scheduled(cron = "${custody.local.reconciliation.cron_expression}")
+  public void reconcileTransactions() {
+    jobCoordinator.run(JOB_NAME, this::reconcileTransactions);
+  }
+
+  void reconcileTransactions(JobRun run) {
+    info("Local custody payment reconciliation job started");
+
+    // The external transaction ID and the update time of a custody transaction are replaced before
+    // each of its transactions is submitted, so a transaction that may still be applied or that
+    // Horizon may not have ingested yet is newer than this.
+    Instant staleBefore =
+        Instant.now()
+            .minus(Duration.ofSeconds(config.getTransactionTimeout()))
+            .minus(batcher.ingestionDelay);
+    List<JdbcCustodyTransaction> txns =
+        custodyTransactionRepo
+            .findAllByStatusAndExternalTxIdNotNull(CustodyTransactionStatus.SUBMITTED.toString())
+            .stream()
+            .filter(txn -> txn.getUpdatedAt() == null || txn.getUpdatedAt().isBefore(staleBefore))
+            .filter(txn -> run.owns(txn.getId()))
+            .collect(Collectors.toList());
+    for (JdbcCustodyTransaction txn : txns) {
+      try {
+        batcher.recover(txn);
+      } catch (Exception ex) {
+        errorEx(
+            String.format("Failed to recover the payment of custody transaction[%s]", txn.getId()),
+            ex);
+      }
+    }
+    run.processed(txns.size());
+
+    info("Local custody payment reconciliation job finished");
+  }
+}
@@ -0,0 +1,100 @@
+package org.stellar.anchor.platform.data;
+
+import static org.stellar.anchor.util.MetricConstants.*;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import org.stellar.anchor.api.exception.SepException;
+import org.stellar.anchor.sep38.Sep38Quote;
+import org.stellar.anchor.sep38.Sep38QuoteStore;
+
+/**
+ * A read-through cache in front of a Sep38QuoteStore.
+ *
+ * <p>Firm quotes are written once and never updated, so a cached quote cannot become stale. The
+ * quotes are cached when saved or first read and are kept until they expire or are evicted by the
+ * least-recently-used policy. Expired and unknown quotes are always read from the delegate.
+ */
+public class CachedSep38QuoteStore implements Sep38QuoteStore {
+  final Sep38QuoteStore delegate;
+  final Supplier<Instant> clock;
+  final Map<String, Sep38Quote> cache;
+
+  final Counter hitCounter = Metrics.counter(QUOTE_CACHE, RESULT, TV_HIT);
+  final Counter missCounter = Metrics.counter(QUOTE_CACHE, RESULT, TV_MISS);
+
+  public CachedSep38QuoteStore(Sep38QuoteStore delegate, int maxSize) {
+    this(delegate, maxSize, Instant::now);
+  }
+
+  CachedSep38QuoteStore(Sep38QuoteStore delegate, int maxSize, Supplier<Instant> clock) {
+    this.delegate = delegate;
+    this.clock = clock;
+    this.cache =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Sep38Quote> eldest) {
+            return size() > maxSize;
+          }
+        };
+    Metrics.gauge(QUOTE_CACHE_SIZE, cache, this::size);
+  }
+
+  @Override
+  public Sep38Quote newInstance() {
+    return delegate.newInstance();
+  }
+
+  @Override
+  public Sep38Quote findByQuoteId(@NonNull String quoteId) {
+    Sep38Quote quote;
+    synchronized (cache) {
+      quote = cache.get(quoteId);
+      if (quote != null && isExpired(quote)) {
+        cache.remove(quoteId);
+        quote = null;
+      }
+    }
+
+    if (quote != null) {
+      hitCounter.increment();
+      return quote;
+    }
+
+    missCounter.increment();
+    quote = delegate.findByQuoteId(quoteId);
+    put(quote);
+    return quote;
+  }
+
+  @Override
+  public Sep38Quote save(Sep38Quote sep38Quote) throws SepException {
+    Sep38Quote saved = delegate.save(sep38Quote);
+    put(saved);
+    return saved;
+  }
+
+  void put(Sep38Quote quote) {
+    if (quote == null || quote.getId() == null || isExpired(quote)) {
+      return;
+    }
+    synchronized (cache) {
+      cache.put(quote.getId(), quote);
+    }
+  }
+
+  boolean isExpired(Sep38Quote quote) {
+    return quote.getExpiresAt() == null || !clock.get().isBefore(quote.getExpiresAt());
+  }
+
+  int size(Map<String, Sep38Quote> cache) {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+}
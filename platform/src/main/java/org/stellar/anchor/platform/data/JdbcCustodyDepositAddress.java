@@ -0,0 +1,47 @@
+package org.stellar.anchor.platform.data;
+
+import com.google.gson.annotations.SerializedName;
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@Entity
+@Access(AccessType.FIELD)
+@Table(name = "custody_deposit_address")
+@NoArgsConstructor
+@AllArgsConstructor
+public class JdbcCustodyDepositAddress {
+
+  @Id String id;
+
+  @SerializedName("asset")
+  @Column(name = "asset")
+  String asset;
+
+  @SerializedName("address")
+  @Column(name = "address")
+  String address;
+
+  @SerializedName("memo")
+  @Column(name = "memo")
+  String memo;
+
+  @SerializedName("memo_type")
+  @Column(name = "memo_type")
+  String memoType;
+
+  @SerializedName("created_at")
+  @Column(name = "created_at")
+  Instant createdAt;
+
+  @SerializedName("claimed_at")
+  @Column(name = "claimed_at")
+  Instant claimedAt;
+}
@@ -0,0 +1,31 @@
+package org.stellar.anchor.platform.data;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface JdbcCustodyDepositAddressRepo
+    extends CrudRepository<JdbcCustodyDepositAddress, String> {
+
+  List<JdbcCustodyDepositAddress> findTop10ByAssetAndClaimedAtIsNullOrderByCreatedAtAsc(
+      String asset);
+
+  long countByAssetAndClaimedAtIsNull(String asset);
+
+  /**
+   * Claims the address if it was not claimed yet.
+   *
+   * @return 1 if the address was claimed by this call, 0 otherwise.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "UPDATE JdbcCustodyDepositAddress a SET a.claimedAt = :claimedAt"
+              + " WHERE a.id = :id AND a.claimedAt IS NULL")
+  int claim(@Param("id") String id, @Param("claimedAt") Instant claimedAt);
+}
@@ -0,0 +1,29 @@
+package org.stellar.anchor.platform.data;
+
+import com.google.gson.annotations.SerializedName;
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * The high-water mark of a custody reconciliation. The custody transactions created before the
+ * checkpoint were already reconciled.
+ */
+@Getter
+@Setter
+@Entity
+@Access(AccessType.FIELD)
+@Table(name = "custody_reconciliation_checkpoint")
+@NoArgsConstructor
+@AllArgsConstructor
+public class JdbcCustodyReconciliationCheckpoint {
+
+  @Id String id;
+
+  @SerializedName("checkpoint_at")
+  @Column(name = "checkpoint_at")
+  Instant checkpointAt;
+}
@@ -0,0 +1,6 @@
+package org.stellar.anchor.platform.data;
+
+import org.springframework.data.repository.CrudRepository;
+
+public interface JdbcCustodyReconciliationCheckpointRepo
+    extends CrudRepository<JdbcCustodyReconciliationCheckpoint, String> {}
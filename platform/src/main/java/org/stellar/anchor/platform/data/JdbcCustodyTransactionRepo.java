@@ -1,8 +1,13 @@
 package org.stellar.anchor.platform.data;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface JdbcCustodyTransactionRepo extends CrudRepository<JdbcCustodyTransaction, String> {
 
@@ -16,4 +21,24 @@ public interface JdbcCustodyTransactionRepo extends CrudRepository<JdbcCustodyTr
   List<JdbcCustodyTransaction> findAllByStatusAndExternalTxIdNotNull(String status);
 
   List<JdbcCustodyTransaction> findAllByStatusAndKindIn(String status, Set<String> kinds);
+
+  /**
+   * Replaces the external transaction ID of the transaction if it still has the expected external
+   * transaction ID and status.
+   *
+   * @return 1 if the external transaction ID was replaced by this call, 0 otherwise.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "UPDATE JdbcCustodyTransaction t SET t.externalTxId = :externalTxId,"
+              + " t.updatedAt = :updatedAt WHERE t.id = :id"
+              + " AND t.externalTxId = :expectedExternalTxId AND t.status = :status")
+  int claim(
+      @Param("id") String id,
+      @Param("expectedExternalTxId") String expectedExternalTxId,
+      @Param("externalTxId") String externalTxId,
+      @Param("status") String status,
+      @Param("updatedAt") Instant updatedAt);
 }
@@ -0,0 +1,56 @@
+package org.stellar.anchor.platform.data;
+
+import com.google.gson.annotations.SerializedName;
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A webhook event received from the custody service. The id is derived from the custody
+ * transaction id, status and update time, so that redelivered events are stored once. An event is
+ * processed by the server that claimed it, until the claim expires.
+ */
+@Getter
+@Setter
+@Builder
+@Entity
+@Access(AccessType.FIELD)
+@Table(name = "custody_webhook_event")
+@NoArgsConstructor
+@AllArgsConstructor
+public class JdbcCustodyWebhookEvent {
+
+  @Id String id;
+
+  @SerializedName("external_tx_id")
+  @Column(name = "external_tx_id")
+  String externalTxId;
+
+  @SerializedName("payload")
+  @Column(name = "payload")
+  String payload;
+
+  @SerializedName("received_at")
+  @Column(name = "received_at")
+  Instant receivedAt;
+
+  @SerializedName("processed_at")
+  @Column(name = "processed_at")
+  Instant processedAt;
+
+  @SerializedName("attempt_count")
+  @Column(name = "attempt_count")
+  int attemptCount;
+
+  @SerializedName("claimed_by")
+  @Column(name = "claimed_by")
+  String claimedBy;
+
+  @SerializedName("claimed_until")
+  @Column(name = "claimed_until")
+  Instant claimedUntil;
+}
@@ -0,0 +1,68 @@
+package org.stellar.anchor.platform.data;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface JdbcCustodyWebhookEventRepo
+    extends CrudRepository<JdbcCustodyWebhookEvent, String> {
+
+  /**
+   * Stores the event, claimed by the server. Fails with a DataIntegrityViolationException if the
+   * event already exists.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO custody_webhook_event (id, external_tx_id, payload, received_at,"
+              + " attempt_count, claimed_by, claimed_until) VALUES (:id, :externalTxId, :payload,"
+              + " :receivedAt, 0, :claimedBy, :claimedUntil)",
+      nativeQuery = true)
+  void insert(
+      @Param("id") String id,
+      @Param("externalTxId") String externalTxId,
+      @Param("payload") String payload,
+      @Param("receivedAt") Instant receivedAt,
+      @Param("claimedBy") String claimedBy,
+      @Param("claimedUntil") Instant claimedUntil);
+
+  List<JdbcCustodyWebhookEvent>
+      findTop100ByProcessedAtIsNullAndAttemptCountLessThanOrderByReceivedAtAsc(int maxAttempts);
+
+  /**
+   * Claims the unprocessed event if it is not claimed or if its claim expired.
+   *
+   * @return 1 if the event was claimed by the server, 0 otherwise.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "UPDATE JdbcCustodyWebhookEvent e SET e.claimedBy = :claimedBy,"
+              + " e.claimedUntil = :claimedUntil WHERE e.id = :id AND e.processedAt IS NULL"
+              + " AND (e.claimedUntil IS NULL OR e.claimedUntil < :now)")
+  int claim(
+      @Param("id") String id,
+      @Param("claimedBy") String claimedBy,
+      @Param("claimedUntil") Instant claimedUntil,
+      @Param("now") Instant now);
+
+  /** Records a processing attempt of the event, and the processing time if it succeeded. */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "UPDATE JdbcCustodyWebhookEvent e SET e.attemptCount = e.attemptCount + 1,"
+              + " e.processedAt = :processedAt WHERE e.id = :id")
+  int attempted(@Param("id") String id, @Param("processedAt") Instant processedAt);
+
+  @Transactional
+  @Modifying
+  @Query(value = "DELETE FROM JdbcCustodyWebhookEvent e WHERE e.processedAt < :before")
+  int deleteProcessedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,33 @@
+package org.stellar.anchor.platform.data;
+
+import com.google.gson.annotations.SerializedName;
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A lease on a job that must run on a single replica at a time. The lease is held by its owner
+ * until it expires, unless the owner renews it.
+ */
+@Getter
+@Setter
+@Entity
+@Access(AccessType.FIELD)
+@Table(name = "job_lease")
+@NoArgsConstructor
+@AllArgsConstructor
+public class JdbcJobLease {
+
+  @Id String name;
+
+  @SerializedName("owner")
+  @Column(name = "owner")
+  String owner;
+
+  @SerializedName("expires_at")
+  @Column(name = "expires_at")
+  Instant expiresAt;
+}
@@ -0,0 +1,50 @@
+package org.stellar.anchor.platform.data;
+
+import java.time.Instant;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface JdbcJobLeaseRepo extends CrudRepository<JdbcJobLease, String> {
+
+  /**
+   * Creates the lease. Fails with a DataIntegrityViolationException if the lease already exists.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      value = "INSERT INTO job_lease (name, owner, expires_at) VALUES (:name, :owner, :expiresAt)",
+      nativeQuery = true)
+  void insert(
+      @Param("name") String name,
+      @Param("owner") String owner,
+      @Param("expiresAt") Instant expiresAt);
+
+  /**
+   * Takes or renews the lease if it is held by the owner or if it expired.
+   *
+   * @return 1 if the lease is held by the owner after this call, 0 otherwise.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "UPDATE JdbcJobLease l SET l.owner = :owner, l.expiresAt = :expiresAt"
+              + " WHERE l.name = :name AND (l.owner = :owner OR l.expiresAt < :now)")
+  int acquire(
+      @Param("name") String name,
+      @Param("owner") String owner,
+      @Param("expiresAt") Instant expiresAt,
+      @Param("now") Instant now);
+
+  /** Releases the lease if it is held by the owner. */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "UPDATE JdbcJobLease l SET l.expiresAt = :now WHERE l.name = :name AND l.owner = :owner")
+  int release(
+      @Param("name") String name, @Param("owner") String owner, @Param("now") Instant now);
+}
@@ -0,0 +1,37 @@
+package org.stellar.anchor.platform.data;
+
+import com.google.gson.annotations.SerializedName;
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A replica running a partitioned job. The replica is considered live while its heartbeat is
+ * recent. The id is the job name and the instance id.
+ */
+@Getter
+@Setter
+@Entity
+@Access(AccessType.FIELD)
+@Table(name = "job_member")
+@NoArgsConstructor
+@AllArgsConstructor
+public class JdbcJobMember {
+
+  @Id String id;
+
+  @SerializedName("job_name")
+  @Column(name = "job_name")
+  String jobName;
+
+  @SerializedName("instance_id")
+  @Column(name = "instance_id")
+  String instanceId;
+
+  @SerializedName("heartbeat_at")
+  @Column(name = "heartbeat_at")
+  Instant heartbeatAt;
+}
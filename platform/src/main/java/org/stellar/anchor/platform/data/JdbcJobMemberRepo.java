@@ -0,0 +1,17 @@
+package org.stellar.anchor.platform.data;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface JdbcJobMemberRepo extends CrudRepository<JdbcJobMember, String> {
+
+  List<JdbcJobMember> findAllByJobNameAndHeartbeatAtAfter(String jobName, Instant heartbeatAt);
+
+  @Transactional
+  long deleteByHeartbeatAtBefore(Instant heartbeatAt);
+
+  @Transactional
+  long deleteByInstanceId(String instanceId);
+}
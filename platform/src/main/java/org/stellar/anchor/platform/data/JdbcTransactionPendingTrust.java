@@ -32,4 +32,12 @@ public class JdbcTransactionPendingTrust {
   @SerializedName("account")
   @Column(name = "account")
   String account;
+
+  @SerializedName("claimed_by")
+  @Column(name = "claimed_by")
+  String claimedBy;
+
+  @SerializedName("claimed_until")
+  @Column(name = "claimed_until")
+  Instant claimedUntil;
 }
@@ -1,6 +1,57 @@
 package org.stellar.anchor.platform.data;
 
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface JdbcTransactionPendingTrustRepo
-    extends CrudRepository<JdbcTransactionPendingTrust, String> {}
+    extends CrudRepository<JdbcTransactionPendingTrust, String> {
+
+  List<JdbcTransactionPendingTrust> findTop100ByIdGreaterThanOrderByIdAsc(String id);
+
+  List<JdbcTransactionPendingTrust> findAllByAccount(String account);
+
+  @Query(value = "SELECT DISTINCT t.account FROM JdbcTransactionPendingTrust t")
+  List<String> findAllAccounts();
+
+  /**
+   * Claims the row if it is not claimed or if its claim expired, so that the transaction is
+   * notified by only one of the StellarTrustlineObserver and the TrustlineCheckJob at a time.
+   *
+   * @return 1 if the row was claimed by this call, 0 otherwise.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "UPDATE JdbcTransactionPendingTrust t SET t.claimedBy = :claimedBy,"
+              + " t.claimedUntil = :claimedUntil WHERE t.id = :id"
+              + " AND (t.claimedUntil IS NULL OR t.claimedUntil < :now)")
+  int claim(
+      @Param("id") String id,
+      @Param("claimedBy") String claimedBy,
+      @Param("claimedUntil") Instant claimedUntil,
+      @Param("now") Instant now);
+
+  /** Releases the claim of the row, so that the next check retries it. */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "UPDATE JdbcTransactionPendingTrust t SET t.claimedBy = NULL, t.claimedUntil = NULL"
+              + " WHERE t.id = :id AND t.claimedBy = :claimedBy")
+  int release(@Param("id") String id, @Param("claimedBy") String claimedBy);
+
+  /** Deletes the row of the notified transaction if the row is still claimed by the caller. */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM JdbcTransactionPendingTrust t WHERE t.id = :id"
+              + " AND t.claimedBy = :claimedBy")
+  int deleteClaimed(@Param("id") String id, @Param("claimedBy") String claimedBy);
+}
@@ -3,6 +3,7 @@ package org.stellar.anchor.platform.event;
 import static org.stellar.anchor.sep24.Sep24Helper.fromTxn;
 import static org.stellar.anchor.util.Log.debugF;
 import static org.stellar.anchor.util.Log.errorF;
+import static org.stellar.anchor.util.Log.lazy;
 import static org.stellar.anchor.util.NetUtil.getDomainFromURL;
 import static org.stellar.anchor.util.OkHttpUtil.buildJsonRequestBody;
 import static org.stellar.anchor.util.StringHelper.json;
@@ -82,7 +83,10 @@ public class ClientStatusCallbackHandler extends EventHandler {
 
       if (request != null) {
         try (Response response = httpClient.newCall(request).execute()) {
-          debugF("Sending event: {} to client status api: {}", json(event), request.url());
+          debugF(
+              "Sending event: {} to client status api: {}",
+              lazy(() -> json(event)),
+              request.url());
           if (response.code() < 200 || response.code() >= 400) {
             errorF("Failed to send event to client status API. Error code: {}", response.code());
             return false;
@@ -99,7 +103,7 @@ public class ClientStatusCallbackHandler extends EventHandler {
     if (callbackUrl == null) {
       Log.debugF(
           "No callback URL found for event: {} for client: {}",
-          json(event),
+          Log.lazyJson(event),
           clientConfig.getName());
       return null;
     }
@@ -2,7 +2,6 @@ package org.stellar.anchor.platform.event;
 
 import static java.lang.Thread.currentThread;
 import static org.stellar.anchor.util.MetricConstants.*;
-import static org.stellar.anchor.util.StringHelper.json;
 
 import java.io.IOException;
 import org.stellar.anchor.api.event.AnchorEvent;
@@ -105,7 +104,7 @@ public class ClientStatusCallbackProcessor extends EventProcessor {
   }
 
   void sendToDLQ(AnchorEvent event, Exception e) {
-    Log.errorF("Failed to process event: {}", json(event));
+    Log.errorF("Failed to process event: {}", Log.lazyJson(event));
     Log.errorEx(e);
   }
 }
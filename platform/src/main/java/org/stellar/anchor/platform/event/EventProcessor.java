@@ -5,7 +5,7 @@ import static org.stellar.anchor.util.Log.debugF;
 import static org.stellar.anchor.util.Log.infoF;
 import static org.stellar.anchor.util.MetricConstants.*;
 
-import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -18,6 +18,7 @@ import org.stellar.anchor.event.EventService;
 import org.stellar.anchor.event.EventService.EventQueue;
 import org.stellar.anchor.platform.utils.DaemonExecutors;
 import org.stellar.anchor.util.Log;
+import org.stellar.anchor.util.Meters;
 
 public abstract class EventProcessor implements Runnable {
   private final String name;
@@ -59,11 +60,12 @@ public abstract class EventProcessor implements Runnable {
       while (!currentThread().isInterrupted() && !stopped) {
         EventService.ReadResponse readResponse = queueSession.read();
         List<AnchorEvent> events = readResponse.getEvents();
-        Metrics.counter(EVENT_RECEIVED, QUEUE, toMetricTag(eventQueue.name()))
+        Meters.counter(EVENT_RECEIVED, QUEUE, toMetricTag(eventQueue.name()))
             .increment(events.size());
         debugF("Received {} events from queue", events.size());
+        Timer handlingTimer = Meters.timer(EVENT_HANDLING, QUEUE, toMetricTag(eventQueue.name()));
         for (AnchorEvent event : events) {
-          handleEventWithRetry(event);
+          handlingTimer.record(() -> handleEventWithRetry(event));
           if (currentThread().isInterrupted()) break;
         }
         queueSession.ack(readResponse);
@@ -88,6 +90,6 @@ public abstract class EventProcessor implements Runnable {
   }
 
   void incrementProcessedCounter() {
-    Metrics.counter(EVENT_PROCESSED, QUEUE, toMetricTag(eventQueue.name())).increment();
+    Meters.counter(EVENT_PROCESSED, QUEUE, toMetricTag(eventQueue.name())).increment();
   }
 }
@@ -85,7 +85,7 @@ public class EventProcessorManager {
     if (eventProcessorConfig.getClientStatusCallback().isEnabled()) {
       for (ClientConfig clientConfig : clientService.getAllClients()) {
         if (!clientConfig.isCallbackEnabled()) {
-          Log.info(String.format("Client status callback skipped: %s", json(clientConfig)));
+          Log.infoF("Client status callback skipped: {}", Log.lazy(() -> json(clientConfig)));
           continue;
         }
 
@@ -8,10 +8,11 @@ import static org.stellar.anchor.platform.config.PropertySecretConfig.*;
 import static org.stellar.anchor.platform.configurator.SecretManager.*;
 import static org.stellar.anchor.platform.utils.ResourceHelper.*;
 import static org.stellar.anchor.util.Log.debugF;
+import static org.stellar.anchor.util.MetricConstants.*;
 import static org.stellar.anchor.util.StringHelper.isEmpty;
 
 import com.google.gson.JsonSyntaxException;
-import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -39,6 +40,7 @@ import org.stellar.anchor.platform.config.KafkaConfig;
 import org.stellar.anchor.platform.utils.TrustAllSslEngineFactory;
 import org.stellar.anchor.util.GsonUtils;
 import org.stellar.anchor.util.Log;
+import org.stellar.anchor.util.Meters;
 
 public class KafkaSession implements EventService.Session {
   final KafkaConfig kafkaConfig;
@@ -74,18 +76,21 @@ public class KafkaSession implements EventService.Session {
       ProducerRecord<String, String> record = new ProducerRecord<>(topic, serialized);
       record.headers().add(new RecordHeader("type", event.getType().type.getBytes()));
       // If the queue is offline, throw an exception
+      Timer.Sample sample = Timer.start();
       try {
         producer.send(record).get();
+        sample.stop(Meters.timer(EVENT_PUBLISH, QUEUE, topic, RESULT, TV_SUCCESS));
       } catch (Exception ex) {
+        sample.stop(Meters.timer(EVENT_PUBLISH, QUEUE, topic, RESULT, TV_FAILURE));
         throw new EventPublishException("Failed to publish event to Kafka.", ex);
       }
 
       // publish the event to the metrics
-      Metrics.counter(
-              "event.published",
+      Meters.counter(
+              EVENT_PUBLISHED,
               "class",
               event.getClass().getSimpleName(),
-              "type",
+              TYPE,
               event.getType().type)
           .increment();
 
@@ -6,11 +6,18 @@ import static org.stellar.anchor.util.Log.errorEx;
 import static org.stellar.anchor.util.Log.info;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.stellar.anchor.api.custody.fireblocks.TransactionDetails;
@@ -22,37 +29,76 @@ import org.stellar.anchor.platform.custody.CustodyPaymentService;
 import org.stellar.anchor.platform.custody.CustodyTransactionService;
 import org.stellar.anchor.platform.custody.fireblocks.FireblocksEventService;
 import org.stellar.anchor.platform.data.CustodyTransactionStatus;
+import org.stellar.anchor.platform.data.JdbcCustodyReconciliationCheckpoint;
+import org.stellar.anchor.platform.data.JdbcCustodyReconciliationCheckpointRepo;
 import org.stellar.anchor.platform.data.JdbcCustodyTransaction;
+import org.stellar.anchor.platform.job.JobCoordinator;
+import org.stellar.anchor.platform.job.JobCoordinator.JobRun;
+import org.stellar.anchor.platform.utils.DaemonExecutors;
 
 public class FireblocksTransactionsReconciliationJob {
+  static final String JOB_NAME = "fireblocks_reconciliation";
+  static final String INBOUND_LEASE = "fireblocks_reconciliation_inbound";
+  static final String INBOUND_CHECKPOINT_ID = "fireblocks_inbound";
+  // The Fireblocks transactions may become visible after they were created
+  static final Duration CHECKPOINT_OVERLAP = Duration.ofMinutes(5);
 
   private final FireblocksConfig fireblocksConfig;
   private final CustodyPaymentService<TransactionDetails> custodyPaymentService;
   private final FireblocksEventService fireblocksEventService;
   private final CustodyTransactionService custodyTransactionService;
+  private final JdbcCustodyReconciliationCheckpointRepo checkpointRepo;
+  private final JobCoordinator jobCoordinator;
+  private final ExecutorService reconciliationExecutor;
 
   public FireblocksTransactionsReconciliationJob(
       FireblocksConfig fireblocksConfig,
       CustodyPaymentService<TransactionDetails> custodyPaymentService,
       FireblocksEventService fireblocksEventService,
-      CustodyTransactionService custodyTransactionService) {
+      CustodyTransactionService custodyTransactionService,
+      JdbcCustodyReconciliationCheckpointRepo checkpointRepo,
+      JobCoordinator jobCoordinator) {
     this.fireblocksConfig = fireblocksConfig;
     this.custodyPaymentService = custodyPaymentService;
     this.fireblocksEventService = fireblocksEventService;
     this.custodyTransactionService = custodyTransactionService;
+    this.checkpointRepo = checkpointRepo;
+    this.jobCoordinator = jobCoordinator;
+    this.reconciliationExecutor =
+        DaemonExecutors.newFixedThreadPool(fireblocksConfig.getConcurrency().getMaxLimit());
   }
 
   @Scheduled(cron = "${custody.fireblocks.reconciliation.cron_expression}")
   public void reconcileTransactions() {
+    jobCoordinator.run(JOB_NAME, this::reconcileTransactions);
+  }
+
+  void reconcileTransactions(JobRun run) {
     info("Fireblocks Transaction Reconciliation job started");
 
-    custodyTransactionService
-        .getOutboundTransactionsEligibleForReconciliation()
-        .forEach(this::reconcileOutboundTransactions);
+    // The requests to Fireblocks are bounded by the concurrency limiter of the API client
+    CompletableFuture<?>[] outboundReconciliations =
+        custodyTransactionService.getOutboundTransactionsEligibleForReconciliation().stream()
+            .filter(txn -> run.owns(txn.getId()))
+            .map(
+                txn ->
+                    CompletableFuture.runAsync(
+                        () -> reconcileOutboundTransactions(txn), reconciliationExecutor))
+            .toArray(CompletableFuture[]::new);
+    try {
+      CompletableFuture.allOf(outboundReconciliations).join();
+    } catch (CompletionException e) {
+      errorEx("Failed to reconcile outbound transactions", e);
+    }
+    run.processed(outboundReconciliations.length);
 
-    List<JdbcCustodyTransaction> inboundTransactions =
-        custodyTransactionService.getInboundTransactionsEligibleForReconciliation();
-    reconcileInboundTransactions(inboundTransactions);
+    // The inbound transactions share the checkpoint, so they are reconciled by a single replica
+    if (run.lease(INBOUND_LEASE)) {
+      List<JdbcCustodyTransaction> inboundTransactions =
+          custodyTransactionService.getInboundTransactionsEligibleForReconciliation();
+      reconcileInboundTransactions(inboundTransactions);
+      run.processed(inboundTransactions.size());
+    }
 
     info("Fireblocks Transaction Reconciliation job finished");
   }
@@ -66,7 +112,7 @@ public class FireblocksTransactionsReconciliationJob {
       if (fireblocksTxn.getStatus().isObservable()) {
         handleStatusChanged(fireblocksTxn, attempt);
       } else {
-        handleStatusNotChanged(txn, attempt, fireblocksTxn.getExternalTxId());
+        handleStatusNotChanged(txn, attempt, fireblocksTxn.getId());
       }
     } catch (AnchorException | IOException e) {
       errorEx(String.format("Failed to reconcile status for transaction (id=%s)", txn.getId()), e);
@@ -79,57 +125,130 @@ public class FireblocksTransactionsReconciliationJob {
       return;
     }
 
+    // Index of the pending transactions by destination address and memo
+    Map<String, List<JdbcCustodyTransaction>> pending = new HashMap<>();
+    transactions.forEach(
+        txn ->
+            pending
+                .computeIfAbsent(key(txn.getToAccount(), txn.getMemo()), k -> new ArrayList<>())
+                .add(txn));
+    Map<JdbcCustodyTransaction, TransactionDetails> matched = new IdentityHashMap<>();
+
+    try {
+      custodyPaymentService.forEachTransactionPage(
+          getInboundStartTime(transactions),
+          Instant.now(),
+          page -> {
+            page.forEach(fireblocksTxn -> match(fireblocksTxn, pending, matched));
+            saveInboundCheckpoint(page);
+          });
+    } catch (CustodyException e) {
+      errorEx("Failed to retrieve fireblocks transactions", e);
+      return;
+    }
+
+    pending.values().stream()
+        .flatMap(List::stream)
+        .forEach(
+            txn -> {
+              int attempt = txn.getReconciliationAttemptCount() + 1;
+
+              try {
+                TransactionDetails fireblocksTxn = matched.get(txn);
+                if (fireblocksTxn == null && !StringUtils.isEmpty(txn.getExternalTxId())) {
+                  // Matched by a previous run, before the checkpoint
+                  fireblocksTxn = custodyPaymentService.getTransactionById(txn.getExternalTxId());
+                }
+                if (fireblocksTxn != null && fireblocksTxn.getStatus().isObservable()) {
+                  handleStatusChanged(fireblocksTxn, attempt);
+                } else {
+                  // The Fireblocks transaction id is stored, so that the next runs fetch it by id
+                  final String externalTxId = fireblocksTxn != null ? fireblocksTxn.getId() : null;
+                  handleStatusNotChanged(txn, attempt, externalTxId);
+                }
+              } catch (AnchorException | IOException e) {
+                errorEx(
+                    String.format(
+                        "Failed to reconcile status for transaction (id=%s)", txn.getId()),
+                    e);
+              }
+            });
+  }
+
+  private void match(
+      TransactionDetails fireblocksTxn,
+      Map<String, List<JdbcCustodyTransaction>> pending,
+      Map<JdbcCustodyTransaction, TransactionDetails> matched) {
+    if (StringUtils.isEmpty(fireblocksTxn.getDestinationAddress())
+        || StringUtils.isEmpty(fireblocksTxn.getDestinationTag())) {
+      return;
+    }
+
+    String key = key(fireblocksTxn.getDestinationAddress(), fireblocksTxn.getDestinationTag());
+    List<JdbcCustodyTransaction> txns = pending.get(key);
+    if (txns == null) {
+      return;
+    }
+
+    if (!fireblocksTxn.getStatus().isObservable()) {
+      txns.forEach(txn -> matched.putIfAbsent(txn, fireblocksTxn));
+      return;
+    }
+
+    // The payment is handled once, the later transactions to the same address are ignored
+    pending.remove(key);
+    txns.forEach(
+        txn -> {
+          try {
+            handleStatusChanged(fireblocksTxn, txn.getReconciliationAttemptCount() + 1);
+          } catch (AnchorException | IOException e) {
+            errorEx(
+                String.format("Failed to reconcile status for transaction (id=%s)", txn.getId()),
+                e);
+          }
+        });
+  }
+
+  private Instant getInboundStartTime(List<JdbcCustodyTransaction> transactions) {
     Instant startTime =
         transactions.stream()
             .map(JdbcCustodyTransaction::getCreatedAt)
             .min(Instant::compareTo)
             .orElse(null);
 
-    try {
-      List<TransactionDetails> fireblocksTransactions =
-          custodyPaymentService.getTransactionsByTimeRange(startTime, Instant.now());
+    Instant checkpoint =
+        checkpointRepo
+            .findById(INBOUND_CHECKPOINT_ID)
+            .map(JdbcCustodyReconciliationCheckpoint::getCheckpointAt)
+            .map(checkpointAt -> checkpointAt.minus(CHECKPOINT_OVERLAP))
+            .orElse(null);
+    if (checkpoint != null && (startTime == null || checkpoint.isAfter(startTime))) {
+      debugF("Reconciling inbound transactions from checkpoint[{}]", checkpoint);
+      return checkpoint;
+    }
+    return startTime;
+  }
 
-      if (fireblocksTransactions.isEmpty()) {
-        debug("No Fireblocks transactions within specified time range");
-        return;
-      }
+  /**
+   * Saves the end of the page as the checkpoint. The pending transactions do not hold it back: a
+   * pending transaction matched on an earlier page stores the Fireblocks transaction id and is
+   * fetched by id from then on, and one that is not paid yet is matched by the transactions after
+   * the checkpoint.
+   */
+  private void saveInboundCheckpoint(List<TransactionDetails> page) {
+    page.stream()
+        .map(TransactionDetails::getCreatedAt)
+        .filter(Objects::nonNull)
+        .max(Long::compareTo)
+        .map(Instant::ofEpochMilli)
+        .ifPresent(
+            pageEnd ->
+                checkpointRepo.save(
+                    new JdbcCustodyReconciliationCheckpoint(INBOUND_CHECKPOINT_ID, pageEnd)));
+  }
 
-      Map<String, TransactionDetails> mappings =
-          fireblocksTransactions.stream()
-              .filter(
-                  txn ->
-                      !StringUtils.isEmpty(txn.getDestinationAddress())
-                          && !StringUtils.isEmpty(txn.getDestinationTag()))
-              .collect(
-                  Collectors.toMap(
-                      txn ->
-                          txn.getDestinationAddress() + StringUtils.SPACE + txn.getDestinationTag(),
-                      txn -> txn,
-                      (txn1, txn2) -> txn1));
-
-      transactions.forEach(
-          txn -> {
-            int attempt = txn.getReconciliationAttemptCount() + 1;
-
-            try {
-              String key = txn.getToAccount() + StringUtils.SPACE + txn.getMemo();
-              TransactionDetails fireblocksTxn = mappings.get(key);
-              if (fireblocksTxn != null && fireblocksTxn.getStatus().isObservable()) {
-                handleStatusChanged(fireblocksTxn, attempt);
-              } else {
-                final String externalTxId =
-                    fireblocksTxn != null ? fireblocksTxn.getExternalTxId() : null;
-                handleStatusNotChanged(txn, attempt, externalTxId);
-              }
-            } catch (AnchorException | IOException e) {
-              errorEx(
-                  String.format("Failed to reconcile status for transaction (id=%s)", txn.getId()),
-                  e);
-            }
-          });
-    } catch (CustodyException e) {
-      errorEx("Failed to retrieve fireblocks transactions", e);
-    }
+  private static String key(String address, String memo) {
+    return address + StringUtils.SPACE + memo;
   }
 
   private void handleStatusChanged(TransactionDetails fireblocksTxn, int attempt)
@@ -0,0 +1,248 @@
+package org.stellar.anchor.platform.job;
+
+import static org.stellar.anchor.util.Log.*;
+import static org.stellar.anchor.util.MetricConstants.*;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.stellar.anchor.platform.config.PropertyCustodyConfig.JobCoordination;
+import org.stellar.anchor.platform.data.JdbcJobLeaseRepo;
+import org.stellar.anchor.platform.data.JdbcJobMember;
+import org.stellar.anchor.platform.data.JdbcJobMemberRepo;
+import org.stellar.anchor.platform.utils.DaemonExecutors;
+
+/**
+ * Coordinates the scheduled jobs across the replicas of a server.
+ *
+ * <p>A run is skipped if the previous run of the job is still in progress on this replica. The
+ * replicas running a job send heartbeats to the database, and the work of each run is partitioned
+ * by key hash across the live replicas. The parts of a job that cannot be partitioned are guarded
+ * by a lease, which is renewed by the heartbeats while the run is in progress.
+ *
+ * <p>When the membership changes, a few items may be processed twice or skipped by a run. The
+ * skipped items are processed by the next run.
+ *
+ * <p>If the coordination is disabled, the replica owns every item and every lease.
+ */
+public class JobCoordinator {
+  @Getter final String instanceId = UUID.randomUUID().toString();
+  final JdbcJobLeaseRepo leaseRepo;
+  final JdbcJobMemberRepo memberRepo;
+  final JobCoordination config;
+  final Supplier<Instant> clock;
+  final Set<String> jobs = ConcurrentHashMap.newKeySet();
+  final Set<String> running = ConcurrentHashMap.newKeySet();
+  final Set<String> heldLeases = ConcurrentHashMap.newKeySet();
+  final ScheduledExecutorService heartbeatExecutor = DaemonExecutors.newScheduledThreadPool(1);
+  boolean started;
+
+  public JobCoordinator(
+      JdbcJobLeaseRepo leaseRepo, JdbcJobMemberRepo memberRepo, JobCoordination config) {
+    this(leaseRepo, memberRepo, config, Instant::now);
+  }
+
+  JobCoordinator(
+      JdbcJobLeaseRepo leaseRepo,
+      JdbcJobMemberRepo memberRepo,
+      JobCoordination config,
+      Supplier<Instant> clock) {
+    this.leaseRepo = leaseRepo;
+    this.memberRepo = memberRepo;
+    this.config = config;
+    this.clock = clock;
+  }
+
+  /**
+   * Runs the job unless its previous run is still in progress on this replica.
+   *
+   * @param jobName the name of the job.
+   * @param job the job, which is given the run to partition its work.
+   * @return true if the job ran, false if it was skipped.
+   */
+  public boolean run(String jobName, Consumer<JobRun> job) {
+    if (!running.add(jobName)) {
+      infoF("Job {} is still running. Skipping this run", jobName);
+      Metrics.counter(JOB_RUN, JOB, jobName, RESULT, TV_SKIPPED).increment();
+      return false;
+    }
+
+    Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+    JobRun run = null;
+    String result = TV_FAILURE;
+    try {
+      run = new JobRun(jobName);
+      job.accept(run);
+      result = TV_SUCCESS;
+    } finally {
+      if (run != null) {
+        run.leases.forEach(this::releaseLease);
+      }
+      running.remove(jobName);
+      sample.stop(
+          Timer.builder(JOB_RUN)
+              .tags(JOB, jobName, RESULT, result)
+              .publishPercentileHistogram()
+              .register(Metrics.globalRegistry));
+      if (run != null) {
+        Metrics.counter(JOB_ITEMS_PROCESSED, JOB, jobName).increment(run.processed.get());
+        debugF(
+            "Job {} processed {} items in partition {}/{}",
+            jobName,
+            run.processed.get(),
+            run.partition,
+            run.partitionCount);
+      }
+    }
+    return true;
+  }
+
+  public void shutdown() {
+    heartbeatExecutor.shutdown();
+    if (config.isEnabled() && started) {
+      try {
+        memberRepo.deleteByInstanceId(instanceId);
+      } catch (Exception ex) {
+        errorEx("Failed to remove the job members of this replica", ex);
+      }
+    }
+  }
+
+  synchronized void startHeartbeats() {
+    if (!started) {
+      started = true;
+      heartbeatExecutor.scheduleWithFixedDelay(
+          this::heartbeat,
+          config.getHeartbeatInterval(),
+          config.getHeartbeatInterval(),
+          TimeUnit.SECONDS);
+    }
+  }
+
+  void heartbeat() {
+    try {
+      Instant now = clock.get();
+      jobs.forEach(jobName -> sendHeartbeat(jobName, now));
+      for (String lease : heldLeases) {
+        if (leaseRepo.acquire(lease, instanceId, now.plus(leaseDuration()), now) == 0) {
+          warnF("The lease {} was lost", lease);
+          heldLeases.remove(lease);
+        }
+      }
+      memberRepo.deleteByHeartbeatAtBefore(now.minus(leaseDuration()));
+    } catch (Exception ex) {
+      errorEx("Failed to send the job heartbeats", ex);
+    }
+  }
+
+  void sendHeartbeat(String jobName, Instant now) {
+    memberRepo.save(new JdbcJobMember(jobName + ":" + instanceId, jobName, instanceId, now));
+  }
+
+  boolean acquireLease(String lease) {
+    Instant now = clock.get();
+    Instant expiresAt = now.plus(leaseDuration());
+    boolean acquired = leaseRepo.acquire(lease, instanceId, expiresAt, now) == 1;
+    if (!acquired && !leaseRepo.existsById(lease)) {
+      try {
+        leaseRepo.insert(lease, instanceId, expiresAt);
+        acquired = true;
+      } catch (DataIntegrityViolationException e) {
+        // Created concurrently by another replica
+      }
+    }
+    if (acquired) {
+      heldLeases.add(lease);
+    }
+    return acquired;
+  }
+
+  void releaseLease(String lease) {
+    heldLeases.remove(lease);
+    try {
+      leaseRepo.release(lease, instanceId, clock.get());
+    } catch (Exception ex) {
+      errorEx(String.format("Failed to release the lease %s", lease), ex);
+    }
+  }
+
+  Duration leaseDuration() {
+    return Duration.ofSeconds(config.getLeaseDuration());
+  }
+
+  /** A run of a job, which owns a partition of the items of the job. */
+  public class JobRun {
+    final String jobName;
+    final Set<String> leases = ConcurrentHashMap.newKeySet();
+    final AtomicLong processed = new AtomicLong();
+    int partition = 0;
+    int partitionCount = 1;
+
+    JobRun(String jobName) {
+      this.jobName = jobName;
+      if (config.isEnabled()) {
+        jobs.add(jobName);
+        startHeartbeats();
+        Instant now = clock.get();
+        sendHeartbeat(jobName, now);
+        List<String> members =
+            memberRepo
+                .findAllByJobNameAndHeartbeatAtAfter(jobName, now.minus(leaseDuration()))
+                .stream()
+                .map(JdbcJobMember::getInstanceId)
+                .sorted()
+                .collect(Collectors.toList());
+        if (members.contains(instanceId)) {
+          partition = members.indexOf(instanceId);
+          partitionCount = members.size();
+        }
+      }
+    }
+
+    /**
+     * Whether the item is processed by this replica.
+     *
+     * @param key the key of the item, e.g. the row id.
+     * @return true if the item belongs to the partition of this replica.
+     */
+    public boolean owns(String key) {
+      return partitionCount == 1 || Math.floorMod(key.hashCode(), partitionCount) == partition;
+    }
+
+    /**
+     * Acquires the lease for the rest of the run.
+     *
+     * @param lease the name of the lease.
+     * @return true if the lease is held by this replica, false if another replica holds it.
+     */
+    public boolean lease(String lease) {
+      if (!config.isEnabled()) {
+        return true;
+      }
+      if (acquireLease(lease)) {
+        leases.add(lease);
+        return true;
+      }
+      debugF("The lease {} is held by another replica", lease);
+      return false;
+    }
+
+    /** Records the items processed by the run. */
+    public void processed(long count) {
+      processed.addAndGet(count);
+    }
+  }
+}
@@ -1,9 +1,16 @@
 package org.stellar.anchor.platform.job;
 
+import static org.stellar.anchor.util.Log.errorEx;
 import static org.stellar.anchor.util.Log.info;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.stellar.anchor.api.exception.AnchorException;
 import org.stellar.anchor.api.rpc.method.NotifyTrustSetRequest;
@@ -11,41 +18,76 @@ import org.stellar.anchor.horizon.Horizon;
 import org.stellar.anchor.platform.config.PropertyCustodyConfig;
 import org.stellar.anchor.platform.data.JdbcTransactionPendingTrust;
 import org.stellar.anchor.platform.data.JdbcTransactionPendingTrustRepo;
+import org.stellar.anchor.platform.job.JobCoordinator.JobRun;
 import org.stellar.anchor.platform.rpc.NotifyTrustSetHandler;
+import org.stellar.anchor.platform.utils.DaemonExecutors;
 import org.stellar.sdk.exception.NetworkException;
 
 public class TrustlineCheckJob {
+  static final String JOB_NAME = "trustline_check";
+  static final Duration CLAIM_DURATION = Duration.ofMinutes(5);
 
   private final Horizon horizon;
   private final JdbcTransactionPendingTrustRepo transactionPendingTrustRepo;
   private final PropertyCustodyConfig custodyConfig;
   private final NotifyTrustSetHandler notifyTrustSetHandler;
+  private final JobCoordinator jobCoordinator;
+  private final ExecutorService executor;
+  private final String instanceId = UUID.randomUUID().toString();
 
   public TrustlineCheckJob(
       Horizon horizon,
       JdbcTransactionPendingTrustRepo transactionPendingTrustRepo,
       PropertyCustodyConfig custodyConfig,
-      NotifyTrustSetHandler notifyTrustSetHandler) {
+      NotifyTrustSetHandler notifyTrustSetHandler,
+      JobCoordinator jobCoordinator) {
     this.horizon = horizon;
     this.transactionPendingTrustRepo = transactionPendingTrustRepo;
     this.custodyConfig = custodyConfig;
     this.notifyTrustSetHandler = notifyTrustSetHandler;
+    this.jobCoordinator = jobCoordinator;
+    this.executor =
+        DaemonExecutors.newFixedThreadPool(custodyConfig.getTrustline().getCheckThreads());
   }
 
   @Scheduled(cron = "${custody.trustline.check_cron_expression}")
-  public void checkTrust() throws AnchorException {
+  public void checkTrust() {
+    jobCoordinator.run(JOB_NAME, this::checkTrust);
+  }
+
+  void checkTrust(JobRun run) {
     info("Trustline Check job started");
 
-    for (JdbcTransactionPendingTrust t : transactionPendingTrustRepo.findAll()) {
+    // The rows are paged by id, so that the job does not load the whole table at once
+    String lastId = "";
+    List<JdbcTransactionPendingTrust> page;
+    while (!(page = transactionPendingTrustRepo.findTop100ByIdGreaterThanOrderByIdAsc(lastId))
+        .isEmpty()) {
+      // The rows of the other partitions are checked by the other replicas
+      List<JdbcTransactionPendingTrust> owned =
+          page.stream().filter(t -> run.owns(t.getId())).collect(Collectors.toList());
+      CompletableFuture.allOf(
+              owned.stream()
+                  .map(t -> CompletableFuture.runAsync(() -> checkPendingTrust(t), executor))
+                  .toArray(CompletableFuture[]::new))
+          .join();
+      run.processed(owned.size());
+      lastId = page.get(page.size() - 1).getId();
+    }
+
+    info("Trustline Check job finished");
+  }
+
+  void checkPendingTrust(JdbcTransactionPendingTrust t) {
+    try {
       if (isCheckTimedOut(t)) {
-        notifyTrustSetHandler.handle(
+        notifyTrustSet(
+            t,
             NotifyTrustSetRequest.builder()
                 .transactionId(t.getId())
                 .message(custodyConfig.getTrustline().getTimeoutMessage())
                 .success(false)
                 .build());
-
-        transactionPendingTrustRepo.delete(t);
       } else {
         boolean trustlineConfigured;
         try {
@@ -55,15 +97,32 @@ public class TrustlineCheckJob {
         }
 
         if (trustlineConfigured) {
-          notifyTrustSetHandler.handle(
-              NotifyTrustSetRequest.builder().transactionId(t.getId()).success(true).build());
-
-          transactionPendingTrustRepo.delete(t);
+          notifyTrustSet(
+              t, NotifyTrustSetRequest.builder().transactionId(t.getId()).success(true).build());
         }
       }
+    } catch (AnchorException | RuntimeException ex) {
+      errorEx(String.format("Failed to check the trustline of transaction %s", t.getId()), ex);
     }
+  }
 
-    info("Trustline Check job finished");
+  void notifyTrustSet(JdbcTransactionPendingTrust t, NotifyTrustSetRequest request)
+      throws AnchorException {
+    // The row is claimed first, so that the trustline observer does not notify it too. The claim
+    // expires, so that the row is retried if this server stops before the row is deleted.
+    Instant now = Instant.now();
+    if (transactionPendingTrustRepo.claim(t.getId(), instanceId, now.plus(CLAIM_DURATION), now)
+        == 0) {
+      return;
+    }
+    try {
+      notifyTrustSetHandler.handle(request);
+    } catch (AnchorException | RuntimeException ex) {
+      // The claim is released, so that the next run retries the row
+      transactionPendingTrustRepo.release(t.getId(), instanceId);
+      throw ex;
+    }
+    transactionPendingTrustRepo.deleteClaimed(t.getId(), instanceId);
   }
 
   private boolean isCheckTimedOut(JdbcTransactionPendingTrust trust) {
@@ -80,7 +80,21 @@ public class StellarPaymentObserver implements HealthCheckable {
       List<PaymentListener> paymentListeners,
       PaymentObservingAccountsManager paymentObservingAccountsManager,
       StellarPaymentStreamerCursorStore paymentStreamerCursorStore) {
-    this.server = new Server(horizonServer);
+    this(
+        new Server(horizonServer),
+        config,
+        paymentListeners,
+        paymentObservingAccountsManager,
+        paymentStreamerCursorStore);
+  }
+
+  public StellarPaymentObserver(
+      Server server,
+      PaymentObserverConfig.StellarPaymentObserverConfig config,
+      List<PaymentListener> paymentListeners,
+      PaymentObservingAccountsManager paymentObservingAccountsManager,
+      StellarPaymentStreamerCursorStore paymentStreamerCursorStore) {
+    this.server = server;
     this.config = config;
     this.paymentListeners = paymentListeners;
     this.paymentObservingAccountsManager = paymentObservingAccountsManager;
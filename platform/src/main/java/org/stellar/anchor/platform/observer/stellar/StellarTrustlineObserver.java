@@ -0,0 +1,141 @@
+package org.stellar.anchor.platform.observer.stellar;
+
+import static org.stellar.anchor.util.Log.*;
+import static org.stellar.anchor.util.MetricConstants.PAYMENT_OBSERVER_TRUSTLINE_DETECTED;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.stellar.anchor.apiclient.PlatformApiClient;
+import org.stellar.anchor.platform.data.JdbcTransactionPendingTrust;
+import org.stellar.anchor.platform.data.JdbcTransactionPendingTrustRepo;
+import org.stellar.anchor.platform.utils.DaemonExecutors;
+import org.stellar.anchor.util.AssetHelper;
+import org.stellar.sdk.Server;
+import org.stellar.sdk.requests.EventListener;
+import org.stellar.sdk.requests.RequestBuilder;
+import org.stellar.sdk.requests.SSEStream;
+import org.stellar.sdk.responses.operations.ChangeTrustOperationResponse;
+import org.stellar.sdk.responses.operations.OperationResponse;
+
+/**
+ * Detects the trustlines of the transactions pending trust from the change_trust operations
+ * streamed by Horizon.
+ *
+ * <p>The accounts pending trust are kept in memory and refreshed periodically. When one of them
+ * establishes the trustline of the pending asset, the pending row is claimed, the platform is
+ * notified right away, and the row is removed once the notification succeeded. The
+ * TrustlineCheckJob keeps polling the remaining rows as a fallback for the operations missed while
+ * the stream was disconnected, and for the claims that expired.
+ */
+public class StellarTrustlineObserver {
+  static final long REFRESH_INTERVAL_SECONDS = 10;
+  static final Duration CLAIM_DURATION = Duration.ofMinutes(5);
+
+  final Server server;
+  final JdbcTransactionPendingTrustRepo transactionPendingTrustRepo;
+  final PlatformApiClient platformApiClient;
+  final ScheduledExecutorService refresher = DaemonExecutors.newScheduledThreadPool(1);
+  final Counter detectedCounter = Metrics.counter(PAYMENT_OBSERVER_TRUSTLINE_DETECTED);
+  final String instanceId = UUID.randomUUID().toString();
+
+  volatile Set<String> pendingAccounts = Set.of();
+  SSEStream<OperationResponse> stream;
+
+  public StellarTrustlineObserver(
+      Server server,
+      JdbcTransactionPendingTrustRepo transactionPendingTrustRepo,
+      PlatformApiClient platformApiClient) {
+    this.server = server;
+    this.transactionPendingTrustRepo = transactionPendingTrustRepo;
+    this.platformApiClient = platformApiClient;
+  }
+
+  public void start() {
+    info("Starting the trustline observer");
+    refresher.scheduleWithFixedDelay(
+        this::refreshPendingAccounts, 0, REFRESH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    stream =
+        server
+            .operations()
+            .cursor("now")
+            .order(RequestBuilder.Order.ASC)
+            .stream(
+                new EventListener<>() {
+                  @Override
+                  public void onEvent(OperationResponse operation) {
+                    handleOperation(operation);
+                  }
+
+                  @Override
+                  public void onFailure(Optional<Throwable> error, Optional<Integer> responseCode) {
+                    warnF(
+                        "Trustline stream failed. error={} responseCode={}",
+                        error.map(Throwable::getMessage).orElse(null),
+                        responseCode.orElse(null));
+                  }
+                });
+  }
+
+  public void shutdown() {
+    info("Stopping the trustline observer");
+    if (stream != null) {
+      stream.close();
+      stream = null;
+    }
+    refresher.shutdown();
+  }
+
+  void refreshPendingAccounts() {
+    try {
+      pendingAccounts = new HashSet<>(transactionPendingTrustRepo.findAllAccounts());
+    } catch (Exception ex) {
+      errorEx("Failed to refresh the accounts pending trust", ex);
+    }
+  }
+
+  void handleOperation(OperationResponse operation) {
+    if (!(operation instanceof ChangeTrustOperationResponse)) {
+      return;
+    }
+    ChangeTrustOperationResponse changeTrust = (ChangeTrustOperationResponse) operation;
+    String account = changeTrust.getTrustor();
+    // A limit of zero removes the trustline
+    if (account == null
+        || !pendingAccounts.contains(account)
+        || Double.parseDouble(changeTrust.getLimit()) == 0) {
+      return;
+    }
+
+    for (JdbcTransactionPendingTrust t : transactionPendingTrustRepo.findAllByAccount(account)) {
+      if (changeTrust.getAssetCode() != null
+          && changeTrust.getAssetCode().equals(AssetHelper.getAssetCode(t.getAsset()))
+          && changeTrust.getAssetIssuer().equals(AssetHelper.getAssetIssuer(t.getAsset()))) {
+        // The row is claimed first, so that the TrustlineCheckJob does not notify it too
+        Instant now = Instant.now();
+        if (transactionPendingTrustRepo.claim(t.getId(), instanceId, now.plus(CLAIM_DURATION), now)
+            == 0) {
+          continue;
+        }
+        try {
+          platformApiClient.notifyTrustSet(t.getId(), true);
+        } catch (Exception ex) {
+          // The claim is released, so that the TrustlineCheckJob retries the row
+          transactionPendingTrustRepo.release(t.getId(), instanceId);
+          errorEx(String.format("Failed to notify the trustline of transaction %s", t.getId()), ex);
+          continue;
+        }
+        transactionPendingTrustRepo.deleteClaimed(t.getId(), instanceId);
+        detectedCounter.increment();
+        debugF("Trustline of transaction {} detected by the stream", t.getId());
+      }
+    }
+  }
+}
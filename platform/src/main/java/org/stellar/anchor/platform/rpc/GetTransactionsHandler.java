@@ -2,7 +2,9 @@ package org.stellar.anchor.platform.rpc;
 
 import static org.stellar.anchor.api.rpc.method.RpcMethod.GET_TRANSACTIONS;
 
+import java.util.ArrayList;
 import org.stellar.anchor.api.exception.AnchorException;
+import org.stellar.anchor.api.platform.GetTransactionsResponse;
 import org.stellar.anchor.api.rpc.method.GetTransactionsRpcRequest;
 import org.stellar.anchor.api.rpc.method.RpcMethod;
 import org.stellar.anchor.platform.service.TransactionService;
@@ -29,6 +31,9 @@ public class GetTransactionsHandler extends RpcMethodHandler<GetTransactionsRpcR
             request.getStatuses(),
             request.getPageNumber(),
             request.getPageSize());
-    return txnService.findTransactions(request.getSep(), params);
+    GetTransactionsResponse response = txnService.findTransactions(request.getSep(), params);
+    // Map the records here, so that a mapping error is returned as the error of this call
+    response.setRecords(new ArrayList<>(response.getRecords()));
+    return response;
   }
 }
@@ -23,6 +23,7 @@ import org.stellar.anchor.api.sep.sep12.Sep12Status;
 import org.stellar.anchor.asset.AssetService;
 import org.stellar.anchor.event.EventService;
 import org.stellar.anchor.metrics.MetricsService;
+import org.stellar.anchor.platform.callback.CachedCustomerIntegration;
 import org.stellar.anchor.platform.data.JdbcSepTransaction;
 import org.stellar.anchor.platform.validator.RequestValidator;
 import org.stellar.anchor.sep24.Sep24TransactionStore;
@@ -73,6 +74,9 @@ public class NotifyCustomerInfoUpdatedHandler
       JdbcSepTransaction txn, NotifyCustomerInfoUpdatedRequest request) throws AnchorException {
     String status = null;
     if (request.getCustomerId() != null) {
+      // The business server notifies that the customer changed, so the cached responses of the
+      // servers of this process, including the SEP server, are stale
+      CachedCustomerIntegration.invalidateAll(request.getCustomerId());
       GetCustomerResponse customer =
           customerIntegration.getCustomer(
               GetCustomerRequest.builder()
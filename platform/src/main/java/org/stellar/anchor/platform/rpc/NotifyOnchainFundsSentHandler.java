@@ -10,10 +10,12 @@ import static org.stellar.anchor.platform.utils.PaymentsUtil.addStellarTransacti
 import static org.stellar.anchor.util.Log.errorEx;
 
 import com.google.common.collect.ImmutableSet;
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.stellar.anchor.api.exception.rpc.InternalErrorException;
 import org.stellar.anchor.api.exception.rpc.InvalidRequestException;
 import org.stellar.anchor.api.platform.PlatformTransactionData.Kind;
@@ -32,12 +34,17 @@ import org.stellar.anchor.platform.validator.RequestValidator;
 import org.stellar.anchor.sep24.Sep24TransactionStore;
 import org.stellar.anchor.sep31.Sep31TransactionStore;
 import org.stellar.anchor.sep6.Sep6TransactionStore;
+import org.stellar.sdk.Asset;
 import org.stellar.sdk.exception.NetworkException;
 import org.stellar.sdk.responses.operations.OperationResponse;
+import org.stellar.sdk.responses.operations.PathPaymentBaseOperationResponse;
+import org.stellar.sdk.responses.operations.PaymentOperationResponse;
 
 public class NotifyOnchainFundsSentHandler
     extends RpcTransactionStatusHandler<NotifyOnchainFundsSentRequest> {
 
+  private static final String STELLAR_ASSET_PREFIX = "stellar:";
+
   private final Horizon horizon;
 
   public NotifyOnchainFundsSentHandler(
@@ -109,7 +116,7 @@ public class NotifyOnchainFundsSentHandler
     String stellarTxnId = request.getStellarTransactionId();
     try {
       List<OperationResponse> txnOperations = horizon.getStellarTxnOperations(stellarTxnId);
-      addStellarTransaction(txn, stellarTxnId, txnOperations);
+      addStellarTransaction(txn, stellarTxnId, getPaymentsTo(txn, txnOperations));
     } catch (NetworkException ex) {
       errorEx(String.format("Failed to retrieve stellar transaction by ID[%s]", stellarTxnId), ex);
       throw new InternalErrorException(
@@ -118,4 +125,66 @@ public class NotifyOnchainFundsSentHandler
 
     txn.setTransferReceivedAt(transferReceivedAt);
   }
+
+  /**
+   * A Stellar transaction may contain the payments of several SEP transactions, e.g. when the
+   * custody server sends its payments in batches. Only the payments of the amount out to the
+   * account of the SEP transaction are kept. If none of the payments matches, all the operations
+   * are kept.
+   */
+  List<OperationResponse> getPaymentsTo(
+      JdbcSepTransaction txn, List<OperationResponse> operations) {
+    String toAccount;
+    switch (Sep.from(txn.getProtocol())) {
+      case SEP_6:
+        toAccount = ((JdbcSep6Transaction) txn).getToAccount();
+        break;
+      case SEP_24:
+        toAccount = ((JdbcSep24Transaction) txn).getToAccount();
+        break;
+      default:
+        return operations;
+    }
+
+    List<OperationResponse> payments =
+        operations.stream()
+            .filter(
+                operation ->
+                    isPaymentOf(operation, toAccount, txn.getAmountOut(), txn.getAmountOutAsset()))
+            .collect(Collectors.toList());
+    return payments.isEmpty() ? operations : payments;
+  }
+
+  /** The amount and the asset are compared only if they are known. */
+  private boolean isPaymentOf(
+      OperationResponse operation, String toAccount, String amount, String asset) {
+    String destination;
+    String paymentAmount;
+    Asset paymentAsset;
+    if (operation instanceof PaymentOperationResponse) {
+      PaymentOperationResponse payment = (PaymentOperationResponse) operation;
+      destination = payment.getTo();
+      paymentAmount = payment.getAmount();
+      paymentAsset = payment.getAsset();
+    } else if (operation instanceof PathPaymentBaseOperationResponse) {
+      PathPaymentBaseOperationResponse payment = (PathPaymentBaseOperationResponse) operation;
+      destination = payment.getTo();
+      paymentAmount = payment.getAmount();
+      paymentAsset = payment.getAsset();
+    } else {
+      return false;
+    }
+
+    if (toAccount == null || !toAccount.equals(destination)) {
+      return false;
+    }
+    if (amount != null
+        && (paymentAmount == null
+            || new BigDecimal(amount).compareTo(new BigDecimal(paymentAmount)) != 0)) {
+      return false;
+    }
+    return asset == null
+        || !asset.startsWith(STELLAR_ASSET_PREFIX)
+        || Asset.create(asset.substring(STELLAR_ASSET_PREFIX.length())).equals(paymentAsset);
+  }
 }
@@ -3,24 +3,46 @@ package org.stellar.anchor.platform.service;
 import static org.stellar.anchor.util.Log.debugF;
 import static org.stellar.anchor.util.Log.warnF;
 
+import java.time.Duration;
 import java.util.List;
 import org.stellar.anchor.api.platform.HealthCheckResponse;
 import org.stellar.anchor.healthcheck.HealthCheckProcessor;
 import org.stellar.anchor.healthcheck.HealthCheckable;
+import org.stellar.anchor.platform.config.HealthCheckConfig;
+import org.stellar.anchor.platform.utils.DaemonExecutors;
 
 public class HealthCheckService {
   final HealthCheckProcessor processor;
 
   public HealthCheckService(List<HealthCheckable> checkables) {
-    checkables.forEach(
-        checkable -> debugF("{} is added to the health check list.", checkable.getName()));
-    if (checkables.size() == 0) {
-      warnF("No health-checkable services are found");
-    }
+    logCheckables(checkables);
     processor = new HealthCheckProcessor(checkables);
   }
 
+  public HealthCheckService(List<HealthCheckable> checkables, HealthCheckConfig config) {
+    logCheckables(checkables);
+    // One thread per check, so a slow check does not delay the others
+    processor =
+        new HealthCheckProcessor(
+            checkables,
+            DaemonExecutors.newFixedThreadPool(Math.max(1, checkables.size())),
+            config.getTimeout() > 0 ? Duration.ofSeconds(config.getTimeout()) : null);
+    if (config.getRefreshInterval() > 0) {
+      processor.schedule(
+          DaemonExecutors.newScheduledThreadPool(1),
+          Duration.ofSeconds(config.getRefreshInterval()));
+    }
+  }
+
   public HealthCheckResponse check(List<String> checks) {
     return processor.check(checks);
   }
+
+  private static void logCheckables(List<HealthCheckable> checkables) {
+    checkables.forEach(
+        checkable -> debugF("{} is added to the health check list.", checkable.getName()));
+    if (checkables.size() == 0) {
+      warnF("No health-checkable services are found");
+    }
+  }
 }
@@ -6,6 +6,7 @@ import static org.stellar.anchor.util.Log.*;
 import static org.stellar.anchor.util.MathHelper.decimal;
 import static org.stellar.anchor.util.MathHelper.formatAmount;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Metrics;
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -22,6 +23,7 @@ import org.stellar.anchor.platform.observer.PaymentListener;
 import org.stellar.anchor.util.AssetHelper;
 import org.stellar.anchor.util.Log;
 import org.stellar.anchor.util.MemoHelper;
+import org.stellar.anchor.util.Meters;
 import org.stellar.sdk.xdr.MemoType;
 
 public class PaymentOperationToEventListener implements PaymentListener {
@@ -30,6 +32,21 @@ public class PaymentOperationToEventListener implements PaymentListener {
   final JdbcSep6TransactionStore sep6TransactionStore;
   private final PlatformApiClient platformApiClient;
   private final RpcConfig rpcConfig;
+  private final Counter sep31ObservedCounter =
+      Metrics.counter(
+          AnchorMetrics.SEP31_TRANSACTION_OBSERVED.toString(),
+          "status",
+          SepTransactionStatus.PENDING_RECEIVER.toString());
+  private final Counter sep24ObservedCounter =
+      Metrics.counter(
+          AnchorMetrics.SEP24_TRANSACTION_OBSERVED.toString(),
+          "status",
+          SepTransactionStatus.PENDING_ANCHOR.toString());
+  private final Counter sep6ObservedCounter =
+      Metrics.counter(
+          AnchorMetrics.SEP6_TRANSACTION_OBSERVED.toString(),
+          "status",
+          SepTransactionStatus.PENDING_ANCHOR.toString());
 
   public PaymentOperationToEventListener(
       JdbcSep31TransactionStore sep31TransactionStore,
@@ -168,12 +185,8 @@ public class PaymentOperationToEventListener implements PaymentListener {
         rpcConfig.getCustomMessages().getIncomingPaymentReceived());
 
     // Update metrics
-    Metrics.counter(
-            AnchorMetrics.SEP31_TRANSACTION_OBSERVED.toString(),
-            "status",
-            SepTransactionStatus.PENDING_RECEIVER.toString())
-        .increment();
-    Metrics.counter(AnchorMetrics.PAYMENT_RECEIVED.toString(), "asset", payment.getAssetName())
+    sep31ObservedCounter.increment();
+    Meters.counter(AnchorMetrics.PAYMENT_RECEIVED.toString(), "asset", payment.getAssetName())
         .increment(Double.parseDouble(payment.getAmount()));
   }
 
@@ -217,12 +230,8 @@ public class PaymentOperationToEventListener implements PaymentListener {
           rpcConfig.getCustomMessages().getIncomingPaymentReceived());
     }
 
-    Metrics.counter(
-            AnchorMetrics.SEP24_TRANSACTION_OBSERVED.toString(),
-            "status",
-            SepTransactionStatus.PENDING_ANCHOR.toString())
-        .increment();
-    Metrics.counter(AnchorMetrics.PAYMENT_RECEIVED.toString(), "asset", payment.getAssetName())
+    sep24ObservedCounter.increment();
+    Meters.counter(AnchorMetrics.PAYMENT_RECEIVED.toString(), "asset", payment.getAssetName())
         .increment(Double.parseDouble(payment.getAmount()));
   }
 
@@ -256,12 +265,8 @@ public class PaymentOperationToEventListener implements PaymentListener {
         payment.getAmount(),
         rpcConfig.getCustomMessages().getIncomingPaymentReceived());
 
-    Metrics.counter(
-            AnchorMetrics.SEP6_TRANSACTION_OBSERVED.toString(),
-            "status",
-            SepTransactionStatus.PENDING_ANCHOR.toString())
-        .increment();
-    Metrics.counter(AnchorMetrics.PAYMENT_RECEIVED.toString(), "asset", payment.getAssetName())
+    sep6ObservedCounter.increment();
+    Meters.counter(AnchorMetrics.PAYMENT_RECEIVED.toString(), "asset", payment.getAssetName())
         .increment(Double.parseDouble(payment.getAmount()));
   }
 }
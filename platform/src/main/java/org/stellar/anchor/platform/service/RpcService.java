@@ -5,7 +5,9 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.stellar.anchor.util.Log.debugF;
 import static org.stellar.anchor.util.Log.errorEx;
+import static org.stellar.anchor.util.MetricConstants.*;
 
+import io.micrometer.core.instrument.Timer;
 import java.util.List;
 import java.util.Map;
 import org.stellar.anchor.api.exception.AnchorException;
@@ -16,12 +18,14 @@ import org.stellar.anchor.api.exception.rpc.RpcException;
 import org.stellar.anchor.api.rpc.RpcRequest;
 import org.stellar.anchor.api.rpc.RpcResponse;
 import org.stellar.anchor.api.rpc.method.RpcMethod;
+import org.stellar.anchor.apiclient.RpcRequestHandler;
 import org.stellar.anchor.platform.config.RpcConfig;
 import org.stellar.anchor.platform.rpc.RpcMethodHandler;
 import org.stellar.anchor.platform.utils.RpcUtil;
+import org.stellar.anchor.util.Meters;
 import org.stellar.sdk.exception.NetworkException;
 
-public class RpcService {
+public class RpcService implements RpcRequestHandler {
 
   private final Map<RpcMethod, RpcMethodHandler<?>> rpcMethodHandlerMap;
   private final RpcConfig rpcConfig;
@@ -30,8 +34,14 @@ public class RpcService {
     this.rpcMethodHandlerMap =
         rpcMethodHandlers.stream().collect(toMap(RpcMethodHandler::getRpcMethod, identity()));
     this.rpcConfig = rpcConfig;
+    // Register the timers of the handled methods, so they are reported before the first call
+    for (RpcMethod method : rpcMethodHandlerMap.keySet()) {
+      rpcTimer(method, TV_SUCCESS);
+      rpcTimer(method, TV_FAILURE);
+    }
   }
 
+  @Override
   public List<RpcResponse> handle(List<RpcRequest> rpcRequests) {
     if (rpcRequests.size() > rpcConfig.getBatchSizeLimit()) {
       return List.of(RpcUtil.getRpcBatchLimitErrorResponse(rpcConfig.getBatchSizeLimit()));
@@ -82,6 +92,18 @@ public class RpcService {
       throw new MethodNotFoundException(
           String.format("RPC method[%s] handler is not found", rpcCall.getMethod()));
     }
-    return rpcMethodHandler.handle(rpcCall.getParams());
+    Timer.Sample sample = Timer.start();
+    String result = TV_FAILURE;
+    try {
+      Object response = rpcMethodHandler.handle(rpcCall.getParams());
+      result = TV_SUCCESS;
+      return response;
+    } finally {
+      sample.stop(rpcTimer(rpcMethodHandler.getRpcMethod(), result));
+    }
+  }
+
+  Timer rpcTimer(RpcMethod method, String result) {
+    return Meters.timer(PLATFORM_RPC_METHOD, TYPE, method.toString(), RESULT, result);
   }
 }
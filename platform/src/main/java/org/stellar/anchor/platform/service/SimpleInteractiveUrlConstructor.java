@@ -1,7 +1,6 @@
 package org.stellar.anchor.platform.service;
 
 import static org.stellar.anchor.auth.JwtService.HOME_DOMAIN;
-import static org.stellar.anchor.platform.service.UrlConstructorHelper.addTxnFields;
 import static org.stellar.anchor.sep24.Sep24Service.INTERACTIVE_URL_JWT_REQUIRED_FIELDS_FROM_REQUEST;
 import static org.stellar.anchor.sep9.Sep9Fields.extractSep9Fields;
 import static org.stellar.anchor.util.Log.debugF;
@@ -35,6 +34,7 @@ public class SimpleInteractiveUrlConstructor extends InteractiveUrlConstructor {
   private final PropertySep24Config sep24Config;
   private final CustomerIntegration customerIntegration;
   private final JwtService jwtService;
+  private final TxnFieldExtractor txnFieldExtractor;
 
   public SimpleInteractiveUrlConstructor(
       AssetService assetService,
@@ -47,6 +47,12 @@ public class SimpleInteractiveUrlConstructor extends InteractiveUrlConstructor {
     this.sep24Config = sep24Config;
     this.customerIntegration = customerIntegration;
     this.jwtService = jwtService;
+    this.txnFieldExtractor =
+        new TxnFieldExtractor(
+            assetService,
+            sep24Config.getInteractiveUrl() == null
+                ? null
+                : sep24Config.getInteractiveUrl().getTxnFields());
   }
 
   @Override
@@ -101,7 +107,7 @@ public class SimpleInteractiveUrlConstructor extends InteractiveUrlConstructor {
     Map<String, String> data =
         new HashMap<>(extractRequiredJwtFieldsFromRequest(request, asset, homeDomain));
     // Add fields defined in txnFields
-    addTxnFields(assetService, data, txn, sep24Config.getInteractiveUrl().getTxnFields());
+    txnFieldExtractor.addTo(data, txn);
 
     token.claim("data", data);
 
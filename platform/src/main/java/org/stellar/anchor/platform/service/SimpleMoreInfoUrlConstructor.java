@@ -18,6 +18,7 @@ public abstract class SimpleMoreInfoUrlConstructor implements MoreInfoUrlConstru
   final ClientService clientsService;
   final MoreInfoUrlConfig config;
   private final JwtService jwtService;
+  private final TxnFieldExtractor txnFieldExtractor;
 
   public SimpleMoreInfoUrlConstructor(
       AssetService assetService,
@@ -28,6 +29,7 @@ public abstract class SimpleMoreInfoUrlConstructor implements MoreInfoUrlConstru
     this.clientsService = clientsService;
     this.config = config;
     this.jwtService = jwtService;
+    this.txnFieldExtractor = new TxnFieldExtractor(assetService, config.getTxnFields());
   }
 
   public abstract String construct(SepTransaction txn, String lang);
@@ -47,7 +49,7 @@ public abstract class SimpleMoreInfoUrlConstructor implements MoreInfoUrlConstru
     Map<String, String> data = new HashMap<>();
     data.put("lang", lang);
     // add txn_fields to token
-    UrlConstructorHelper.addTxnFields(assetService, data, txn, config.getTxnFields());
+    txnFieldExtractor.addTo(data, txn);
     token.claim("data", data);
 
     // build url
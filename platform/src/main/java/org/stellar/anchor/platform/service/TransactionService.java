@@ -194,13 +194,13 @@ public class TransactionService {
         throw new BadRequestException("SEP not supported");
     }
 
+    // The transactions are mapped one at a time while the response is written
     return new GetTransactionsResponse(
-        txn.stream()
-            .map(
-                t ->
-                    PlatformTransactionHelper.toGetTransactionResponse(
-                        (JdbcSepTransaction) t, assetService))
-            .collect(Collectors.toList()));
+        MappedList.of(
+            txn,
+            t ->
+                PlatformTransactionHelper.toGetTransactionResponse(
+                    (JdbcSepTransaction) t, assetService)));
   }
 
   /**
@@ -268,8 +268,7 @@ public class TransactionService {
     switch (txn.getProtocol()) {
       case "6":
         JdbcSep6Transaction sep6Transaction = (JdbcSep6Transaction) txn;
-        Log.infoF(
-            "Updating SEP-6 transaction: {}", GsonUtils.getInstance().toJson(sep6Transaction));
+        Log.infoF("Updating SEP-6 transaction: {}", Log.lazyJson(sep6Transaction));
 
         boolean shouldCreateDepositTxn =
             ImmutableSet.of(Kind.DEPOSIT, Kind.DEPOSIT_EXCHANGE)
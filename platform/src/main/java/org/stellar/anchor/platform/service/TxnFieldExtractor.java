@@ -0,0 +1,322 @@
+package org.stellar.anchor.platform.service;
+
+import static org.stellar.anchor.util.Log.warnF;
+import static org.stellar.anchor.util.StringHelper.camelToSnake;
+import static org.stellar.anchor.util.StringHelper.isEmpty;
+import static org.stellar.anchor.util.StringHelper.snakeToCamelCase;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.commons.beanutils.BeanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.stellar.anchor.SepTransaction;
+import org.stellar.anchor.api.asset.AssetInfo;
+import org.stellar.anchor.api.platform.GetTransactionResponse;
+import org.stellar.anchor.api.platform.PlatformTransactionData.Kind;
+import org.stellar.anchor.api.platform.PlatformTransactionData.Sep;
+import org.stellar.anchor.api.sep.SepTransactionStatus;
+import org.stellar.anchor.api.shared.Amount;
+import org.stellar.anchor.api.shared.Customers;
+import org.stellar.anchor.api.shared.StellarId;
+import org.stellar.anchor.asset.AssetService;
+import org.stellar.anchor.platform.data.JdbcSep24Transaction;
+import org.stellar.anchor.platform.data.JdbcSep6Transaction;
+import org.stellar.anchor.util.TransactionMapper;
+
+/**
+ * Extracts the configured txn_fields of the SEP transactions, to be added to the JWT of the
+ * interactive and more_info URLs.
+ *
+ * <p>The fields are named after the properties of the GetTransactionResponse of the transaction.
+ * Their values are read from the JdbcSep6Transaction and JdbcSep24Transaction by accessors
+ * resolved once, which compute the same values as TransactionMapper, so the
+ * GetTransactionResponse is never built. The values are converted to strings as BeanUtils does
+ * with the GetTransactionResponse, e.g. `DEPOSIT` for the kind and `Amount(amount=100,
+ * asset=iso4217:USD)` for the amounts. The nested and indexed fields, e.g. `amount_in.amount`, are
+ * read with BeanUtils from the value of their top-level property.
+ */
+public class TxnFieldExtractor {
+  private static final Set<String> PROPERTIES = properties(GetTransactionResponse.class);
+
+  private final int size;
+  private final List<FieldAccessor<JdbcSep6Transaction>> sep6Accessors;
+  private final List<FieldAccessor<JdbcSep24Transaction>> sep24Accessors;
+
+  /**
+   * Creates the extractor of the fields.
+   *
+   * @param assetService the asset service
+   * @param txnFields the names of the fields, in snake_case or camelCase.
+   */
+  public TxnFieldExtractor(AssetService assetService, List<String> txnFields) {
+    List<String> fields = new ArrayList<>();
+    if (txnFields != null) {
+      for (String field : txnFields) {
+        if (isEmpty(field)) {
+          continue;
+        }
+        String name = camelToSnake(field);
+        if (!PROPERTIES.contains(topLevelProperty(snakeToCamelCase(name)))) {
+          warnF("The transaction does not have the txn_field [{}]. It is skipped", field);
+          continue;
+        }
+        fields.add(name);
+      }
+    }
+    this.size = fields.size();
+    this.sep6Accessors = compile(fields, sep6Properties(assetService));
+    this.sep24Accessors = compile(fields, sep24Properties(assetService));
+  }
+
+  /**
+   * Adds the non-empty values of the fields of the transaction to the data map, keyed by their
+   * snake_case names. The fields are only extracted from the JDBC SEP-6 and SEP-24 transactions.
+   *
+   * @param data the data map
+   * @param txn the JdbcSep6Transaction or JdbcSep24Transaction
+   */
+  public void addTo(Map<String, String> data, SepTransaction txn) {
+    if (txn instanceof JdbcSep6Transaction) {
+      addTo(data, sep6Accessors, (JdbcSep6Transaction) txn);
+    } else if (txn instanceof JdbcSep24Transaction) {
+      addTo(data, sep24Accessors, (JdbcSep24Transaction) txn);
+    }
+    // if the txn is not a JDBC transaction, we can't extract the fields
+  }
+
+  /**
+   * Gets the number of the configured fields.
+   *
+   * @return the number of the fields.
+   */
+  public int size() {
+    return size;
+  }
+
+  private static <T> void addTo(Map<String, String> data, List<FieldAccessor<T>> accessors, T txn) {
+    for (FieldAccessor<T> accessor : accessors) {
+      try {
+        String value = accessor.getter.apply(txn);
+        if (!isEmpty(value)) {
+          data.put(accessor.name, value);
+        }
+      } catch (Exception e) {
+        // give up. no need to add the field
+      }
+    }
+  }
+
+  static <T> List<FieldAccessor<T>> compile(
+      List<String> fields, Map<String, Function<T, Object>> properties) {
+    List<FieldAccessor<T>> accessors = new ArrayList<>(fields.size());
+    for (String field : fields) {
+      String property = snakeToCamelCase(field);
+      String topLevelProperty = topLevelProperty(property);
+      Function<T, Object> getter = properties.get(topLevelProperty);
+      if (getter == null) {
+        // The property is never set for this type of transaction
+        continue;
+      }
+      if (topLevelProperty.equals(property)) {
+        accessors.add(new FieldAccessor<>(field, txn -> toString(getter.apply(txn))));
+      } else {
+        String path = "value" + property.substring(topLevelProperty.length());
+        accessors.add(
+            new FieldAccessor<>(field, txn -> getProperty(new Root(getter.apply(txn)), path)));
+      }
+    }
+    return Collections.unmodifiableList(accessors);
+  }
+
+  /** The properties of GetTransactionResponse, as set by TransactionMapper for SEP-6. */
+  static Map<String, Function<JdbcSep6Transaction, Object>> sep6Properties(
+      AssetService assetService) {
+    Map<String, Function<JdbcSep6Transaction, Object>> properties = new HashMap<>();
+    properties.put("id", JdbcSep6Transaction::getId);
+    properties.put("sep", txn -> Sep.SEP_6);
+    properties.put("kind", txn -> Kind.from(txn.getKind()));
+    properties.put("status", txn -> SepTransactionStatus.from(txn.getStatus()));
+    properties.put("fundingMethod", JdbcSep6Transaction::getType);
+    properties.put("type", JdbcSep6Transaction::getType);
+    properties.put(
+        "amountExpected",
+        txn -> {
+          String asset = sep6Asset(assetService, txn, null);
+          return asset != null ? new Amount(txn.getAmountExpected(), asset) : null;
+        });
+    properties.put(
+        "amountIn",
+        txn -> {
+          String asset = sep6Asset(assetService, txn, txn.getAmountInAsset());
+          return amount(txn.getAmountIn(), asset);
+        });
+    properties.put(
+        "amountOut",
+        txn -> {
+          String asset = sep6Asset(assetService, txn, txn.getAmountOutAsset());
+          return amount(txn.getAmountOut(), asset);
+        });
+    properties.put("feeDetails", JdbcSep6Transaction::getFeeDetails);
+    properties.put("quoteId", JdbcSep6Transaction::getQuoteId);
+    properties.put("startedAt", JdbcSep6Transaction::getStartedAt);
+    properties.put("updatedAt", JdbcSep6Transaction::getUpdatedAt);
+    properties.put("completedAt", JdbcSep6Transaction::getCompletedAt);
+    properties.put("userActionRequiredBy", JdbcSep6Transaction::getUserActionRequiredBy);
+    properties.put("transferReceivedAt", JdbcSep6Transaction::getTransferReceivedAt);
+    properties.put("message", JdbcSep6Transaction::getMessage);
+    properties.put("refunds", JdbcSep6Transaction::getRefunds);
+    properties.put("stellarTransactions", JdbcSep6Transaction::getStellarTransactions);
+    properties.put("sourceAccount", JdbcSep6Transaction::getFromAccount);
+    properties.put("destinationAccount", JdbcSep6Transaction::getToAccount);
+    properties.put("externalTransactionId", JdbcSep6Transaction::getExternalTransactionId);
+    properties.put("memo", JdbcSep6Transaction::getMemo);
+    properties.put("memoType", JdbcSep6Transaction::getMemoType);
+    properties.put("clientDomain", JdbcSep6Transaction::getClientDomain);
+    properties.put("clientName", JdbcSep6Transaction::getClientName);
+    properties.put("refundMemo", JdbcSep6Transaction::getRefundMemo);
+    properties.put("refundMemoType", JdbcSep6Transaction::getRefundMemoType);
+    properties.put("customers", txn -> customers(txn.getSep10Account(), txn.getSep10AccountMemo()));
+    properties.put("creator", txn -> creator(txn.getSep10Account(), txn.getSep10AccountMemo()));
+    return properties;
+  }
+
+  /** The properties of GetTransactionResponse, as set by TransactionMapper for SEP-24. */
+  static Map<String, Function<JdbcSep24Transaction, Object>> sep24Properties(
+      AssetService assetService) {
+    Map<String, Function<JdbcSep24Transaction, Object>> properties = new HashMap<>();
+    properties.put("id", JdbcSep24Transaction::getId);
+    properties.put("sep", txn -> Sep.SEP_24);
+    properties.put("kind", txn -> Kind.from(txn.getKind()));
+    properties.put("status", txn -> SepTransactionStatus.from(txn.getStatus()));
+    properties.put(
+        "amountExpected",
+        txn -> {
+          String asset = sep24Asset(assetService, txn, null);
+          return asset != null ? new Amount(txn.getAmountExpected(), asset) : null;
+        });
+    properties.put(
+        "amountIn",
+        txn -> {
+          String asset = sep24Asset(assetService, txn, txn.getAmountInAsset());
+          return amount(txn.getAmountIn(), asset);
+        });
+    properties.put(
+        "amountOut",
+        txn -> {
+          String asset = sep24Asset(assetService, txn, txn.getAmountOutAsset());
+          return amount(txn.getAmountOut(), asset);
+        });
+    properties.put("feeDetails", JdbcSep24Transaction::getFeeDetails);
+    properties.put("quoteId", JdbcSep24Transaction::getQuoteId);
+    properties.put("startedAt", JdbcSep24Transaction::getStartedAt);
+    properties.put("updatedAt", JdbcSep24Transaction::getUpdatedAt);
+    properties.put("completedAt", JdbcSep24Transaction::getCompletedAt);
+    properties.put("userActionRequiredBy", JdbcSep24Transaction::getUserActionRequiredBy);
+    properties.put("message", JdbcSep24Transaction::getMessage);
+    properties.put(
+        "refunds",
+        txn ->
+            txn.getRefunds() != null
+                ? TransactionMapper.toRefunds(txn.getRefunds(), txn.getAmountInAsset())
+                : null);
+    properties.put("stellarTransactions", JdbcSep24Transaction::getStellarTransactions);
+    properties.put("sourceAccount", JdbcSep24Transaction::getFromAccount);
+    properties.put("destinationAccount", JdbcSep24Transaction::getToAccount);
+    properties.put("externalTransactionId", JdbcSep24Transaction::getExternalTransactionId);
+    properties.put("memo", JdbcSep24Transaction::getMemo);
+    properties.put("memoType", JdbcSep24Transaction::getMemoType);
+    properties.put("clientDomain", JdbcSep24Transaction::getClientDomain);
+    properties.put("clientName", JdbcSep24Transaction::getClientName);
+    properties.put("refundMemo", JdbcSep24Transaction::getRefundMemo);
+    properties.put("refundMemoType", JdbcSep24Transaction::getRefundMemoType);
+    properties.put("customers", txn -> customers(txn.getSep10Account(), txn.getSep10AccountMemo()));
+    properties.put("creator", txn -> creator(txn.getSep10Account(), txn.getSep10AccountMemo()));
+    return properties;
+  }
+
+  private static String sep6Asset(
+      AssetService assetService, JdbcSep6Transaction txn, String dbAsset) {
+    if (dbAsset != null) {
+      return dbAsset;
+    }
+    return assetService.getAsset(txn.getRequestAssetCode(), txn.getRequestAssetIssuer()).getId();
+  }
+
+  private static String sep24Asset(
+      AssetService assetService, JdbcSep24Transaction txn, String dbAsset) {
+    if (dbAsset != null) {
+      return dbAsset;
+    }
+    AssetInfo info = assetService.getAsset(txn.getRequestAssetCode(), txn.getRequestAssetIssuer());
+    return info != null ? info.getId() : null;
+  }
+
+  private static Amount amount(String amount, String asset) {
+    return asset != null && amount != null ? Amount.create(amount, asset) : null;
+  }
+
+  private static Customers customers(String account, String memo) {
+    StellarId customer = creator(account, memo);
+    return Customers.builder().sender(customer).receiver(customer).build();
+  }
+
+  private static StellarId creator(String account, String memo) {
+    return StellarId.builder().account(account).memo(memo).build();
+  }
+
+  private static Set<String> properties(Class<?> txnClass) {
+    Set<String> properties = new HashSet<>();
+    try {
+      for (PropertyDescriptor property :
+          Introspector.getBeanInfo(txnClass).getPropertyDescriptors()) {
+        // BeanUtils does not expose the class property
+        if (property.getReadMethod() != null && !"class".equals(property.getName())) {
+          properties.add(property.getName());
+        }
+      }
+    } catch (IntrospectionException ex) {
+      warnF("Failed to resolve the properties of {}: {}", txnClass.getName(), ex.getMessage());
+    }
+    return Collections.unmodifiableSet(properties);
+  }
+
+  private static String topLevelProperty(String property) {
+    int end = StringUtils.indexOfAny(property, '.', '[', '(');
+    return end < 0 ? property : property.substring(0, end);
+  }
+
+  // As ConvertUtils converts the values of the top-level properties to strings
+  private static String toString(Object value) {
+    return value != null ? value.toString() : null;
+  }
+
+  @SneakyThrows
+  private static String getProperty(Object bean, String path) {
+    return BeanUtils.getProperty(bean, path);
+  }
+
+  @AllArgsConstructor
+  static class FieldAccessor<T> {
+    final String name;
+    final Function<T, String> getter;
+  }
+
+  /** Holds the value of a top-level property, to read its nested property with BeanUtils. */
+  @Getter
+  @AllArgsConstructor
+  public static class Root {
+    private final Object value;
+  }
+}
@@ -1,13 +1,56 @@
 package org.stellar.anchor.platform.utils;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class DaemonExecutors {
   private static ThreadFactory daemonThreadFactory = new DaemonThreadFactory();
 
+  /**
+   * Returns the factory of the executor threads. The threads are virtual threads if the virtual
+   * thread mode is enabled, platform daemon threads otherwise. Virtual threads are always daemon
+   * threads. The pool sizes still bound the concurrency of the executors.
+   *
+   * @return the thread factory.
+   */
+  static ThreadFactory threadFactory() {
+    return VirtualThreads.isEnabled()
+        ? VirtualThreads.newThreadFactory("anchor-virtual-")
+        : daemonThreadFactory;
+  }
+
   public static ScheduledExecutorService newScheduledThreadPool(int threadCount) {
-    return Executors.newScheduledThreadPool(threadCount, daemonThreadFactory);
+    return Executors.newScheduledThreadPool(threadCount, threadFactory());
+  }
+
+  public static ExecutorService newFixedThreadPool(int threadCount) {
+    return Executors.newFixedThreadPool(threadCount, threadFactory());
+  }
+
+  public static ExecutorService newSingleThreadExecutor() {
+    return Executors.newSingleThreadExecutor(threadFactory());
+  }
+
+  /**
+   * Creates a single thread executor whose queue holds at most queueCapacity tasks. The tasks
+   * submitted while the queue is full are discarded.
+   *
+   * @param queueCapacity the capacity of the task queue.
+   * @return the executor.
+   */
+  public static ExecutorService newSingleThreadExecutor(int queueCapacity) {
+    return new ThreadPoolExecutor(
+        1,
+        1,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(queueCapacity),
+        threadFactory(),
+        new ThreadPoolExecutor.DiscardPolicy());
   }
 }
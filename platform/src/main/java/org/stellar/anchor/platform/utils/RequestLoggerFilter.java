@@ -2,79 +2,96 @@ package org.stellar.anchor.platform.utils;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintWriter;
 import java.io.UnsupportedEncodingException;
-import java.util.Objects;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 import org.stellar.anchor.platform.config.AppLoggingConfig;
 import org.stellar.anchor.util.Log;
 
 /**
  * Log each request and response. The request body is never logged and the response body is only
- * logged when it's an error
+ * logged when it's an error.
  *
- * @see <a href="https://stackoverflow.com/a/42023374/875657">StackOverflow Answer</a>
+ * <p>The response body is streamed to the client. Only the first bytes of an error response are
+ * captured, up to the configured size. The excluded paths are not logged, the successful requests
+ * are sampled at the configured rate, and the log records are written by a background thread.
  */
 public class RequestLoggerFilter extends OncePerRequestFilter {
+  static final int LOG_QUEUE_CAPACITY = 1000;
+
   private final AppLoggingConfig appLoggingConfig;
+  private final Executor logExecutor;
+  private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
   public RequestLoggerFilter(AppLoggingConfig appLoggingConfig) {
+    this(appLoggingConfig, DaemonExecutors.newSingleThreadExecutor(LOG_QUEUE_CAPACITY));
+  }
+
+  RequestLoggerFilter(AppLoggingConfig appLoggingConfig, Executor logExecutor) {
     this.appLoggingConfig = appLoggingConfig;
+    this.logExecutor = logExecutor;
   }
 
   public void doFilterWithLogging(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws IOException, ServletException {
     long startTime = System.currentTimeMillis();
-
-    // ========= Log request and response payload ("body") ========
-    // We CANNOT simply read the request payload here, because then the InputStream would be
-    // consumed and cannot be read again by the actual processing/server.
-    // So we need to apply some stronger magic here :-)
-    ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(request);
-    ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+    ErrorCapturingResponseWrapper wrappedResponse =
+        new ErrorCapturingResponseWrapper(response, appLoggingConfig.getRequestLoggerMaxBodySize());
 
     // IMPORTANT: This performs the actual request!
-    filterChain.doFilter(wrappedRequest, wrappedResponse);
+    filterChain.doFilter(request, wrappedResponse);
     long duration = System.currentTimeMillis() - startTime;
 
+    int status = response.getStatus();
+    if (!isError(status) && !isSampled()) {
+      return;
+    }
+
+    // The request is recycled by the container once it completes, so the record is built here
     String principalName =
         request.getUserPrincipal() == null ? null : request.getUserPrincipal().getName();
+    String clientIpAddress = getClientIpAddress(request);
+    String method = request.getMethod();
+    String path = request.getRequestURI();
     RequestResponseMessage requestResponseMessage =
         RequestResponseMessage.builder()
             .request(
                 RequestResponseMessage.Request.builder()
-                    .method(request.getMethod())
-                    .path(request.getRequestURI())
+                    .method(method)
+                    .path(path)
                     .queryParams(request.getQueryString())
                     .authType(request.getAuthType())
                     .principalName(principalName)
-                    .clientId(getClientIpAddress(request))
+                    .clientId(clientIpAddress)
                     .build())
             .response(
                 RequestResponseMessage.Response.builder()
-                    .statusCode(response.getStatus())
-                    .responseBody(getBody(wrappedResponse))
+                    .statusCode(status)
+                    .responseBody(wrappedResponse.getBody())
                     .build())
             .durationMilliseconds(duration)
             .build();
 
-    Log.infoF(
-        " {} - {} {} {}",
-        getClientIpAddress(request),
-        request.getMethod(),
-        request.getRequestURI(),
-        response.getStatus());
-    Log.debugF("{} {} takes {} ms", request.getMethod(), request.getRequestURI(), duration);
-    Log.trace(requestResponseMessage.toString());
-
-    // IMPORTANT: copy content of response back into original response:
-    wrappedResponse.copyBodyToResponse();
+    logExecutor.execute(
+        () -> {
+          Log.infoF(" {} - {} {} {}", clientIpAddress, method, path, status);
+          Log.debugF("{} {} takes {} ms", method, path, duration);
+          Log.trace(requestResponseMessage.toString());
+        });
   }
 
   @Override
@@ -84,7 +101,7 @@ public class RequestLoggerFilter extends OncePerRequestFilter {
       @NotNull FilterChain filterChain)
       throws ServletException, IOException {
 
-    if (!appLoggingConfig.isRequestLoggerEnabled()) {
+    if (!appLoggingConfig.isRequestLoggerEnabled() || isExcluded(request.getRequestURI())) {
       filterChain.doFilter(request, response);
       return;
     }
@@ -92,26 +109,26 @@ public class RequestLoggerFilter extends OncePerRequestFilter {
     this.doFilterWithLogging(request, response, filterChain);
   }
 
-  /**
-   * getBody will get the response body (if it's an error) or omit it if it's not an error.
-   *
-   * @param wrappedResponse the wrapped response
-   * @return the response body, if it's an error, or "[hidden]" if it's not.
-   */
-  private String getBody(ContentCachingResponseWrapper wrappedResponse) {
-    byte[] buf = wrappedResponse.getContentAsByteArray();
-
-    if (Objects.toString(buf, "").isEmpty()) {
-      return "";
+  boolean isExcluded(String path) {
+    List<String> excludedPaths = appLoggingConfig.getRequestLoggerExcludedPaths();
+    if (excludedPaths == null || path == null) {
+      return false;
     }
-
-    int length = Math.min(buf.length, 2048);
-    try {
-      String body = new String(buf, 0, length, wrappedResponse.getCharacterEncoding());
-      return body.contains("\"error\"") ? body : "[hidden]";
-    } catch (UnsupportedEncodingException ex) {
-      return "Unsupported Encoding";
+    for (String pattern : excludedPaths) {
+      if (pathMatcher.match(pattern, path)) {
+        return true;
+      }
     }
+    return false;
+  }
+
+  boolean isSampled() {
+    double sampleRate = appLoggingConfig.getRequestLoggerSampleRate();
+    return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+  }
+
+  static boolean isError(int status) {
+    return status >= 400;
   }
 
   private static String getClientIpAddress(HttpServletRequest request) {
@@ -147,4 +164,138 @@ public class RequestLoggerFilter extends OncePerRequestFilter {
     }
     return ip;
   }
+
+  /**
+   * The response wrapper passing the body through to the client. The first bytes written after an
+   * error status is set are copied, up to the maximum body size.
+   */
+  static class ErrorCapturingResponseWrapper extends HttpServletResponseWrapper {
+    private final int maxBodySize;
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final StringBuilder chars = new StringBuilder();
+    private long bodySize = 0;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    ErrorCapturingResponseWrapper(HttpServletResponse response, int maxBodySize) {
+      super(response);
+      this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      if (outputStream == null) {
+        outputStream = new CapturingOutputStream(super.getOutputStream());
+      }
+      return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      if (writer == null) {
+        writer = new PrintWriter(new CapturingWriter(super.getWriter()));
+      }
+      return writer;
+    }
+
+    /**
+     * Gets the body to log.
+     *
+     * @return the captured body if the response is an error, "[hidden]" if it's not, or an empty
+     *     string if there is no body.
+     */
+    String getBody() {
+      if (bodySize == 0) {
+        return "";
+      }
+      if (!isError(getStatus())) {
+        return "[hidden]";
+      }
+      try {
+        return bytes.toString(getCharacterEncoding()) + chars;
+      } catch (UnsupportedEncodingException ex) {
+        return "Unsupported Encoding";
+      }
+    }
+
+    private int capacity(int length) {
+      bodySize += length;
+      if (!isError(getStatus())) {
+        return 0;
+      }
+      return Math.max(0, Math.min(length, maxBodySize - bytes.size() - chars.length()));
+    }
+
+    class CapturingOutputStream extends ServletOutputStream {
+      private final ServletOutputStream delegate;
+
+      CapturingOutputStream(ServletOutputStream delegate) {
+        this.delegate = delegate;
+      }
+
+      @Override
+      public void write(int b) throws IOException {
+        delegate.write(b);
+        if (capacity(1) > 0) {
+          bytes.write(b);
+        }
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        delegate.write(b, off, len);
+        int n = capacity(len);
+        if (n > 0) {
+          bytes.write(b, off, n);
+        }
+      }
+
+      @Override
+      public void flush() throws IOException {
+        delegate.flush();
+      }
+
+      @Override
+      public void close() throws IOException {
+        delegate.close();
+      }
+
+      @Override
+      public boolean isReady() {
+        return delegate.isReady();
+      }
+
+      @Override
+      public void setWriteListener(WriteListener writeListener) {
+        delegate.setWriteListener(writeListener);
+      }
+    }
+
+    class CapturingWriter extends Writer {
+      private final Writer delegate;
+
+      CapturingWriter(Writer delegate) {
+        this.delegate = delegate;
+      }
+
+      @Override
+      public void write(char[] cbuf, int off, int len) throws IOException {
+        delegate.write(cbuf, off, len);
+        int n = capacity(len);
+        if (n > 0) {
+          chars.append(cbuf, off, n);
+        }
+      }
+
+      @Override
+      public void flush() throws IOException {
+        delegate.flush();
+      }
+
+      @Override
+      public void close() throws IOException {
+        delegate.close();
+      }
+    }
+  }
 }
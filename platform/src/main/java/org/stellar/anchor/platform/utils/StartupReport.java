@@ -0,0 +1,168 @@
+package org.stellar.anchor.platform.utils;
+
+import static org.stellar.anchor.util.Log.infoF;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * The startup timing report of a server.
+ *
+ * <p>The startup steps recorded by Spring are aggregated by phase, and the bean instantiations by
+ * bean group, which is the configuration class declaring the bean (eg: SepBeans). The time of a
+ * step excludes the time of its nested steps, so that the time spent creating a bean is not
+ * counted again for the beans depending on it.
+ */
+public class StartupReport {
+  static final int BUFFER_CAPACITY = 20000;
+  static final int MAX_ROWS = 10;
+  static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+  static final String OTHER_GROUP = "other";
+
+  private final String serverName;
+  private final BufferingApplicationStartup applicationStartup =
+      new BufferingApplicationStartup(BUFFER_CAPACITY);
+
+  public StartupReport(String serverName) {
+    this.serverName = serverName;
+  }
+
+  public ApplicationStartup getApplicationStartup() {
+    return applicationStartup;
+  }
+
+  /**
+   * Logs the report of the steps recorded until now.
+   *
+   * @param context the started application context.
+   */
+  public void log(ConfigurableApplicationContext context) {
+    StartupTimeline timeline = applicationStartup.drainBufferedTimeline();
+    List<Step> steps = timeline.getEvents().stream().map(Step::of).collect(Collectors.toList());
+    ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+    Summary summary = summarize(steps, beanName -> beanGroup(beanFactory, beanName));
+    infoF(
+        "{} started in {} ms.{}{}",
+        serverName,
+        Duration.between(timeline.getStartTime(), Instant.now()).toMillis(),
+        System.lineSeparator(),
+        summary.format());
+  }
+
+  static Summary summarize(List<Step> steps, Function<String, String> beanGroupOf) {
+    Map<Long, Long> nestedNanos = new HashMap<>();
+    for (Step step : steps) {
+      if (step.parentId != null) {
+        nestedNanos.merge(step.parentId, step.nanos, Long::sum);
+      }
+    }
+
+    Summary summary = new Summary();
+    for (Step step : steps) {
+      long selfNanos = Math.max(0, step.nanos - nestedNanos.getOrDefault(step.id, 0L));
+      summary.phases.computeIfAbsent(step.name, k -> new Stat()).add(selfNanos);
+      if (BEAN_INSTANTIATE_STEP.equals(step.name)) {
+        summary
+            .beanGroups
+            .computeIfAbsent(beanGroupOf.apply(step.beanName), k -> new Stat())
+            .add(selfNanos);
+      }
+    }
+    return summary;
+  }
+
+  static String beanGroup(ConfigurableListableBeanFactory beanFactory, String beanName) {
+    if (beanName == null || !beanFactory.containsBeanDefinition(beanName)) {
+      return OTHER_GROUP;
+    }
+    BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+    String group =
+        definition.getFactoryBeanName() != null
+            ? definition.getFactoryBeanName()
+            : definition.getBeanClassName();
+    if (group == null) {
+      return OTHER_GROUP;
+    }
+    return group.substring(group.lastIndexOf('.') + 1);
+  }
+
+  @AllArgsConstructor
+  static class Step {
+    long id;
+    Long parentId;
+    String name;
+    String beanName;
+    long nanos;
+
+    static Step of(TimelineEvent event) {
+      StartupStep step = event.getStartupStep();
+      String beanName = null;
+      for (StartupStep.Tag tag : step.getTags()) {
+        if ("beanName".equals(tag.getKey())) {
+          beanName = tag.getValue();
+        }
+      }
+      long nanos = event.getDuration().toNanos();
+      return new Step(step.getId(), step.getParentId(), step.getName(), beanName, nanos);
+    }
+  }
+
+  static class Stat {
+    int count;
+    long nanos;
+
+    void add(long nanos) {
+      this.count++;
+      this.nanos += nanos;
+    }
+  }
+
+  static class Summary {
+    final Map<String, Stat> phases = new HashMap<>();
+    final Map<String, Stat> beanGroups = new HashMap<>();
+
+    String format() {
+      return "Startup phases:"
+          + System.lineSeparator()
+          + formatRows(phases, "steps")
+          + "Bean groups:"
+          + System.lineSeparator()
+          + formatRows(beanGroups, "beans");
+    }
+
+    private static String formatRows(Map<String, Stat> stats, String unit) {
+      StringBuilder sb = new StringBuilder();
+      stats.entrySet().stream()
+          .sorted(
+              Comparator.comparingLong((Map.Entry<String, Stat> e) -> e.getValue().nanos)
+                  .reversed())
+          .limit(MAX_ROWS)
+          .forEach(
+              e ->
+                  sb.append(
+                          String.format(
+                              "  %-60s %8d ms %6d %s",
+                              e.getKey(),
+                              Duration.ofNanos(e.getValue().nanos).toMillis(),
+                              e.getValue().count,
+                              unit))
+                      .append(System.lineSeparator()));
+      return sb.toString();
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package org.stellar.anchor.platform.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.stellar.anchor.util.GsonUtils;
+
+/**
+ * A response body that is rendered once and served as is to every request.
+ *
+ * <p>The body is kept as a byte array along with its gzip variant. Each variant has its own strong
+ * ETag, the ETag of the gzip variant being the ETag of the body with a `-gzip` suffix. Conditional
+ * requests whose If-None-Match header matches the ETag of either variant are answered with 304 Not
+ * Modified, with the ETag of the variant the request would get.
+ */
+@Getter
+public class StaticResponse {
+  public static final String PUBLIC_CACHE_CONTROL = "public, max-age=60";
+  // For the responses that require authentication, which must not be stored by shared caches
+  public static final String PRIVATE_CACHE_CONTROL = "private, max-age=60";
+  static final String GZIP = "gzip";
+  static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+  final String source;
+  final byte[] body;
+  final byte[] gzipBody;
+  final String etag;
+  final String gzipEtag;
+  final MediaType contentType;
+  final String cacheControl;
+
+  StaticResponse(String source, MediaType contentType, String cacheControl) {
+    this.source = source;
+    this.body = source.getBytes(UTF_8);
+    this.gzipBody = gzip(body);
+    this.etag = etag(body);
+    this.gzipEtag = etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+    this.contentType = contentType;
+    this.cacheControl = cacheControl;
+  }
+
+  /**
+   * Renders the text as a static response.
+   *
+   * @param text the response body.
+   * @param contentType the content type of the response.
+   * @return the static response.
+   */
+  public static StaticResponse of(String text, MediaType contentType) {
+    return new StaticResponse(text, contentType, PUBLIC_CACHE_CONTROL);
+  }
+
+  /**
+   * Renders the object as a static JSON response.
+   *
+   * @param object the object to serialize.
+   * @return the static response.
+   */
+  public static StaticResponse json(Object object) {
+    return json(object, PUBLIC_CACHE_CONTROL);
+  }
+
+  /**
+   * Renders the object as a static JSON response.
+   *
+   * @param object the object to serialize.
+   * @param cacheControl the Cache-Control header of the response.
+   * @return the static response.
+   */
+  public static StaticResponse json(Object object, String cacheControl) {
+    return new StaticResponse(
+        GsonUtils.getInstance().toJson(object), MediaType.APPLICATION_JSON, cacheControl);
+  }
+
+  /**
+   * Builds the response to the request, honoring the If-None-Match and Accept-Encoding headers.
+   *
+   * @param request the HTTP request.
+   * @return the response entity.
+   */
+  public ResponseEntity<byte[]> toResponseEntity(HttpServletRequest request) {
+    boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    HttpHeaders headers = new HttpHeaders();
+    headers.setETag(gzip ? gzipEtag : etag);
+    headers.setCacheControl(cacheControl);
+    headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+
+    if (isNotModified(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+      return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+    }
+
+    headers.setContentType(contentType);
+    if (gzip) {
+      headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+      headers.setContentLength(gzipBody.length);
+      return new ResponseEntity<>(gzipBody, headers, HttpStatus.OK);
+    }
+    headers.setContentLength(body.length);
+    return new ResponseEntity<>(body, headers, HttpStatus.OK);
+  }
+
+  boolean isNotModified(String ifNoneMatch) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String tag : ifNoneMatch.split(",")) {
+      tag = tag.trim();
+      // If-None-Match uses the weak comparison
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      // Both variants have the same content, so either ETag validates the cached response
+      if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+        return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+      }
+    }
+    return false;
+  }
+
+  static byte[] gzip(byte[] body) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 32);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(body);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  static String etag(byte[] body) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+      return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package org.stellar.anchor.platform.utils;
+
+import static org.stellar.anchor.util.Log.info;
+import static org.stellar.anchor.util.Log.warn;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The virtual thread execution mode.
+ *
+ * <p>When the mode is enabled and the runtime is JDK 21 or later, the executors created by the
+ * DaemonExecutors run their tasks on virtual threads. The platform is compiled for JDK 17, so the
+ * virtual thread builder is looked up by reflection.
+ */
+public class VirtualThreads {
+  // Virtual threads are a preview feature before JDK 21
+  private static final Method OF_VIRTUAL =
+      Runtime.version().feature() >= 21 ? findMethod(Thread.class, "ofVirtual") : null;
+  private static volatile boolean enabled = false;
+
+  private VirtualThreads() {}
+
+  /**
+   * Checks if the runtime supports virtual threads.
+   *
+   * @return true if the runtime is JDK 21 or later.
+   */
+  public static boolean isSupported() {
+    return OF_VIRTUAL != null;
+  }
+
+  /**
+   * Checks if the tasks run on virtual threads.
+   *
+   * @return true if the mode is enabled and the runtime supports virtual threads.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enables or disables the virtual thread execution mode. The mode stays disabled if the runtime
+   * does not support virtual threads. The executors already created are not changed.
+   *
+   * @param enable true to enable the mode.
+   */
+  public static void setEnabled(boolean enable) {
+    if (enable && !isSupported()) {
+      warn("Virtual threads require JDK 21 or later. The platform threads are used.");
+    } else if (enable != enabled) {
+      info(enable ? "Virtual threads are enabled." : "Virtual threads are disabled.");
+    }
+    enabled = enable && isSupported();
+  }
+
+  /**
+   * Creates a factory of virtual threads.
+   *
+   * @param namePrefix the prefix of the names of the threads, followed by a counter.
+   * @return the thread factory.
+   * @throws UnsupportedOperationException if the runtime does not support virtual threads.
+   */
+  public static ThreadFactory newThreadFactory(String namePrefix) {
+    if (!isSupported()) {
+      throw new UnsupportedOperationException("Virtual threads require JDK 21 or later");
+    }
+    try {
+      Object builder = OF_VIRTUAL.invoke(null);
+      Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+      Method name = builderType.getMethod("name", String.class, long.class);
+      builder = name.invoke(builder, namePrefix, 0L);
+      return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException ex) {
+      throw new UnsupportedOperationException("Failed to create the virtual thread factory", ex);
+    }
+  }
+
+  static Method findMethod(Class<?> type, String name) {
+    try {
+      return type.getMethod(name);
+    } catch (NoSuchMethodException ex) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,12 @@
+CREATE TABLE custody_deposit_address (
+   id VARCHAR(255),
+   asset VARCHAR(255),
+   address VARCHAR(255),
+   memo VARCHAR(255),
+   memo_type VARCHAR(255),
+   created_at TIMESTAMP WITHOUT TIME ZONE,
+   claimed_at TIMESTAMP WITHOUT TIME ZONE,
+   CONSTRAINT pk_custody_deposit_address PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_custody_deposit_address_asset_claimed_at ON custody_deposit_address (asset, claimed_at);
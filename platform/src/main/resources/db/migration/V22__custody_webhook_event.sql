@@ -0,0 +1,13 @@
+CREATE TABLE custody_webhook_event (
+   id VARCHAR(255),
+   external_tx_id VARCHAR(255),
+   payload TEXT,
+   received_at TIMESTAMP WITHOUT TIME ZONE,
+   processed_at TIMESTAMP WITHOUT TIME ZONE,
+   attempt_count integer,
+   claimed_by VARCHAR(255),
+   claimed_until TIMESTAMP WITHOUT TIME ZONE,
+   CONSTRAINT pk_custody_webhook_event PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_custody_webhook_event_processed_at ON custody_webhook_event (processed_at);
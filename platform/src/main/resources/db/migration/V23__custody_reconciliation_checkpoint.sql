@@ -0,0 +1,5 @@
+CREATE TABLE custody_reconciliation_checkpoint (
+   id VARCHAR(255),
+   checkpoint_at TIMESTAMP WITHOUT TIME ZONE,
+   CONSTRAINT pk_custody_reconciliation_checkpoint PRIMARY KEY (id)
+);
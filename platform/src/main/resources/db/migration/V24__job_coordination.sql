@@ -0,0 +1,16 @@
+CREATE TABLE job_lease (
+   name VARCHAR(255),
+   owner VARCHAR(255),
+   expires_at TIMESTAMP WITHOUT TIME ZONE,
+   CONSTRAINT pk_job_lease PRIMARY KEY (name)
+);
+
+CREATE TABLE job_member (
+   id VARCHAR(255),
+   job_name VARCHAR(255),
+   instance_id VARCHAR(255),
+   heartbeat_at TIMESTAMP WITHOUT TIME ZONE,
+   CONSTRAINT pk_job_member PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_job_member_job_name ON job_member (job_name);
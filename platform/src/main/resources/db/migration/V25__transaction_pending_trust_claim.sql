@@ -0,0 +1,3 @@
+ALTER TABLE transaction_pending_trust ADD claimed_by VARCHAR(255);
+
+ALTER TABLE transaction_pending_trust ADD claimed_until TIMESTAMP WITHOUT TIME ZONE;
@@ -0,0 +1,127 @@
+package org.stellar.anchor.platform.callback
+
+import io.mockk.every
+import io.mockk.just
+import io.mockk.mockk
+import io.mockk.runs
+import io.mockk.verify
+import java.time.Instant
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.stellar.anchor.api.callback.CustomerIntegration
+import org.stellar.anchor.api.callback.GetCustomerRequest
+import org.stellar.anchor.api.callback.GetCustomerResponse
+import org.stellar.anchor.api.callback.PutCustomerRequest
+import org.stellar.anchor.api.callback.PutCustomerResponse
+import org.stellar.anchor.api.exception.NotFoundException
+
+class CachedCustomerIntegrationTest {
+  companion object {
+    private const val ACCOUNT = "GBLGJA4TUN5XOGTV6WO2BWYUI2OZR5GYQ5PDPCRMQ5XEPJOYWB2X4CJO"
+  }
+
+  private val now = Instant.parse("2024-01-01T00:00:00Z")
+  private var clock = now
+  private lateinit var delegate: CustomerIntegration
+  private lateinit var integration: CachedCustomerIntegration
+
+  @BeforeEach
+  fun setUp() {
+    clock = now
+    delegate = mockk()
+    every { delegate.getCustomer(any()) } returns
+      GetCustomerResponse.builder().id("customer-id").status("NEEDS_INFO").build()
+    integration = CachedCustomerIntegration(delegate, 30, 2) { clock }
+  }
+
+  private fun request(type: String = "sep31-sender") =
+    GetCustomerRequest.builder().account(ACCOUNT).type(type).build()
+
+  @Test
+  fun `test customer responses are cached`() {
+    val first = integration.getCustomer(request())
+    val second = integration.getCustomer(request())
+
+    assertSame(first, second)
+    verify(exactly = 1) { delegate.getCustomer(any()) }
+  }
+
+  @Test
+  fun `test customer types are cached separately`() {
+    integration.getCustomer(request("sep31-sender"))
+    integration.getCustomer(request("sep31-receiver"))
+
+    verify(exactly = 2) { delegate.getCustomer(any()) }
+  }
+
+  @Test
+  fun `test expired responses are fetched again`() {
+    integration.getCustomer(request())
+    clock = now.plusSeconds(30)
+    integration.getCustomer(request())
+
+    verify(exactly = 2) { delegate.getCustomer(any()) }
+  }
+
+  @Test
+  fun `test errors are not cached`() {
+    every { delegate.getCustomer(any()) } throws NotFoundException("not found")
+
+    assertThrows<NotFoundException> { integration.getCustomer(request()) }
+    assertThrows<NotFoundException> { integration.getCustomer(request()) }
+    verify(exactly = 2) { delegate.getCustomer(any()) }
+  }
+
+  @Test
+  fun `test put customer invalidates the account`() {
+    every { delegate.putCustomer(any()) } returns
+      PutCustomerResponse.builder().id("customer-id").build()
+    integration.getCustomer(request())
+    integration.putCustomer(PutCustomerRequest.builder().account(ACCOUNT).build())
+    integration.getCustomer(request())
+
+    verify(exactly = 2) { delegate.getCustomer(any()) }
+  }
+
+  @Test
+  fun `test delete customer invalidates the customer id`() {
+    every { delegate.deleteCustomer(any()) } just runs
+    integration.getCustomer(request())
+    integration.deleteCustomer("customer-id")
+
+    assertTrue(integration.cache.isEmpty())
+  }
+
+  @Test
+  fun `test invalidate all removes the responses of the customer id from every cache`() {
+    val otherIntegration = CachedCustomerIntegration(delegate, 30, 2) { clock }
+    integration.getCustomer(request())
+    otherIntegration.getCustomer(request())
+
+    CachedCustomerIntegration.invalidateAll("customer-id")
+
+    assertTrue(integration.cache.isEmpty())
+    assertTrue(otherIntegration.cache.isEmpty())
+  }
+
+  @Test
+  fun `test invalidate removes the responses of the customer id`() {
+    integration.getCustomer(request())
+    integration.getCustomer(GetCustomerRequest.builder().id("customer-id").build())
+    integration.invalidate("customer-id")
+
+    assertTrue(integration.cache.isEmpty())
+  }
+
+  @Test
+  fun `test the least recently used response is evicted`() {
+    integration.getCustomer(request("sep6"))
+    integration.getCustomer(request("sep31-sender"))
+    integration.getCustomer(request("sep6"))
+    integration.getCustomer(request("sep31-receiver"))
+
+    assertEquals(setOf("sep6", "sep31-receiver"), integration.cache.keys.map { it.type }.toSet())
+  }
+}
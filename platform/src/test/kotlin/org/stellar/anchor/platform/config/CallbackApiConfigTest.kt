@@ -104,4 +104,20 @@ class CallbackApiConfigTest {
     Assertions.assertTrue(errors.hasErrors())
     assertErrorCode(errors, "hmac-weak-secret")
   }
+
+  @ParameterizedTest
+  @ValueSource(ints = [0, -1])
+  fun `test invalid max_concurrent_requests`(maxConcurrentRequests: Int) {
+    config.maxConcurrentRequests = maxConcurrentRequests
+    config.validateMaxConcurrentRequests(errors)
+    assertEquals(1, errors.errorCount)
+    assertEquals("invalid-callback-api-max-concurrent-requests", errors.allErrors[0].code)
+  }
+
+  @Test
+  fun `test valid max_concurrent_requests`() {
+    config.maxConcurrentRequests = 16
+    config.validateMaxConcurrentRequests(errors)
+    assertEquals(0, errors.errorCount)
+  }
 }
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Assertions.assertFalse
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.CsvSource
 import org.junit.jupiter.params.provider.EnumSource
 import org.junit.jupiter.params.provider.ValueSource
 import org.springframework.validation.BindException
@@ -23,7 +24,7 @@ class PropertyCustodyConfigTest {
     config = PropertyCustodyConfig()
     config.type = FIREBLOCKS
     config.httpClient = HttpClientConfig(10, 30, 30, 60)
-    config.trustline = Trustline("* * * * * *", 10, "testMessage")
+    config.trustline = Trustline("* * * * * *", 10, "testMessage", 8)
     errors = BindException(config, "config")
   }
 
@@ -158,6 +159,14 @@ class PropertyCustodyConfigTest {
     assertErrorCode(errors, "custody-trustline-check_duration-invalid")
   }
 
+  @ParameterizedTest
+  @ValueSource(ints = [0, -1])
+  fun `test invalid trustline_check_threads`(threads: Int) {
+    config.trustline.checkThreads = threads
+    config.validate(config, errors)
+    assertErrorCode(errors, "custody-trustline-check_threads-invalid")
+  }
+
   @ParameterizedTest
   @ValueSource(ints = [-1, Int.MIN_VALUE])
   fun `test invalid trustline none type`(timeout: Int) {
@@ -166,4 +175,54 @@ class PropertyCustodyConfigTest {
     config.validate(config, errors)
     assertFalse(errors.hasErrors())
   }
+
+  @Test
+  fun `test valid deposit_address_pool`() {
+    config.depositAddressPool.isEnabled = true
+    config.depositAddressPool.lowWatermark = 20
+    config.depositAddressPool.highWatermark = 100
+    config.depositAddressPool.refillCronExpression = "*/30 * * * * *"
+    config.validate(config, errors)
+    assertFalse(errors.hasErrors())
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = [-1, 100, 200])
+  fun `test invalid deposit_address_pool watermarks`(lowWatermark: Int) {
+    config.depositAddressPool.isEnabled = true
+    config.depositAddressPool.lowWatermark = lowWatermark
+    config.depositAddressPool.highWatermark = 100
+    config.depositAddressPool.refillCronExpression = "*/30 * * * * *"
+    config.validate(config, errors)
+    assertErrorCode(errors, "custody-deposit_address_pool-watermarks-invalid")
+  }
+
+  @Test
+  fun `test invalid deposit_address_pool refill_cron_expression`() {
+    config.depositAddressPool.isEnabled = true
+    config.depositAddressPool.lowWatermark = 20
+    config.depositAddressPool.highWatermark = 100
+    config.depositAddressPool.refillCronExpression = "invalid"
+    config.validate(config, errors)
+    assertErrorCode(errors, "custody-deposit_address_pool-refill_cron_expression-invalid")
+  }
+
+  @Test
+  fun `test valid job_coordination`() {
+    config.jobCoordination.isEnabled = true
+    config.jobCoordination.heartbeatInterval = 10
+    config.jobCoordination.leaseDuration = 30
+    config.validate(config, errors)
+    assertFalse(errors.hasErrors())
+  }
+
+  @ParameterizedTest
+  @CsvSource(value = ["0,30", "10,10", "30,10"])
+  fun `test invalid job_coordination lease_duration`(heartbeatInterval: Int, leaseDuration: Int) {
+    config.jobCoordination.isEnabled = true
+    config.jobCoordination.heartbeatInterval = heartbeatInterval
+    config.jobCoordination.leaseDuration = leaseDuration
+    config.validate(config, errors)
+    assertErrorCode(errors, "custody-job_coordination-lease_duration-invalid")
+  }
 }
@@ -211,6 +211,22 @@ class FireblocksConfigTest {
     assertErrorCode(errors, "custody-fireblocks-retry_config-delay-invalid")
   }
 
+  @Test
+  fun `test invalid concurrency limits`() {
+    config.concurrency = FireblocksConfig.Concurrency(4, 2, 8, 2000)
+    config.validate(config, errors)
+    assertErrorCode(errors, 0, "custody-fireblocks-concurrency-max_limit-invalid")
+    assertErrorCode(errors, 1, "custody-fireblocks-concurrency-initial_limit-invalid")
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = [0, -1])
+  fun `test invalid concurrency latency_threshold`(latencyThreshold: Int) {
+    config.concurrency.latencyThreshold = latencyThreshold
+    config.validate(config, errors)
+    assertErrorCode(errors, "custody-fireblocks-concurrency-latency_threshold-invalid")
+  }
+
   @ParameterizedTest
   @ValueSource(strings = [""])
   fun `test empty asset mappings`(mappings: String) {
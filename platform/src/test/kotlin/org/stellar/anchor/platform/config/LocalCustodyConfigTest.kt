@@ -0,0 +1,128 @@
+package org.stellar.anchor.platform.config
+
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.CsvSource
+import org.junit.jupiter.params.provider.NullSource
+import org.junit.jupiter.params.provider.ValueSource
+import org.springframework.validation.BindException
+import org.springframework.validation.Errors
+import org.stellar.anchor.config.CustodySecretConfig
+import org.stellar.sdk.KeyPair
+
+class LocalCustodyConfigTest {
+  private val distribution = KeyPair.random()
+  private val channel1 = KeyPair.random()
+  private val channel2 = KeyPair.random()
+
+  private lateinit var config: LocalCustodyConfig
+  private lateinit var secretConfig: CustodySecretConfig
+  private lateinit var errors: Errors
+
+  @BeforeEach
+  fun setUp() {
+    secretConfig = mockk()
+    every { secretConfig.localDistributionSeed } returns String(distribution.secretSeed)
+    every { secretConfig.localChannelSeeds } returns
+      "${String(channel1.secretSeed)}, ${String(channel2.secretSeed)}"
+    config = LocalCustodyConfig(secretConfig)
+    errors = BindException(config, "config")
+  }
+
+  @Test
+  fun `test valid config`() {
+    config.validate(config, errors)
+    assertFalse(errors.hasErrors())
+  }
+
+  @ParameterizedTest
+  @NullSource
+  @ValueSource(strings = [""])
+  fun `test empty distribution_seed`(seed: String?) {
+    every { secretConfig.localDistributionSeed } returns seed
+    config.validate(config, errors)
+    assertErrorCode(errors, "secret-custody-local-distribution_seed-empty")
+  }
+
+  @Test
+  fun `test invalid distribution_seed`() {
+    every { secretConfig.localDistributionSeed } returns "invalid"
+    config.validate(config, errors)
+    assertErrorCode(errors, "secret-custody-local-distribution_seed-invalid")
+  }
+
+  @Test
+  fun `test invalid channel_seeds`() {
+    every { secretConfig.localChannelSeeds } returns "${String(channel1.secretSeed)},invalid"
+    config.validate(config, errors)
+    assertErrorCode(errors, "secret-custody-local-channel_seeds-invalid")
+  }
+
+  @Test
+  fun `test channel accounts`() {
+    assertEquals(
+      listOf(channel1.accountId, channel2.accountId),
+      config.channelKeyPairs.map { it.accountId }
+    )
+  }
+
+  @ParameterizedTest
+  @NullSource
+  @ValueSource(strings = [""])
+  fun `test the distribution account is the channel when no channel is set`(seeds: String?) {
+    every { secretConfig.localChannelSeeds } returns seeds
+    assertEquals(listOf(distribution.accountId), config.channelKeyPairs.map { it.accountId })
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+    value =
+      [
+        "0,500,custody-local-batch-max_operations-invalid",
+        "101,500,custody-local-batch-max_operations-invalid",
+        "100,-1,custody-local-batch-max_delay-invalid"
+      ]
+  )
+  fun `test invalid batch`(maxOperations: Int, maxDelay: Int, code: String) {
+    config.batch = LocalCustodyConfig.Batch(maxOperations, maxDelay)
+    config.validate(config, errors)
+    assertErrorCode(errors, code)
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+    value =
+      ["99,10000,custody-local-fee-base_fee-invalid", "200,100,custody-local-fee-max_fee-invalid"]
+  )
+  fun `test invalid fee`(baseFee: Long, maxFee: Long, code: String) {
+    config.fee = LocalCustodyConfig.Fee(baseFee, maxFee)
+    config.validate(config, errors)
+    assertErrorCode(errors, code)
+  }
+
+  @Test
+  fun `test invalid transaction_timeout`() {
+    config.transactionTimeout = 0
+    config.validate(config, errors)
+    assertErrorCode(errors, "custody-local-transaction_timeout-invalid")
+  }
+
+  @Test
+  fun `test invalid max_submit_attempts`() {
+    config.maxSubmitAttempts = 0
+    config.validate(config, errors)
+    assertErrorCode(errors, "custody-local-max_submit_attempts-invalid")
+  }
+
+  @Test
+  fun `test invalid reconciliation cron_expression`() {
+    config.reconciliation.cronExpression = "invalid"
+    config.validate(config, errors)
+    assertErrorCode(errors, "custody-local-reconciliation-cron_expression-invalid")
+  }
+}
@@ -59,6 +59,30 @@ class ConfigManagerTest {
       "java.io.FileNotFoundException: class path resource [config/anchor-config-schema-v0.yaml] cannot be opened because it does not exist"
     )
   }
+
+  @Test
+  fun `test the processed configurations are shared until the environment changes`() {
+    val testingConfigFile = ClassPathResource("config/test_anchor_config.yaml")
+    every { configManager.getConfigFileAsResource(any()) } returns testingConfigFile
+    ConfigManager.sharedConfig = null
+    ConfigEnvironment.rebuild()
+
+    try {
+      val first = configManager.loadConfigurations(null)
+      first.remove("languages")
+      val second = configManager.loadConfigurations(null)
+
+      verify(exactly = 1) { configManager.processConfigurations(any()) }
+      assertEquals("tw, en, fr", second.getString("languages"))
+
+      ConfigEnvironment.rebuild(mapOf("LANGUAGES" to "en"))
+      assertEquals("en", configManager.loadConfigurations(null).getString("languages"))
+      verify(exactly = 2) { configManager.processConfigurations(any()) }
+    } finally {
+      ConfigEnvironment.rebuild()
+      ConfigManager.sharedConfig = null
+    }
+  }
 }
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation::class)
@@ -0,0 +1,88 @@
+package org.stellar.anchor.platform.custody
+
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import kotlin.concurrent.thread
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.Test
+
+class CustodyConcurrencyLimiterTest {
+  private val limiter = CustodyConcurrencyLimiter(1, 8, 4, Duration.ofSeconds(10))
+
+  private fun fill(count: Int) = (1..count).map { limiter.acquire() }
+
+  @Test
+  fun `test the limit grows while it is fully used`() {
+    val permits = fill(4)
+    permits.forEach { limiter.release(it, false) }
+
+    assertEquals(5, limiter.limit)
+  }
+
+  @Test
+  fun `test the limit does not grow while it is not used`() {
+    repeat(10) { limiter.release(limiter.acquire(), false) }
+
+    assertEquals(4, limiter.limit)
+  }
+
+  @Test
+  fun `test the limit is halved when throttled`() {
+    limiter.release(limiter.acquire(), true)
+    assertEquals(2, limiter.limit)
+
+    repeat(3) { limiter.release(limiter.acquire(), true) }
+    assertEquals(1, limiter.limit)
+  }
+
+  @Test
+  fun `test the concurrent throttles halve the limit once`() {
+    val permits = fill(4)
+    val released = CountDownLatch(permits.size)
+    permits.forEach {
+      thread {
+        limiter.release(it, true)
+        released.countDown()
+      }
+    }
+
+    assertTrue(released.await(1, TimeUnit.SECONDS))
+    assertEquals(2, limiter.limit)
+
+    // The requests started after the decrease are sent at the new limit
+    limiter.release(limiter.acquire(), true)
+    assertEquals(1, limiter.limit)
+  }
+
+  @Test
+  fun `test the concurrent slow responses shrink the limit once`() {
+    val slowLimiter = CustodyConcurrencyLimiter(1, 8, 4, Duration.ZERO)
+    val permits = (1..4).map { slowLimiter.acquire() }
+    permits.forEach { slowLimiter.release(it, false) }
+
+    assertEquals(3, slowLimiter.limit)
+  }
+
+  @Test
+  fun `test the limit shrinks when the latency exceeds the threshold`() {
+    val slowLimiter = CustodyConcurrencyLimiter(1, 8, 4, Duration.ZERO)
+    slowLimiter.release(slowLimiter.acquire(), false)
+
+    assertEquals(3, slowLimiter.limit)
+  }
+
+  @Test
+  fun `test the requests above the limit wait`() {
+    val permits = fill(4)
+    val acquired = CountDownLatch(1)
+    thread {
+      limiter.acquire()
+      acquired.countDown()
+    }
+
+    assertFalse(acquired.await(100, TimeUnit.MILLISECONDS))
+    limiter.release(permits[0], false)
+    assertTrue(acquired.await(1, TimeUnit.SECONDS))
+  }
+}
@@ -0,0 +1,137 @@
+package org.stellar.anchor.platform.custody
+
+import io.mockk.*
+import io.mockk.impl.annotations.MockK
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.stellar.anchor.api.custody.GenerateDepositAddressResponse
+import org.stellar.anchor.api.custody.fireblocks.TransactionDetails
+import org.stellar.anchor.platform.config.PropertyCustodyConfig.DepositAddressPool
+import org.stellar.anchor.platform.config.PropertyCustodyConfig.JobCoordination
+import org.stellar.anchor.platform.data.JdbcCustodyDepositAddress
+import org.stellar.anchor.platform.data.JdbcCustodyDepositAddressRepo
+import org.stellar.anchor.platform.data.JdbcJobLeaseRepo
+import org.stellar.anchor.platform.job.JobCoordinator
+
+class CustodyDepositAddressPoolTest {
+  companion object {
+    private const val ASSET =
+      "stellar:USDC:GDQOE23CFSUMSVQK4Y5JHPPYK73VYCNHZHA7ENKCV37P6SUEO6XQBKPP"
+    private const val OTHER_ASSET = "stellar:native"
+  }
+
+  @MockK(relaxed = true) private lateinit var depositAddressRepo: JdbcCustodyDepositAddressRepo
+  @MockK private lateinit var custodyPaymentService: CustodyPaymentService<TransactionDetails>
+  private lateinit var config: DepositAddressPool
+  private lateinit var pool: CustodyDepositAddressPool
+
+  @BeforeEach
+  fun setUp() {
+    MockKAnnotations.init(this, relaxUnitFun = true)
+    config = DepositAddressPool()
+    config.isEnabled = true
+    config.assets = listOf(ASSET)
+    config.lowWatermark = 2
+    config.highWatermark = 5
+    pool =
+      CustodyDepositAddressPool(
+        depositAddressRepo,
+        custodyPaymentService,
+        config,
+        JobCoordinator(mockk(), mockk(), JobCoordination()),
+      )
+    every { custodyPaymentService.generateDepositAddress(any()) } returns
+      GenerateDepositAddressResponse("generated", "1", "id")
+  }
+
+  private fun pooled(id: String) =
+    JdbcCustodyDepositAddress.builder()
+      .id(id)
+      .asset(ASSET)
+      .address("pooled-$id")
+      .memo(id)
+      .memoType("id")
+      .build()
+
+  private fun stubPool(vararg addresses: JdbcCustodyDepositAddress) {
+    every {
+      depositAddressRepo.findTop10ByAssetAndClaimedAtIsNullOrderByCreatedAtAsc(ASSET)
+    } returns addresses.toList()
+  }
+
+  @Test
+  fun `test claim takes an address from the pool`() {
+    stubPool(pooled("1"))
+    every { depositAddressRepo.claim("1", any()) } returns 1
+
+    val response = pool.claim(ASSET)
+
+    assertEquals("pooled-1", response.address)
+    assertEquals("1", response.memo)
+    verify(exactly = 0) { custodyPaymentService.generateDepositAddress(any()) }
+  }
+
+  @Test
+  fun `test claim skips the addresses claimed concurrently`() {
+    stubPool(pooled("1"), pooled("2"))
+    every { depositAddressRepo.claim("1", any()) } returns 0
+    every { depositAddressRepo.claim("2", any()) } returns 1
+
+    assertEquals("pooled-2", pool.claim(ASSET).address)
+  }
+
+  @Test
+  fun `test claim generates the address when the pool is empty`() {
+    stubPool()
+
+    assertEquals("generated", pool.claim(ASSET).address)
+  }
+
+  @Test
+  fun `test claim generates the address of assets not pooled`() {
+    assertEquals("generated", pool.claim(OTHER_ASSET).address)
+    verify(exactly = 0) { depositAddressRepo.claim(any(), any()) }
+  }
+
+  @Test
+  fun `test refill below the low watermark fills up to the high watermark`() {
+    every { depositAddressRepo.countByAssetAndClaimedAtIsNull(ASSET) } returns 1
+
+    pool.refill()
+
+    verify(exactly = 4) { custodyPaymentService.generateDepositAddress(ASSET) }
+    verify(exactly = 4) { depositAddressRepo.save(any()) }
+  }
+
+  @Test
+  fun `test refill above the low watermark does nothing`() {
+    every { depositAddressRepo.countByAssetAndClaimedAtIsNull(ASSET) } returns 2
+
+    pool.refill()
+
+    verify(exactly = 0) { custodyPaymentService.generateDepositAddress(any()) }
+  }
+
+  @Test
+  fun `test refill skips the assets whose lease is held by another replica`() {
+    val leaseRepo = mockk<JdbcJobLeaseRepo>(relaxed = true)
+    every { leaseRepo.acquire(any(), any(), any(), any()) } returns 0
+    every { leaseRepo.existsById(any()) } returns true
+    val coordination = JobCoordination()
+    coordination.isEnabled = true
+    coordination.heartbeatInterval = 10
+    coordination.leaseDuration = 30
+    val coordinator = JobCoordinator(leaseRepo, mockk(relaxed = true), coordination)
+    pool = CustodyDepositAddressPool(depositAddressRepo, custodyPaymentService, config, coordinator)
+    every { depositAddressRepo.countByAssetAndClaimedAtIsNull(ASSET) } returns 0
+
+    pool.refill()
+    coordinator.shutdown()
+
+    verify {
+      leaseRepo.acquire("${CustodyDepositAddressPool.JOB_NAME}:$ASSET", any(), any(), any())
+    }
+    verify(exactly = 0) { custodyPaymentService.generateDepositAddress(any()) }
+  }
+}
@@ -0,0 +1,81 @@
+package org.stellar.anchor.platform.custody
+
+import io.mockk.MockKAnnotations
+import io.mockk.every
+import io.mockk.impl.annotations.MockK
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.stellar.anchor.api.custody.CreateTransactionPaymentResponse
+import org.stellar.anchor.api.custody.GenerateDepositAddressResponse
+import org.stellar.anchor.api.exception.CustodyException
+import org.stellar.anchor.api.exception.InvalidConfigException
+import org.stellar.anchor.api.exception.custody.CustodyBadRequestException
+import org.stellar.anchor.api.exception.custody.CustodyNotFoundException
+import org.stellar.anchor.api.exception.custody.CustodyServiceUnavailableException
+import org.stellar.anchor.api.exception.custody.CustodyTooManyRequestsException
+
+class InProcessCustodyApiTest {
+  companion object {
+    private const val TXN_ID = "TXN_ID"
+    private const val ASSET_ID = "USDC"
+  }
+
+  @MockK(relaxed = true) private lateinit var custodyTransactionService: CustodyTransactionService
+  @MockK(relaxed = true) private lateinit var depositAddressPool: CustodyDepositAddressPool
+
+  private lateinit var custodyApi: InProcessCustodyApi
+
+  @BeforeEach
+  fun setup() {
+    MockKAnnotations.init(this, relaxUnitFun = true)
+    custodyApi = InProcessCustodyApi(custodyTransactionService, depositAddressPool)
+  }
+
+  @Test
+  fun `test the requests are delegated to the custody services`() {
+    val payment = CreateTransactionPaymentResponse("PAYMENT_ID")
+    val address = GenerateDepositAddressResponse("ADDRESS", "MEMO", "id")
+    every { custodyTransactionService.createPayment(TXN_ID, "{}") } returns payment
+    every { depositAddressPool.claim(ASSET_ID) } returns address
+
+    assertSame(payment, custodyApi.createTransactionPayment(TXN_ID, "{}"))
+    assertSame(address, custodyApi.generateDepositAddress(ASSET_ID))
+    verify(exactly = 1) { custodyTransactionService.createPayment(TXN_ID, "{}") }
+    verify(exactly = 1) { depositAddressPool.claim(ASSET_ID) }
+  }
+
+  @Test
+  fun `test the errors are mapped to the status codes of the custody server`() {
+    assertStatus(400, CustodyBadRequestException("bad request"))
+    assertStatus(404, CustodyNotFoundException("not found"))
+    assertStatus(429, CustodyTooManyRequestsException("too many requests"))
+    assertStatus(503, CustodyServiceUnavailableException("unavailable"))
+    assertStatus(500, IllegalStateException("unexpected"))
+  }
+
+  @Test
+  fun `test the custody and config exceptions are rethrown`() {
+    val custodyException = CustodyException("unavailable", 503)
+    every { custodyTransactionService.createPayment(TXN_ID, any()) } throws custodyException
+    every { depositAddressPool.claim(ASSET_ID) } throws InvalidConfigException("invalid")
+
+    assertSame(
+      custodyException,
+      assertThrows<CustodyException> { custodyApi.createTransactionPayment(TXN_ID, null) }
+    )
+    assertThrows<InvalidConfigException> { custodyApi.generateDepositAddress(ASSET_ID) }
+  }
+
+  private fun assertStatus(status: Int, ex: Exception) {
+    every { custodyTransactionService.createPayment(TXN_ID, any()) } throws ex
+
+    val thrown =
+      assertThrows<CustodyException> { custodyApi.createTransactionPayment(TXN_ID, null) }
+    assertEquals(status, thrown.statusCode)
+    assertEquals(ex.message, thrown.rawMessage)
+  }
+}
@@ -33,9 +33,6 @@ import org.stellar.anchor.util.GsonUtils
 import org.stellar.anchor.util.RSAUtil
 import org.stellar.anchor.util.RSAUtil.RSA_ALGORITHM
 import org.stellar.anchor.util.RSAUtil.SHA512_WITH_RSA_ALGORITHM
-import org.stellar.sdk.Server
-import org.stellar.sdk.requests.PaymentsRequestBuilder
-import org.stellar.sdk.responses.Page
 import org.stellar.sdk.responses.operations.OperationResponse
 import org.stellar.sdk.responses.operations.PathPaymentStrictReceiveOperationResponse
 import org.stellar.sdk.responses.operations.PaymentOperationResponse
@@ -51,9 +48,6 @@ class FireblocksEventServiceTest {
   private lateinit var sep24CustodyPaymentHandler: Sep24CustodyPaymentHandler
   private lateinit var sep31CustodyPaymentHandler: Sep31CustodyPaymentHandler
   private lateinit var horizon: Horizon
-  private lateinit var server: Server
-  private lateinit var paymentsRequestBuilder: PaymentsRequestBuilder
-  private lateinit var page: Page<OperationResponse>
 
   @BeforeEach
   fun setUp() {
@@ -63,9 +57,6 @@ class FireblocksEventServiceTest {
     sep24CustodyPaymentHandler = mockk()
     sep31CustodyPaymentHandler = mockk()
     horizon = mockk()
-    server = mockk()
-    paymentsRequestBuilder = mockk()
-    page = mockk()
   }
 
   @Test
@@ -112,7 +103,8 @@ class FireblocksEventServiceTest {
 
     val paymentCapture = slot<CustodyPayment>()
 
-    every { horizon.server } throws java.lang.RuntimeException("Horizon error")
+    every { horizon.getStellarTxnOperations(any()) } throws
+      java.lang.RuntimeException("Horizon error")
     every { custodyTransactionRepo.findByExternalTxId(any()) } returns custodyTxn
     every { sep24CustodyPaymentHandler.onSent(eq(custodyTxn), capture(paymentCapture)) } just runs
     every {
@@ -149,7 +141,8 @@ class FireblocksEventServiceTest {
 
     val paymentCapture = slot<CustodyPayment>()
 
-    every { horizon.server } throws java.lang.RuntimeException("Horizon error")
+    every { horizon.getStellarTxnOperations(any()) } throws
+      java.lang.RuntimeException("Horizon error")
     every { custodyTransactionRepo.findByExternalTxId(any()) } returns custodyTxn
     every { sep24CustodyPaymentHandler.onSent(eq(custodyTxn), capture(paymentCapture)) } just runs
     every {
@@ -190,12 +183,7 @@ class FireblocksEventServiceTest {
 
     val paymentCapture = slot<CustodyPayment>()
 
-    every { horizon.server } returns server
-    every { server.payments() } returns paymentsRequestBuilder
-    every { paymentsRequestBuilder.includeTransactions(true) } returns paymentsRequestBuilder
-    every { paymentsRequestBuilder.forTransaction("testTxHash") } returns paymentsRequestBuilder
-    every { paymentsRequestBuilder.execute() } returns page
-    every { page.records } returns operationRecords
+    every { horizon.getStellarTxnOperations("testTxHash") } returns operationRecords
     every { custodyTransactionRepo.findByExternalTxId(any()) } returns custodyTxn
     every { sep24CustodyPaymentHandler.onSent(eq(custodyTxn), capture(paymentCapture)) } just runs
     every {
@@ -232,12 +220,7 @@ class FireblocksEventServiceTest {
 
     val paymentCapture = slot<CustodyPayment>()
 
-    every { horizon.server } returns server
-    every { server.payments() } returns paymentsRequestBuilder
-    every { paymentsRequestBuilder.includeTransactions(true) } returns paymentsRequestBuilder
-    every { paymentsRequestBuilder.forTransaction("testTxHash") } returns paymentsRequestBuilder
-    every { paymentsRequestBuilder.execute() } returns page
-    every { page.records } returns operationRecords
+    every { horizon.getStellarTxnOperations("testTxHash") } returns operationRecords
     every { custodyTransactionRepo.findByExternalTxId(any()) } returns custodyTxn
     every { sep24CustodyPaymentHandler.onSent(eq(custodyTxn), capture(paymentCapture)) } just runs
     every {
@@ -277,12 +260,7 @@ class FireblocksEventServiceTest {
 
     val paymentCapture = slot<CustodyPayment>()
 
-    every { horizon.server } returns server
-    every { server.payments() } returns paymentsRequestBuilder
-    every { paymentsRequestBuilder.includeTransactions(true) } returns paymentsRequestBuilder
-    every { paymentsRequestBuilder.forTransaction("testTxHash") } returns paymentsRequestBuilder
-    every { paymentsRequestBuilder.execute() } returns page
-    every { page.records } returns operationRecords
+    every { horizon.getStellarTxnOperations("testTxHash") } returns operationRecords
     every { custodyTransactionRepo.findByExternalTxId(any()) } returns custodyTxn
     every { sep24CustodyPaymentHandler.onSent(eq(custodyTxn), capture(paymentCapture)) } just runs
     every {
@@ -474,7 +452,8 @@ class FireblocksEventServiceTest {
     val transactionToUpdate = slot<JdbcCustodyTransaction>()
     val externalTransactionId = "testEventId"
 
-    every { horizon.server } throws java.lang.RuntimeException("Horizon error")
+    every { horizon.getStellarTxnOperations(any()) } throws
+      java.lang.RuntimeException("Horizon error")
     every { custodyTransactionRepo.findByExternalTxId(any()) } returns custodyTxn
     every { sep24CustodyPaymentHandler.onSent(eq(custodyTxn), any()) } just runs
     every {
@@ -0,0 +1,162 @@
+package org.stellar.anchor.platform.custody.fireblocks
+
+import io.mockk.*
+import io.mockk.impl.annotations.MockK
+import java.io.IOException
+import java.time.Instant
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.springframework.dao.DataIntegrityViolationException
+import org.stellar.anchor.api.custody.fireblocks.TransactionDetails
+import org.stellar.anchor.api.custody.fireblocks.TransactionStatus
+import org.stellar.anchor.platform.config.FireblocksConfig.Webhook
+import org.stellar.anchor.platform.data.JdbcCustodyWebhookEvent
+import org.stellar.anchor.platform.data.JdbcCustodyWebhookEventRepo
+
+class FireblocksWebhookQueueTest {
+  companion object {
+    private const val PAYLOAD =
+      """{"type":"TRANSACTION_STATUS_UPDATED","data":{"id":"tx-id","status":"COMPLETED","lastUpdated":1}}"""
+  }
+
+  @MockK(relaxed = true) private lateinit var eventService: FireblocksEventService
+  @MockK(relaxed = true) private lateinit var webhookEventRepo: JdbcCustodyWebhookEventRepo
+  private lateinit var queue: FireblocksWebhookQueue
+
+  @BeforeEach
+  fun setUp() {
+    MockKAnnotations.init(this, relaxUnitFun = true)
+    queue = FireblocksWebhookQueue(eventService, webhookEventRepo, Webhook(true, 2, 3))
+  }
+
+  private fun transactionDetails() =
+    TransactionDetails.builder()
+      .id("tx-id")
+      .status(TransactionStatus.COMPLETED)
+      .lastUpdated(1L)
+      .build()
+
+  private fun event(
+    id: String = "tx-id:COMPLETED:1",
+    receivedAt: Instant = Instant.now(),
+    payload: String = PAYLOAD
+  ) =
+    JdbcCustodyWebhookEvent.builder()
+      .id(id)
+      .externalTxId("tx-id")
+      .payload(payload)
+      .receivedAt(receivedAt)
+      .build()
+
+  @Test
+  fun `test submitted events are inserted claimed and processed`() {
+    queue.submit(transactionDetails(), PAYLOAD)
+
+    verify {
+      webhookEventRepo.insert("tx-id:COMPLETED:1", "tx-id", PAYLOAD, any(), any(), any())
+    }
+    verify(exactly = 0) { webhookEventRepo.save(any()) }
+    verify(timeout = 1000) { eventService.process(match { it.id == "tx-id" }) }
+  }
+
+  @Test
+  fun `test duplicated events are ignored`() {
+    every { webhookEventRepo.insert(any(), any(), any(), any(), any(), any()) } throws
+      DataIntegrityViolationException("duplicate")
+
+    queue.submit(transactionDetails(), PAYLOAD)
+
+    verify(exactly = 0) { webhookEventRepo.save(any()) }
+    verify(exactly = 0) { eventService.process(any()) }
+  }
+
+  @Test
+  fun `test processed events are marked as processed`() {
+    val event = event()
+
+    queue.process(event)
+
+    assertNotNull(event.processedAt)
+    assertEquals(1, event.attemptCount)
+    verify { webhookEventRepo.attempted("tx-id:COMPLETED:1", event.processedAt) }
+    verify(exactly = 0) { webhookEventRepo.save(any()) }
+  }
+
+  @Test
+  fun `test failed events are kept for recovery`() {
+    every { eventService.process(any()) } throws IOException("failed")
+    val event = event()
+
+    queue.process(event)
+
+    assertNull(event.processedAt)
+    assertEquals(1, event.attemptCount)
+    verify { webhookEventRepo.attempted("tx-id:COMPLETED:1", null) }
+  }
+
+  @Test
+  fun `test recover dispatches the claimed unprocessed events`() {
+    every {
+      webhookEventRepo.findTop100ByProcessedAtIsNullAndAttemptCountLessThanOrderByReceivedAtAsc(3)
+    } returns listOf(event(receivedAt = Instant.now().minusSeconds(120)))
+    every { webhookEventRepo.claim("tx-id:COMPLETED:1", any(), any(), any()) } returns 1
+
+    queue.recover()
+
+    verify(timeout = 1000) { eventService.process(match { it.id == "tx-id" }) }
+    verify { webhookEventRepo.deleteProcessedBefore(any()) }
+  }
+
+  @Test
+  fun `test recover skips the events claimed by another server`() {
+    every {
+      webhookEventRepo.findTop100ByProcessedAtIsNullAndAttemptCountLessThanOrderByReceivedAtAsc(3)
+    } returns listOf(event())
+    every { webhookEventRepo.claim(any(), any(), any(), any()) } returns 0
+
+    queue.recover()
+
+    verify(exactly = 0) { eventService.process(any()) }
+  }
+
+  @Test
+  fun `test recover replays the events of a transaction in order`() {
+    val pending = PAYLOAD.replace("COMPLETED", "PENDING_SIGNATURE")
+    every {
+      webhookEventRepo.findTop100ByProcessedAtIsNullAndAttemptCountLessThanOrderByReceivedAtAsc(3)
+    } returns
+      listOf(
+        event("tx-id:PENDING_SIGNATURE:1", Instant.now().minusSeconds(120), pending),
+        event(receivedAt = Instant.now().minusSeconds(60))
+      )
+    every { webhookEventRepo.claim(any(), any(), any(), any()) } returns 1
+    val statuses = mutableListOf<String>()
+    every { eventService.process(any()) } answers
+      {
+        statuses.add(firstArg<TransactionDetails>().status.name)
+      }
+
+    queue.recover()
+
+    verify(timeout = 1000, exactly = 2) { eventService.process(any()) }
+    assertEquals(listOf("PENDING_SIGNATURE", "COMPLETED"), statuses)
+  }
+
+  @Test
+  fun `test recover stops at the first event of a transaction claimed by another server`() {
+    every {
+      webhookEventRepo.findTop100ByProcessedAtIsNullAndAttemptCountLessThanOrderByReceivedAtAsc(3)
+    } returns
+      listOf(
+        event("tx-id:PENDING_SIGNATURE:1", Instant.now().minusSeconds(120)),
+        event(receivedAt = Instant.now().minusSeconds(60))
+      )
+    every { webhookEventRepo.claim("tx-id:PENDING_SIGNATURE:1", any(), any(), any()) } returns 0
+
+    queue.recover()
+
+    verify(exactly = 0) { webhookEventRepo.claim("tx-id:COMPLETED:1", any(), any(), any()) }
+    verify(exactly = 0) { eventService.process(any()) }
+  }
+}
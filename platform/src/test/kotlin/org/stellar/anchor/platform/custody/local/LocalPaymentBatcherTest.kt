@@ -0,0 +1,410 @@
+package org.stellar.anchor.platform.custody.local
+
+import io.mockk.*
+import io.mockk.impl.annotations.MockK
+import java.time.Duration
+import java.time.Instant
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.stellar.anchor.config.CustodySecretConfig
+import org.stellar.anchor.horizon.Horizon
+import org.stellar.anchor.platform.config.LocalCustodyConfig
+import org.stellar.anchor.platform.custody.local.LocalPaymentBatcher.ChannelAccount
+import org.stellar.anchor.platform.custody.local.LocalPaymentBatcher.Payout
+import org.stellar.anchor.platform.data.JdbcCustodyTransaction
+import org.stellar.anchor.platform.data.JdbcCustodyTransactionRepo
+import org.stellar.sdk.FeeBumpTransaction
+import org.stellar.sdk.KeyPair
+import org.stellar.sdk.Network
+import org.stellar.sdk.Transaction
+import org.stellar.sdk.exception.BadRequestException
+import org.stellar.sdk.exception.ConnectionErrorException
+import org.stellar.sdk.responses.AccountResponse
+import org.stellar.sdk.responses.Problem
+import org.stellar.sdk.responses.TransactionResponse
+
+class LocalPaymentBatcherTest {
+  companion object {
+    private const val ASSET =
+      "stellar:USDC:GDQOE23CFSUMSVQK4Y5JHPPYK73VYCNHZHA7ENKCV37P6SUEO6XQBKPP"
+    private const val TO_ACCOUNT = "GBLGJA4TUN5XOGTV6WO2BWYUI2OZR5GYQ5PDPCRMQ5XEPJOYWB2X4CJO"
+  }
+
+  // The mocked Horizon stands in for the Horizon server
+  @MockK(relaxed = true) private lateinit var horizon: Horizon
+  @MockK(relaxed = true) private lateinit var custodyTransactionRepo: JdbcCustodyTransactionRepo
+  @MockK(relaxed = true) private lateinit var listener: LocalPaymentBatcher.Listener
+  @MockK(relaxed = true) private lateinit var response: TransactionResponse
+
+  private val distribution = KeyPair.random()
+  private val channel = KeyPair.random()
+  private lateinit var config: LocalCustodyConfig
+  private lateinit var batcher: LocalPaymentBatcher
+
+  @BeforeEach
+  fun setUp() {
+    MockKAnnotations.init(this, relaxUnitFun = true)
+    val secretConfig = mockk<CustodySecretConfig>()
+    every { secretConfig.localDistributionSeed } returns String(distribution.secretSeed)
+    every { secretConfig.localChannelSeeds } returns String(channel.secretSeed)
+    config = LocalCustodyConfig(secretConfig)
+    config.transactionTimeout = 0
+    batcher =
+      LocalPaymentBatcher(horizon, Network.TESTNET, config, custodyTransactionRepo, listener)
+    batcher.ingestionDelay = Duration.ZERO
+
+    every { horizon.getAccount(channel.accountId) } answers
+      {
+        mockk<AccountResponse> {
+          every { accountId } returns channel.accountId
+          every { sequenceNumber } returns 100L
+        }
+      }
+    every { response.hash } returns "hash"
+    every { response.successful } returns true
+    every { custodyTransactionRepo.claim(any(), any(), any(), any(), any()) } returns 1
+  }
+
+  @AfterEach
+  fun tearDown() {
+    batcher.shutdown()
+  }
+
+  private fun payout(
+    id: String,
+    memo: String? = null,
+    amount: String = "10.5",
+    enqueuedAt: Instant = Instant.now()
+  ) =
+    Payout(
+      JdbcCustodyTransaction.builder()
+        .id(id)
+        .externalTxId(id)
+        .status("submitted")
+        .toAccount(TO_ACCOUNT)
+        .asset(ASSET)
+        .amount(amount)
+        .memo(memo)
+        .memoType(if (memo != null) "id" else null)
+        .build(),
+      enqueuedAt,
+      id
+    )
+
+  private fun notFound() = BadRequestException(404, "", null)
+
+  private fun badRequest(code: String, operationCodes: List<String>? = null): BadRequestException {
+    val problem =
+      mockk<Problem> {
+        every { extras.resultCodes.transactionResultCode } returns code
+        every { extras.resultCodes.innerTransactionResultCode } returns null
+        every { extras.resultCodes.operationsResultCodes } returns operationCodes?.let(::ArrayList)
+      }
+    return BadRequestException(400, "", problem)
+  }
+
+  private fun channelAccount(): ChannelAccount = batcher.channels.peek()
+
+  @Test
+  fun `test the payments without memo are batched and the payments with memo are sent alone`() {
+    config.batch.maxOperations = 2
+    val payouts =
+      listOf(
+        payout("1", amount = "1"),
+        payout("2", "123"),
+        payout("3", amount = "3"),
+        payout("4", amount = "4"),
+        payout("5", amount = "5")
+      )
+
+    val batches = batcher.toBatches(payouts).map { batch -> batch.map { it.txn.id } }
+
+    assertEquals(listOf(listOf("2"), listOf("1", "3"), listOf("4", "5")), batches)
+  }
+
+  @Test
+  fun `test the identical payments are sent in different batches`() {
+    val payouts = listOf(payout("1"), payout("2", amount = "10.50"), payout("3", amount = "3"))
+
+    val batches = batcher.toBatches(payouts).map { batch -> batch.map { it.txn.id } }
+
+    assertEquals(listOf(listOf("1", "3"), listOf("2")), batches)
+  }
+
+  @Test
+  fun `test the payments not submitted yet are queued again`() {
+    val ready = payout("1")
+    val notReady = payout("2")
+    notReady.txn.status = "created"
+    every { custodyTransactionRepo.findAllById(listOf("1", "2")) } returns
+      listOf(ready.txn, notReady.txn)
+
+    assertEquals(listOf("1"), batcher.getReadyPayouts(listOf(ready, notReady)).map { it.txn.id })
+    assertEquals(listOf(notReady), batcher.queue.toList())
+  }
+
+  @Test
+  fun `test the payments not submitted in time are reported as failed`() {
+    val payout = payout("1", enqueuedAt = Instant.now().minusSeconds(60))
+    payout.txn.status = "created"
+    every { custodyTransactionRepo.findAllById(listOf("1")) } returns listOf(payout.txn)
+
+    assertTrue(batcher.getReadyPayouts(listOf(payout)).isEmpty())
+    assertTrue(batcher.queue.isEmpty())
+    verify(exactly = 1) { listener.onFailed(listOf(payout.txn), any()) }
+  }
+
+  @Test
+  fun `test the payments already handled are skipped`() {
+    val payout = payout("1")
+    payout.txn.status = "completed"
+    every { custodyTransactionRepo.findAllById(listOf("1")) } returns listOf(payout.txn)
+
+    assertTrue(batcher.getReadyPayouts(listOf(payout)).isEmpty())
+    assertTrue(batcher.queue.isEmpty())
+    verify(exactly = 0) { listener.onFailed(any(), any()) }
+  }
+
+  @Test
+  fun `test the batch is sent in one transaction from the channel account`() {
+    val transaction = slot<Transaction>()
+    every { horizon.submitTransaction(capture(transaction), true) } returns response
+    val payouts = listOf(payout("1"), payout("2"), payout("3"))
+
+    batcher.submit(channelAccount(), payouts)
+
+    assertEquals(3, transaction.captured.operations.size)
+    assertEquals(channel.accountId, transaction.captured.sourceAccount)
+    assertTrue(transaction.captured.operations.all { it.sourceAccount == distribution.accountId })
+    assertEquals(2, transaction.captured.signatures.size)
+    verify(exactly = 1) { listener.onSubmitted(payouts.map { it.txn }, response) }
+  }
+
+  @Test
+  fun `test the hash is recorded before the transaction is sent`() {
+    val transaction = slot<Transaction>()
+    every { horizon.submitTransaction(capture(transaction), true) } returns response
+    val payouts = listOf(payout("1"), payout("2"))
+
+    batcher.submit(channelAccount(), payouts)
+
+    val hash = transaction.captured.hashHex()
+    verifyOrder {
+      custodyTransactionRepo.claim("1", "1", hash, "submitted", any())
+      custodyTransactionRepo.claim("2", "2", hash, "submitted", any())
+      horizon.submitTransaction(any(), true)
+    }
+    assertTrue(payouts.all { it.txn.externalTxId == hash && it.externalTxId == hash })
+  }
+
+  @Test
+  fun `test the payments claimed by another submission are not sent`() {
+    val transaction = slot<Transaction>()
+    every { horizon.submitTransaction(capture(transaction), true) } returns response
+    every { custodyTransactionRepo.claim("2", "2", any(), any(), any()) } returns 0
+    val payouts = listOf(payout("1"), payout("2"))
+
+    batcher.submit(channelAccount(), payouts)
+
+    assertEquals(1, transaction.captured.operations.size)
+    verify(exactly = 1) { horizon.submitTransaction(any(), true) }
+    verify(exactly = 1) { listener.onSubmitted(listOf(payouts[0].txn), response) }
+    verify(exactly = 0) { listener.onFailed(any(), any()) }
+  }
+
+  @Test
+  fun `test the sequence number is cached between transactions`() {
+    val transactions = mutableListOf<Transaction>()
+    every { horizon.submitTransaction(capture(transactions), true) } returns response
+
+    batcher.submit(channelAccount(), listOf(payout("1")))
+    batcher.submit(channelAccount(), listOf(payout("2")))
+
+    assertEquals(listOf(101L, 102L), transactions.map { it.sequenceNumber })
+    verify(exactly = 1) { horizon.getAccount(channel.accountId) }
+  }
+
+  @Test
+  fun `test the sequence number is reloaded after tx_bad_seq`() {
+    every { horizon.submitTransaction(ofType<Transaction>(), true) } throws
+      badRequest("tx_bad_seq") andThen
+      response
+
+    batcher.submit(channelAccount(), listOf(payout("1")))
+
+    verify(exactly = 2) { horizon.getAccount(channel.accountId) }
+    verify(exactly = 1) { listener.onSubmitted(any(), response) }
+  }
+
+  @Test
+  fun `test the transaction is fee-bumped after tx_insufficient_fee`() {
+    val transaction = slot<Transaction>()
+    val feeBump = slot<FeeBumpTransaction>()
+    every { horizon.submitTransaction(capture(transaction), true) } throws
+      badRequest("tx_insufficient_fee")
+    every { horizon.submitTransaction(capture(feeBump), true) } returns response
+
+    batcher.submit(channelAccount(), listOf(payout("1")))
+
+    assertEquals(transaction.captured, feeBump.captured.innerTransaction)
+    assertEquals(channel.accountId, feeBump.captured.feeSource)
+    verify(exactly = 1) { listener.onSubmitted(any(), response) }
+  }
+
+  @Test
+  fun `test the payments that failed are reported and the others are sent again`() {
+    every { horizon.submitTransaction(ofType<Transaction>(), true) } throws
+      badRequest("tx_failed", listOf("op_success", "op_no_trust", "op_success")) andThen
+      response
+    val payouts = listOf(payout("1"), payout("2"), payout("3"))
+
+    batcher.submit(channelAccount(), payouts)
+
+    verify(exactly = 1) { listener.onFailed(listOf(payouts[1].txn), any()) }
+    verify(exactly = 1) { listener.onSubmitted(listOf(payouts[0].txn, payouts[2].txn), response) }
+  }
+
+  @Test
+  fun `test the payments are sent alone when the failed payments are unknown`() {
+    every { horizon.submitTransaction(ofType<Transaction>(), true) } throws
+      badRequest("tx_failed") andThen
+      response andThen
+      response
+    val payouts = listOf(payout("1"), payout("2"))
+
+    batcher.submit(channelAccount(), payouts)
+
+    verify(exactly = 1) { listener.onSubmitted(listOf(payouts[0].txn), response) }
+    verify(exactly = 1) { listener.onSubmitted(listOf(payouts[1].txn), response) }
+  }
+
+  @Test
+  fun `test the failed payment is reported`() {
+    every { horizon.submitTransaction(ofType<Transaction>(), true) } throws
+      badRequest("tx_failed", listOf("op_underfunded"))
+    val payouts = listOf(payout("1"))
+
+    batcher.submit(channelAccount(), payouts)
+
+    verify(exactly = 1) { listener.onFailed(listOf(payouts[0].txn), any()) }
+    verify(exactly = 0) { listener.onSubmitted(any(), any()) }
+  }
+
+  @Test
+  fun `test the same envelope is sent again after a network error`() {
+    val transactions = mutableListOf<Transaction>()
+    every { horizon.submitTransaction(capture(transactions), true) } throws
+      ConnectionErrorException(RuntimeException("timeout")) andThen
+      response
+
+    batcher.submit(channelAccount(), listOf(payout("1")))
+
+    assertEquals(2, transactions.size)
+    assertEquals(transactions[0].hashHex(), transactions[1].hashHex())
+    verify(exactly = 1) { listener.onSubmitted(any(), response) }
+  }
+
+  @Test
+  fun `test the transaction applied before a network error is found by hash`() {
+    val transaction = slot<Transaction>()
+    every { horizon.submitTransaction(capture(transaction), true) } throws
+      ConnectionErrorException(RuntimeException("timeout")) andThenThrows
+      badRequest("tx_bad_seq")
+    every { horizon.getTransaction(any()) } returns response
+
+    batcher.submit(channelAccount(), listOf(payout("1")))
+
+    verify(exactly = 1) { horizon.getTransaction(transaction.captured.hashHex()) }
+    verify(exactly = 1) { listener.onSubmitted(any(), response) }
+  }
+
+  @Test
+  fun `test the transaction is looked up again once it expired`() {
+    val transaction = slot<Transaction>()
+    every { horizon.submitTransaction(capture(transaction), true) } throws
+      ConnectionErrorException(RuntimeException("timeout")) andThenThrows
+      badRequest("tx_bad_seq")
+    every { horizon.getTransaction(any()) } throws notFound() andThen response
+
+    batcher.submit(channelAccount(), listOf(payout("1")))
+
+    verify(exactly = 2) { horizon.getTransaction(transaction.captured.hashHex()) }
+    verify(exactly = 2) { horizon.submitTransaction(any(), true) }
+    verify(exactly = 1) { listener.onSubmitted(any(), response) }
+  }
+
+  @Test
+  fun `test the transaction is rebuilt when it was not applied before it expired`() {
+    val transactions = mutableListOf<Transaction>()
+    every { horizon.submitTransaction(capture(transactions), true) } throws
+      ConnectionErrorException(RuntimeException("timeout")) andThenThrows
+      badRequest("tx_bad_seq") andThen
+      response
+    every { horizon.getTransaction(any()) } throws notFound()
+
+    batcher.submit(channelAccount(), listOf(payout("1")))
+
+    assertEquals(3, transactions.size)
+    assertNotEquals(transactions[0].hashHex(), transactions[2].hashHex())
+    verify(exactly = 1) {
+      custodyTransactionRepo.claim(
+        "1",
+        transactions[0].hashHex(),
+        transactions[2].hashHex(),
+        "submitted",
+        any()
+      )
+    }
+    verify(exactly = 1) { listener.onSubmitted(any(), response) }
+  }
+
+  @Test
+  fun `test the recovered payment is reported when its transaction was applied`() {
+    val txn = payout("1").txn
+    txn.externalTxId = "hash"
+    every { horizon.getTransaction("hash") } returns response
+
+    batcher.recover(txn)
+
+    verify(exactly = 1) { listener.onSubmitted(listOf(txn), response) }
+    assertTrue(batcher.queue.isEmpty())
+  }
+
+  @Test
+  fun `test the recovered payment is queued again when its transaction was not applied`() {
+    val txn = payout("1").txn
+    txn.externalTxId = "hash"
+    every { horizon.getTransaction("hash") } throws notFound()
+
+    batcher.recover(txn)
+
+    verify(exactly = 0) { listener.onSubmitted(any(), any()) }
+    assertEquals(listOf("hash"), batcher.queue.map { it.externalTxId })
+  }
+
+  @Test
+  fun `test the recovered payment is queued again when it was never sent`() {
+    val txn = payout("1").txn
+
+    batcher.recover(txn)
+
+    verify(exactly = 0) { horizon.getTransaction(any()) }
+    assertEquals(listOf("1"), batcher.queue.map { it.externalTxId })
+  }
+
+  @Test
+  fun `test the payments are reported as failed after the attempts are exhausted`() {
+    every { horizon.submitTransaction(ofType<Transaction>(), true) } throws
+      badRequest("tx_too_late")
+    val payouts = listOf(payout("1"))
+
+    batcher.submit(channelAccount(), payouts)
+
+    verify(exactly = 3) { horizon.submitTransaction(ofType<Transaction>(), true) }
+    verify(exactly = 1) { listener.onFailed(listOf(payouts[0].txn), any()) }
+  }
+}
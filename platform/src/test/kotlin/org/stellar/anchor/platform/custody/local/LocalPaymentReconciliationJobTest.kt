@@ -0,0 +1,70 @@
+package org.stellar.anchor.platform.custody.local
+
+import io.mockk.*
+import io.mockk.impl.annotations.MockK
+import java.time.Duration
+import java.time.Instant
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.stellar.anchor.api.exception.CustodyException
+import org.stellar.anchor.platform.config.LocalCustodyConfig
+import org.stellar.anchor.platform.config.PropertyCustodyConfig.JobCoordination
+import org.stellar.anchor.platform.data.JdbcCustodyTransaction
+import org.stellar.anchor.platform.data.JdbcCustodyTransactionRepo
+import org.stellar.anchor.platform.job.JobCoordinator
+
+class LocalPaymentReconciliationJobTest {
+  @MockK(relaxed = true) private lateinit var config: LocalCustodyConfig
+  @MockK(relaxed = true) private lateinit var batcher: LocalPaymentBatcher
+  @MockK(relaxed = true) private lateinit var custodyTransactionRepo: JdbcCustodyTransactionRepo
+
+  private lateinit var reconciliationJob: LocalPaymentReconciliationJob
+
+  @BeforeEach
+  fun setUp() {
+    MockKAnnotations.init(this, relaxUnitFun = true)
+    every { config.transactionTimeout } returns 30
+    batcher.ingestionDelay = Duration.ofSeconds(15)
+    reconciliationJob =
+      LocalPaymentReconciliationJob(
+        config,
+        batcher,
+        custodyTransactionRepo,
+        JobCoordinator(mockk(), mockk(), JobCoordination())
+      )
+  }
+
+  private fun txn(id: String, updatedAt: Instant) =
+    JdbcCustodyTransaction.builder()
+      .id(id)
+      .externalTxId("hash")
+      .status("submitted")
+      .updatedAt(updatedAt)
+      .build()
+
+  @Test
+  fun `test the stale transactions are recovered`() {
+    val stale = txn("1", Instant.now().minusSeconds(60))
+    val recent = txn("2", Instant.now().minusSeconds(10))
+    every { custodyTransactionRepo.findAllByStatusAndExternalTxIdNotNull("submitted") } returns
+      listOf(stale, recent)
+
+    reconciliationJob.reconcileTransactions()
+
+    verify(exactly = 1) { batcher.recover(stale) }
+    verify(exactly = 0) { batcher.recover(recent) }
+  }
+
+  @Test
+  fun `test the other transactions are recovered after an error`() {
+    val txn1 = txn("1", Instant.now().minusSeconds(60))
+    val txn2 = txn("2", Instant.now().minusSeconds(60))
+    every { custodyTransactionRepo.findAllByStatusAndExternalTxIdNotNull("submitted") } returns
+      listOf(txn1, txn2)
+    every { batcher.recover(txn1) } throws CustodyException("Horizon error")
+
+    reconciliationJob.reconcileTransactions()
+
+    verify(exactly = 1) { batcher.recover(txn2) }
+  }
+}
@@ -0,0 +1,82 @@
+package org.stellar.anchor.platform.data
+
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import java.time.Instant
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.stellar.anchor.sep38.Sep38QuoteStore
+
+class CachedSep38QuoteStoreTest {
+  private val now = Instant.parse("2024-01-01T00:00:00Z")
+  private var clock = now
+  private lateinit var delegate: Sep38QuoteStore
+  private lateinit var store: CachedSep38QuoteStore
+
+  @BeforeEach
+  fun setUp() {
+    clock = now
+    delegate = mockk()
+    every { delegate.save(any()) } answers { firstArg() }
+    store = CachedSep38QuoteStore(delegate, 2) { clock }
+  }
+
+  private fun quote(id: String, expiresAt: Instant? = now.plusSeconds(60)): JdbcSep38Quote {
+    val quote = JdbcSep38Quote()
+    quote.id = id
+    quote.expiresAt = expiresAt
+    return quote
+  }
+
+  @Test
+  fun `test saved quotes are read from the cache`() {
+    val quote = quote("1")
+    store.save(quote)
+
+    assertSame(quote, store.findByQuoteId("1"))
+    verify(exactly = 0) { delegate.findByQuoteId(any()) }
+  }
+
+  @Test
+  fun `test quotes are read through`() {
+    val quote = quote("1")
+    every { delegate.findByQuoteId("1") } returns quote
+
+    assertSame(quote, store.findByQuoteId("1"))
+    assertSame(quote, store.findByQuoteId("1"))
+    verify(exactly = 1) { delegate.findByQuoteId("1") }
+  }
+
+  @Test
+  fun `test unknown quotes are not cached`() {
+    every { delegate.findByQuoteId("1") } returns null
+
+    assertNull(store.findByQuoteId("1"))
+    assertNull(store.findByQuoteId("1"))
+    verify(exactly = 2) { delegate.findByQuoteId("1") }
+  }
+
+  @Test
+  fun `test expired quotes are read from the delegate`() {
+    val quote = quote("1")
+    store.save(quote)
+    every { delegate.findByQuoteId("1") } returns quote
+
+    clock = now.plusSeconds(60)
+    assertSame(quote, store.findByQuoteId("1"))
+    verify(exactly = 1) { delegate.findByQuoteId("1") }
+    assertTrue(store.cache.isEmpty())
+  }
+
+  @Test
+  fun `test the least recently used quote is evicted`() {
+    store.save(quote("1"))
+    store.save(quote("2"))
+    store.findByQuoteId("1")
+    store.save(quote("3"))
+
+    assertEquals(setOf("1", "3"), store.cache.keys)
+  }
+}
@@ -5,11 +5,15 @@ import io.mockk.Runs
 import io.mockk.every
 import io.mockk.impl.annotations.MockK
 import io.mockk.just
+import io.mockk.mockk
 import io.mockk.slot
 import io.mockk.verify
+import java.time.Duration
 import java.time.Instant
 import java.util.*
+import java.util.function.Consumer
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertDoesNotThrow
@@ -20,11 +24,14 @@ import org.stellar.anchor.api.custody.fireblocks.TransactionStatus
 import org.stellar.anchor.api.exception.FireblocksException
 import org.stellar.anchor.api.platform.PlatformTransactionData
 import org.stellar.anchor.platform.config.FireblocksConfig
+import org.stellar.anchor.platform.config.PropertyCustodyConfig.JobCoordination
 import org.stellar.anchor.platform.custody.CustodyPayment
 import org.stellar.anchor.platform.custody.CustodyPaymentService
 import org.stellar.anchor.platform.custody.CustodyTransactionService
 import org.stellar.anchor.platform.custody.fireblocks.FireblocksEventService
 import org.stellar.anchor.platform.data.CustodyTransactionStatus
+import org.stellar.anchor.platform.data.JdbcCustodyReconciliationCheckpoint
+import org.stellar.anchor.platform.data.JdbcCustodyReconciliationCheckpointRepo
 import org.stellar.anchor.platform.data.JdbcCustodyTransaction
 import org.stellar.anchor.platform.data.JdbcCustodyTransactionRepo
 import org.stellar.anchor.platform.fireblocks.job.FireblocksTransactionsReconciliationJob
@@ -44,6 +51,8 @@ class FireblocksTransactionsReconciliationJobTest {
   private lateinit var custodyPaymentService: CustodyPaymentService<TransactionDetails>
   @MockK(relaxed = true) private lateinit var fireblocksEventService: FireblocksEventService
   @MockK(relaxed = true) private lateinit var custodyTransactionRepo: JdbcCustodyTransactionRepo
+  @MockK(relaxed = true)
+  private lateinit var checkpointRepo: JdbcCustodyReconciliationCheckpointRepo
   private lateinit var custodyTransactionService: CustodyTransactionService
 
   private lateinit var reconciliationJob: FireblocksTransactionsReconciliationJob
@@ -54,13 +63,37 @@ class FireblocksTransactionsReconciliationJobTest {
     custodyTransactionService =
       CustodyTransactionService(custodyTransactionRepo, custodyPaymentService)
 
+    every { fireblocksConfig.concurrency.maxLimit } returns 4
+
     reconciliationJob =
       FireblocksTransactionsReconciliationJob(
         fireblocksConfig,
         custodyPaymentService,
         fireblocksEventService,
-        custodyTransactionService
+        custodyTransactionService,
+        checkpointRepo,
+        JobCoordinator(mockk(), mockk(), JobCoordination())
+      )
+    every { checkpointRepo.findById(any()) } returns Optional.empty()
+  }
+
+  private fun stubPages(vararg pages: List<TransactionDetails>) {
+    every { custodyPaymentService.forEachTransactionPage(any(), any(), any()) } answers
+      {
+        pages.forEach { thirdArg<Consumer<List<TransactionDetails>>>().accept(it) }
+      }
+  }
+
+  private fun stubInboundTransactions(vararg transactions: JdbcCustodyTransaction) {
+    every {
+      custodyTransactionRepo.findAllByStatusAndKindIn(
+        CustodyTransactionStatus.CREATED.toString(),
+        mutableSetOf(
+          PlatformTransactionData.Kind.RECEIVE.getKind(),
+          PlatformTransactionData.Kind.WITHDRAWAL.getKind()
+        )
       )
+    } returns transactions.toList()
   }
 
   @ParameterizedTest
@@ -130,7 +163,7 @@ class FireblocksTransactionsReconciliationJobTest {
         .status(CustodyTransactionStatus.SUBMITTED.toString())
         .reconciliationAttemptCount(attemptCount)
         .build()
-    val fireblocksTxn = TransactionDetails.builder().status(status).build()
+    val fireblocksTxn = TransactionDetails.builder().id(EXTERNAL_TXN_ID).status(status).build()
 
     val requestCapture = slot<JdbcCustodyTransaction>()
     every { custodyTransactionService.updateCustodyTransaction(capture(requestCapture)) } just Runs
@@ -147,6 +180,7 @@ class FireblocksTransactionsReconciliationJobTest {
 
     assertEquals(CustodyTransactionStatus.SUBMITTED.toString(), custodyTxn.status)
     assertEquals(1, custodyTxn.reconciliationAttemptCount)
+    assertEquals(EXTERNAL_TXN_ID, custodyTxn.externalTxId)
   }
 
   @Test
@@ -234,13 +268,12 @@ class FireblocksTransactionsReconciliationJobTest {
         )
       )
     } returns listOf(custodyTxn)
-    every { custodyPaymentService.getTransactionsByTimeRange(START_TIME, any()) } returns
-      listOf(fireblocksTxn1, fireblocksTxn2)
+    stubPages(listOf(fireblocksTxn1), listOf(fireblocksTxn2))
     every { fireblocksEventService.convert(fireblocksTxn1) } returns Optional.of(custodyPayment)
 
     reconciliationJob.reconcileTransactions()
 
-    verify(exactly = 1) { custodyPaymentService.getTransactionsByTimeRange(any(), any()) }
+    verify(exactly = 1) { custodyPaymentService.forEachTransactionPage(START_TIME, any(), any()) }
     verify(exactly = 1) { fireblocksEventService.handlePayment(custodyPayment) }
   }
 
@@ -258,7 +291,7 @@ class FireblocksTransactionsReconciliationJobTest {
 
     reconciliationJob.reconcileTransactions()
 
-    verify(exactly = 0) { custodyPaymentService.getTransactionsByTimeRange(any(), any()) }
+    verify(exactly = 0) { custodyPaymentService.forEachTransactionPage(any(), any(), any()) }
   }
 
   @Test
@@ -281,7 +314,7 @@ class FireblocksTransactionsReconciliationJobTest {
       )
     } returns listOf(custodyTxn)
 
-    every { custodyPaymentService.getTransactionsByTimeRange(any(), any()) } returns listOf()
+    stubPages()
 
     reconciliationJob.reconcileTransactions()
 
@@ -317,6 +350,8 @@ class FireblocksTransactionsReconciliationJobTest {
         .build()
     val fireblocksTxn =
       TransactionDetails.builder()
+        .id(EXTERNAL_TXN_ID)
+        .externalTxId("clientTxId")
         .status(status)
         .destinationAddress(DESTINATION_ADDRESS)
         .destinationTag(MEMO)
@@ -332,19 +367,20 @@ class FireblocksTransactionsReconciliationJobTest {
         )
       )
     } returns listOf(custodyTxn)
-    every { custodyPaymentService.getTransactionsByTimeRange(START_TIME, any()) } returns
-      listOf(fireblocksTxn)
+    stubPages(listOf(fireblocksTxn))
     every { fireblocksEventService.convert(fireblocksTxn) } returns Optional.of(custodyPayment)
     every { custodyTransactionRepo.save(any()) } returns null
     every { fireblocksConfig.reconciliation.maxAttempts } returns 10
 
     reconciliationJob.reconcileTransactions()
 
-    verify(exactly = 1) { custodyPaymentService.getTransactionsByTimeRange(START_TIME, any()) }
+    verify(exactly = 1) { custodyPaymentService.forEachTransactionPage(START_TIME, any(), any()) }
     verify(exactly = 1) { custodyTransactionService.updateCustodyTransaction(any()) }
 
     assertEquals(CustodyTransactionStatus.CREATED.toString(), custodyTxn.status)
     assertEquals(1, custodyTxn.reconciliationAttemptCount)
+    // The Fireblocks transaction id is stored, not the client supplied external id
+    assertEquals(EXTERNAL_TXN_ID, custodyTxn.externalTxId)
   }
 
   @Test
@@ -375,15 +411,14 @@ class FireblocksTransactionsReconciliationJobTest {
         )
       )
     } returns listOf(custodyTxn)
-    every { custodyPaymentService.getTransactionsByTimeRange(START_TIME, any()) } returns
-      listOf(fireblocksTxn)
+    stubPages(listOf(fireblocksTxn))
     every { fireblocksEventService.convert(fireblocksTxn) } returns Optional.of(custodyPayment)
     every { fireblocksConfig.reconciliation.maxAttempts } returns 10
     every { custodyTransactionRepo.save(any()) } returns null
 
     reconciliationJob.reconcileTransactions()
 
-    verify(exactly = 1) { custodyPaymentService.getTransactionsByTimeRange(START_TIME, any()) }
+    verify(exactly = 1) { custodyPaymentService.forEachTransactionPage(START_TIME, any(), any()) }
     verify(exactly = 1) { custodyTransactionService.updateCustodyTransaction(any()) }
 
     assertEquals(CustodyTransactionStatus.FAILED.toString(), custodyTxn.status)
@@ -401,9 +436,191 @@ class FireblocksTransactionsReconciliationJobTest {
 
     every { custodyTransactionService.inboundTransactionsEligibleForReconciliation } returns
       listOf(custodyTxn)
-    every { custodyPaymentService.getTransactionsByTimeRange(START_TIME, any()) } throws
+    every { custodyPaymentService.forEachTransactionPage(START_TIME, any(), any()) } throws
       FireblocksException("Too many requests", 429)
 
     assertDoesNotThrow { reconciliationJob.reconcileTransactions() }
   }
+
+  @Test
+  fun `reconcile inbound transactions - start from the checkpoint`() {
+    val custodyTxn =
+      JdbcCustodyTransaction.builder()
+        .status(CustodyTransactionStatus.CREATED.toString())
+        .memo(MEMO)
+        .toAccount(DESTINATION_ADDRESS)
+        .createdAt(START_TIME.minusSeconds(3600))
+        .build()
+    // The reconciliation overlaps the checkpoint by 5 minutes
+    val checkpoint = START_TIME.plus(Duration.ofMinutes(5))
+
+    stubInboundTransactions(custodyTxn)
+    every { checkpointRepo.findById("fireblocks_inbound") } returns
+      Optional.of(JdbcCustodyReconciliationCheckpoint("fireblocks_inbound", checkpoint))
+    stubPages()
+
+    reconciliationJob.reconcileTransactions()
+
+    verify(exactly = 1) { custodyPaymentService.forEachTransactionPage(START_TIME, any(), any()) }
+  }
+
+  @Test
+  fun `reconcile inbound transactions - save the checkpoint of each page`() {
+    val custodyTxn =
+      JdbcCustodyTransaction.builder()
+        .status(CustodyTransactionStatus.CREATED.toString())
+        .memo(MEMO)
+        .toAccount(DESTINATION_ADDRESS)
+        .createdAt(START_TIME)
+        .build()
+    val fireblocksTxn1 =
+      TransactionDetails.builder().status(TransactionStatus.QUEUED).createdAt(1000L).build()
+    val fireblocksTxn2 =
+      TransactionDetails.builder().status(TransactionStatus.QUEUED).createdAt(2000L).build()
+    val checkpoints = mutableListOf<Instant>()
+
+    stubInboundTransactions(custodyTxn)
+    every { checkpointRepo.save(any()) } answers
+      {
+        checkpoints.add(firstArg<JdbcCustodyReconciliationCheckpoint>().checkpointAt)
+        firstArg()
+      }
+    stubPages(listOf(fireblocksTxn1), listOf(fireblocksTxn2))
+
+    reconciliationJob.reconcileTransactions()
+
+    assertEquals(listOf(Instant.ofEpochMilli(1000), Instant.ofEpochMilli(2000)), checkpoints)
+  }
+
+  @Test
+  fun `reconcile inbound transactions - save the checkpoint past unresolved transactions`() {
+    val custodyTxn =
+      JdbcCustodyTransaction.builder()
+        .status(CustodyTransactionStatus.CREATED.toString())
+        .memo(MEMO)
+        .toAccount(DESTINATION_ADDRESS)
+        .createdAt(Instant.ofEpochMilli(1500))
+        .build()
+    val fireblocksTxn1 =
+      TransactionDetails.builder().status(TransactionStatus.QUEUED).createdAt(1000L).build()
+    val fireblocksTxn2 =
+      TransactionDetails.builder().status(TransactionStatus.QUEUED).createdAt(2000L).build()
+    val checkpoints = mutableListOf<Instant>()
+
+    stubInboundTransactions(custodyTxn)
+    every { checkpointRepo.save(any()) } answers
+      {
+        checkpoints.add(firstArg<JdbcCustodyReconciliationCheckpoint>().checkpointAt)
+        firstArg()
+      }
+    stubPages(listOf(fireblocksTxn1), listOf(fireblocksTxn2))
+
+    reconciliationJob.reconcileTransactions()
+
+    assertEquals(listOf(Instant.ofEpochMilli(1000), Instant.ofEpochMilli(2000)), checkpoints)
+  }
+
+  @Test
+  fun `reconcile inbound transactions - the checkpoint advances past an unpaid pending deposit`() {
+    val depositCreatedAt = START_TIME.minus(Duration.ofHours(2))
+    val custodyTxn =
+      JdbcCustodyTransaction.builder()
+        .status(CustodyTransactionStatus.CREATED.toString())
+        .memo(MEMO)
+        .toAccount(DESTINATION_ADDRESS)
+        .createdAt(depositCreatedAt)
+        .build()
+    // The Fireblocks transactions of other deposits, created after the unpaid one
+    val pageEnd = depositCreatedAt.plus(Duration.ofHours(1))
+    val fireblocksTxn =
+      TransactionDetails.builder()
+        .status(TransactionStatus.COMPLETED)
+        .destinationAddress(DESTINATION_ADDRESS)
+        .destinationTag("other memo")
+        .createdAt(pageEnd.toEpochMilli())
+        .build()
+    var saved: JdbcCustodyReconciliationCheckpoint? = null
+
+    stubInboundTransactions(custodyTxn)
+    every { checkpointRepo.save(any()) } answers
+      {
+        saved = firstArg()
+        firstArg()
+      }
+    every { checkpointRepo.findById("fireblocks_inbound") } answers { Optional.ofNullable(saved) }
+    stubPages(listOf(fireblocksTxn))
+
+    // The first run scans from the creation of the unpaid deposit
+    reconciliationJob.reconcileTransactions()
+    // The next run scans from the checkpoint, not from the creation of the unpaid deposit again
+    stubPages()
+    reconciliationJob.reconcileTransactions()
+
+    assertEquals(pageEnd.toEpochMilli(), saved!!.checkpointAt.toEpochMilli())
+    verify(exactly = 1) {
+      custodyPaymentService.forEachTransactionPage(depositCreatedAt, any(), any())
+    }
+    verify(exactly = 1) {
+      custodyPaymentService.forEachTransactionPage(
+        Instant.ofEpochMilli(pageEnd.toEpochMilli()).minus(Duration.ofMinutes(5)),
+        any(),
+        any()
+      )
+    }
+    verify(exactly = 0) { fireblocksEventService.handlePayment(any()) }
+  }
+
+  @Test
+  fun `reconcile inbound transactions - transactions matched before are fetched by id`() {
+    val custodyTxn =
+      JdbcCustodyTransaction.builder()
+        .externalTxId(EXTERNAL_TXN_ID)
+        .status(CustodyTransactionStatus.CREATED.toString())
+        .memo(MEMO)
+        .toAccount(DESTINATION_ADDRESS)
+        .createdAt(START_TIME)
+        .build()
+    val fireblocksTxn = TransactionDetails.builder().status(TransactionStatus.COMPLETED).build()
+    val custodyPayment = CustodyPayment.builder().build()
+
+    stubInboundTransactions(custodyTxn)
+    stubPages()
+    every { custodyPaymentService.getTransactionById(EXTERNAL_TXN_ID) } returns fireblocksTxn
+    every { fireblocksEventService.convert(fireblocksTxn) } returns Optional.of(custodyPayment)
+
+    reconciliationJob.reconcileTransactions()
+
+    verify(exactly = 1) { fireblocksEventService.handlePayment(custodyPayment) }
+  }
+
+  @Test
+  fun `reconcile outbound transactions - reconcile transactions concurrently`() {
+    val custodyTxns =
+      (1..10).map {
+        JdbcCustodyTransaction.builder()
+          .id(it.toString())
+          .externalTxId("$EXTERNAL_TXN_ID-$it")
+          .status(CustodyTransactionStatus.SUBMITTED.toString())
+          .build()
+      }
+    val fireblocksTxn = TransactionDetails.builder().status(TransactionStatus.COMPLETED).build()
+    val threads = Collections.synchronizedSet(mutableSetOf<Thread>())
+
+    every {
+      custodyTransactionRepo.findAllByStatusAndExternalTxIdNotNull(
+        CustodyTransactionStatus.SUBMITTED.toString()
+      )
+    } returns custodyTxns
+    every { custodyPaymentService.getTransactionById(any()) } answers
+      {
+        threads.add(Thread.currentThread())
+        Thread.sleep(50)
+        fireblocksTxn
+      }
+
+    reconciliationJob.reconcileTransactions()
+
+    verify(exactly = 10) { custodyPaymentService.getTransactionById(any()) }
+    assertTrue(threads.size > 1)
+  }
 }
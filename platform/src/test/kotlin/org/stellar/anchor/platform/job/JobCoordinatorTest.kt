@@ -0,0 +1,149 @@
+package org.stellar.anchor.platform.job
+
+import io.mockk.*
+import io.mockk.impl.annotations.MockK
+import java.time.Instant
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.springframework.dao.DataIntegrityViolationException
+import org.stellar.anchor.platform.config.PropertyCustodyConfig.JobCoordination
+import org.stellar.anchor.platform.data.JdbcJobLeaseRepo
+import org.stellar.anchor.platform.data.JdbcJobMember
+import org.stellar.anchor.platform.data.JdbcJobMemberRepo
+
+class JobCoordinatorTest {
+  companion object {
+    private const val JOB_NAME = "test_job"
+    private const val LEASE = "test_lease"
+  }
+
+  @MockK(relaxed = true) private lateinit var leaseRepo: JdbcJobLeaseRepo
+  @MockK(relaxed = true) private lateinit var memberRepo: JdbcJobMemberRepo
+  private val now = Instant.parse("2024-01-01T00:00:00Z")
+  private lateinit var config: JobCoordination
+  private lateinit var coordinator: JobCoordinator
+
+  @BeforeEach
+  fun setUp() {
+    MockKAnnotations.init(this, relaxUnitFun = true)
+    config = JobCoordination()
+    config.isEnabled = true
+    config.heartbeatInterval = 10
+    config.leaseDuration = 30
+    coordinator = JobCoordinator(leaseRepo, memberRepo, config) { now }
+  }
+
+  private fun stubMembers(vararg instanceIds: String) {
+    every {
+      memberRepo.findAllByJobNameAndHeartbeatAtAfter(JOB_NAME, now.minusSeconds(30))
+    } returns instanceIds.map { JdbcJobMember("$JOB_NAME:$it", JOB_NAME, it, now) }
+  }
+
+  @Test
+  fun `test the disabled coordinator owns every item and lease`() {
+    config.isEnabled = false
+
+    coordinator.run(JOB_NAME) { run ->
+      assertTrue((1..100).all { run.owns("id$it") })
+      assertTrue(run.lease(LEASE))
+    }
+
+    verify { leaseRepo wasNot Called }
+    verify { memberRepo wasNot Called }
+  }
+
+  @Test
+  fun `test the run is skipped while the job is running`() {
+    var nested = true
+    coordinator.run(JOB_NAME) { nested = coordinator.run(JOB_NAME) {} }
+
+    assertFalse(nested)
+    assertTrue(coordinator.run(JOB_NAME) {})
+  }
+
+  @Test
+  fun `test the replicas of a job own disjoint partitions`() {
+    val other = JobCoordinator(leaseRepo, memberRepo, config) { now }
+    stubMembers(coordinator.instanceId, other.instanceId)
+    val keys = (1..100).map { "id$it" }
+
+    var owned = listOf<String>()
+    var otherOwned = listOf<String>()
+    coordinator.run(JOB_NAME) { run -> owned = keys.filter { run.owns(it) } }
+    other.run(JOB_NAME) { run -> otherOwned = keys.filter { run.owns(it) } }
+
+    assertTrue(owned.isNotEmpty())
+    assertTrue(otherOwned.isNotEmpty())
+    assertTrue(owned.intersect(otherOwned.toSet()).isEmpty())
+    assertEquals(keys.size, owned.size + otherOwned.size)
+    verify { memberRepo.save(match { it.instanceId == coordinator.instanceId }) }
+  }
+
+  @Test
+  fun `test the lease is acquired and released`() {
+    every { leaseRepo.acquire(LEASE, coordinator.instanceId, any(), now) } returns 1
+
+    coordinator.run(JOB_NAME) { run -> assertTrue(run.lease(LEASE)) }
+
+    verify(exactly = 1) { leaseRepo.release(LEASE, coordinator.instanceId, now) }
+    assertTrue(coordinator.heldLeases.isEmpty())
+  }
+
+  @Test
+  fun `test the lease held by another replica is not acquired`() {
+    every { leaseRepo.acquire(LEASE, any(), any(), any()) } returns 0
+    every { leaseRepo.existsById(LEASE) } returns true
+
+    coordinator.run(JOB_NAME) { run -> assertFalse(run.lease(LEASE)) }
+
+    verify(exactly = 0) { leaseRepo.insert(any(), any(), any()) }
+    verify(exactly = 0) { leaseRepo.release(any(), any(), any()) }
+  }
+
+  @Test
+  fun `test the missing lease is created`() {
+    every { leaseRepo.acquire(LEASE, any(), any(), any()) } returns 0
+    every { leaseRepo.existsById(LEASE) } returns false
+
+    coordinator.run(JOB_NAME) { run -> assertTrue(run.lease(LEASE)) }
+
+    verify(exactly = 1) { leaseRepo.insert(LEASE, coordinator.instanceId, now.plusSeconds(30)) }
+  }
+
+  @Test
+  fun `test the lease created concurrently is not acquired`() {
+    every { leaseRepo.acquire(LEASE, any(), any(), any()) } returns 0
+    every { leaseRepo.existsById(LEASE) } returns false
+    every { leaseRepo.insert(LEASE, any(), any()) } throws
+      DataIntegrityViolationException("duplicate")
+
+    coordinator.run(JOB_NAME) { run -> assertFalse(run.lease(LEASE)) }
+  }
+
+  @Test
+  fun `test the heartbeat renews the held leases and removes the stale members`() {
+    every { leaseRepo.acquire(LEASE, coordinator.instanceId, any(), now) } returns 1
+    coordinator.jobs.add(JOB_NAME)
+    coordinator.acquireLease(LEASE)
+
+    coordinator.heartbeat()
+
+    verify(exactly = 2) {
+      leaseRepo.acquire(LEASE, coordinator.instanceId, now.plusSeconds(30), now)
+    }
+    verify(exactly = 1) { memberRepo.save(match { it.jobName == JOB_NAME }) }
+    verify(exactly = 1) { memberRepo.deleteByHeartbeatAtBefore(now.minusSeconds(30)) }
+  }
+
+  @Test
+  fun `test the lost lease is no longer renewed`() {
+    every { leaseRepo.acquire(LEASE, coordinator.instanceId, any(), now) } returns 1
+    coordinator.acquireLease(LEASE)
+    every { leaseRepo.acquire(LEASE, coordinator.instanceId, any(), now) } returns 0
+
+    coordinator.heartbeat()
+
+    assertTrue(coordinator.heldLeases.isEmpty())
+  }
+}
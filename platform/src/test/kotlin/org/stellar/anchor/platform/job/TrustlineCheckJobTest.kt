@@ -2,8 +2,10 @@ package org.stellar.anchor.platform.job
 
 import io.mockk.*
 import io.mockk.impl.annotations.MockK
+import java.time.Duration
 import java.time.Instant
 import java.time.temporal.ChronoUnit
+import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.skyscreamer.jsonassert.JSONAssert
@@ -11,6 +13,7 @@ import org.skyscreamer.jsonassert.JSONCompareMode
 import org.stellar.anchor.api.rpc.method.NotifyTrustSetRequest
 import org.stellar.anchor.horizon.Horizon
 import org.stellar.anchor.platform.config.PropertyCustodyConfig
+import org.stellar.anchor.platform.config.PropertyCustodyConfig.JobCoordination
 import org.stellar.anchor.platform.config.PropertyCustodyConfig.Trustline
 import org.stellar.anchor.platform.data.JdbcTransactionPendingTrust
 import org.stellar.anchor.platform.data.JdbcTransactionPendingTrustRepo
@@ -39,8 +42,23 @@ class TrustlineCheckJobTest {
   @BeforeEach
   fun setup() {
     MockKAnnotations.init(this, relaxUnitFun = true)
+    every { custodyConfig.trustline } returns Trustline("* * * * * *", 10, TX_MESSAGE, 2)
+    every { transactionPendingTrustRepo.claim(any(), any(), any(), any()) } returns 1
     trustlineCheckJob =
-      TrustlineCheckJob(horizon, transactionPendingTrustRepo, custodyConfig, notifyTrustSetHandler)
+      TrustlineCheckJob(
+        horizon,
+        transactionPendingTrustRepo,
+        custodyConfig,
+        notifyTrustSetHandler,
+        JobCoordinator(mockk(), mockk(), JobCoordination())
+      )
+  }
+
+  private fun stubPendingTrust(vararg pendingTrusts: JdbcTransactionPendingTrust) {
+    every { transactionPendingTrustRepo.findTop100ByIdGreaterThanOrderByIdAsc(any()) } returns
+      listOf()
+    every { transactionPendingTrustRepo.findTop100ByIdGreaterThanOrderByIdAsc("") } returns
+      pendingTrusts.toList()
   }
 
   @Test
@@ -54,14 +72,14 @@ class TrustlineCheckJobTest {
     val trustline = Trustline()
     trustline.checkDuration = 10
 
-    every { transactionPendingTrustRepo.findAll() } returns listOf(txnPendingTrust)
+    stubPendingTrust(txnPendingTrust)
     every { custodyConfig.trustline } returns trustline
     every { horizon.isTrustlineConfigured(ACCOUNT, ASSET) } returns false
 
     trustlineCheckJob.checkTrust()
 
     verify(exactly = 0) { notifyTrustSetHandler.handle(any()) }
-    verify(exactly = 0) { transactionPendingTrustRepo.delete(any()) }
+    verify(exactly = 0) { transactionPendingTrustRepo.claim(any(), any(), any(), any()) }
   }
 
   @Test
@@ -76,14 +94,15 @@ class TrustlineCheckJobTest {
     trustline.checkDuration = 10
     val notifyTrustSetRequestCapture = slot<NotifyTrustSetRequest>()
 
-    every { transactionPendingTrustRepo.findAll() } returns listOf(txnPendingTrust)
+    stubPendingTrust(txnPendingTrust)
     every { custodyConfig.trustline } returns trustline
     every { horizon.isTrustlineConfigured(ACCOUNT, ASSET) } returns true
     every { notifyTrustSetHandler.handle(capture(notifyTrustSetRequestCapture)) } returns null
 
     trustlineCheckJob.checkTrust()
 
-    verify(exactly = 1) { transactionPendingTrustRepo.delete(txnPendingTrust) }
+    verify(exactly = 1) { transactionPendingTrustRepo.claim(TX_ID, any(), any(), any()) }
+    verify(exactly = 1) { transactionPendingTrustRepo.deleteClaimed(TX_ID, any()) }
 
     val expectedNotifyTrustSetRequest = NotifyTrustSetRequest()
     expectedNotifyTrustSetRequest.transactionId = TX_ID
@@ -109,13 +128,14 @@ class TrustlineCheckJobTest {
     trustline.timeoutMessage = TX_MESSAGE
     val notifyTrustSetRequestCapture = slot<NotifyTrustSetRequest>()
 
-    every { transactionPendingTrustRepo.findAll() } returns listOf(txnPendingTrust)
+    stubPendingTrust(txnPendingTrust)
     every { custodyConfig.trustline } returns trustline
     every { notifyTrustSetHandler.handle(capture(notifyTrustSetRequestCapture)) } returns null
 
     trustlineCheckJob.checkTrust()
 
-    verify(exactly = 1) { transactionPendingTrustRepo.delete(txnPendingTrust) }
+    verify(exactly = 1) { transactionPendingTrustRepo.claim(TX_ID, any(), any(), any()) }
+    verify(exactly = 1) { transactionPendingTrustRepo.deleteClaimed(TX_ID, any()) }
 
     val expectedNotifyTrustSetRequest = NotifyTrustSetRequest()
     expectedNotifyTrustSetRequest.transactionId = TX_ID
@@ -128,4 +148,107 @@ class TrustlineCheckJobTest {
       JSONCompareMode.STRICT
     )
   }
+
+  @Test
+  fun test_checkTrust_pagesById() {
+    val trustline = Trustline()
+    trustline.checkDuration = 10
+    val pendingTrusts =
+      (1..3).map {
+        JdbcTransactionPendingTrust.builder()
+          .id("id$it")
+          .createdAt(Instant.now())
+          .asset(ASSET)
+          .account(ACCOUNT)
+          .build()
+      }
+
+    stubPendingTrust(pendingTrusts[0], pendingTrusts[1])
+    every { transactionPendingTrustRepo.findTop100ByIdGreaterThanOrderByIdAsc("id2") } returns
+      listOf(pendingTrusts[2])
+    every { custodyConfig.trustline } returns trustline
+    every { horizon.isTrustlineConfigured(ACCOUNT, ASSET) } returns true
+
+    trustlineCheckJob.checkTrust()
+
+    verify(exactly = 3) { notifyTrustSetHandler.handle(any()) }
+    verify(exactly = 3) { transactionPendingTrustRepo.claim(any(), any(), any(), any()) }
+    verify(exactly = 1) { transactionPendingTrustRepo.findTop100ByIdGreaterThanOrderByIdAsc("id3") }
+  }
+
+  @Test
+  fun test_checkTrust_alreadyClaimed() {
+    val txnPendingTrust =
+      JdbcTransactionPendingTrust.builder()
+        .id(TX_ID)
+        .createdAt(Instant.now())
+        .asset(ASSET)
+        .account(ACCOUNT)
+        .build()
+
+    stubPendingTrust(txnPendingTrust)
+    every { horizon.isTrustlineConfigured(ACCOUNT, ASSET) } returns true
+    every { transactionPendingTrustRepo.claim(TX_ID, any(), any(), any()) } returns 0
+
+    trustlineCheckJob.checkTrust()
+
+    verify(exactly = 0) { notifyTrustSetHandler.handle(any()) }
+    verify(exactly = 0) { transactionPendingTrustRepo.deleteClaimed(any(), any()) }
+  }
+
+  @Test
+  fun test_checkTrust_notifyFailed() {
+    val txnPendingTrust =
+      JdbcTransactionPendingTrust.builder()
+        .id(TX_ID)
+        .createdAt(Instant.now())
+        .asset(ASSET)
+        .account(ACCOUNT)
+        .build()
+
+    stubPendingTrust(txnPendingTrust)
+    every { horizon.isTrustlineConfigured(ACCOUNT, ASSET) } returns true
+    every { notifyTrustSetHandler.handle(any()) } throws RuntimeException("failed")
+
+    trustlineCheckJob.checkTrust()
+
+    verify(exactly = 1) { transactionPendingTrustRepo.release(TX_ID, any()) }
+    verify(exactly = 0) { transactionPendingTrustRepo.deleteClaimed(any(), any()) }
+  }
+
+  @Test
+  fun test_checkTrust_claimLeased() {
+    val txnPendingTrust =
+      JdbcTransactionPendingTrust.builder()
+        .id(TX_ID)
+        .createdAt(Instant.now())
+        .asset(ASSET)
+        .account(ACCOUNT)
+        .build()
+    val claimedBy = slot<String>()
+    val claimedUntil = slot<Instant>()
+    val now = slot<Instant>()
+
+    stubPendingTrust(txnPendingTrust)
+    every { horizon.isTrustlineConfigured(ACCOUNT, ASSET) } returns true
+    every {
+      transactionPendingTrustRepo.claim(
+        TX_ID,
+        capture(claimedBy),
+        capture(claimedUntil),
+        capture(now)
+      )
+    } returns 1
+
+    trustlineCheckJob.checkTrust()
+
+    // The claim expires, so that the row is retried if the server stops before deleting it
+    assertEquals(
+      TrustlineCheckJob.CLAIM_DURATION,
+      Duration.between(now.captured, claimedUntil.captured)
+    )
+    verify(exactly = 1) { transactionPendingTrustRepo.deleteClaimed(TX_ID, claimedBy.captured) }
+    verify(exactly = 0) { transactionPendingTrustRepo.delete(any()) }
+    verify(exactly = 0) { transactionPendingTrustRepo.deleteById(any()) }
+  }
 }
@@ -0,0 +1,118 @@
+package org.stellar.anchor.platform.observer.stellar
+
+import io.mockk.*
+import io.mockk.impl.annotations.MockK
+import java.time.Instant
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.stellar.anchor.apiclient.PlatformApiClient
+import org.stellar.anchor.platform.data.JdbcTransactionPendingTrust
+import org.stellar.anchor.platform.data.JdbcTransactionPendingTrustRepo
+import org.stellar.sdk.Server
+import org.stellar.sdk.responses.operations.ChangeTrustOperationResponse
+import org.stellar.sdk.responses.operations.PaymentOperationResponse
+
+class StellarTrustlineObserverTest {
+  companion object {
+    private const val TX_ID = "testId"
+    private const val ACCOUNT = "GBLGJA4TUN5XOGTV6WO2BWYUI2OZR5GYQ5PDPCRMQ5XEPJOYWB2X4CJO"
+    private const val ISSUER = "GDQOE23CFSUMSVQK4Y5JHPPYK73VYCNHZHA7ENKCV37P6SUEO6XQBKPP"
+    private const val ASSET = "stellar:USDC:$ISSUER"
+  }
+
+  @MockK(relaxed = true) private lateinit var server: Server
+  @MockK(relaxed = true)
+  private lateinit var transactionPendingTrustRepo: JdbcTransactionPendingTrustRepo
+  @MockK(relaxed = true) private lateinit var platformApiClient: PlatformApiClient
+
+  private lateinit var observer: StellarTrustlineObserver
+  private val pendingTrust =
+    JdbcTransactionPendingTrust.builder()
+      .id(TX_ID)
+      .createdAt(Instant.now())
+      .account(ACCOUNT)
+      .asset(ASSET)
+      .build()
+
+  @BeforeEach
+  fun setUp() {
+    MockKAnnotations.init(this, relaxUnitFun = true)
+    observer = StellarTrustlineObserver(server, transactionPendingTrustRepo, platformApiClient)
+    every { transactionPendingTrustRepo.findAllAccounts() } returns listOf(ACCOUNT)
+    every { transactionPendingTrustRepo.findAllByAccount(ACCOUNT) } returns listOf(pendingTrust)
+    every { transactionPendingTrustRepo.claim(TX_ID, any(), any(), any()) } returns 1
+    observer.refreshPendingAccounts()
+  }
+
+  private fun changeTrust(
+    trustor: String = ACCOUNT,
+    assetCode: String = "USDC",
+    limit: String = "922337203685.4775807"
+  ) =
+    mockk<ChangeTrustOperationResponse> {
+      every { this@mockk.trustor } returns trustor
+      every { this@mockk.assetCode } returns assetCode
+      every { assetIssuer } returns ISSUER
+      every { this@mockk.limit } returns limit
+    }
+
+  @Test
+  fun `test the trustline of a pending account is notified`() {
+    observer.handleOperation(changeTrust())
+
+    verify(exactly = 1) { platformApiClient.notifyTrustSet(TX_ID, true) }
+    verify(exactly = 1) {
+      transactionPendingTrustRepo.claim(TX_ID, observer.instanceId, any(), any())
+    }
+    verify(exactly = 1) { transactionPendingTrustRepo.deleteClaimed(TX_ID, observer.instanceId) }
+  }
+
+  @Test
+  fun `test the trustlines of other accounts are ignored`() {
+    observer.handleOperation(changeTrust(trustor = "other"))
+
+    verify(exactly = 0) { transactionPendingTrustRepo.findAllByAccount(any()) }
+    verify(exactly = 0) { platformApiClient.notifyTrustSet(any(), any()) }
+  }
+
+  @Test
+  fun `test the trustlines of other assets are ignored`() {
+    observer.handleOperation(changeTrust(assetCode = "EURC"))
+
+    verify(exactly = 0) { platformApiClient.notifyTrustSet(any(), any()) }
+  }
+
+  @Test
+  fun `test removed trustlines are ignored`() {
+    observer.handleOperation(changeTrust(limit = "0.0000000"))
+
+    verify(exactly = 0) { platformApiClient.notifyTrustSet(any(), any()) }
+  }
+
+  @Test
+  fun `test other operations are ignored`() {
+    observer.handleOperation(mockk<PaymentOperationResponse>())
+
+    verify(exactly = 0) { transactionPendingTrustRepo.findAllByAccount(any()) }
+  }
+
+  @Test
+  fun `test the claim is released when the notification fails`() {
+    every { platformApiClient.notifyTrustSet(TX_ID, true) } throws RuntimeException("failed")
+
+    observer.handleOperation(changeTrust())
+
+    verify(exactly = 1) { transactionPendingTrustRepo.release(TX_ID, observer.instanceId) }
+    verify(exactly = 0) { transactionPendingTrustRepo.deleteClaimed(any(), any()) }
+  }
+
+  @Test
+  fun `test the trustline claimed by the check job is not notified again`() {
+    every { transactionPendingTrustRepo.claim(TX_ID, any(), any(), any()) } returns 0
+
+    observer.handleOperation(changeTrust())
+
+    verify(exactly = 0) { platformApiClient.notifyTrustSet(any(), any()) }
+    verify(exactly = 0) { transactionPendingTrustRepo.deleteClaimed(any(), any()) }
+  }
+}
@@ -44,6 +44,8 @@ import org.stellar.anchor.sep24.Sep24TransactionStore
 import org.stellar.anchor.sep31.Sep31TransactionStore
 import org.stellar.anchor.sep6.Sep6TransactionStore
 import org.stellar.anchor.util.GsonUtils
+import org.stellar.sdk.Asset
+import org.stellar.sdk.KeyPair
 import org.stellar.sdk.exception.NetworkException
 import org.stellar.sdk.responses.operations.OperationResponse
 import org.stellar.sdk.responses.operations.PaymentOperationResponse
@@ -504,6 +506,54 @@ class NotifyOnchainFundsSentHandlerTest {
     assertTrue(sep6TxnCapture.captured.completedAt <= endDate)
   }
 
+  @Test
+  fun test_getPaymentsTo_batchedTransaction() {
+    val issuer = KeyPair.random().accountId
+    val txn24 = JdbcSep24Transaction()
+    txn24.toAccount = "toAccount"
+    txn24.amountOut = "10.5"
+    txn24.amountOutAsset = "stellar:USDC:$issuer"
+    val payment = payment("toAccount", "10.5000000", Asset.create("USDC:$issuer"))
+    val otherAccountPayment = payment("otherAccount", "10.5000000", Asset.create("USDC:$issuer"))
+    val otherAmountPayment = payment("toAccount", "3.0000000", Asset.create("USDC:$issuer"))
+    val otherAssetPayment = payment("toAccount", "10.5000000", Asset.create("native"))
+
+    assertEquals(
+      listOf(payment),
+      handler.getPaymentsTo(
+        txn24,
+        listOf(otherAccountPayment, otherAmountPayment, payment, otherAssetPayment)
+      )
+    )
+  }
+
+  @Test
+  fun test_getPaymentsTo_unknownAmount() {
+    val txn24 = JdbcSep24Transaction()
+    txn24.toAccount = "toAccount"
+    val payment = payment("toAccount", "10.5000000", Asset.create("native"))
+    val otherPayment = payment("otherAccount", "10.5000000", Asset.create("native"))
+
+    assertEquals(listOf(payment), handler.getPaymentsTo(txn24, listOf(otherPayment, payment)))
+  }
+
+  @Test
+  fun test_getPaymentsTo_noMatchingPayment() {
+    val txn6 = JdbcSep6Transaction()
+    txn6.toAccount = "toAccount"
+    val operations =
+      listOf<OperationResponse>(payment("otherAccount", "10.5000000", Asset.create("native")))
+
+    assertEquals(operations, handler.getPaymentsTo(txn6, operations))
+  }
+
+  private fun payment(to: String, amount: String, asset: Asset): PaymentOperationResponse =
+    mockk {
+      every { this@mockk.to } returns to
+      every { this@mockk.amount } returns amount
+      every { this@mockk.asset } returns asset
+    }
+
   private val paymentOperationRecord =
     """
 [
@@ -0,0 +1,160 @@
+package org.stellar.anchor.platform.service
+
+import io.mockk.every
+import io.mockk.mockk
+import java.time.Instant
+import org.apache.commons.beanutils.BeanUtils
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.stellar.anchor.api.asset.AssetInfo
+import org.stellar.anchor.api.shared.StellarTransaction
+import org.stellar.anchor.asset.AssetService
+import org.stellar.anchor.platform.data.JdbcSep24Transaction
+import org.stellar.anchor.platform.data.JdbcSep6Transaction
+import org.stellar.anchor.platform.data.JdbcSepTransaction
+import org.stellar.anchor.platform.utils.PlatformTransactionHelper
+import org.stellar.anchor.sep24.Sep24Transaction
+import org.stellar.anchor.util.StringHelper.camelToSnake
+import org.stellar.anchor.util.StringHelper.isEmpty
+import org.stellar.anchor.util.StringHelper.snakeToCamelCase
+
+class TxnFieldExtractorTest {
+  companion object {
+    private val FIELDS =
+      listOf(
+        "id",
+        "sep",
+        "kind",
+        "status",
+        "amount_in",
+        "amountExpected",
+        "amount_in.amount",
+        "started_at",
+        "updatedAt",
+        "stellar_transactions",
+        "customers",
+        "funding_method",
+        "class",
+        "unknown_field",
+        "",
+      )
+  }
+
+  private lateinit var assetService: AssetService
+
+  @BeforeEach
+  fun setUp() {
+    val asset = mockk<AssetInfo>()
+    every { asset.id } returns "stellar:USDC:issuer"
+    assetService = mockk()
+    every { assetService.getAsset(any(), any()) } returns asset
+  }
+
+  private fun sep24Txn(): JdbcSep24Transaction {
+    val txn = JdbcSep24Transaction()
+    txn.id = "123"
+    txn.kind = "deposit"
+    txn.status = "incomplete"
+    txn.amountIn = "100"
+    txn.amountInAsset = "iso4217:USD"
+    txn.requestAssetCode = "USDC"
+    txn.sep10Account = "GBLGJA4TUN5XOGTV6WO2BWYUI2OZR5GYQ5PDPCRMQ5XEPJOYWB2X4CJO"
+    txn.startedAt = Instant.parse("2024-01-01T00:00:00Z")
+    txn.updatedAt = Instant.parse("2024-01-01T00:00:01Z")
+    txn.stellarTransactions = listOf(StellarTransaction.builder().id("hash").build())
+    return txn
+  }
+
+  private fun sep6Txn(): JdbcSep6Transaction {
+    val txn = JdbcSep6Transaction()
+    txn.id = "456"
+    txn.kind = "withdrawal"
+    txn.status = "pending_user_transfer_start"
+    txn.amountIn = "5"
+    txn.requestAssetCode = "USDC"
+    txn.startedAt = Instant.parse("2024-01-01T00:00:00Z")
+    return txn
+  }
+
+  // The txn_fields as they were extracted with BeanUtils before the accessors were compiled
+  private fun beanUtilsFields(txn: JdbcSepTransaction): Map<String, String> {
+    val platformTxn = PlatformTransactionHelper.toGetTransactionResponse(txn, assetService)
+    val data = mutableMapOf<String, String>()
+    for (field in FIELDS) {
+      try {
+        val name = camelToSnake(field)
+        val value = BeanUtils.getProperty(platformTxn, snakeToCamelCase(name))
+        if (!isEmpty(value)) {
+          data[name] = value
+        }
+      } catch (e: Exception) {
+        // skipped
+      }
+    }
+    return data
+  }
+
+  @Test
+  fun `test the fields are extracted as with BeanUtils`() {
+    val extractor = TxnFieldExtractor(assetService, FIELDS)
+
+    for (txn in listOf(sep24Txn(), sep6Txn())) {
+      val data = mutableMapOf<String, String>()
+      extractor.addTo(data, txn)
+
+      assertEquals(beanUtilsFields(txn), data)
+    }
+  }
+
+  @Test
+  fun `test the fields are extracted by their snake_case names`() {
+    val extractor = TxnFieldExtractor(assetService, listOf("kind", "amount_in", "updatedAt", ""))
+    val data = mutableMapOf<String, String>()
+
+    extractor.addTo(data, sep24Txn())
+
+    assertEquals(3, extractor.size())
+    assertEquals(
+      mapOf(
+        "kind" to "DEPOSIT",
+        "amount_in" to "Amount(amount=100, asset=iso4217:USD)",
+        "updated_at" to "2024-01-01T00:00:01Z",
+      ),
+      data,
+    )
+  }
+
+  @Test
+  fun `test the empty and unknown fields are skipped`() {
+    val extractor =
+      TxnFieldExtractor(assetService, listOf("amount_out", "unknown_field", "class", "status"))
+    val data = mutableMapOf<String, String>()
+
+    extractor.addTo(data, sep24Txn())
+
+    assertEquals(mapOf("status" to "incomplete"), data)
+  }
+
+  @Test
+  fun `test the fields are not extracted from non-JDBC transactions`() {
+    val extractor = TxnFieldExtractor(assetService, listOf("kind"))
+    val data = mutableMapOf<String, String>()
+
+    extractor.addTo(data, mockk<Sep24Transaction>(relaxed = true))
+
+    assertTrue(data.isEmpty())
+  }
+
+  @Test
+  fun `test null fields`() {
+    val extractor = TxnFieldExtractor(mockk(), null)
+    val data = mutableMapOf<String, String>()
+
+    extractor.addTo(data, sep24Txn())
+
+    assertEquals(0, extractor.size())
+    assertTrue(data.isEmpty())
+  }
+}
@@ -2,6 +2,9 @@ package org.stellar.anchor.platform.utils
 
 import io.mockk.*
 import jakarta.servlet.FilterChain
+import jakarta.servlet.http.HttpServletResponse
+import java.util.concurrent.Executor
+import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.springframework.mock.web.MockHttpServletRequest
@@ -49,4 +52,72 @@ class RequestLoggerFilterTest {
     verify(exactly = 1) { filterChain.doFilter(any(), any()) }
     verify(exactly = 1) { a.doFilterWithLogging(any(), any(), any()) }
   }
+
+  @Test
+  fun `test the excluded paths are not logged`() {
+    every { mockConfig.isRequestLoggerEnabled } returns true
+    every { mockConfig.requestLoggerExcludedPaths } returns listOf("/health", "/actuator/**")
+    request.requestURI = "/actuator/prometheus"
+    val a = spyk(RequestLoggerFilter(mockConfig))
+
+    a.doFilterInternal(request, response, filterChain)
+
+    verify(exactly = 1) { filterChain.doFilter(request, response) }
+    verify(exactly = 0) { a.doFilterWithLogging(any(), any(), any()) }
+  }
+
+  @Test
+  fun `test the successful response is streamed and its body is hidden`() {
+    every { mockConfig.requestLoggerMaxBodySize } returns 4
+    val wrapped = slot<HttpServletResponse>()
+    every { filterChain.doFilter(any(), capture(wrapped)) } answers
+      {
+        wrapped.captured.status = 200
+        wrapped.captured.outputStream.write("{\"id\": \"1\"}".toByteArray())
+      }
+
+    RequestLoggerFilter(mockConfig) { it.run() }
+      .doFilterWithLogging(request, response, filterChain)
+
+    assertEquals("{\"id\": \"1\"}", response.contentAsString)
+    assertEquals(
+      "[hidden]",
+      (wrapped.captured as RequestLoggerFilter.ErrorCapturingResponseWrapper).body
+    )
+  }
+
+  @Test
+  fun `test the error response body is captured up to the max body size`() {
+    every { mockConfig.requestLoggerMaxBodySize } returns 10
+    val wrapped = slot<HttpServletResponse>()
+    every { filterChain.doFilter(any(), capture(wrapped)) } answers
+      {
+        wrapped.captured.status = 400
+        wrapped.captured.writer.write("{\"error\": \"invalid request\"}")
+      }
+
+    RequestLoggerFilter(mockConfig) { it.run() }
+      .doFilterWithLogging(request, response, filterChain)
+
+    assertEquals("{\"error\": \"invalid request\"}", response.contentAsString)
+    assertEquals(
+      "{\"error\": ",
+      (wrapped.captured as RequestLoggerFilter.ErrorCapturingResponseWrapper).body
+    )
+  }
+
+  @Test
+  fun `test the successful requests are sampled and the errors are always logged`() {
+    every { mockConfig.requestLoggerSampleRate } returns 0.0
+    val executor = mockk<Executor>(relaxed = true)
+    val filter = RequestLoggerFilter(mockConfig, executor)
+
+    response.status = 200
+    filter.doFilterWithLogging(request, response, filterChain)
+    verify(exactly = 0) { executor.execute(any()) }
+
+    response.status = 500
+    filter.doFilterWithLogging(request, response, filterChain)
+    verify(exactly = 1) { executor.execute(any()) }
+  }
 }
@@ -0,0 +1,58 @@
+package org.stellar.anchor.platform.utils
+
+import com.google.gson.Gson
+import java.util.concurrent.TimeUnit.MILLISECONDS
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.support.DefaultListableBeanFactory
+import org.springframework.beans.factory.support.RootBeanDefinition
+import org.stellar.anchor.platform.utils.StartupReport.BEAN_INSTANTIATE_STEP
+import org.stellar.anchor.platform.utils.StartupReport.Step
+
+class StartupReportTest {
+  @Test
+  fun `test the nested steps are not counted in the time of their parent`() {
+    val steps =
+      listOf(
+        Step(1, null, "spring.context.refresh", null, ms(100)),
+        Step(2, 1, BEAN_INSTANTIATE_STEP, "sep24Service", ms(60)),
+        Step(3, 2, BEAN_INSTANTIATE_STEP, "assetService", ms(40)),
+        Step(4, 1, BEAN_INSTANTIATE_STEP, "dataSource", ms(30)),
+      )
+    val groups =
+      mapOf("sep24Service" to "SepBeans", "assetService" to "SepBeans", "dataSource" to "Hikari")
+
+    val summary = StartupReport.summarize(steps) { groups[it] }
+
+    assertEquals(ms(10), summary.phases["spring.context.refresh"]!!.nanos)
+    assertEquals(ms(90), summary.phases[BEAN_INSTANTIATE_STEP]!!.nanos)
+    assertEquals(3, summary.phases[BEAN_INSTANTIATE_STEP]!!.count)
+    assertEquals(ms(60), summary.beanGroups["SepBeans"]!!.nanos)
+    assertEquals(2, summary.beanGroups["SepBeans"]!!.count)
+    assertEquals(ms(30), summary.beanGroups["Hikari"]!!.nanos)
+
+    val report = summary.format()
+    assertTrue(report.indexOf("SepBeans") < report.indexOf("Hikari"))
+  }
+
+  @Test
+  fun `test the bean group is the configuration class declaring the bean`() {
+    val beanFactory = DefaultListableBeanFactory()
+    beanFactory.registerBeanDefinition(
+      "sep24Service",
+      RootBeanDefinition().apply {
+        factoryBeanName = "org.stellar.anchor.platform.component.sep.SepBeans"
+        factoryMethodName = "sep24Service"
+      }
+    )
+    beanFactory.registerBeanDefinition("gson", RootBeanDefinition(Gson::class.java))
+
+    assertEquals("SepBeans", StartupReport.beanGroup(beanFactory, "sep24Service"))
+    assertEquals("Gson", StartupReport.beanGroup(beanFactory, "gson"))
+    assertEquals(StartupReport.OTHER_GROUP, StartupReport.beanGroup(beanFactory, "unknown"))
+    assertEquals(StartupReport.OTHER_GROUP, StartupReport.beanGroup(beanFactory, null))
+  }
+
+  private fun ms(millis: Long) = MILLISECONDS.toNanos(millis)
+}
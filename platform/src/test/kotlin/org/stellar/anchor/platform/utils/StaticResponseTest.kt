@@ -0,0 +1,100 @@
+package org.stellar.anchor.platform.utils
+
+import io.mockk.every
+import io.mockk.mockk
+import jakarta.servlet.http.HttpServletRequest
+import java.io.ByteArrayInputStream
+import java.util.zip.GZIPInputStream
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.ValueSource
+import org.springframework.http.HttpHeaders
+import org.springframework.http.HttpStatus
+import org.springframework.http.MediaType
+
+class StaticResponseTest {
+  private val response = StaticResponse.of("VERSION = \"0.1.0\"", MediaType.TEXT_PLAIN)
+
+  private fun request(ifNoneMatch: String? = null, acceptEncoding: String? = null) =
+    mockk<HttpServletRequest> {
+      every { getHeader(HttpHeaders.IF_NONE_MATCH) } returns ifNoneMatch
+      every { getHeader(HttpHeaders.ACCEPT_ENCODING) } returns acceptEncoding
+    }
+
+  @Test
+  fun `test the body is served with its ETag`() {
+    val entity = response.toResponseEntity(request())
+
+    assertEquals(HttpStatus.OK, entity.statusCode)
+    assertEquals("VERSION = \"0.1.0\"", String(entity.body!!))
+    assertEquals(response.etag, entity.headers.eTag)
+    assertEquals(StaticResponse.PUBLIC_CACHE_CONTROL, entity.headers.cacheControl)
+    assertEquals(MediaType.TEXT_PLAIN, entity.headers.contentType)
+    assertNull(entity.headers.getFirst(HttpHeaders.CONTENT_ENCODING))
+  }
+
+  @Test
+  fun `test the ETag is stable for the same body`() {
+    val other = StaticResponse.of("VERSION = \"0.1.0\"", MediaType.TEXT_PLAIN)
+    val changed = StaticResponse.of("VERSION = \"0.2.0\"", MediaType.TEXT_PLAIN)
+
+    assertEquals(response.etag, other.etag)
+    assertNotEquals(response.etag, changed.etag)
+  }
+
+  @Test
+  fun `test the gzip variant is served when accepted`() {
+    val entity = response.toResponseEntity(request(acceptEncoding = "deflate, gzip;q=0.8"))
+
+    assertEquals("gzip", entity.headers.getFirst(HttpHeaders.CONTENT_ENCODING))
+    assertEquals(response.gzipEtag, entity.headers.eTag)
+    assertNotEquals(response.etag, response.gzipEtag)
+    val body = GZIPInputStream(ByteArrayInputStream(entity.body)).readAllBytes()
+    assertEquals("VERSION = \"0.1.0\"", String(body))
+  }
+
+  @Test
+  fun `test the gzip variant is not served when refused`() {
+    val entity = response.toResponseEntity(request(acceptEncoding = "gzip;q=0"))
+
+    assertNull(entity.headers.getFirst(HttpHeaders.CONTENT_ENCODING))
+    assertEquals(response.etag, entity.headers.eTag)
+  }
+
+  @Test
+  fun `test the gzip ETag is the ETag with a gzip suffix`() {
+    assertEquals(response.etag.dropLast(1) + "-gzip\"", response.gzipEtag)
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = ["ETAG", "W/ETAG", "\"other\", ETAG", "*"])
+  fun `test matching conditional requests are not modified`(ifNoneMatch: String) {
+    val entity = response.toResponseEntity(request(ifNoneMatch.replace("ETAG", response.etag)))
+
+    assertEquals(HttpStatus.NOT_MODIFIED, entity.statusCode)
+    assertNull(entity.body)
+    assertEquals(response.etag, entity.headers.eTag)
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = ["ETAG", "GZIP_ETAG"])
+  fun `test conditional requests match the ETag of either variant`(ifNoneMatch: String) {
+    val tag = ifNoneMatch.replace("GZIP_ETAG", response.gzipEtag).replace("ETAG", response.etag)
+
+    val gzipEntity = response.toResponseEntity(request(tag, "gzip"))
+    val identityEntity = response.toResponseEntity(request(tag))
+
+    assertEquals(HttpStatus.NOT_MODIFIED, gzipEntity.statusCode)
+    assertEquals(response.gzipEtag, gzipEntity.headers.eTag)
+    assertEquals(HttpStatus.NOT_MODIFIED, identityEntity.statusCode)
+    assertEquals(response.etag, identityEntity.headers.eTag)
+  }
+
+  @Test
+  fun `test stale conditional requests get the body`() {
+    val entity = response.toResponseEntity(request("\"other\""))
+
+    assertEquals(HttpStatus.OK, entity.statusCode)
+  }
+}
@@ -0,0 +1,63 @@
+package org.stellar.anchor.platform.utils
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Assumptions.assumeFalse
+import org.junit.jupiter.api.Assumptions.assumeTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+class VirtualThreadsTest {
+  @AfterEach
+  fun teardown() {
+    VirtualThreads.setEnabled(false)
+  }
+
+  @Test
+  fun `test the mode is enabled only if the runtime supports virtual threads`() {
+    VirtualThreads.setEnabled(true)
+
+    assertEquals(Runtime.version().feature() >= 21, VirtualThreads.isEnabled())
+  }
+
+  @Test
+  fun `test the executors run on platform daemon threads when disabled`() {
+    val thread = threadOf(DaemonExecutors.newSingleThreadExecutor())
+
+    assertTrue(thread.isDaemon)
+    assertFalse(thread.name.startsWith("anchor-virtual-"))
+  }
+
+  @Test
+  fun `test the executors run on virtual threads when enabled`() {
+    assumeTrue(VirtualThreads.isSupported())
+    VirtualThreads.setEnabled(true)
+
+    val thread = threadOf(DaemonExecutors.newFixedThreadPool(2))
+
+    assertTrue(thread.isDaemon)
+    assertTrue(thread.name.startsWith("anchor-virtual-"))
+    assertEquals(true, Thread::class.java.getMethod("isVirtual").invoke(thread))
+  }
+
+  @Test
+  fun `test the virtual thread factory is not created on older runtimes`() {
+    assumeFalse(VirtualThreads.isSupported())
+    VirtualThreads.setEnabled(true)
+
+    assertFalse(VirtualThreads.isEnabled())
+    assertThrows<UnsupportedOperationException> { VirtualThreads.newThreadFactory("test-") }
+  }
+
+  private fun threadOf(executor: ExecutorService): Thread {
+    try {
+      return executor.submit(Callable { Thread.currentThread() }).get()
+    } finally {
+      executor.shutdown()
+    }
+  }
+}
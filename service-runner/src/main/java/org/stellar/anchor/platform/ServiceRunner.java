@@ -2,7 +2,14 @@ package org.stellar.anchor.platform;
 
 import static org.stellar.anchor.util.Log.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.HelpFormatter;
@@ -15,6 +22,8 @@ import org.stellar.reference.ReferenceServerStartKt;
 import org.stellar.reference.wallet.WalletServerStartKt;
 
 public class ServiceRunner {
+  static final String SPRING_LAZY_INITIALIZATION = "spring.main.lazy-initialization";
+
   public static void main(String[] args) {
     printBanner();
     startServers(args);
@@ -25,28 +34,32 @@ public class ServiceRunner {
     try {
       CommandLine cmd = new DefaultParser().parse(options, args);
       boolean anyServerStarted = false;
+      List<Callable<ConfigurableApplicationContext>> anchorServers = new ArrayList<>();
       if (cmd.hasOption("sep-server") || cmd.hasOption("all")) {
-        startSepServer(null);
-        anyServerStarted = true;
+        anchorServers.add(() -> startSepServer(null));
       }
 
       if (cmd.hasOption("custody-server") || cmd.hasOption("all")) {
-        startCustodyServer(null);
-        anyServerStarted = true;
+        anchorServers.add(() -> startCustodyServer(null));
       }
 
       if (cmd.hasOption("platform-server") || cmd.hasOption("all")) {
-        startPlatformServer(null);
-        anyServerStarted = true;
+        anchorServers.add(() -> startPlatformServer(null));
       }
 
       if (cmd.hasOption("stellar-observer") || cmd.hasOption("all")) {
-        startStellarObserver(null);
-        anyServerStarted = true;
+        anchorServers.add(() -> startStellarObserver(null));
       }
 
       if (cmd.hasOption("event-processor") || cmd.hasOption("all")) {
-        startEventProcessingServer(null);
+        anchorServers.add(() -> startEventProcessingServer(null));
+      }
+
+      if (!anchorServers.isEmpty()) {
+        if (cmd.hasOption("lazy-init")) {
+          System.setProperty(SPRING_LAZY_INITIALIZATION, "true");
+        }
+        startAnchorServers(anchorServers, cmd.hasOption("parallel-startup"));
         anyServerStarted = true;
       }
 
@@ -73,6 +86,42 @@ public class ServiceRunner {
     }
   }
 
+  /**
+   * Starts the anchor servers. The Spring contexts of the servers are independent, so they can be
+   * started in parallel. The configurations are read and migrated once for all the servers.
+   *
+   * @param servers the functions starting the servers.
+   * @param parallel if true, the servers are started in parallel.
+   */
+  static void startAnchorServers(
+      List<Callable<ConfigurableApplicationContext>> servers, boolean parallel) {
+    long start = System.currentTimeMillis();
+    try {
+      if (parallel && servers.size() > 1) {
+        ExecutorService executor = Executors.newFixedThreadPool(servers.size());
+        try {
+          for (Future<ConfigurableApplicationContext> future : executor.invokeAll(servers)) {
+            future.get();
+          }
+        } finally {
+          executor.shutdown();
+        }
+      } else {
+        for (Callable<ConfigurableApplicationContext> server : servers) {
+          server.call();
+        }
+      }
+    } catch (ExecutionException eex) {
+      errorEx("Error starting the servers", eex.getCause());
+      throw new RuntimeException(eex.getCause());
+    } catch (RuntimeException rex) {
+      throw rex;
+    } catch (Exception ex) {
+      throw new RuntimeException(ex);
+    }
+    infoF("Started {} servers in {} ms", servers.size(), System.currentTimeMillis() - start);
+  }
+
   private static void printBanner() {
     System.out.println("****************************************");
     System.out.println("           Anchor Platform              ");
@@ -94,6 +143,14 @@ public class ServiceRunner {
     options.addOption("k", "kotlin-reference-server", false, "Start Kotlin reference server.");
     options.addOption("w", "wallet-reference-server", false, "Start wallet reference server.");
     options.addOption("t", "test-profile-runner", false, "Run the stack with test profile.");
+    options.addOption(
+        null, "parallel-startup", false, "Start the selected anchor servers in parallel.");
+    options.addOption(
+        null,
+        "lazy-init",
+        false,
+        "Initialize the beans of the anchor servers on first use. The background jobs are still"
+            + " started at boot.");
     return options;
   }
 